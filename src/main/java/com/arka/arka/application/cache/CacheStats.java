@@ -0,0 +1,71 @@
+package com.arka.arka.application.cache;
+
+/**
+ * Point-in-time counters of a {@link RefreshingCache}
+ */
+public class CacheStats {
+
+    private final long hits;
+    private final long staleHits;
+    private final long misses;
+    private final long coalesced;
+    private final long loads;
+    private final long loadFailures;
+    private final long totalLoadNanos;
+    private final long maxLoadNanos;
+
+    public CacheStats(long hits, long staleHits, long misses, long coalesced,
+                      long loads, long loadFailures, long totalLoadNanos, long maxLoadNanos) {
+        this.hits = hits;
+        this.staleHits = staleHits;
+        this.misses = misses;
+        this.coalesced = coalesced;
+        this.loads = loads;
+        this.loadFailures = loadFailures;
+        this.totalLoadNanos = totalLoadNanos;
+        this.maxLoadNanos = maxLoadNanos;
+    }
+
+    /**
+     * Share of requests answered without waiting for a load (fresh or stale), 0 when idle
+     */
+    public double getHitRate() {
+        long requests = hits + staleHits + misses;
+        return requests > 0 ? (double) (hits + staleHits) / requests : 0.0;
+    }
+
+    public double getAverageLoadMillis() {
+        return loads > 0 ? totalLoadNanos / 1_000_000.0 / loads : 0.0;
+    }
+
+    public double getMaxLoadMillis() {
+        return maxLoadNanos / 1_000_000.0;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getStaleHits() {
+        return staleHits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Requests that joined a load already running for the same key
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public long getLoads() {
+        return loads;
+    }
+
+    public long getLoadFailures() {
+        return loadFailures;
+    }
+}
@@ -0,0 +1,201 @@
+package com.arka.arka.application.cache;
+
+import com.arka.arka.domain.model.TemplateVersion;
+import com.arka.arka.domain.port.out.TemplateRepository;
+import com.arka.arka.domain.port.out.VersionedTemplateSource;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Template cache in front of the template store
+ * - Found templates are kept in a size-bounded LRU together with their ETag. Once older than
+ *   {@code ttl} they are still served at once, while one background revalidation per template
+ *   sends If-None-Match; an unchanged template only has its age reset, without a download.
+ * - Missing templates are cached as absent for {@code negativeTtl}, so a wrong name does not
+ *   reach the store on every notification.
+ * - A failed revalidation keeps the cached copy; a failed first read returns empty and stores nothing.
+ * - A revalidation only stores its result if the copy it revalidated is still cached, so it never
+ *   brings back an invalidated template or overwrites a newer read.
+ */
+public class CachingTemplateRepository implements TemplateRepository {
+
+    private final VersionedTemplateSource source;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+
+    private final Map<String, Entry> entries;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public CachingTemplateRepository(VersionedTemplateSource source, int maxEntries, Duration ttl,
+                                     Duration negativeTtl, Executor refreshExecutor) {
+        this(source, maxEntries, ttl, negativeTtl, refreshExecutor, System::nanoTime);
+    }
+
+    /**
+     * @param maxEntries Templates kept at most; the least recently used one is evicted first
+     * @param ticker     Monotonic nanosecond clock, replaceable in tests
+     */
+    public CachingTemplateRepository(VersionedTemplateSource source, int maxEntries, Duration ttl,
+                                     Duration negativeTtl, Executor refreshExecutor, LongSupplier ticker) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Template cache size must be positive");
+        }
+        this.source = source;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Optional<String> getTemplateContent(String templateName) {
+        Entry entry = get(templateName);
+        if (entry != null) {
+            long age = ticker.getAsLong() - entry.validatedAt;
+            if (entry.contenido != null) {
+                hits.increment();
+                if (age >= ttlNanos) {
+                    revalidateInBackground(templateName, entry);
+                }
+                return Optional.of(entry.contenido);
+            }
+            if (age < negativeTtlNanos) {
+                negativeHits.increment();
+                return Optional.empty();
+            }
+        }
+        misses.increment();
+        try {
+            return Optional.ofNullable(store(templateName, source.fetch(templateName, null), null).contenido);
+        } catch (RuntimeException e) {
+            failures.increment();
+            return Optional.empty();
+        }
+    }
+
+    public void invalidate(String templateName) {
+        synchronized (entries) {
+            entries.remove(templateName);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getNegativeHits() {
+        return negativeHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    public long getNotModified() {
+        return notModified.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    private void revalidateInBackground(String templateName, Entry entry) {
+        if (!revalidating.add(templateName)) {
+            return;
+        }
+        Runnable task = () -> {
+            try {
+                revalidations.increment();
+                store(templateName, source.fetch(templateName, entry.etag), entry);
+            } catch (RuntimeException e) {
+                failures.increment();
+            } finally {
+                revalidating.remove(templateName);
+            }
+        };
+        try {
+            refreshExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            revalidating.remove(templateName);
+        }
+    }
+
+    /**
+     * Stores the result of a read; {@code cached} is the copy that was revalidated, if any,
+     * and is only replaced while it is still the cached entry
+     */
+    private Entry store(String templateName, TemplateVersion version, Entry cached) {
+        long now = ticker.getAsLong();
+        Entry entry = switch (version.getEstado()) {
+            case ENCONTRADA -> new Entry(version.getContenido(), version.getEtag(), now);
+            case NO_EXISTE -> new Entry(null, null, now);
+            case SIN_CAMBIOS -> {
+                notModified.increment();
+                if (cached == null) {
+                    throw new IllegalStateException("Template store answered not modified without an ETag");
+                }
+                yield new Entry(cached.contenido, cached.etag, now);
+            }
+        };
+        synchronized (entries) {
+            if (cached == null) {
+                entries.put(templateName, entry);
+            } else {
+                entries.replace(templateName, cached, entry);
+            }
+        }
+        return entry;
+    }
+
+    private Entry get(String templateName) {
+        synchronized (entries) {
+            return entries.get(templateName);
+        }
+    }
+
+    private static final class Entry {
+        private final String contenido;
+        private final String etag;
+        private final long validatedAt;
+
+        private Entry(String contenido, String etag, long validatedAt) {
+            this.contenido = contenido;
+            this.etag = etag;
+            this.validatedAt = validatedAt;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.arka.arka.application.cache;
+
+import com.arka.arka.domain.port.out.CatalogVersionPort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters behind the catalog ETags
+ * - Catalog version: bumped by every product, category or stock change; tags list responses
+ * - Product versions: bumped by changes to one product; tag single-product responses
+ * - Bulk version: bumped when the changed products are not known, part of every product tag
+ * Without a {@link CatalogVersionPort} the counters live in this instance only, so the ETags are
+ * only valid for a single-instance deployment: a write served by another instance would not
+ * change the tags here and clients would keep getting stale 304s. Several instances must share
+ * the counters through the port (arka.catalog.versions.persistent=true); the tags then use a
+ * fixed epoch, since the counters survive restarts. In memory, tags carry an epoch taken at
+ * startup so they never repeat across restarts.
+ * Take the tag before loading the data it describes, and bump after the write is committed;
+ * a write in between then costs one extra download instead of a stale 304.
+ * The tags are weak: one version is served as JSON, CBOR or Smile, gzipped or not, and those
+ * representations are equivalent but not byte-for-byte identical.
+ */
+public class CatalogVersions {
+
+    private static final String CATALOG_KEY = "catalogo";
+    private static final String BULK_KEY = "todos";
+    private static final String PRODUCT_KEY_PREFIX = "producto:";
+
+    private final String epoch;
+    private final CatalogVersionPort store;
+    private final AtomicLong catalog = new AtomicLong();
+    private final AtomicLong bulk = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> products = new ConcurrentHashMap<>();
+
+    public CatalogVersions() {
+        this(Long.toString(System.currentTimeMillis(), 36));
+    }
+
+    public CatalogVersions(String epoch) {
+        this.epoch = epoch;
+        this.store = null;
+    }
+
+    /**
+     * @param store Counters shared by every instance
+     */
+    public CatalogVersions(CatalogVersionPort store) {
+        this.epoch = "s";
+        this.store = store;
+    }
+
+    /**
+     * Weak entity tag for responses built from the whole catalog
+     */
+    public String catalogTag() {
+        long version = store != null
+                ? store.versions(List.of(CATALOG_KEY)).getOrDefault(CATALOG_KEY, 0L)
+                : catalog.get();
+        return "W/\"c" + epoch + "." + version + "\"";
+    }
+
+    /**
+     * Weak entity tag for responses built from a single product
+     */
+    public String productTag(Long productId) {
+        long bulkVersion;
+        long productVersion;
+        if (store != null) {
+            Map<String, Long> versions = store.versions(List.of(BULK_KEY, productKey(productId)));
+            bulkVersion = versions.getOrDefault(BULK_KEY, 0L);
+            productVersion = versions.getOrDefault(productKey(productId), 0L);
+        } else {
+            bulkVersion = bulk.get();
+            productVersion = products.getOrDefault(productId, 0L);
+        }
+        return "W/\"p" + epoch + "." + productId + "." + bulkVersion + "." + productVersion + "\"";
+    }
+
+    public void productChanged(Long productId) {
+        productsChanged(productId != null ? List.of(productId) : List.of());
+    }
+
+    public void productsChanged(Collection<Long> productIds) {
+        if (store != null) {
+            List<String> keys = new ArrayList<>(productIds.size() + 1);
+            productIds.forEach(productId -> keys.add(productKey(productId)));
+            keys.add(CATALOG_KEY);
+            store.increment(keys);
+            return;
+        }
+        for (Long productId : productIds) {
+            products.merge(productId, 1L, Long::sum);
+        }
+        catalog.incrementAndGet();
+    }
+
+    /**
+     * Invalidates every catalog and product tag, for changes whose products are not known
+     */
+    public void allChanged() {
+        if (store != null) {
+            store.increment(List.of(BULK_KEY, CATALOG_KEY));
+            return;
+        }
+        bulk.incrementAndGet();
+        catalog.incrementAndGet();
+    }
+
+    private static String productKey(Long productId) {
+        return PRODUCT_KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,166 @@
+package com.arka.arka.application.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * TTL cache for expensive computed results, keyed by a small fixed set of keys
+ * - Fresh (younger than {@code ttl}): returned as is
+ * - Stale (younger than {@code maxStale}): returned at once while one background refresh runs
+ * - Missing or older: the caller loads it; concurrent callers for the same key wait on
+ *   that single load instead of starting their own
+ * Failed loads and results rejected by {@code cacheable} are never stored, so a stale
+ * value survives a failed refresh. Entries are not evicted by size.
+ */
+public class RefreshingCache<K, V> {
+
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final Executor refreshExecutor;
+    private final Predicate<? super V> cacheable;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final LongAccumulator maxLoadNanos = new LongAccumulator(Math::max, 0);
+
+    public RefreshingCache(Duration ttl, Duration maxStale, Executor refreshExecutor, Predicate<? super V> cacheable) {
+        this(ttl, maxStale, refreshExecutor, cacheable, System::nanoTime);
+    }
+
+    /**
+     * @param ticker Monotonic nanosecond clock, replaceable in tests
+     */
+    public RefreshingCache(Duration ttl, Duration maxStale, Executor refreshExecutor,
+                           Predicate<? super V> cacheable, LongSupplier ticker) {
+        if (ttl.isNegative() || maxStale.compareTo(ttl) < 0) {
+            throw new IllegalArgumentException("Cache TTL must be non-negative and not longer than max-stale");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maxStaleNanos = maxStale.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.cacheable = cacheable;
+        this.ticker = ticker;
+    }
+
+    public V get(K key, Supplier<? extends V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            long age = ticker.getAsLong() - entry.loadedAt;
+            if (age < ttlNanos) {
+                hits.increment();
+                return entry.value;
+            }
+            if (age < maxStaleNanos) {
+                staleHits.increment();
+                refreshInBackground(key, loader);
+                return entry.value;
+            }
+        }
+        misses.increment();
+        return join(load(key, loader, false));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), staleHits.sum(), misses.sum(), coalesced.sum(),
+                loads.sum(), loadFailures.sum(), totalLoadNanos.sum(), maxLoadNanos.get());
+    }
+
+    private void refreshInBackground(K key, Supplier<? extends V> loader) {
+        if (!inFlight.containsKey(key)) {
+            load(key, loader, true);
+        }
+    }
+
+    /**
+     * Starts a load for the key unless one is already running, in which case that one is returned
+     */
+    private CompletableFuture<V> load(K key, Supplier<? extends V> loader, boolean background) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            if (!background) {
+                coalesced.increment();
+            }
+            return running;
+        }
+        Runnable task = () -> {
+            long start = ticker.getAsLong();
+            try {
+                V value = loader.get();
+                long end = ticker.getAsLong();
+                recordLoad(end - start);
+                if (value != null && cacheable.test(value)) {
+                    entries.put(key, new Entry<>(value, end));
+                }
+                inFlight.remove(key, created);
+                created.complete(value);
+            } catch (RuntimeException | Error e) {
+                loadFailures.increment();
+                inFlight.remove(key, created);
+                created.completeExceptionally(e);
+            }
+        };
+        if (!background) {
+            task.run();
+            return created;
+        }
+        try {
+            refreshExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+        }
+        return created;
+    }
+
+    private void recordLoad(long nanos) {
+        loads.increment();
+        totalLoadNanos.add(nanos);
+        maxLoadNanos.accumulate(nanos);
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
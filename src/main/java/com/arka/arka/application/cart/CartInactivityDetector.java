@@ -0,0 +1,52 @@
+package com.arka.arka.application.cart;
+
+import com.arka.arka.domain.port.out.CartActivityPort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Finds the active carts whose inactivity deadline passed, from their persisted last activity
+ * Each poll is a range read of the index on (estado, fecha_ultima_actividad) bounded by the batch
+ * size, so its cost is proportional to the expired carts, never to all active carts, and every
+ * instance sees the activity written by the others. Carts beyond a full batch are found by the
+ * next poll, once the ones before them have been abandoned.
+ */
+public class CartInactivityDetector {
+
+    private final Duration timeout;
+    private final CartActivityPort activityPort;
+    private final int batchSize;
+
+    /**
+     * @param timeout   Inactivity after which an active cart is abandoned
+     * @param batchSize Carts returned by one poll at most
+     */
+    public CartInactivityDetector(Duration timeout, CartActivityPort activityPort, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Inactivity batch size must be positive");
+        }
+        this.timeout = timeout;
+        this.activityPort = activityPort;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * The oldest carts with no activity since {@link #inactiveSince} at {@code now}
+     */
+    public List<Long> pollExpired(LocalDateTime now) {
+        return activityPort.findInactive(inactiveSince(now), batchSize);
+    }
+
+    /**
+     * Carts with no activity after the returned time are inactive at {@code now}
+     */
+    public LocalDateTime inactiveSince(LocalDateTime now) {
+        return now.minus(timeout);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
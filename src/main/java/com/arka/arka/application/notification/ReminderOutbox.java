@@ -0,0 +1,142 @@
+package com.arka.arka.application.notification;
+
+import com.arka.arka.domain.event.CartChanged;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.OutboxMessage;
+import com.arka.arka.domain.port.out.NotificationOutboxPort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Produces abandoned cart reminders into the notification outbox and tracks their delivery
+ * A reminder is produced when a cart turns abandoned, once per cart thanks to the outbox key,
+ * instead of rescanning every abandoned cart. Failed deliveries are retried with exponential
+ * backoff up to a maximum number of attempts; deliveries lost with a crashed worker are picked
+ * up again when their lease expires. The outbox lives in another database than the carts, so a
+ * reminder lost between the two writes is produced again by {@link #sweep(List, Function)}.
+ */
+public class ReminderOutbox {
+
+    public static final String ABANDONED_CART_TEMPLATE = "abandoned-cart-reminder";
+
+    private static final int SWEEP_CHUNK = 500;
+
+    private final NotificationOutboxPort outboxPort;
+    private final Clock clock;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+    private final String workerId = UUID.randomUUID().toString();
+
+    /**
+     * @param lease       Time a worker has to deliver a claimed message before others may claim it
+     * @param retryDelay  Wait before the first retry, doubled on every further attempt
+     * @param maxAttempts Attempts after which a message is marked as failed
+     */
+    public ReminderOutbox(NotificationOutboxPort outboxPort, Clock clock, Duration lease,
+                          Duration retryDelay, int maxAttempts) {
+        this.outboxPort = outboxPort;
+        this.clock = clock;
+        this.lease = lease;
+        this.retryDelay = retryDelay;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Produces a reminder when the cart turned abandoned and its customer has a valid email
+     * @return true when a new reminder was stored
+     */
+    public boolean onCartChanged(CartChanged event) {
+        Cart after = event.getAfter();
+        if (after == null || !after.isAbandoned() || (event.getBefore() != null && event.getBefore().isAbandoned())) {
+            return false;
+        }
+        return enqueue(after);
+    }
+
+    /**
+     * Produces the reminders missing for abandoned carts, e.g. when the outbox was unavailable
+     * when the cart was abandoned; carts that already have a reminder in any state are skipped
+     * @return number of reminders stored
+     */
+    public int sweep(List<Cart> abandoned) {
+        Map<Long, Cart> byId = abandoned.stream()
+                .collect(Collectors.toMap(Cart::getId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        return sweep(List.copyOf(byId.keySet()), cartId -> Optional.ofNullable(byId.get(cartId)));
+    }
+
+    /**
+     * Same as {@link #sweep(List)} from cart ids: only the carts without a reminder are loaded,
+     * with {@code loadCart}, since the reminder needs their customer
+     * @return number of reminders stored
+     */
+    public int sweep(List<Long> abandonedCartIds, Function<Long, Optional<Cart>> loadCart) {
+        int enqueued = 0;
+        for (int from = 0; from < abandonedCartIds.size(); from += SWEEP_CHUNK) {
+            List<Long> chunk = abandonedCartIds.subList(from, Math.min(from + SWEEP_CHUNK, abandonedCartIds.size()));
+            Set<Long> known = outboxPort.findCartIds(ABANDONED_CART_TEMPLATE, chunk);
+            for (Long cartId : chunk) {
+                if (known.contains(cartId)) {
+                    continue;
+                }
+                Optional<Cart> cart = loadCart.apply(cartId);
+                if (cart.isPresent() && cart.get().isAbandoned() && enqueue(cart.get())) {
+                    enqueued++;
+                }
+            }
+        }
+        return enqueued;
+    }
+
+    /**
+     * Claims up to {@code limit} due reminders for this worker
+     */
+    public List<OutboxMessage> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Instant now = clock.instant();
+        return outboxPort.claim(workerId, limit, now, now.plus(lease));
+    }
+
+    public boolean delivered(OutboxMessage message) {
+        return outboxPort.markSent(message.getClave(), workerId, clock.instant());
+    }
+
+    /**
+     * Schedules a retry, or gives up once the message used all its attempts
+     */
+    public boolean failed(OutboxMessage message, String error) {
+        if (message.getIntentos() >= maxAttempts) {
+            return outboxPort.markFailed(message.getClave(), workerId, error);
+        }
+        Duration backoff = retryDelay.multipliedBy(1L << Math.min(Math.max(message.getIntentos() - 1, 0), 20));
+        return outboxPort.release(message.getClave(), workerId, clock.instant().plus(backoff), error);
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    private boolean enqueue(Cart cart) {
+        if (cart.getCliente() == null || cart.getCliente().getEmail() == null || !cart.getCliente().isValidEmail()) {
+            return false;
+        }
+        return outboxPort.enqueue(new OutboxMessage(ABANDONED_CART_TEMPLATE, cart.getId(),
+                cart.getCliente().getEmail(), cart.getCliente().getNombre(), clock.instant()));
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+}
@@ -0,0 +1,153 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Product;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory read model for catalog queries
+ * Readers get the current {@link CatalogSnapshot} with a single volatile read;
+ * writers publish a new snapshot atomically, so reads never take a lock.
+ * Writers are serialized among themselves, so concurrent writes never rebuild a snapshot only
+ * to lose the compare-and-set; a batch of changes is applied as one snapshot.
+ */
+public class CatalogReadModel {
+
+    private final Supplier<? extends Collection<Product>> loader;
+    private final Function<Collection<Long>, List<Product>> productLoader;
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final Object writeLock = new Object();
+
+    /**
+     * @param loader Full catalog load used to build the first snapshot (and after {@link #invalidate()})
+     */
+    public CatalogReadModel(Supplier<? extends Collection<Product>> loader) {
+        this(loader, null);
+    }
+
+    /**
+     * @param productLoader Optional load of some products by id, used to apply stock changes;
+     *                      when null those changes reload the whole catalog
+     */
+    public CatalogReadModel(Supplier<? extends Collection<Product>> loader,
+                            Function<Collection<Long>, List<Product>> productLoader) {
+        this.loader = loader;
+        this.productLoader = productLoader;
+    }
+
+    /**
+     * Returns the current snapshot, loading it on first use
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current : load();
+    }
+
+    /**
+     * Publishes a snapshot that contains the created or updated product
+     */
+    public void publishUpsert(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        publish(List.of(product), List.of());
+    }
+
+    /**
+     * Publishes a snapshot without the deleted product
+     */
+    public void publishRemoval(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        publish(List.of(), List.of(productId));
+    }
+
+    /**
+     * Publishes one snapshot with every given product upserted and every given id removed
+     */
+    public void publish(Collection<Product> upserts, Collection<Long> removedIds) {
+        if (upserts.isEmpty() && removedIds.isEmpty()) {
+            return;
+        }
+        writes.incrementAndGet();
+        synchronized (writeLock) {
+            CatalogSnapshot current;
+            CatalogSnapshot next;
+            do {
+                current = snapshot.get();
+                if (current == null) {
+                    // Invalidated: the next read loads the change from the database
+                    return;
+                }
+                next = current.withProducts(versions.incrementAndGet(), upserts, removedIds);
+            } while (!snapshot.compareAndSet(current, next));
+        }
+    }
+
+    /**
+     * Applies stock taken or given back outside a product update (stock reservations)
+     */
+    public void onStockChanged(StockChanged event) {
+        if (event.isUnknownProducts() || productLoader == null) {
+            invalidate();
+        } else {
+            refresh(event.getProductIds());
+        }
+    }
+
+    /**
+     * Every product of the category embeds its name, so the next read reloads the catalog
+     */
+    public void onCategoryChanged(CategoryChanged event) {
+        invalidate();
+    }
+
+    /**
+     * Publishes the current state of the given products; products that no longer exist are removed
+     */
+    public void refresh(Collection<Long> productIds) {
+        if (snapshot.get() == null) {
+            // Nothing loaded yet: the first read will see the change
+            return;
+        }
+        List<Product> products = productLoader.apply(productIds);
+        Set<Long> missing = new HashSet<>(productIds);
+        products.forEach(product -> missing.remove(product.getId()));
+        publish(products, missing);
+    }
+
+    /**
+     * Drops the current snapshot; the next read rebuilds it from the loader
+     */
+    public void invalidate() {
+        writes.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    /**
+     * Loads a full snapshot. A write that lands while the loader is running
+     * may be missing from the result, so the snapshot is only kept if no write
+     * was published in the meantime; otherwise it serves this call only.
+     */
+    private CatalogSnapshot load() {
+        long writesBefore = writes.get();
+        CatalogSnapshot loaded = CatalogSnapshot.of(versions.incrementAndGet(), loader.get());
+        if (writes.get() == writesBefore && snapshot.compareAndSet(null, loaded)
+                && writes.get() != writesBefore) {
+            snapshot.compareAndSet(loaded, null);
+        }
+        return loaded;
+    }
+}
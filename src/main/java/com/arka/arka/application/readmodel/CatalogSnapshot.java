@@ -0,0 +1,266 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.domain.model.Product;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, versioned snapshot of the product catalog
+ * Holds a category hash index, a price-ordered index and a name-sorted array
+ * so catalog reads are served without touching the database
+ */
+public final class CatalogSnapshot {
+
+    private static final Comparator<Product> BY_NAME =
+            Comparator.comparing(Product::getNombre, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER))
+                    .thenComparing(Product::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final long version;
+    private final Map<Long, Product> byId;
+    private final Map<String, List<Product>> byCategory;
+    private final NavigableMap<BigDecimal, List<Product>> byPrice;
+    private final Product[] sortedByName;
+
+    private CatalogSnapshot(long version, Map<Long, Product> byId, Map<String, List<Product>> byCategory,
+                            NavigableMap<BigDecimal, List<Product>> byPrice, Product[] sortedByName) {
+        this.version = version;
+        this.byId = Collections.unmodifiableMap(byId);
+        this.byCategory = byCategory;
+        this.byPrice = Collections.unmodifiableNavigableMap(byPrice);
+        this.sortedByName = sortedByName;
+    }
+
+    /**
+     * Builds the first snapshot of the catalog from a full product load
+     * Products are copied on the way in so callers mutating a domain object
+     * after a write cannot change a published snapshot
+     */
+    public static CatalogSnapshot of(long version, Collection<Product> products) {
+        Map<Long, Product> byId = new LinkedHashMap<>();
+        for (Product product : products) {
+            if (product != null && product.getId() != null) {
+                byId.put(product.getId(), product.copy());
+            }
+        }
+
+        Map<String, List<Product>> categoryIndex = new HashMap<>();
+        TreeMap<BigDecimal, List<Product>> priceIndex = new TreeMap<>();
+        for (Product product : byId.values()) {
+            String categoryKey = categoryKey(product);
+            if (categoryKey != null) {
+                categoryIndex.computeIfAbsent(categoryKey, key -> new ArrayList<>()).add(product);
+            }
+            if (product.getPrecioUnitario() != null) {
+                priceIndex.computeIfAbsent(product.getPrecioUnitario(), key -> new ArrayList<>()).add(product);
+            }
+        }
+        categoryIndex.replaceAll((key, indexed) -> Collections.unmodifiableList(indexed));
+        priceIndex.replaceAll((key, indexed) -> Collections.unmodifiableList(indexed));
+
+        Product[] sorted = byId.values().toArray(new Product[0]);
+        Arrays.sort(sorted, BY_NAME);
+        return new CatalogSnapshot(version, byId, categoryIndex, priceIndex, sorted);
+    }
+
+    /**
+     * Returns a new snapshot with the given product inserted or replaced
+     */
+    public CatalogSnapshot withProduct(long nextVersion, Product product) {
+        return withProducts(nextVersion, List.of(product), List.of());
+    }
+
+    /**
+     * Returns a new snapshot without the given product
+     */
+    public CatalogSnapshot withoutProduct(long nextVersion, Long productId) {
+        return withProducts(nextVersion, List.of(), Collections.singletonList(productId));
+    }
+
+    /**
+     * Returns a new snapshot with a batch of products inserted or replaced and others removed
+     * Only the category and price entries the changed products leave or join are rebuilt, and the
+     * name order is merged instead of re-sorted, so k changes cost O(N + k log k) rather than a full
+     * O(N log N) rebuild. A product that is both upserted and removed is kept.
+     */
+    public CatalogSnapshot withProducts(long nextVersion, Collection<Product> upserts, Collection<Long> removedIds) {
+        Map<Long, Product> changed = new LinkedHashMap<>();
+        for (Product product : upserts) {
+            if (product != null && product.getId() != null) {
+                changed.put(product.getId(), product.copy());
+            }
+        }
+        Set<Long> touched = new HashSet<>(changed.keySet());
+        for (Long productId : removedIds) {
+            if (productId != null && byId.containsKey(productId)) {
+                touched.add(productId);
+            }
+        }
+        if (touched.isEmpty()) {
+            return new CatalogSnapshot(nextVersion, byId, byCategory, byPrice, sortedByName);
+        }
+
+        // Updated products keep their position, new ones go last
+        Map<Long, Product> next = new LinkedHashMap<>();
+        Set<String> categories = new HashSet<>();
+        Set<BigDecimal> prices = new TreeSet<>();
+        for (Map.Entry<Long, Product> entry : byId.entrySet()) {
+            if (!touched.contains(entry.getKey())) {
+                next.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            addKeys(entry.getValue(), categories, prices);
+            Product updated = changed.get(entry.getKey());
+            if (updated != null) {
+                next.put(entry.getKey(), updated);
+            }
+        }
+        for (Product product : changed.values()) {
+            next.putIfAbsent(product.getId(), product);
+            addKeys(product, categories, prices);
+        }
+
+        Map<String, List<Product>> categoryIndex = new HashMap<>(byCategory);
+        for (String category : categories) {
+            List<Product> indexed = reindex(byCategory.getOrDefault(category, List.of()), touched, changed,
+                    product -> category.equals(categoryKey(product)));
+            if (indexed.isEmpty()) {
+                categoryIndex.remove(category);
+            } else {
+                categoryIndex.put(category, indexed);
+            }
+        }
+        TreeMap<BigDecimal, List<Product>> priceIndex = new TreeMap<>(byPrice);
+        for (BigDecimal price : prices) {
+            List<Product> indexed = reindex(byPrice.getOrDefault(price, List.of()), touched, changed,
+                    product -> product.getPrecioUnitario() != null
+                            && product.getPrecioUnitario().compareTo(price) == 0);
+            if (indexed.isEmpty()) {
+                priceIndex.remove(price);
+            } else {
+                priceIndex.put(price, indexed);
+            }
+        }
+
+        return new CatalogSnapshot(nextVersion, next, categoryIndex, priceIndex, mergeByName(touched, changed, next.size()));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public List<Product> getAll() {
+        return List.copyOf(byId.values());
+    }
+
+    public List<Product> getByCategory(String categoryName) {
+        String key = categoryKey(categoryName);
+        if (key == null) {
+            return List.of();
+        }
+        return byCategory.getOrDefault(key, List.of());
+    }
+
+    public List<Product> getByPriceRange(BigDecimal min, BigDecimal max) {
+        List<Product> result = new ArrayList<>();
+        for (List<Product> products : byPrice.subMap(min, true, max, true).values()) {
+            result.addAll(products);
+        }
+        return result;
+    }
+
+    public List<Product> getSortedByName() {
+        return Collections.unmodifiableList(Arrays.asList(sortedByName));
+    }
+
+    /**
+     * Rebuilds one index entry: untouched products stay in place, updated ones are replaced
+     * where they were and the changed products that now belong to the entry are appended
+     */
+    private static List<Product> reindex(List<Product> previous, Set<Long> touched, Map<Long, Product> changed,
+                                         Predicate<Product> belongs) {
+        List<Product> indexed = new ArrayList<>(previous.size() + changed.size());
+        Set<Long> placed = new HashSet<>();
+        for (Product product : previous) {
+            if (!touched.contains(product.getId())) {
+                indexed.add(product);
+                continue;
+            }
+            Product updated = changed.get(product.getId());
+            if (updated != null && belongs.test(updated)) {
+                indexed.add(updated);
+                placed.add(updated.getId());
+            }
+        }
+        for (Product product : changed.values()) {
+            if (!placed.contains(product.getId()) && belongs.test(product)) {
+                indexed.add(product);
+            }
+        }
+        return Collections.unmodifiableList(indexed);
+    }
+
+    /**
+     * Drops the touched products from the name order and merges the changed ones back in
+     */
+    private Product[] mergeByName(Set<Long> touched, Map<Long, Product> changed, int size) {
+        List<Product> added = new ArrayList<>(changed.values());
+        added.sort(BY_NAME);
+        Product[] merged = new Product[size];
+        int next = 0;
+        int a = 0;
+        for (Product product : sortedByName) {
+            if (touched.contains(product.getId())) {
+                continue;
+            }
+            while (a < added.size() && BY_NAME.compare(added.get(a), product) < 0) {
+                merged[next++] = added.get(a++);
+            }
+            merged[next++] = product;
+        }
+        while (a < added.size()) {
+            merged[next++] = added.get(a++);
+        }
+        return merged;
+    }
+
+    private static void addKeys(Product product, Set<String> categories, Set<BigDecimal> prices) {
+        String category = categoryKey(product);
+        if (category != null) {
+            categories.add(category);
+        }
+        if (product.getPrecioUnitario() != null) {
+            prices.add(product.getPrecioUnitario());
+        }
+    }
+
+    private static String categoryKey(Product product) {
+        return categoryKey(product.getCategoria() != null ? product.getCategoria().getNombre() : null);
+    }
+
+    /**
+     * Category names are matched case-insensitively, like the default MySQL collation
+     */
+    private static String categoryKey(String categoryName) {
+        return categoryName != null ? categoryName.toLowerCase(Locale.ROOT) : null;
+    }
+}
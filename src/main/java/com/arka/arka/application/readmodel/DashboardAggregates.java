@@ -0,0 +1,108 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.domain.event.CartChanged;
+import com.arka.arka.domain.event.OrderChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.DashboardTotals;
+import com.arka.arka.domain.model.Money;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.Product;
+
+import java.util.Currency;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard counters kept up to date by product, cart and order events
+ * Each event applies an O(1) delta computed from its before/after state; readers get
+ * the current {@link DashboardTotals} with a single volatile read.
+ * Writes that bypass the use cases (e.g. stock reservations) and events racing a
+ * reload are corrected by {@link #reconcile()}, which the scheduler runs periodically.
+ */
+public class DashboardAggregates {
+
+    public static final int LOW_STOCK_THRESHOLD = 10;
+    public static final int POPULAR_PRODUCTS = 5;
+
+    private final Supplier<DashboardTotals> loader;
+    private final Currency storeCurrency;
+    private final AtomicReference<DashboardTotals> totals = new AtomicReference<>();
+
+    /**
+     * @param loader        Full recount from the database, used on first read and on reconciliation
+     * @param storeCurrency Currency of the order totals; the sales deltas are in its minor units
+     */
+    public DashboardAggregates(Supplier<DashboardTotals> loader, Currency storeCurrency) {
+        this.loader = loader;
+        this.storeCurrency = Objects.requireNonNull(storeCurrency, "storeCurrency");
+    }
+
+    /**
+     * Returns the current totals, loading them on first use
+     */
+    public DashboardTotals current() {
+        DashboardTotals current = totals.get();
+        if (current != null) {
+            return current;
+        }
+        DashboardTotals loaded = loader.get();
+        return totals.compareAndSet(null, loaded) ? loaded : totals.get();
+    }
+
+    /**
+     * Replaces the totals with a fresh recount
+     *
+     * @return true when the event-maintained totals had drifted from the database
+     */
+    public boolean reconcile() {
+        DashboardTotals fresh = loader.get();
+        DashboardTotals previous = totals.getAndSet(fresh);
+        return previous != null && !previous.sameCounts(fresh);
+    }
+
+    public void onProductChanged(ProductChanged event) {
+        long productos = present(event.getAfter()) - present(event.getBefore());
+        long bajoStock = lowStock(event.getAfter()) - lowStock(event.getBefore());
+        apply(productos, bajoStock, 0, 0, 0, 0);
+    }
+
+    public void onCartChanged(CartChanged event) {
+        long carritos = present(event.getAfter()) - present(event.getBefore());
+        long abandonados = abandoned(event.getAfter()) - abandoned(event.getBefore());
+        apply(0, 0, carritos, abandonados, 0, 0);
+    }
+
+    public void onOrderChanged(OrderChanged event) {
+        long pedidos = present(event.getAfter()) - present(event.getBefore());
+        long ventas = totalMinor(event.getAfter()) - totalMinor(event.getBefore());
+        apply(0, 0, 0, 0, pedidos, ventas);
+    }
+
+    private void apply(long productos, long bajoStock, long carritos, long abandonados, long pedidos, long ventas) {
+        if (productos == 0 && bajoStock == 0 && carritos == 0 && abandonados == 0 && pedidos == 0 && ventas == 0) {
+            return;
+        }
+        // Not loaded yet: the first load counts this change itself
+        totals.updateAndGet(current -> current != null
+                ? current.withDeltas(productos, bajoStock, carritos, abandonados, pedidos, ventas)
+                : null);
+    }
+
+    private static long present(Object entity) {
+        return entity != null ? 1 : 0;
+    }
+
+    private static long lowStock(Product product) {
+        return product != null && product.getStock() != null && product.getStock() < LOW_STOCK_THRESHOLD ? 1 : 0;
+    }
+
+    private static long abandoned(Cart cart) {
+        return cart != null && cart.isAbandoned() ? 1 : 0;
+    }
+
+    private long totalMinor(Order order) {
+        return order != null && order.getTotal() != null ? Money.of(order.getTotal(), storeCurrency).getMinorUnits() : 0;
+    }
+}
@@ -0,0 +1,149 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Precomputed featured products for the mobile home screen
+ * Keeps the top {@code capacity} products (ranked by the loader, e.g. sales then stock)
+ * in an immutable list that readers get with a single volatile read. The list is
+ * rebuilt by {@link #refresh()} in the background; between refreshes, product and stock
+ * events patch or drop listed products so edits, deletions and reservations that empty
+ * a product show up at once.
+ */
+public class FeaturedProducts {
+
+    private final IntFunction<List<Product>> loader;
+    private final int capacity;
+    private final Function<Collection<Long>, List<Product>> productLoader;
+    private final AtomicReference<List<Product>> featured = new AtomicReference<>();
+
+    /**
+     * @param loader   Ranked top-N query, called with {@code capacity}
+     * @param capacity Number of products kept; larger requests go to the loader's source
+     */
+    public FeaturedProducts(IntFunction<List<Product>> loader, int capacity) {
+        this(loader, capacity, null);
+    }
+
+    /**
+     * @param loader        Ranked top-N query, called with {@code capacity}
+     * @param capacity      Number of products kept; larger requests go to the loader's source
+     * @param productLoader Optional load of some products by id, used to apply stock changes;
+     *                      without it every stock change drops the list
+     */
+    public FeaturedProducts(IntFunction<List<Product>> loader, int capacity,
+                            Function<Collection<Long>, List<Product>> productLoader) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Featured capacity must be positive");
+        }
+        this.loader = loader;
+        this.capacity = capacity;
+        this.productLoader = productLoader;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns up to {@code limit} featured products, loading the list on first use
+     */
+    public List<Product> get(int limit) {
+        List<Product> current = featured.get();
+        if (current == null) {
+            refresh();
+            current = featured.get();
+        }
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+
+    /**
+     * Recomputes the list from the loader and swaps it in
+     */
+    public void refresh() {
+        featured.set(List.copyOf(loader.apply(capacity)));
+    }
+
+    /**
+     * Patches a listed product in place, or drops it when it was deleted or ran out of stock;
+     * products that are not listed wait for the next refresh to be ranked in
+     */
+    public void onProductChanged(ProductChanged event) {
+        Product changed = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        if (changed == null || changed.getId() == null) {
+            return;
+        }
+        Map<Long, Product> changes = Collections.singletonMap(changed.getId(), event.getAfter());
+        featured.updateAndGet(current -> current != null ? patched(current, changes) : null);
+    }
+
+    /**
+     * Reloads the listed products whose stock was taken or given back, dropping the ones
+     * left without stock; with unknown products the list is dropped and reloaded on next use
+     */
+    public void onStockChanged(StockChanged event) {
+        List<Product> current = featured.get();
+        if (current == null) {
+            return;
+        }
+        if (event.isUnknownProducts() || productLoader == null) {
+            featured.compareAndSet(current, null);
+            return;
+        }
+        List<Long> listed = new ArrayList<>();
+        for (Product product : current) {
+            if (event.getProductIds().contains(product.getId())) {
+                listed.add(product.getId());
+            }
+        }
+        if (listed.isEmpty()) {
+            return;
+        }
+        Map<Long, Product> changes = new HashMap<>();
+        listed.forEach(id -> changes.put(id, null));
+        for (Product product : productLoader.apply(listed)) {
+            changes.put(product.getId(), product);
+        }
+        featured.updateAndGet(latest -> latest != null ? patched(latest, changes) : null);
+    }
+
+    /**
+     * Listed products embed their category name, so the list is reloaded on next use
+     */
+    public void onCategoryChanged(CategoryChanged event) {
+        featured.set(null);
+    }
+
+    /**
+     * Replaces listed products by their new state; a null or unavailable state drops them
+     */
+    private static List<Product> patched(List<Product> current, Map<Long, Product> changes) {
+        List<Product> updated = new ArrayList<>(current.size());
+        boolean listed = false;
+        for (Product product : current) {
+            if (!changes.containsKey(product.getId())) {
+                updated.add(product);
+                continue;
+            }
+            listed = true;
+            Product after = changes.get(product.getId());
+            if (after != null && after.isAvailable()) {
+                updated.add(after);
+            }
+        }
+        return listed ? List.copyOf(updated) : current;
+    }
+}
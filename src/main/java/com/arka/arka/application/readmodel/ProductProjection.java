@@ -0,0 +1,161 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.ProductBatchChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductSort;
+import com.arka.arka.domain.model.ProductView;
+import com.arka.arka.domain.port.out.CategoryRepositoryPort;
+import com.arka.arka.domain.port.out.ProductProjectionPort;
+import com.arka.arka.domain.port.out.ProductQueryPort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the denormalized product projection in sync with the product writes
+ * Each change re-reads the affected products (with their category name) and upserts
+ * or deletes their views; batch writes are re-read once per chunk, not once per product. Changes whose products are unknown, and failed updates,
+ * request a full rebuild, which the scheduler runs; the first run always rebuilds.
+ * A request is dropped when another instance completed a rebuild that started after it.
+ */
+public class ProductProjection {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    /**
+     * Deletion markers only matter to rebuilds running when the product was deleted; a rebuild
+     * is expected to take far less than this
+     */
+    private static final Duration DELETION_MARKER_RETENTION = Duration.ofHours(1);
+
+    private final ProductQueryPort productQueryPort;
+    private final CategoryRepositoryPort categoryRepository;
+    private final ProductProjectionPort projectionPort;
+    private final Clock clock;
+    private final AtomicReference<Instant> rebuildRequestedAt;
+
+    public ProductProjection(ProductQueryPort productQueryPort, CategoryRepositoryPort categoryRepository,
+                             ProductProjectionPort projectionPort, Clock clock) {
+        this.productQueryPort = productQueryPort;
+        this.categoryRepository = categoryRepository;
+        this.projectionPort = projectionPort;
+        this.clock = clock;
+        this.rebuildRequestedAt = new AtomicReference<>(clock.instant());
+    }
+
+    public void onProductChanged(ProductChanged event) {
+        if (event.isBatched()) {
+            // Refreshed with the rest of its chunk by onProductBatchChanged
+            return;
+        }
+        Product product = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        refresh(Set.of(product.getId()));
+    }
+
+    public void onProductBatchChanged(ProductBatchChanged event) {
+        refresh(event.getProductIds());
+    }
+
+    public void onStockChanged(StockChanged event) {
+        if (event.isUnknownProducts()) {
+            requestRebuild();
+        } else {
+            refresh(event.getProductIds());
+        }
+    }
+
+    public void onCategoryChanged(CategoryChanged event) {
+        String nombre = categoryRepository.findById(event.getCategoryId())
+                .map(Category::getNombre)
+                .orElse(null);
+        projectionPort.renameCategory(event.getCategoryId(), nombre);
+    }
+
+    /**
+     * Rewrites the views of the given products from the database; products that no longer exist are removed
+     */
+    public void refresh(Collection<Long> productIds) {
+        List<Product> products = productQueryPort.findAllById(productIds);
+        if (!products.isEmpty()) {
+            projectionPort.saveAll(toViews(products), clock.instant());
+        }
+        Set<Long> missing = new HashSet<>(productIds);
+        products.forEach(product -> missing.remove(product.getId()));
+        if (!missing.isEmpty()) {
+            projectionPort.deleteAllById(missing, clock.instant());
+        }
+    }
+
+    public void requestRebuild() {
+        rebuildRequestedAt.set(clock.instant());
+    }
+
+    public boolean isRebuildRequested() {
+        return rebuildRequestedAt.get() != null;
+    }
+
+    /**
+     * Runs a rebuild if one was requested and no rebuild started since the request
+     * @return true when a rebuild ran
+     */
+    public boolean rebuildIfRequested() {
+        Instant requestedAt = rebuildRequestedAt.get();
+        if (requestedAt == null) {
+            return false;
+        }
+        Optional<Instant> lastStart = projectionPort.lastRebuildStart();
+        if (lastStart.isPresent() && lastStart.get().isAfter(requestedAt)) {
+            rebuildRequestedAt.compareAndSet(requestedAt, null);
+            return false;
+        }
+        rebuild();
+        // A request made while rebuilding stays pending
+        rebuildRequestedAt.compareAndSet(requestedAt, null);
+        return true;
+    }
+
+    public long purgeDeletionMarkers() {
+        return projectionPort.purgeDeletedBefore(clock.instant().minus(DELETION_MARKER_RETENTION));
+    }
+
+    /**
+     * Rewrites every view in id order, {@value #REBUILD_BATCH_SIZE} per bulk write, then removes the
+     * views the rebuild did not write. Changes applied meanwhile, deletions included, are stamped
+     * later than the rebuild's writes, so the rebuild never overwrites them with its older snapshot.
+     * @return Number of products written
+     */
+    public long rebuild() {
+        Instant start = clock.instant();
+        long written = 0;
+        ProductCursor cursor = null;
+        List<Product> batch;
+        do {
+            batch = productQueryPort.findPage(ProductSort.ID, cursor, REBUILD_BATCH_SIZE);
+            if (!batch.isEmpty()) {
+                projectionPort.saveAll(toViews(batch), start);
+                written += batch.size();
+                cursor = ProductCursor.after(ProductSort.ID, batch.get(batch.size() - 1));
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        projectionPort.deleteSyncedBefore(start);
+        projectionPort.recordRebuild(start);
+        return written;
+    }
+
+    private static List<ProductView> toViews(List<Product> products) {
+        return products.stream().map(ProductView::of).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,132 @@
+package com.arka.arka.application.scheduling;
+
+import com.arka.arka.domain.port.out.SchedulerLeasePort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coordinates scheduled jobs between the running instances through a shared lease store
+ * Jobs that must run once per cluster ask {@link #isLeader}. Idempotent jobs over many items
+ * may instead ask for this node's {@link #partition()} and only process the items it owns.
+ * Each node reads the membership when it runs, so nodes running at different phases, or
+ * while nodes join or leave, can disagree on it and process an item twice or not at all.
+ * Jobs with side effects such as notifications must therefore use a lease.
+ */
+public class SchedulerCoordinator {
+
+    private final SchedulerLeasePort leasePort;
+    private final String nodeId;
+    private final Duration lease;
+    private final Duration nodeTtl;
+    private final Set<String> leases = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param lease   Time a leader keeps a job without renewing it; longer than the job's period
+     * @param nodeTtl Time after its last heartbeat at which a node stops receiving a partition
+     */
+    public SchedulerCoordinator(SchedulerLeasePort leasePort, String nodeId, Duration lease, Duration nodeTtl) {
+        this.leasePort = leasePort;
+        this.nodeId = nodeId;
+        this.lease = lease;
+        this.nodeTtl = nodeTtl;
+    }
+
+    public void heartbeat() {
+        leasePort.heartbeat(nodeId);
+    }
+
+    /**
+     * Takes or renews the job's lease
+     * @return true when this node should run the job now
+     */
+    public boolean isLeader(String job) {
+        return isLeader(job, lease);
+    }
+
+    /**
+     * Takes or renews the job's lease for {@code jobLease}; jobs whose nodes run at different
+     * phases pass their period, so the lease outlives the gap between two runs of the leader
+     * @return true when this node should run the job now
+     */
+    public boolean isLeader(String job, Duration jobLease) {
+        if (leasePort.tryAcquire(job, nodeId, jobLease)) {
+            leases.add(job);
+            return true;
+        }
+        leases.remove(job);
+        return false;
+    }
+
+    /**
+     * Gives up the job's lease so another node can take it right away
+     */
+    public void release(String job) {
+        leasePort.release(job, nodeId);
+        leases.remove(job);
+    }
+
+    /**
+     * This node's share of the work among the live nodes
+     * @return empty when this node is not in the membership even after a new heartbeat;
+     *         the run must then be skipped, since any share it picked could overlap another node's
+     */
+    public Optional<Partition> partition() {
+        List<String> nodes = leasePort.liveNodes(nodeTtl);
+        int index = nodes.indexOf(nodeId);
+        if (index < 0) {
+            heartbeat();
+            nodes = leasePort.liveNodes(nodeTtl);
+            index = nodes.indexOf(nodeId);
+        }
+        return index < 0 ? Optional.empty() : Optional.of(new Partition(index, nodes.size()));
+    }
+
+    /**
+     * Leaves the cluster so the remaining nodes take over this node's share right away
+     */
+    public void leave() {
+        for (String job : leases) {
+            leasePort.release(job, nodeId);
+        }
+        leases.clear();
+        leasePort.removeNode(nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Hash partition {@code index} of {@code count}
+     */
+    public static final class Partition {
+
+        public static final Partition ALL = new Partition(0, 1);
+
+        private final int index;
+        private final int count;
+
+        public Partition(int index, int count) {
+            this.index = index;
+            this.count = count;
+        }
+
+        public boolean owns(long key) {
+            // Spread sequential ids evenly across partitions
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return Math.floorMod(mixed ^ (mixed >>> 32), count) == index;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package com.arka.arka.application.search;
+
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-process trigram inverted index over product name, brand and description
+ *
+ * Each product gets an internal ordinal and every (field, trigram) pair keeps an
+ * append-only posting list of ordinals. Updates retire the old ordinal and
+ * append a new one; retired ordinals are skipped at query time and purged by compaction once
+ * they outnumber the live ones. Queries score products by the share of query trigrams
+ * found in each field, weighted by field, and return the top K.
+ */
+public class ProductSearchIndex {
+
+    private static final int FIELD_COUNT = 3;
+    private static final int NOMBRE = 0;
+    private static final int MARCA = 1;
+    private static final int DESCRIPCION = 2;
+    private static final double[] FIELD_WEIGHTS = {3.0, 2.0, 1.0};
+
+    /**
+     * Minimum share of query trigrams a field must contain for the product to match;
+     * below 1.0 so a typo in a long term still finds the product
+     */
+    private static final double MIN_COVERAGE = 0.6;
+    private static final double MAX_BONUS = 4.0;
+    private static final int MIN_DEAD_FOR_COMPACTION = 1024;
+
+    private final Supplier<? extends Collection<Product>> loader;
+    private final Function<Collection<Long>, List<Product>> productLoader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private int deadCount;
+    private volatile boolean loaded;
+
+    /**
+     * @param loader Full catalog load used the first time the index is queried
+     */
+    public ProductSearchIndex(Supplier<? extends Collection<Product>> loader) {
+        this(loader, null);
+    }
+
+    /**
+     * @param loader        Full catalog load used the first time the index is queried
+     * @param productLoader Optional load of some products by id, used to apply stock changes;
+     *                      without it every stock change drops the index
+     */
+    public ProductSearchIndex(Supplier<? extends Collection<Product>> loader,
+                              Function<Collection<Long>, List<Product>> productLoader) {
+        this.loader = loader;
+        this.productLoader = productLoader;
+    }
+
+    /**
+     * Returns up to {@code limit} products matching the term, best match first
+     */
+    public List<Product> search(String term, int limit) {
+        String query = TextFolding.fold(term);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            return query.length() < 3 ? searchShort(query, limit) : searchTrigrams(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes a created or updated product; ignored until the index is first loaded
+     */
+    public void upsert(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            retire(product.getId());
+            add(product.copy());
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a deleted product from the index
+     */
+    public void remove(Long productId) {
+        removeAll(Collections.singleton(productId));
+    }
+
+    /**
+     * Removes deleted products under one write lock, compacting at most once
+     */
+    public void removeAll(Collection<Long> productIds) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            productIds.forEach(this::retire);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search results carry the stock, so reservations must reach the indexed copies
+     */
+    public void onStockChanged(StockChanged event) {
+        if (event.isUnknownProducts() || productLoader == null) {
+            invalidate();
+        } else {
+            refresh(event.getProductIds());
+        }
+    }
+
+    /**
+     * Every product of the category embeds its name, so the next query reloads the catalog
+     */
+    public void onCategoryChanged(CategoryChanged event) {
+        invalidate();
+    }
+
+    /**
+     * Re-indexes the current state of the given products; products that no longer exist are removed
+     */
+    public void refresh(Collection<Long> productIds) {
+        if (!loaded) {
+            // Nothing indexed yet: the first query will see the change
+            return;
+        }
+        Set<Long> missing = new HashSet<>(productIds);
+        for (Product product : productLoader.apply(productIds)) {
+            missing.remove(product.getId());
+            upsert(product);
+        }
+        missing.forEach(this::remove);
+    }
+
+    /**
+     * Drops the whole index; the next query rebuilds it from the loader
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+            entries.clear();
+            postings.clear();
+            ordinalById.clear();
+            deadCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                for (Product product : loader.get()) {
+                    if (product != null && product.getId() != null) {
+                        retire(product.getId());
+                        add(product.copy());
+                    }
+                }
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A product matches when one field holds at least {@code need} of the query trigrams,
+     * so it must appear in at least one of the {@code Q - need + 1} rarest posting lists
+     * of that field; candidates come from those short lists only. Hits are then counted
+     * for the candidates alone, so the work and garbage of a query follow the candidates
+     * rather than the catalog size.
+     */
+    private List<Product> searchTrigrams(String query, int limit) {
+        long[] queryGrams = trigrams(query);
+        int need = (int) Math.ceil(MIN_COVERAGE * queryGrams.length);
+        int candidateLists = queryGrams.length - need + 1;
+
+        IntList[][] listsByField = new IntList[FIELD_COUNT][];
+        Map<Integer, int[]> hits = new HashMap<>();
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            IntList[] lists = new IntList[queryGrams.length];
+            for (int i = 0; i < queryGrams.length; i++) {
+                IntList list = postings.get(key(field, queryGrams[i]));
+                lists[i] = list != null ? list : IntList.EMPTY;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            listsByField[field] = lists;
+
+            for (int i = 0; i < candidateLists; i++) {
+                IntList list = lists[i];
+                for (int j = 0; j < list.size; j++) {
+                    int ordinal = list.values[j];
+                    if (entries.get(ordinal) != null) {
+                        hits.putIfAbsent(ordinal, new int[FIELD_COUNT]);
+                    }
+                }
+            }
+        }
+
+        // Every field counts towards the score, including the ones a candidate was not found in
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            for (IntList list : listsByField[field]) {
+                for (int j = 0; j < list.size; j++) {
+                    int[] candidateHits = hits.get(list.values[j]);
+                    if (candidateHits != null) {
+                        candidateHits[field]++;
+                    }
+                }
+            }
+        }
+
+        TopK topK = new TopK(limit);
+        for (Map.Entry<Integer, int[]> candidate : hits.entrySet()) {
+            int best = 0;
+            double score = 0;
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                int fieldHits = candidate.getValue()[field];
+                best = Math.max(best, fieldHits);
+                score += FIELD_WEIGHTS[field] * fieldHits / queryGrams.length;
+            }
+            if (best >= need && topK.accepts(score + MAX_BONUS)) {
+                Entry entry = entries.get(candidate.getKey());
+                topK.offer(entry, score + substringBonus(entry, query));
+            }
+        }
+        return topK.toList();
+    }
+
+    /**
+     * Queries shorter than a trigram cannot use the postings, so they scan the folded fields
+     */
+    private List<Product> searchShort(String query, int limit) {
+        TopK topK = new TopK(limit);
+        for (Entry entry : entries) {
+            if (entry == null) {
+                continue;
+            }
+            double bonus = substringBonus(entry, query);
+            if (bonus > 0) {
+                topK.offer(entry, bonus);
+            }
+        }
+        return topK.toList();
+    }
+
+    /**
+     * Exact (folded) substring matches rank above fuzzy ones, name prefixes highest
+     */
+    private double substringBonus(Entry entry, String query) {
+        if (entry.fields[NOMBRE].startsWith(query)) {
+            return MAX_BONUS;
+        }
+        if (entry.fields[NOMBRE].contains(query)) {
+            return 3.0;
+        }
+        if (entry.fields[MARCA].contains(query)) {
+            return 2.0;
+        }
+        if (entry.fields[DESCRIPCION].contains(query)) {
+            return 1.0;
+        }
+        return 0.0;
+    }
+
+    private void add(Product product) {
+        Entry entry = new Entry(product);
+        int ordinal = entries.size();
+        entries.add(entry);
+        ordinalById.put(product.getId(), ordinal);
+
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            for (long gram : trigrams(entry.fields[field])) {
+                postings.computeIfAbsent(key(field, gram), k -> new IntList()).add(ordinal);
+            }
+        }
+    }
+
+    private void retire(Long productId) {
+        Integer ordinal = ordinalById.remove(productId);
+        if (ordinal != null) {
+            entries.set(ordinal, null);
+            deadCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount < MIN_DEAD_FOR_COMPACTION || deadCount < ordinalById.size()) {
+            return;
+        }
+        List<Entry> live = new ArrayList<>(ordinalById.size());
+        for (Entry entry : entries) {
+            if (entry != null) {
+                live.add(entry);
+            }
+        }
+        entries.clear();
+        postings.clear();
+        ordinalById.clear();
+        deadCount = 0;
+        for (Entry entry : live) {
+            add(entry.product);
+        }
+    }
+
+    /**
+     * Unique trigrams of a folded text, each packed as three 16-bit chars
+     */
+    private static long[] trigrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int unique = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, unique);
+    }
+
+    private static long key(int field, long gram) {
+        return ((long) field << 48) | gram;
+    }
+
+    private static final class Entry {
+        private final Product product;
+        private final String[] fields;
+
+        private Entry(Product product) {
+            this.product = product;
+            this.fields = new String[] {
+                    TextFolding.fold(product.getNombre()),
+                    TextFolding.fold(product.getMarca()),
+                    TextFolding.fold(product.getDescripcion())
+            };
+        }
+    }
+
+    /**
+     * Growable int array used for posting lists
+     */
+    private static final class IntList {
+        private static final IntList EMPTY = new IntList();
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * Bounded min-heap keeping the K best scored entries
+     * Ties go to the shorter (more specific) name, then to the lower id
+     */
+    private static final class TopK {
+        private static final Comparator<Scored> WORST_FIRST = Comparator
+                .comparingDouble((Scored scored) -> scored.score)
+                .thenComparingInt(scored -> -scored.entry.fields[NOMBRE].length())
+                .thenComparingLong(scored -> -scored.entry.product.getId());
+
+        private final int limit;
+        private final PriorityQueue<Scored> heap;
+
+        private TopK(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(WORST_FIRST);
+        }
+
+        /**
+         * Whether an entry scoring at most {@code maxScore} could still enter the top K
+         */
+        private boolean accepts(double maxScore) {
+            return heap.size() < limit || maxScore >= heap.peek().score;
+        }
+
+        private void offer(Entry entry, double score) {
+            if (!accepts(score)) {
+                return;
+            }
+            Scored scored = new Scored(entry, score);
+            if (heap.size() < limit) {
+                heap.add(scored);
+            } else if (WORST_FIRST.compare(scored, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+
+        private List<Product> toList() {
+            List<Scored> sorted = new ArrayList<>(heap);
+            sorted.sort(WORST_FIRST.reversed());
+            List<Product> products = new ArrayList<>(sorted.size());
+            for (Scored scored : sorted) {
+                products.add(scored.entry.product);
+            }
+            return products;
+        }
+    }
+
+    private static final class Scored {
+        private final Entry entry;
+        private final double score;
+
+        private Scored(Entry entry, double score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+}
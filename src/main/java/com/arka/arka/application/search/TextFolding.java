@@ -0,0 +1,29 @@
+package com.arka.arka.application.search;
+
+import java.text.Normalizer;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalization for search
+ * Folds case and Spanish accents (á→a, ü→u, ñ→n) and collapses punctuation
+ * so "Canción Niño" and "cancion nino" index to the same terms
+ */
+public final class TextFolding {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextFolding() {
+    }
+
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutMarks.toLowerCase(java.util.Locale.ROOT))
+                .replaceAll(" ")
+                .trim();
+    }
+}
@@ -1,16 +1,18 @@
 package com.arka.arka.application.service;
 
-import com.arka.arka.domain.model.Cart;
-import com.arka.arka.domain.model.Order;
-import com.arka.arka.domain.port.in.CartUseCase;
-import com.arka.arka.domain.port.in.OrderUseCase;
+import com.arka.arka.domain.model.ActivityBucket;
+import com.arka.arka.domain.model.AnalyticsInterval;
+import com.arka.arka.domain.model.Money;
+import com.arka.arka.domain.model.OrderTotals;
+import com.arka.arka.domain.port.out.SalesAnalyticsPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -19,18 +21,22 @@ import java.util.ArrayList;
 /**
  * Service for e-commerce analytics and statistics
  * Provides business intelligence for the e-commerce platform
+ * Counts and sums come from database aggregates and the hourly rollup, never from full row lists
  */
 @Service
 public class EcommerceAnalyticsService {
     
     private static final Logger logger = LoggerFactory.getLogger(EcommerceAnalyticsService.class);
+    private static final BigDecimal AVERAGE_CART_VALUE = BigDecimal.valueOf(150); // Average cart value estimate, store currency
     
-    private final CartUseCase cartUseCase;
-    private final OrderUseCase orderUseCase;
+    private static final int MAX_ACTIVITY_BUCKETS = 24 * 366;
     
-    public EcommerceAnalyticsService(CartUseCase cartUseCase, OrderUseCase orderUseCase) {
-        this.cartUseCase = cartUseCase;
-        this.orderUseCase = orderUseCase;
+    private final SalesAnalyticsPort salesAnalyticsPort;
+    private final Currency storeCurrency;
+    
+    public EcommerceAnalyticsService(SalesAnalyticsPort salesAnalyticsPort, Currency storeCurrency) {
+        this.salesAnalyticsPort = salesAnalyticsPort;
+        this.storeCurrency = storeCurrency;
     }
     
     /**
@@ -43,29 +49,36 @@ public class EcommerceAnalyticsService {
         
         try {
             // Cart statistics
-            List<Cart> allCarts = cartUseCase.getAllCarts();
-            List<Cart> abandonedCarts = cartUseCase.getAbandonedCarts();
+            Map<String, Long> cartsByState = salesAnalyticsPort.countCartsByEstado();
+            long totalCarts = cartsByState.values().stream().mapToLong(Long::longValue).sum();
+            long abandonedCarts = cartsByState.getOrDefault("ABANDONED", 0L);
             
-            stats.put("totalCarts", allCarts.size());
-            stats.put("abandonedCarts", abandonedCarts.size());
-            stats.put("activeCarts", allCarts.size() - abandonedCarts.size());
-            stats.put("abandonmentRate", calculateAbandonmentRate(allCarts, abandonedCarts));
+            stats.put("totalCarts", totalCarts);
+            stats.put("abandonedCarts", abandonedCarts);
+            stats.put("activeCarts", totalCarts - abandonedCarts);
+            stats.put("abandonmentRate", calculateRate(abandonedCarts, totalCarts));
             
             // Order statistics
-            List<Order> allOrders = orderUseCase.getAllOrders();
-            stats.put("totalOrders", allOrders.size());
-            stats.put("totalRevenue", calculateTotalRevenue(allOrders));
-            stats.put("averageOrderValue", calculateAverageOrderValue(allOrders));
+            OrderTotals orderTotals = salesAnalyticsPort.sumOrders();
+            stats.put("totalOrders", orderTotals.getPedidos());
+            stats.put("totalRevenue", orderTotals.getVentas().toBigDecimal());
+            stats.put("averageOrderValue", orderTotals.getPromedio().toBigDecimal());
             
             // Conversion statistics
-            stats.put("conversionRate", calculateConversionRate(allCarts, allOrders));
+            stats.put("conversionRate", calculateRate(orderTotals.getPedidos(), totalCarts));
             
-            // Time-based statistics
+            // Time-based statistics (at most 24 hourly buckets)
             LocalDateTime now = LocalDateTime.now();
             LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
+            long cartsToday = 0;
+            long ordersToday = 0;
+            for (ActivityBucket bucket : salesAnalyticsPort.findHourlyActivity(startOfDay, now.plusHours(1))) {
+                cartsToday += bucket.getCarritosCreados();
+                ordersToday += bucket.getPedidos();
+            }
             
-            stats.put("cartsCreatedToday", countCartsCreatedSince(allCarts, startOfDay));
-            stats.put("ordersCreatedToday", countOrdersCreatedSince(allOrders, startOfDay));
+            stats.put("cartsCreatedToday", cartsToday);
+            stats.put("ordersCreatedToday", ordersToday);
             
             logger.info("✅ E-commerce statistics generated successfully");
             
@@ -86,10 +99,10 @@ public class EcommerceAnalyticsService {
         Map<String, Object> insights = new HashMap<>();
         
         try {
-            List<Cart> abandonedCarts = cartUseCase.getAbandonedCarts();
+            long abandonedCarts = salesAnalyticsPort.countCartsByEstado().getOrDefault("ABANDONED", 0L);
             
-            insights.put("totalAbandonedCarts", abandonedCarts.size());
-            insights.put("potentialRevenueLoss", calculatePotentialRevenueLoss(abandonedCarts));
+            insights.put("totalAbandonedCarts", abandonedCarts);
+            insights.put("potentialRevenueLoss", calculatePotentialRevenueLoss(abandonedCarts).toBigDecimal());
             insights.put("averageAbandonmentTime", calculateAverageAbandonmentTime(abandonedCarts));
             insights.put("topAbandonmentReasons", getTopAbandonmentReasons());
             
@@ -106,49 +119,48 @@ public class EcommerceAnalyticsService {
         return insights;
     }
     
-    private double calculateAbandonmentRate(List<Cart> allCarts, List<Cart> abandonedCarts) {
-        if (allCarts.isEmpty()) return 0.0;
-        return (double) abandonedCarts.size() / allCarts.size() * 100;
-    }
-    
-    private BigDecimal calculateTotalRevenue(List<Order> orders) {
-        return orders.stream()
-                .map(Order::getTotal)
-                .filter(total -> total != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-    
-    private BigDecimal calculateAverageOrderValue(List<Order> orders) {
-        if (orders.isEmpty()) return BigDecimal.ZERO;
+    /**
+     * Get carts created, orders and sales per hour or per day in [from, to)
+     * Reads the hourly rollup, so the cost depends on the number of buckets
+     */
+    public List<Map<String, Object>> getActivity(LocalDateTime from, LocalDateTime to, AnalyticsInterval interval) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+        if (from.plusHours(MAX_ACTIVITY_BUCKETS).isBefore(to)) {
+            throw new IllegalArgumentException("Activity range cannot exceed 366 days");
+        }
         
-        BigDecimal total = calculateTotalRevenue(orders);
-        return total.divide(BigDecimal.valueOf(orders.size()), 2, RoundingMode.HALF_UP);
-    }
-    
-    private double calculateConversionRate(List<Cart> carts, List<Order> orders) {
-        if (carts.isEmpty()) return 0.0;
-        return (double) orders.size() / carts.size() * 100;
-    }
-    
-    private long countCartsCreatedSince(List<Cart> carts, LocalDateTime since) {
-        return carts.stream()
-                .filter(cart -> cart.getFechaCreacion() != null && cart.getFechaCreacion().isAfter(since))
-                .count();
+        Map<LocalDateTime, ActivityBucket> buckets = new LinkedHashMap<>();
+        for (ActivityBucket hour : salesAnalyticsPort.findHourlyActivity(from, to)) {
+            LocalDateTime start = interval.truncate(hour.getInicio());
+            buckets.merge(start, hour, (current, next) -> current.plus(start, next));
+        }
+        
+        List<Map<String, Object>> activity = new ArrayList<>(buckets.size());
+        buckets.forEach((start, bucket) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("inicio", start);
+            entry.put("carritosCreados", bucket.getCarritosCreados());
+            entry.put("pedidos", bucket.getPedidos());
+            entry.put("ventas", bucket.getVentas().toBigDecimal());
+            activity.add(entry);
+        });
+        return activity;
     }
     
-    private long countOrdersCreatedSince(List<Order> orders, LocalDateTime since) {
-        return orders.stream()
-                .filter(order -> order.getFecha() != null && order.getFecha().isAfter(since))
-                .count();
+    private double calculateRate(long part, long total) {
+        if (total == 0) return 0.0;
+        return (double) part / total * 100;
     }
     
-    private BigDecimal calculatePotentialRevenueLoss(List<Cart> abandonedCarts) {
+    private Money calculatePotentialRevenueLoss(long abandonedCarts) {
         // Simplified calculation - in real implementation, 
         // you would calculate based on cart contents
-        return BigDecimal.valueOf(abandonedCarts.size() * 150.0); // Average cart value estimate
+        return Money.of(AVERAGE_CART_VALUE, storeCurrency).times(abandonedCarts);
     }
     
-    private String calculateAverageAbandonmentTime(List<Cart> abandonedCarts) {
+    private String calculateAverageAbandonmentTime(long abandonedCarts) {
         // Simplified - in real implementation, calculate time since last activity
         return "2.5 hours";
     }
@@ -164,10 +176,10 @@ public class EcommerceAnalyticsService {
         );
     }
     
-    private List<String> generateRecoveryRecommendations(List<Cart> abandonedCarts) {
+    private List<String> generateRecoveryRecommendations(long abandonedCarts) {
         List<String> recommendations = new ArrayList<>();
         
-        if (abandonedCarts.size() > 5) {
+        if (abandonedCarts > 5) {
             recommendations.add("🎯 Send personalized email campaigns");
             recommendations.add("💰 Offer limited-time discounts");
             recommendations.add("📱 Implement push notifications");
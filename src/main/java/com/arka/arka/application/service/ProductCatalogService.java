@@ -0,0 +1,34 @@
+package com.arka.arka.application.service;
+
+import com.arka.arka.domain.model.ProductView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Non-blocking catalog reads served from the product projection
+ * Never touches the transactional database; results may trail the latest write by the sync delay
+ */
+public interface ProductCatalogService {
+
+    int MAX_SEARCH_RESULTS = 100;
+
+    /**
+     * Product view by id; completes empty when it is not in the projection, so errors only
+     * signal a failed read
+     */
+    Mono<ProductView> obtenerPorId(Long id);
+
+    Flux<ProductView> obtenerPorCategoria(String categoria);
+
+    /**
+     * Fails with IllegalArgumentException when {@code min} is greater than {@code max}
+     */
+    Flux<ProductView> obtenerPorRangoPrecio(BigDecimal min, BigDecimal max);
+
+    /**
+     * Up to {@code limit} (at most {@value #MAX_SEARCH_RESULTS}) products whose name contains {@code term}
+     */
+    Flux<ProductView> buscar(String term, int limit);
+}
@@ -3,12 +3,14 @@ package com.arka.arka.application.service.impl;
 import com.arka.arka.application.service.CotizacionService;
 import com.arka.arka.domain.model.Cotizacion;
 import com.arka.arka.domain.model.EstadoCotizacion;
+import com.arka.arka.domain.model.Money;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Currency;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -22,6 +24,11 @@ public class CotizacionServiceImpl implements CotizacionService {
     
     private final Map<Long, Cotizacion> cotizaciones = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private final Currency storeCurrency;
+
+    public CotizacionServiceImpl(Currency storeCurrency) {
+        this.storeCurrency = storeCurrency;
+    }
 
     @Override
     public Mono<Cotizacion> generarCotizacion(Long solicitudId) {
@@ -83,10 +90,9 @@ public class CotizacionServiceImpl implements CotizacionService {
                     if (porcentajeDescuento < 0 || porcentajeDescuento > 100) {
                         throw new IllegalArgumentException("Porcentaje de descuento debe estar entre 0 y 100");
                     }
-                    BigDecimal descuento = cotizacion.getMonto()
-                            .multiply(new BigDecimal(porcentajeDescuento))
-                            .divide(new BigDecimal("100"));
-                    cotizacion.setDescuento(descuento);
+                    Money descuento = Money.of(cotizacion.getMonto(), storeCurrency)
+                            .percentage(BigDecimal.valueOf(porcentajeDescuento));
+                    cotizacion.setDescuento(descuento.toBigDecimal());
                     cotizaciones.put(id, cotizacion);
                     return cotizacion;
                 })
@@ -0,0 +1,55 @@
+package com.arka.arka.application.service.impl;
+
+import com.arka.arka.application.service.ProductCatalogService;
+import com.arka.arka.domain.model.ProductView;
+import com.arka.arka.domain.port.out.ProductProjectionQueryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Implementation of the projection-backed catalog reads
+ * Arguments are validated before subscribing to the query, and errors are signalled through the
+ * returned publisher rather than thrown
+ */
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+
+    private final ProductProjectionQueryPort queryPort;
+
+    public ProductCatalogServiceImpl(ProductProjectionQueryPort queryPort) {
+        this.queryPort = queryPort;
+    }
+
+    @Override
+    public Mono<ProductView> obtenerPorId(Long id) {
+        return queryPort.findById(id);
+    }
+
+    @Override
+    public Flux<ProductView> obtenerPorCategoria(String categoria) {
+        if (categoria == null || categoria.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Category name cannot be empty"));
+        }
+        return queryPort.findByCategory(categoria);
+    }
+
+    @Override
+    public Flux<ProductView> obtenerPorRangoPrecio(BigDecimal min, BigDecimal max) {
+        if (min.compareTo(max) > 0) {
+            return Flux.error(new IllegalArgumentException("Min price cannot be greater than max price"));
+        }
+        return queryPort.findByPriceRange(min, max);
+    }
+
+    @Override
+    public Flux<ProductView> buscar(String term, int limit) {
+        if (term == null || term.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Search term cannot be empty"));
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            return Flux.error(new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS));
+        }
+        return queryPort.searchByName(term.trim(), limit);
+    }
+}
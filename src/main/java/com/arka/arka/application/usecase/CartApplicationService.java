@@ -1,11 +1,16 @@
 package com.arka.arka.application.usecase;
 
+import com.arka.arka.domain.event.CartAbandoned;
+import com.arka.arka.domain.event.CartChanged;
 import com.arka.arka.domain.model.Cart;
 import com.arka.arka.domain.port.in.CartUseCase;
+import com.arka.arka.domain.port.out.CartActivityPort;
 import com.arka.arka.domain.port.out.CartRepositoryPort;
+import com.arka.arka.domain.port.out.DomainEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Application Service for Cart Use Cases
@@ -15,9 +20,26 @@ import java.util.List;
 public class CartApplicationService implements CartUseCase {
     
     private final CartRepositoryPort cartRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final CartActivityPort activityPort;
 
     public CartApplicationService(CartRepositoryPort cartRepository) {
+        this(cartRepository, null, null);
+    }
+
+    public CartApplicationService(CartRepositoryPort cartRepository, DomainEventPublisher eventPublisher) {
+        this(cartRepository, eventPublisher, null);
+    }
+
+    /**
+     * @param eventPublisher Optional; when present, every cart write publishes a {@link CartChanged}
+     * @param activityPort Optional; when present, the last activity of every cart write is persisted
+     */
+    public CartApplicationService(CartRepositoryPort cartRepository, DomainEventPublisher eventPublisher,
+                                  CartActivityPort activityPort) {
         this.cartRepository = cartRepository;
+        this.eventPublisher = eventPublisher;
+        this.activityPort = activityPort;
     }
 
     @Override
@@ -28,6 +50,7 @@ public class CartApplicationService implements CartUseCase {
     @Override
     public Cart getCartById(Long id) {
         return cartRepository.findById(id)
+                .map(this::withLastActivity)
                 .orElseThrow(() -> new RuntimeException("Cart not found with id: " + id));
     }
 
@@ -35,28 +58,31 @@ public class CartApplicationService implements CartUseCase {
     public Cart createCart(Cart cart) {
         validateCart(cart);
         cart.setFechaCreacion(LocalDateTime.now());
+        cart.setFechaUltimaActividad(cart.getFechaCreacion());
         if (cart.getEstado() == null) {
             cart.setEstado("ACTIVE");
         }
-        return cartRepository.save(cart);
+        Cart savedCart = touch(cartRepository.save(cart), cart.getFechaUltimaActividad());
+        publishEvent(CartChanged.created(savedCart));
+        return savedCart;
     }
 
     @Override
     public Cart updateCart(Long id, Cart cart) {
-        if (!cartRepository.existsById(id)) {
-            throw new RuntimeException("Cart not found with id: " + id);
-        }
+        Cart previous = findExisting(id);
         validateCart(cart);
         cart.setId(id);
-        return cartRepository.save(cart);
+        cart.setFechaUltimaActividad(LocalDateTime.now());
+        Cart savedCart = touch(cartRepository.save(cart), cart.getFechaUltimaActividad());
+        publishEvent(new CartChanged(previous, savedCart));
+        return savedCart;
     }
 
     @Override
     public void deleteCart(Long id) {
-        if (!cartRepository.existsById(id)) {
-            throw new RuntimeException("Cart not found with id: " + id);
-        }
+        Cart previous = findExisting(id);
         cartRepository.deleteById(id);
+        publishEvent(CartChanged.deleted(previous));
     }
 
     @Override
@@ -64,6 +90,74 @@ public class CartApplicationService implements CartUseCase {
         return cartRepository.findByEstado("ABANDONED");
     }
 
+    /**
+     * Abandons the cart with a conditional write on its persisted last activity, so a cart
+     * updated by another instance after {@code inactiveSince} is never abandoned
+     */
+    @Override
+    public Optional<Cart> abandonIfInactive(Long id, LocalDateTime inactiveSince) {
+        if (activityPort == null) {
+            throw new UnsupportedOperationException("Cart activity tracking is not configured");
+        }
+        if (!activityPort.abandonIfInactive(id, inactiveSince)) {
+            return cartRepository.findById(id).map(this::withLastActivity);
+        }
+        Optional<Cart> abandoned = cartRepository.findById(id).map(this::withLastActivity);
+        abandoned.ifPresent(cart -> {
+            Cart previous = snapshot(cart);
+            previous.setEstado("ACTIVE");
+            publishEvent(new CartChanged(previous, cart));
+            if (eventPublisher != null) {
+                eventPublisher.publish(new CartAbandoned(cart, cart.ultimaActividad()));
+            }
+        });
+        return abandoned;
+    }
+
+    private Cart touch(Cart savedCart, LocalDateTime at) {
+        if (activityPort != null) {
+            activityPort.touch(savedCart.getId(), at);
+        }
+        savedCart.setFechaUltimaActividad(at);
+        return savedCart;
+    }
+
+    /**
+     * Loaded carts carry no activity, the entity does not map the column
+     */
+    private Cart withLastActivity(Cart cart) {
+        if (activityPort != null && cart.getFechaUltimaActividad() == null) {
+            activityPort.findLastActivity(cart.getId()).ifPresent(cart::setFechaUltimaActividad);
+        }
+        return cart;
+    }
+
+    /**
+     * Checks the cart exists; when events are published the current state is
+     * loaded instead, so listeners can compute deltas from it
+     */
+    private Cart findExisting(Long id) {
+        if (eventPublisher != null) {
+            return getCartById(id);
+        }
+        if (!cartRepository.existsById(id)) {
+            throw new RuntimeException("Cart not found with id: " + id);
+        }
+        return null;
+    }
+
+    private static Cart snapshot(Cart cart) {
+        Cart copy = new Cart(cart.getId(), cart.getCliente(), cart.getFechaCreacion(), cart.getEstado());
+        copy.setFechaUltimaActividad(cart.getFechaUltimaActividad());
+        return copy;
+    }
+
+    private void publishEvent(CartChanged event) {
+        if (eventPublisher != null) {
+            eventPublisher.publish(event);
+        }
+    }
+
     /**
      * Domain validation logic for Cart
      */
@@ -1,8 +1,10 @@
 package com.arka.arka.application.usecase;
 
+import com.arka.arka.domain.event.CategoryChanged;
 import com.arka.arka.domain.model.Category;
 import com.arka.arka.domain.port.in.CategoryUseCase;
 import com.arka.arka.domain.port.out.CategoryRepositoryPort;
+import com.arka.arka.domain.port.out.DomainEventPublisher;
 
 import java.util.List;
 
@@ -14,9 +16,18 @@ import java.util.List;
 public class CategoryApplicationService implements CategoryUseCase {
     
     private final CategoryRepositoryPort categoryRepository;
+    private final DomainEventPublisher eventPublisher;
 
     public CategoryApplicationService(CategoryRepositoryPort categoryRepository) {
+        this(categoryRepository, null);
+    }
+
+    /**
+     * @param eventPublisher Optional; when present, renames and deletions publish a {@link CategoryChanged}
+     */
+    public CategoryApplicationService(CategoryRepositoryPort categoryRepository, DomainEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -43,7 +54,9 @@ public class CategoryApplicationService implements CategoryUseCase {
         }
         validateCategory(category);
         category.setId(id);
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        publishEvent(new CategoryChanged(id));
+        return savedCategory;
     }
 
     @Override
@@ -52,6 +65,13 @@ public class CategoryApplicationService implements CategoryUseCase {
             throw new RuntimeException("Category not found with id: " + id);
         }
         categoryRepository.deleteById(id);
+        publishEvent(new CategoryChanged(id));
+    }
+
+    private void publishEvent(CategoryChanged event) {
+        if (eventPublisher != null) {
+            eventPublisher.publish(event);
+        }
     }
 
     /**
@@ -1,25 +1,75 @@
 package com.arka.arka.application.usecase;
 
+import com.arka.arka.domain.event.OrderChanged;
+import com.arka.arka.domain.event.StockChanged;
 import com.arka.arka.domain.model.Order;
 import com.arka.arka.domain.model.Product;
 import com.arka.arka.domain.model.Customer;
+import com.arka.arka.domain.model.OrderIdPage;
+import com.arka.arka.domain.model.StockReservation;
 import com.arka.arka.domain.port.in.OrderUseCase;
+import com.arka.arka.domain.port.in.StockReservationUseCase;
+import com.arka.arka.domain.port.out.DomainEventPublisher;
 import com.arka.arka.domain.port.out.OrderRepositoryPort;
+import com.arka.arka.domain.port.out.ProductOrderIndexPort;
+import com.arka.arka.domain.port.out.TransactionPort;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 /**
  * Application Service for Order Use Cases
  * This class orchestrates the business logic for Order operations
+ * With stock reservations, an order holds stock for its products: creating it or adding products
+ * reserves them first, and the reservation is confirmed in the transaction that writes the order,
+ * so the order is committed exactly when its reservation is. Removing products or deleting the
+ * order gives their stock back in that same transaction.
  * Following Hexagonal Architecture - Application Layer
  */
 public class OrderApplicationService implements OrderUseCase {
+
+    public static final int MAX_ORDER_ID_PAGE_SIZE = 500;
     
     private final OrderRepositoryPort orderRepository;
+    private final StockReservationUseCase stockReservations;
+    private final ProductOrderIndexPort productOrderIndex;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionPort transactions;
+    private final Currency storeCurrency;
+
+    public OrderApplicationService(OrderRepositoryPort orderRepository, Currency storeCurrency) {
+        this(orderRepository, null, null, null, storeCurrency);
+    }
+
+    public OrderApplicationService(OrderRepositoryPort orderRepository, StockReservationUseCase stockReservations,
+                                   ProductOrderIndexPort productOrderIndex, DomainEventPublisher eventPublisher,
+                                   Currency storeCurrency) {
+        this(orderRepository, stockReservations, productOrderIndex, eventPublisher, null, storeCurrency);
+    }
 
-    public OrderApplicationService(OrderRepositoryPort orderRepository) {
+    /**
+     * @param stockReservations Optional; when present, order writes reserve and give back stock
+     * @param productOrderIndex Product -> order index kept in step with order writes; required for order id pages
+     * @param eventPublisher    Optional; when present, every order write publishes an {@link OrderChanged}
+     * @param transactions      Optional; when present, an order, its index rows and its stock changes are written in one transaction
+     * @param storeCurrency     Currency of the product prices the order totals are summed from
+     */
+    public OrderApplicationService(OrderRepositoryPort orderRepository, StockReservationUseCase stockReservations,
+                                   ProductOrderIndexPort productOrderIndex, DomainEventPublisher eventPublisher,
+                                   TransactionPort transactions, Currency storeCurrency) {
         this.orderRepository = orderRepository;
+        this.stockReservations = stockReservations;
+        this.productOrderIndex = productOrderIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactions = transactions;
+        this.storeCurrency = Objects.requireNonNull(storeCurrency, "storeCurrency");
     }
 
     @Override
@@ -37,27 +87,45 @@ public class OrderApplicationService implements OrderUseCase {
     public Order createOrder(Order order) {
         validateOrder(order);
         order.setFecha(LocalDateTime.now());
-        order.setTotal(order.calculateTotal());
-        return orderRepository.save(order);
+        order.setTotal(order.calculateTotal(storeCurrency));
+        if (stockReservations == null) {
+            return published(null, saveAndIndex(order, () -> { }));
+        }
+        return published(null, saveWithStock(order, orderLines(order), Map.of()));
     }
 
     @Override
     public Order updateOrder(Long id, Order order) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found with id: " + id);
-        }
+        Order previous = findExisting(id);
         validateOrder(order);
         order.setId(id);
-        order.setTotal(order.calculateTotal());
-        return orderRepository.save(order);
+        order.setTotal(order.calculateTotal(storeCurrency));
+        if (stockReservations == null) {
+            return published(previous, saveAndIndex(order, () -> { }));
+        }
+        Map<Long, Integer> before = orderLines(previous);
+        Map<Long, Integer> after = orderLines(order);
+        return published(previous, saveWithStock(order, difference(after, before), difference(before, after)));
     }
 
     @Override
     public void deleteOrder(Long id) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found with id: " + id);
+        Order previous = findExisting(id);
+        Map<Long, Integer> restocked = stockReservations != null ? orderLines(previous) : Map.of();
+        inTransaction(() -> {
+            orderRepository.deleteById(id);
+            if (productOrderIndex != null) {
+                productOrderIndex.remove(id);
+            }
+            if (!restocked.isEmpty()) {
+                stockReservations.restock(restocked);
+            }
+            return null;
+        });
+        stockChanged(restocked.keySet());
+        if (eventPublisher != null) {
+            eventPublisher.publish(OrderChanged.deleted(previous));
         }
-        orderRepository.deleteById(id);
     }
 
     @Override
@@ -65,6 +133,24 @@ public class OrderApplicationService implements OrderUseCase {
         return orderRepository.findByProductosContaining(product);
     }
 
+    @Override
+    public OrderIdPage getOrderIdsByProduct(Long productId, Long beforeOrderId, int size) {
+        if (productOrderIndex == null) {
+            throw new UnsupportedOperationException("Product order index is not configured");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        int pageSize = Math.min(size, MAX_ORDER_ID_PAGE_SIZE);
+        // One extra id tells whether another page exists
+        List<Long> ids = productOrderIndex.findOrderIds(productId, beforeOrderId, pageSize + 1);
+        if (ids.size() <= pageSize) {
+            return new OrderIdPage(ids, null);
+        }
+        List<Long> page = ids.subList(0, pageSize);
+        return new OrderIdPage(page, page.get(pageSize - 1));
+    }
+
     @Override
     public List<Order> getOrdersByDateRange(LocalDateTime start, LocalDateTime end) {
         if (start.isAfter(end)) {
@@ -78,6 +164,130 @@ public class OrderApplicationService implements OrderUseCase {
         return orderRepository.findByCliente(customer);
     }
 
+    /**
+     * Checks the order exists; when events are published or stock is reserved the current
+     * state is loaded instead, so listeners and reservations can compute deltas from it
+     */
+    private Order findExisting(Long id) {
+        if (eventPublisher != null || stockReservations != null) {
+            return getOrderById(id);
+        }
+        if (!orderRepository.existsById(id)) {
+            throw new RuntimeException("Order not found with id: " + id);
+        }
+        return null;
+    }
+
+    private Order published(Order previous, Order savedOrder) {
+        if (eventPublisher != null) {
+            eventPublisher.publish(new OrderChanged(previous, savedOrder));
+        }
+        return savedOrder;
+    }
+
+    /**
+     * Reserves the added lines, then saves the order, confirms the reservation and gives back
+     * the removed lines in one transaction. If the reservation expired before the confirmation,
+     * the order is rolled back; if the order cannot be saved, the reservation is released.
+     */
+    private Order saveWithStock(Order order, Map<Long, Integer> added, Map<Long, Integer> removed) {
+        StockReservation reservation = added.isEmpty() ? null : stockReservations.reserve(added);
+        Order savedOrder;
+        try {
+            savedOrder = saveAndIndex(order, () -> {
+                if (reservation != null) {
+                    stockReservations.confirm(reservation.getId());
+                }
+                if (!removed.isEmpty()) {
+                    stockReservations.restock(removed);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (reservation != null) {
+                try {
+                    stockReservations.release(reservation.getId());
+                } catch (RuntimeException releaseError) {
+                    // Already released by the expiry job
+                    e.addSuppressed(releaseError);
+                }
+            }
+            throw e;
+        }
+        stockChanged(removed.keySet());
+        return savedOrder;
+    }
+
+    /**
+     * Saves the order, replaces its index rows and runs {@code alsoInTransaction}; any failure
+     * rolls the order back, so the index and the stock never disagree with a committed order
+     */
+    private Order saveAndIndex(Order order, Runnable alsoInTransaction) {
+        return inTransaction(() -> {
+            Order savedOrder = orderRepository.save(order);
+            if (productOrderIndex != null && savedOrder != null && savedOrder.getId() != null) {
+                productOrderIndex.index(savedOrder.getId(), productIds(savedOrder));
+            }
+            alsoInTransaction.run();
+            return savedOrder;
+        });
+    }
+
+    /**
+     * Stock given back inside an order transaction is announced once it has committed
+     */
+    private void stockChanged(Set<Long> productIds) {
+        if (eventPublisher != null && !productIds.isEmpty()) {
+            eventPublisher.publish(new StockChanged(productIds));
+        }
+    }
+
+    /**
+     * Units in {@code lines} beyond those in {@code minus}
+     */
+    private static Map<Long, Integer> difference(Map<Long, Integer> lines, Map<Long, Integer> minus) {
+        Map<Long, Integer> difference = new TreeMap<>();
+        lines.forEach((productId, cantidad) -> {
+            int extra = cantidad - minus.getOrDefault(productId, 0);
+            if (extra > 0) {
+                difference.put(productId, extra);
+            }
+        });
+        return difference;
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactions != null ? transactions.inTransaction(work) : work.get();
+    }
+
+    private List<Long> productIds(Order order) {
+        List<Long> ids = new ArrayList<>();
+        if (order.getProductos() != null) {
+            for (Product product : order.getProductos()) {
+                if (product != null && product.getId() != null) {
+                    ids.add(product.getId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Orders carry a set of products, so each product is one unit
+     */
+    private Map<Long, Integer> orderLines(Order order) {
+        Map<Long, Integer> lineas = new TreeMap<>();
+        if (order.getProductos() == null) {
+            return lineas;
+        }
+        for (Product product : order.getProductos()) {
+            if (product.getId() == null) {
+                throw new IllegalArgumentException("Order products must have an id");
+            }
+            lineas.merge(product.getId(), 1, Integer::sum);
+        }
+        return lineas;
+    }
+
     /**
      * Domain validation logic for Order
      */
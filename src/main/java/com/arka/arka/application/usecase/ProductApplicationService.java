@@ -1,13 +1,36 @@
 package com.arka.arka.application.usecase;
 
+import com.arka.arka.application.readmodel.CatalogReadModel;
+import com.arka.arka.application.search.ProductSearchIndex;
+import com.arka.arka.domain.event.ProductBatchChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.model.BatchResult;
+import com.arka.arka.domain.model.Category;
 import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductImportResult;
+import com.arka.arka.domain.model.ProductPage;
+import com.arka.arka.domain.model.ProductSort;
 import com.arka.arka.domain.port.in.ProductUseCase;
+import com.arka.arka.domain.port.out.DomainEventPublisher;
+import com.arka.arka.domain.port.out.ProductImportPort;
+import com.arka.arka.domain.port.out.ProductQueryPort;
 import com.arka.arka.domain.port.out.ProductRepositoryPort;
 import com.arka.arka.domain.port.out.CategoryRepositoryPort;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -16,14 +39,45 @@ import java.util.stream.Collectors;
  * Following Hexagonal Architecture - Application Layer
  */
 public class ProductApplicationService implements ProductUseCase {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final int IMPORT_CHUNK_SIZE = 500;
     
     private final ProductRepositoryPort productRepository;
     private final CategoryRepositoryPort categoryRepository;
+    private final ProductQueryPort productQueryPort;
+    private final CatalogReadModel catalogReadModel;
+    private final ProductSearchIndex searchIndex;
+    private final ProductImportPort productImportPort;
+    private final DomainEventPublisher eventPublisher;
 
     public ProductApplicationService(ProductRepositoryPort productRepository, 
                                    CategoryRepositoryPort categoryRepository) {
+        this(productRepository, categoryRepository, null, null, null, null, null);
+    }
+
+    /**
+     * @param productQueryPort Keyset-paginated queries; required for paged listings and exports
+     * @param catalogReadModel Optional in-memory read model; when null every read goes to the repository
+     * @param searchIndex      Optional trigram index; when null searches use the repository LIKE query
+     * @param productImportPort Batched writes; required for bulk imports
+     * @param eventPublisher    Optional; when present, every product write publishes a {@link ProductChanged}
+     */
+    public ProductApplicationService(ProductRepositoryPort productRepository,
+                                   CategoryRepositoryPort categoryRepository,
+                                   ProductQueryPort productQueryPort,
+                                   CatalogReadModel catalogReadModel,
+                                   ProductSearchIndex searchIndex,
+                                   ProductImportPort productImportPort,
+                                   DomainEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
+        this.productQueryPort = productQueryPort;
+        this.catalogReadModel = catalogReadModel;
+        this.searchIndex = searchIndex;
+        this.productImportPort = productImportPort;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -37,38 +91,73 @@ public class ProductApplicationService implements ProductUseCase {
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
     }
 
+    @Override
+    public List<Product> getProductsByIds(Collection<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.contains(null)) {
+            throw new IllegalArgumentException("Product ids cannot be null");
+        }
+        if (distinct.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Cannot load more than " + MAX_PAGE_SIZE + " products at once");
+        }
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = new HashMap<>();
+        requireQueryPort().findAllById(distinct).forEach(product -> byId.put(product.getId(), product));
+        return distinct.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Product createProduct(Product product) {
         validateProduct(product);
         validateCategoryExists(product.getCategoria().getId());
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        publishToReadModel(savedProduct);
+        publishEvent(ProductChanged.created(savedProduct));
+        return savedProduct;
     }
 
     @Override
     public Product updateProduct(Long id, Product product) {
-        if (!productRepository.existsById(id)) {
-            throw new RuntimeException("Product not found with id: " + id);
-        }
+        Product previous = findExisting(id);
         validateProduct(product);
         product.setId(id);
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        publishToReadModel(savedProduct);
+        publishEvent(new ProductChanged(previous, savedProduct));
+        return savedProduct;
     }
 
     @Override
     public void deleteProduct(Long id) {
-        if (!productRepository.existsById(id)) {
-            throw new RuntimeException("Product not found with id: " + id);
-        }
+        Product previous = findExisting(id);
         productRepository.deleteById(id);
+        publishEvent(ProductChanged.deleted(previous));
+        if (catalogReadModel != null) {
+            catalogReadModel.publishRemoval(id);
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(id);
+        }
     }
 
     @Override
     public List<Product> getProductsByCategory(String categoryName) {
+        if (catalogReadModel != null) {
+            return catalogReadModel.current().getByCategory(categoryName);
+        }
         return productRepository.findByCategoriaNombre(categoryName);
     }
 
     @Override
     public List<Product> searchProductsByName(String name) {
+        if (searchIndex != null) {
+            return searchIndex.search(name, Integer.MAX_VALUE);
+        }
         return productRepository.findByNombreContainingIgnoreCase(name);
     }
 
@@ -77,17 +166,388 @@ public class ProductApplicationService implements ProductUseCase {
         if (min.compareTo(max) > 0) {
             throw new IllegalArgumentException("Min price cannot be greater than max price");
         }
+        if (catalogReadModel != null) {
+            return catalogReadModel.current().getByPriceRange(min, max);
+        }
         return productRepository.findByPriceRange(min, max);
     }
 
     @Override
     public List<Product> getAllProductsSorted() {
+        if (catalogReadModel != null) {
+            return catalogReadModel.current().getSortedByName();
+        }
         return productRepository.findAll()
                 .stream()
                 .sorted(Comparator.comparing(Product::getNombre, String.CASE_INSENSITIVE_ORDER))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public ProductPage getProductsPage(ProductSort sort, ProductCursor after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (after != null && after.getSort() != sort) {
+            throw new IllegalArgumentException("Cursor does not match sort " + sort);
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        // One extra row tells whether another page exists without a COUNT query
+        List<Product> rows = requireQueryPort().findPage(sort, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new ProductPage(rows, null);
+        }
+        List<Product> page = rows.subList(0, pageSize);
+        return new ProductPage(page, ProductCursor.after(sort, page.get(pageSize - 1)));
+    }
+
+    @Override
+    public void forEachProductSorted(ProductSort sort, Consumer<Product> consumer) {
+        ProductQueryPort queryPort = requireQueryPort();
+        ProductCursor cursor = null;
+        List<Product> batch;
+        do {
+            batch = queryPort.findPage(sort, cursor, EXPORT_BATCH_SIZE);
+            batch.forEach(consumer);
+            if (!batch.isEmpty()) {
+                cursor = ProductCursor.after(sort, batch.get(batch.size() - 1));
+            }
+        } while (batch.size() == EXPORT_BATCH_SIZE);
+    }
+
+    /**
+     * Rows are validated as they arrive and written in chunks of {@value #IMPORT_CHUNK_SIZE},
+     * one batch and one transaction per chunk, so memory use does not grow with the upload
+     */
+    @Override
+    public ProductImportResult importProducts(Iterator<Product> rows) {
+        ProductImportResult result = new ProductImportResult();
+        writeInChunks(rows, new RowOutcome() {
+            @Override
+            public void received() {
+                result.rowReceived();
+            }
+
+            @Override
+            public void imported(int row, Long id) {
+                result.rowsImported(1);
+            }
+
+            @Override
+            public void failed(int row, String message) {
+                result.rowFailed(row, message);
+            }
+
+            @Override
+            public void aborted(int row, RuntimeException error) {
+                result.abortedAt(row, error.getMessage());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Same pipeline as {@link #importProducts}, reporting the generated id of every item
+     */
+    @Override
+    public BatchResult createProducts(Iterator<Product> items) {
+        BatchResult result = new BatchResult();
+        writeInChunks(items, new RowOutcome() {
+            @Override
+            public void received() {
+            }
+
+            @Override
+            public void imported(int row, Long id) {
+                result.itemSucceeded(row - 1, id);
+            }
+
+            @Override
+            public void failed(int row, String message) {
+                result.itemFailed(row - 1, null, message);
+            }
+
+            @Override
+            public void aborted(int row, RuntimeException error) {
+                throw error;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Deletes in chunks of {@value #IMPORT_CHUNK_SIZE}: one transaction per chunk loads the
+     * chunk's products (their previous state goes out in the events) and removes them with one
+     * DELETE ... IN. If that fails, the ids are retried one by one so the error is reported
+     * against the id that caused it.
+     */
+    @Override
+    public BatchResult deleteProducts(List<Long> ids) {
+        requireImportPort();
+        BatchResult result = new BatchResult();
+        Set<Long> seen = new HashSet<>();
+        for (int start = 0; start < ids.size(); start += IMPORT_CHUNK_SIZE) {
+            int end = Math.min(start + IMPORT_CHUNK_SIZE, ids.size());
+            List<Integer> accepted = new ArrayList<>();
+            for (int index = start; index < end; index++) {
+                Long id = ids.get(index);
+                if (id == null) {
+                    result.itemFailed(index, null, "Product id cannot be null");
+                } else if (!seen.add(id)) {
+                    result.itemFailed(index, id, "Duplicate product id: " + id);
+                } else {
+                    accepted.add(index);
+                }
+            }
+            deleteChunk(ids, accepted, result);
+        }
+        return result;
+    }
+
+    private void deleteChunk(List<Long> ids, List<Integer> indexes, BatchResult result) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        Map<Long, Product> deleted = new HashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+        deleteAll(indexes.stream().map(ids::get).collect(Collectors.toList()), deleted, failures);
+
+        List<Product> removed = new ArrayList<>();
+        for (int index : indexes) {
+            Long id = ids.get(index);
+            if (failures.containsKey(id)) {
+                result.itemFailed(index, id, failures.get(id));
+            } else if (!deleted.containsKey(id)) {
+                result.itemFailed(index, id, "Product not found with id: " + id);
+            } else {
+                removed.add(deleted.get(id));
+                result.itemSucceeded(index, id);
+            }
+        }
+        removeFromReadSide(removed);
+    }
+
+    /**
+     * Deletes the ids in one transaction; if it fails, each id is retried on its own so
+     * the error is reported against the product that caused it
+     */
+    private void deleteAll(List<Long> ids, Map<Long, Product> deleted, Map<Long, String> failures) {
+        try {
+            productImportPort.deleteAll(ids).forEach(product -> deleted.put(product.getId(), product));
+        } catch (RuntimeException batchFailure) {
+            for (Long id : ids) {
+                try {
+                    productImportPort.deleteAll(List.of(id)).forEach(product -> deleted.put(product.getId(), product));
+                } catch (RuntimeException e) {
+                    failures.put(id, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates rows as they arrive and writes them in chunks of {@value #IMPORT_CHUNK_SIZE}
+     */
+    private void writeInChunks(Iterator<Product> rows, RowOutcome outcome) {
+        requireImportPort();
+        ImportChunk chunk = new ImportChunk();
+        Set<Long> knownCategories = new HashSet<>();
+        Set<Long> missingCategories = new HashSet<>();
+        int rowNumber = 0;
+        int imported = 0;
+
+        try {
+            while (true) {
+                try {
+                    if (!rows.hasNext()) {
+                        break;
+                    }
+                } catch (RuntimeException e) {
+                    // The upload cannot be read any further; the rows read so far are still imported
+                    outcome.aborted(rowNumber + 1, e);
+                    break;
+                }
+                rowNumber++;
+                outcome.received();
+                try {
+                    Product product = rows.next();
+                    validateProduct(product);
+                    product.setId(null);
+                    chunk.add(rowNumber, product);
+                } catch (IllegalArgumentException e) {
+                    outcome.failed(rowNumber, e.getMessage());
+                    continue;
+                }
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    imported += importChunk(chunk, knownCategories, missingCategories, outcome);
+                    chunk = new ImportChunk();
+                }
+            }
+            imported += importChunk(chunk, knownCategories, missingCategories, outcome);
+        } catch (RuntimeException e) {
+            // Earlier chunks are committed: report them instead of failing the whole request
+            outcome.aborted(rowNumber, e);
+        } finally {
+            if (imported > 0 && catalogReadModel != null) {
+                // One reload instead of a new snapshot per imported product
+                catalogReadModel.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Checks the chunk's categories (only ids not seen in earlier chunks hit the database)
+     * and inserts the valid rows as one batch. If the batch fails, the rows are retried
+     * one by one so the error is reported against the row that caused it.
+     * @return Number of rows inserted
+     */
+    private int importChunk(ImportChunk chunk, Set<Long> knownCategories, Set<Long> missingCategories,
+                            RowOutcome outcome) {
+        if (chunk.size() == 0) {
+            return 0;
+        }
+        Set<Long> unknown = new HashSet<>();
+        for (Product product : chunk.products) {
+            Long categoryId = product.getCategoria().getId();
+            if (!knownCategories.contains(categoryId) && !missingCategories.contains(categoryId)) {
+                unknown.add(categoryId);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            Set<Long> existing = productImportPort.findExistingCategoryIds(unknown);
+            for (Long categoryId : unknown) {
+                (existing.contains(categoryId) ? knownCategories : missingCategories).add(categoryId);
+            }
+        }
+
+        ImportChunk valid = new ImportChunk();
+        for (int i = 0; i < chunk.size(); i++) {
+            Product product = chunk.products.get(i);
+            Long categoryId = product.getCategoria().getId();
+            if (missingCategories.contains(categoryId)) {
+                outcome.failed(chunk.rowNumbers.get(i), "Category not found with id: " + categoryId);
+            } else {
+                valid.add(chunk.rowNumbers.get(i), product);
+            }
+        }
+        if (valid.size() == 0) {
+            return 0;
+        }
+
+        try {
+            insertAndPublish(valid.products);
+            for (int i = 0; i < valid.size(); i++) {
+                outcome.imported(valid.rowNumbers.get(i), valid.products.get(i).getId());
+            }
+            return valid.size();
+        } catch (RuntimeException batchFailure) {
+            int imported = 0;
+            for (int i = 0; i < valid.size(); i++) {
+                try {
+                    insertAndPublish(List.of(valid.products.get(i)));
+                    outcome.imported(valid.rowNumbers.get(i), valid.products.get(i).getId());
+                    imported++;
+                } catch (RuntimeException e) {
+                    outcome.failed(valid.rowNumbers.get(i), e.getMessage());
+                }
+            }
+            return imported;
+        }
+    }
+
+    private void insertAndPublish(List<Product> products) {
+        List<Long> ids = productImportPort.insertAll(products);
+        for (int i = 0; i < products.size(); i++) {
+            products.get(i).setId(ids.get(i));
+            if (searchIndex != null) {
+                searchIndex.upsert(products.get(i));
+            }
+            publishEvent(ProductChanged.created(products.get(i)).inBatch());
+        }
+        publishBatch(products);
+    }
+
+    /**
+     * Publishes a chunk's removals to the event listeners, then to the read model as one
+     * snapshot and to the search index under one lock
+     */
+    private void removeFromReadSide(List<Product> deleted) {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        deleted.forEach(product -> publishEvent(ProductChanged.deleted(product).inBatch()));
+        publishBatch(deleted);
+        List<Long> removedIds = deleted.stream().map(Product::getId).collect(Collectors.toList());
+        if (catalogReadModel != null) {
+            catalogReadModel.publish(List.of(), removedIds);
+        }
+        if (searchIndex != null) {
+            searchIndex.removeAll(removedIds);
+        }
+    }
+
+    private void requireImportPort() {
+        if (productImportPort == null) {
+            throw new UnsupportedOperationException("Bulk product writes are not configured");
+        }
+    }
+
+    /**
+     * Checks the product exists; when events are published the current state is
+     * loaded instead, so listeners can compute deltas from it
+     */
+    private Product findExisting(Long id) {
+        if (eventPublisher != null) {
+            return getProductById(id);
+        }
+        if (!productRepository.existsById(id)) {
+            throw new RuntimeException("Product not found with id: " + id);
+        }
+        return null;
+    }
+
+    private void publishEvent(ProductChanged event) {
+        if (eventPublisher != null) {
+            eventPublisher.publish(event);
+        }
+    }
+
+    private void publishBatch(List<Product> products) {
+        if (eventPublisher != null) {
+            eventPublisher.publish(new ProductBatchChanged(
+                    products.stream().map(Product::getId).collect(Collectors.toSet())));
+        }
+    }
+
+    private ProductQueryPort requireQueryPort() {
+        if (productQueryPort == null) {
+            throw new UnsupportedOperationException("Paginated product queries are not configured");
+        }
+        return productQueryPort;
+    }
+
+    /**
+     * Publishes a saved product to the read model and the search index, resolving
+     * the category name when the repository only returned the category id
+     */
+    private void publishToReadModel(Product savedProduct) {
+        if (savedProduct == null) {
+            return;
+        }
+        if (searchIndex != null) {
+            searchIndex.upsert(savedProduct);
+        }
+        if (catalogReadModel == null) {
+            return;
+        }
+        Category categoria = savedProduct.getCategoria();
+        if (categoria != null && categoria.getId() != null && categoria.getNombre() == null) {
+            categoryRepository.findById(categoria.getId())
+                    .ifPresent(category -> categoria.setNombre(category.getNombre()));
+        }
+        catalogReadModel.publishUpsert(savedProduct);
+    }
+
     /**
      * Domain validation logic for Product
      */
@@ -111,4 +571,38 @@ public class ProductApplicationService implements ProductUseCase {
             throw new RuntimeException("Category not found with id: " + categoryId);
         }
     }
+
+    /**
+     * Receives the outcome of each row of a chunked write
+     */
+    private interface RowOutcome {
+        void received();
+
+        void imported(int row, Long id);
+
+        void failed(int row, String message);
+
+        /**
+         * The rows after {@code row} were not processed; the ones before it keep their outcome
+         */
+        void aborted(int row, RuntimeException error);
+    }
+
+    /**
+     * Products of one import chunk with their row numbers in the upload
+     */
+
+    private static final class ImportChunk {
+        private final List<Integer> rowNumbers = new ArrayList<>();
+        private final List<Product> products = new ArrayList<>();
+
+        private void add(int rowNumber, Product product) {
+            rowNumbers.add(rowNumber);
+            products.add(product);
+        }
+
+        private int size() {
+            return products.size();
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package com.arka.arka.application.usecase;
+
+import com.arka.arka.application.readmodel.FeaturedProducts;
+import com.arka.arka.application.search.ProductSearchIndex;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductSummary;
+import com.arka.arka.domain.port.in.ProductQueryUseCase;
+import com.arka.arka.domain.port.out.ProductQueryPort;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Application Service for the bounded product queries of the BFFs
+ * Searches use the trigram index when it is enabled and the limited LIKE query otherwise;
+ * the featured list is served from its precomputed copy when it is large enough
+ * Following Hexagonal Architecture - Application Layer
+ */
+public class ProductQueryApplicationService implements ProductQueryUseCase {
+
+    public static final int MAX_FEATURED = 100;
+
+    private final ProductQueryPort productQueryPort;
+    private final ProductSearchIndex searchIndex;
+    private final FeaturedProducts featuredProducts;
+
+    public ProductQueryApplicationService(ProductQueryPort productQueryPort) {
+        this(productQueryPort, null, null);
+    }
+
+    /**
+     * @param searchIndex      Optional trigram index; when null searches use the LIKE query
+     * @param featuredProducts Optional precomputed featured list; when null featured products are queried
+     */
+    public ProductQueryApplicationService(ProductQueryPort productQueryPort,
+                                          ProductSearchIndex searchIndex,
+                                          FeaturedProducts featuredProducts) {
+        this.productQueryPort = productQueryPort;
+        this.searchIndex = searchIndex;
+        this.featuredProducts = featuredProducts;
+    }
+
+    @Override
+    public List<Product> searchProducts(String term, int limit) {
+        requirePositiveLimit(limit);
+        if (searchIndex != null) {
+            return searchIndex.search(term, limit);
+        }
+        return productQueryPort.searchByName(term, limit);
+    }
+
+    @Override
+    public List<ProductSummary> searchProductSummaries(String term, int limit) {
+        requirePositiveLimit(limit);
+        if (searchIndex != null) {
+            return searchIndex.search(term, limit).stream()
+                    .map(ProductSummary::of)
+                    .collect(Collectors.toList());
+        }
+        return productQueryPort.searchSummariesByName(term, limit);
+    }
+
+    @Override
+    public ProductSummary getProductSummary(Long id) {
+        return productQueryPort.findSummaryById(id)
+                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+    }
+
+    @Override
+    public List<Product> getFeaturedProducts(int limit) {
+        if (limit < 1 || limit > MAX_FEATURED) {
+            throw new IllegalArgumentException("Featured limit must be between 1 and " + MAX_FEATURED);
+        }
+        if (featuredProducts != null && limit <= featuredProducts.getCapacity()) {
+            return featuredProducts.get(limit);
+        }
+        return productQueryPort.findFeatured(limit);
+    }
+
+    private static void requirePositiveLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
+    }
+}
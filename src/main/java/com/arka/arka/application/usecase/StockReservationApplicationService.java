@@ -0,0 +1,134 @@
+package com.arka.arka.application.usecase;
+
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.StockReservation;
+import com.arka.arka.domain.port.in.StockReservationUseCase;
+import com.arka.arka.domain.port.out.DomainEventPublisher;
+import com.arka.arka.domain.port.out.StockReservationPort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Application Service for Stock Reservation Use Cases
+ * Stock is taken with conditional decrements when the reservation is made and
+ * given back when it is released or its TTL runs out without a confirmation
+ * Following Hexagonal Architecture - Application Layer
+ */
+public class StockReservationApplicationService implements StockReservationUseCase {
+
+    private static final int EXPIRY_BATCH_SIZE = 100;
+
+    private final StockReservationPort reservationPort;
+    private final Duration ttl;
+    private final Clock clock;
+    private final DomainEventPublisher eventPublisher;
+
+    public StockReservationApplicationService(StockReservationPort reservationPort, Duration ttl) {
+        this(reservationPort, ttl, Clock.systemDefaultZone(), null);
+    }
+
+    public StockReservationApplicationService(StockReservationPort reservationPort, Duration ttl, Clock clock) {
+        this(reservationPort, ttl, clock, null);
+    }
+
+    /**
+     * @param eventPublisher Optional; notified with {@link StockChanged} when stock is taken or given back
+     */
+    public StockReservationApplicationService(StockReservationPort reservationPort, Duration ttl, Clock clock,
+                                              DomainEventPublisher eventPublisher) {
+        this.reservationPort = reservationPort;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public StockReservation reserve(Map<Long, Integer> lineas) {
+        validateLines(lineas);
+        StockReservation reservation = new StockReservation(
+                UUID.randomUUID().toString(), lineas, LocalDateTime.now(clock).plus(ttl));
+        Set<Long> insufficient = reservationPort.reserve(reservation);
+        if (!insufficient.isEmpty()) {
+            throw new IllegalStateException("Insufficient stock for products: " + insufficient);
+        }
+        publishEvent(new StockChanged(lineas.keySet()));
+        return reservation;
+    }
+
+    @Override
+    public void confirm(String reservationId) {
+        if (!reservationPort.confirm(reservationId)) {
+            throw new RuntimeException("Active reservation not found with id: " + reservationId);
+        }
+    }
+
+    @Override
+    public void release(String reservationId) {
+        Set<Long> productIds = reservationPort.release(reservationId);
+        if (productIds.isEmpty()) {
+            throw new RuntimeException("Active reservation not found with id: " + reservationId);
+        }
+        publishEvent(new StockChanged(productIds));
+    }
+
+    @Override
+    public void restock(Map<Long, Integer> lineas) {
+        validateLines(lineas);
+        reservationPort.restock(lineas);
+    }
+
+    /**
+     * Releases expired reservations in batches; a reservation confirmed or released
+     * concurrently is skipped because release only applies to active ones
+     */
+    @Override
+    public int releaseExpired() {
+        int released = 0;
+        Set<Long> productIds = new HashSet<>();
+        List<String> expired;
+        do {
+            expired = reservationPort.findExpired(LocalDateTime.now(clock), EXPIRY_BATCH_SIZE);
+            for (String reservationId : expired) {
+                Set<Long> releasedIds = reservationPort.release(reservationId);
+                if (!releasedIds.isEmpty()) {
+                    productIds.addAll(releasedIds);
+                    released++;
+                }
+            }
+        } while (expired.size() == EXPIRY_BATCH_SIZE);
+        if (!productIds.isEmpty()) {
+            publishEvent(new StockChanged(productIds));
+        }
+        return released;
+    }
+
+    private void publishEvent(StockChanged event) {
+        if (eventPublisher != null) {
+            eventPublisher.publish(event);
+        }
+    }
+
+    /**
+     * Domain validation logic for reservation lines
+     */
+    private void validateLines(Map<Long, Integer> lineas) {
+        if (lineas == null || lineas.isEmpty()) {
+            throw new IllegalArgumentException("Reservation must have at least one line");
+        }
+        lineas.forEach((productId, cantidad) -> {
+            if (productId == null) {
+                throw new IllegalArgumentException("Reservation line must have a product");
+            }
+            if (cantidad == null || cantidad <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive");
+            }
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.arka.arka.application.usecase;
+
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.ExportWindow;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.port.in.TableExportUseCase;
+import com.arka.arka.domain.port.out.TableExportPort;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Application Service for streamed table exports
+ * Tables are read in id order with a keyset cursor, {@value #EXPORT_BATCH_SIZE} rows at a time;
+ * only the current batch is held in memory
+ * Following Hexagonal Architecture - Application Layer
+ */
+public class TableExportApplicationService implements TableExportUseCase {
+
+    static final int EXPORT_BATCH_SIZE = 500;
+
+    private final TableExportPort exportPort;
+
+    public TableExportApplicationService(TableExportPort exportPort) {
+        this.exportPort = exportPort;
+    }
+
+    @Override
+    public long exportProducts(ExportWindow window, Consumer<Product> consumer) {
+        requireNoSince(window, "productos");
+        return export(window, (afterId, offset, limit) -> exportPort.findProducts(afterId, offset, limit),
+                Product::getId, consumer);
+    }
+
+    @Override
+    public long exportCategories(ExportWindow window, Consumer<Category> consumer) {
+        requireNoSince(window, "categorias");
+        return export(window, (afterId, offset, limit) -> exportPort.findCategories(afterId, offset, limit),
+                Category::getId, consumer);
+    }
+
+    @Override
+    public long exportCarts(ExportWindow window, Consumer<Cart> consumer) {
+        return export(window, (afterId, offset, limit) -> exportPort.findCarts(afterId, window.getSince(), offset, limit),
+                Cart::getId, consumer);
+    }
+
+    @Override
+    public long exportOrders(ExportWindow window, Consumer<Order> consumer) {
+        return export(window, (afterId, offset, limit) -> exportPort.findOrders(afterId, window.getSince(), offset, limit),
+                Order::getId, consumer);
+    }
+
+    /**
+     * The page offset is applied to the first batch only; later batches continue after the last id read
+     */
+    private static <T> long export(ExportWindow window, BatchReader<T> reader, Function<T, Long> id,
+                                   Consumer<T> consumer) {
+        long remaining = window.hasLimit() ? window.getLimit() : Long.MAX_VALUE;
+        long offset = window.getOffset();
+        Long afterId = null;
+        long exported = 0;
+        while (remaining > 0) {
+            int batchSize = (int) Math.min(EXPORT_BATCH_SIZE, remaining);
+            List<T> batch = reader.read(afterId, offset, batchSize);
+            batch.forEach(consumer);
+            exported += batch.size();
+            remaining -= batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+            afterId = id.apply(batch.get(batch.size() - 1));
+            offset = 0;
+        }
+        return exported;
+    }
+
+    private static void requireNoSince(ExportWindow window, String tabla) {
+        if (window.getSince() != null) {
+            throw new IllegalArgumentException("Table " + tabla + " has no date column to filter by");
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchReader<T> {
+        List<T> read(Long afterId, long offset, int limit);
+    }
+}
@@ -0,0 +1,27 @@
+package com.arka.arka.domain.event;
+
+import com.arka.arka.domain.model.Cart;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event: an active cart was marked as abandoned after a period without activity
+ */
+public class CartAbandoned {
+
+    private final Cart cart;
+    private final LocalDateTime ultimaActividad;
+
+    public CartAbandoned(Cart cart, LocalDateTime ultimaActividad) {
+        this.cart = cart;
+        this.ultimaActividad = ultimaActividad;
+    }
+
+    public Cart getCart() {
+        return cart;
+    }
+
+    public LocalDateTime getUltimaActividad() {
+        return ultimaActividad;
+    }
+}
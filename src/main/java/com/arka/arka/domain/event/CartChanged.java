@@ -0,0 +1,34 @@
+package com.arka.arka.domain.event;
+
+import com.arka.arka.domain.model.Cart;
+
+/**
+ * Domain event: a cart was created, updated or deleted
+ * {@code before} is null on creation and {@code after} is null on deletion
+ */
+public class CartChanged {
+
+    private final Cart before;
+    private final Cart after;
+
+    public CartChanged(Cart before, Cart after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public static CartChanged created(Cart cart) {
+        return new CartChanged(null, cart);
+    }
+
+    public static CartChanged deleted(Cart cart) {
+        return new CartChanged(cart, null);
+    }
+
+    public Cart getBefore() {
+        return before;
+    }
+
+    public Cart getAfter() {
+        return after;
+    }
+}
@@ -0,0 +1,18 @@
+package com.arka.arka.domain.event;
+
+/**
+ * Domain event: a category was renamed or deleted
+ * Products embed their category name, so every product read may be affected
+ */
+public class CategoryChanged {
+
+    private final Long categoryId;
+
+    public CategoryChanged(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+}
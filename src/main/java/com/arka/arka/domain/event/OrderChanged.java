@@ -0,0 +1,34 @@
+package com.arka.arka.domain.event;
+
+import com.arka.arka.domain.model.Order;
+
+/**
+ * Domain event: a order was created, updated or deleted
+ * {@code before} is null on creation and {@code after} is null on deletion
+ */
+public class OrderChanged {
+
+    private final Order before;
+    private final Order after;
+
+    public OrderChanged(Order before, Order after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public static OrderChanged created(Order order) {
+        return new OrderChanged(null, order);
+    }
+
+    public static OrderChanged deleted(Order order) {
+        return new OrderChanged(order, null);
+    }
+
+    public Order getBefore() {
+        return before;
+    }
+
+    public Order getAfter() {
+        return after;
+    }
+}
@@ -0,0 +1,21 @@
+package com.arka.arka.domain.event;
+
+import java.util.Set;
+
+/**
+ * Domain event: one chunk of a batch write created, updated or deleted these products
+ * Published after the chunk's {@link ProductChanged} events, which are marked as batched, so
+ * listeners that re-read the products from the database can do it once per chunk
+ */
+public class ProductBatchChanged {
+
+    private final Set<Long> productIds;
+
+    public ProductBatchChanged(Set<Long> productIds) {
+        this.productIds = Set.copyOf(productIds);
+    }
+
+    public Set<Long> getProductIds() {
+        return productIds;
+    }
+}
@@ -0,0 +1,52 @@
+package com.arka.arka.domain.event;
+
+import com.arka.arka.domain.model.Product;
+
+/**
+ * Domain event: a product was created, updated or deleted
+ * {@code before} is null on creation and {@code after} is null on deletion; changes made by a
+ * batch write are marked as batched and followed by one {@link ProductBatchChanged} per chunk
+ */
+public class ProductChanged {
+
+    private final Product before;
+    private final Product after;
+    private final boolean batched;
+
+    public ProductChanged(Product before, Product after) {
+        this(before, after, false);
+    }
+
+    private ProductChanged(Product before, Product after, boolean batched) {
+        this.before = before;
+        this.after = after;
+        this.batched = batched;
+    }
+
+    public static ProductChanged created(Product product) {
+        return new ProductChanged(null, product);
+    }
+
+    public static ProductChanged deleted(Product product) {
+        return new ProductChanged(product, null);
+    }
+
+    /**
+     * The same change, published as part of a batch write
+     */
+    public ProductChanged inBatch() {
+        return new ProductChanged(before, after, true);
+    }
+
+    public Product getBefore() {
+        return before;
+    }
+
+    public Product getAfter() {
+        return after;
+    }
+
+    public boolean isBatched() {
+        return batched;
+    }
+}
@@ -0,0 +1,28 @@
+package com.arka.arka.domain.event;
+
+import java.util.Set;
+
+/**
+ * Domain event: stock was taken or given back outside a product update (stock reservations)
+ * An empty {@code productIds} means the affected products are not known to the publisher
+ */
+public class StockChanged {
+
+    private final Set<Long> productIds;
+
+    public StockChanged(Set<Long> productIds) {
+        this.productIds = Set.copyOf(productIds);
+    }
+
+    public static StockChanged unknownProducts() {
+        return new StockChanged(Set.of());
+    }
+
+    public Set<Long> getProductIds() {
+        return productIds;
+    }
+
+    public boolean isUnknownProducts() {
+        return productIds.isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package com.arka.arka.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Carts created, orders placed and sales within one time bucket
+ * Sales are kept in minor units of {@code moneda}, like {@link Money}
+ */
+public class ActivityBucket {
+
+    private final LocalDateTime inicio;
+    private final long carritosCreados;
+    private final long pedidos;
+    private final long ventasMinor;
+    private final Currency moneda;
+
+    /**
+     * @param moneda Currency the sales were converted with
+     */
+    public ActivityBucket(LocalDateTime inicio, long carritosCreados, long pedidos, long ventasMinor,
+                          Currency moneda) {
+        this.inicio = inicio;
+        this.carritosCreados = carritosCreados;
+        this.pedidos = pedidos;
+        this.ventasMinor = ventasMinor;
+        this.moneda = Objects.requireNonNull(moneda, "moneda");
+    }
+
+    /**
+     * Merges another bucket's counts into a bucket starting at {@code inicio}
+     */
+    public ActivityBucket plus(LocalDateTime inicio, ActivityBucket other) {
+        if (!moneda.equals(other.moneda)) {
+            throw new IllegalArgumentException("Currency mismatch: " + moneda + " vs " + other.moneda);
+        }
+        return new ActivityBucket(inicio,
+                carritosCreados + other.carritosCreados,
+                pedidos + other.pedidos,
+                Math.addExact(ventasMinor, other.ventasMinor),
+                moneda);
+    }
+
+    public LocalDateTime getInicio() {
+        return inicio;
+    }
+
+    public long getCarritosCreados() {
+        return carritosCreados;
+    }
+
+    public long getPedidos() {
+        return pedidos;
+    }
+
+    public long getVentasMinor() {
+        return ventasMinor;
+    }
+
+    public Money getVentas() {
+        return Money.ofMinor(ventasMinor, moneda);
+    }
+}
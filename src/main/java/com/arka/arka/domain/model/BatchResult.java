@@ -0,0 +1,79 @@
+package com.arka.arka.domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Outcome of a batch write or delete, one entry per received item
+ * Items are indexed from 0 in the order they were received; a failed item
+ * never prevents the remaining items from being processed
+ */
+public class BatchResult {
+
+    private final List<ItemResult> items = new ArrayList<>();
+    private int succeeded;
+
+    public void itemSucceeded(int index, Long id) {
+        items.add(new ItemResult(index, id, true, null));
+        succeeded++;
+    }
+
+    public void itemFailed(int index, Long id, String message) {
+        items.add(new ItemResult(index, id, false, message));
+    }
+
+    public int getReceived() {
+        return items.size();
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return items.size() - succeeded;
+    }
+
+    /**
+     * Results in item order
+     */
+    public List<ItemResult> getItems() {
+        List<ItemResult> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingInt(ItemResult::getIndex));
+        return sorted;
+    }
+
+    /**
+     * Result of one item: the id it was written with or deleted by, or why it failed
+     */
+    public static class ItemResult {
+        private final int index;
+        private final Long id;
+        private final boolean success;
+        private final String message;
+
+        public ItemResult(int index, Long id, boolean success, String message) {
+            this.index = index;
+            this.id = id;
+            this.success = success;
+            this.message = message;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
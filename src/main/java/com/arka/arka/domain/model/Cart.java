@@ -7,6 +7,7 @@ public class Cart {
     private Customer cliente;
     private LocalDateTime fechaCreacion;
     private String estado;
+    private LocalDateTime fechaUltimaActividad;
 
     public Cart() {}
 
@@ -34,6 +35,13 @@ public class Cart {
         this.estado = "ACTIVE";
     }
 
+    /**
+     * Last write to the cart; carts saved before activity was tracked fall back to their creation date
+     */
+    public LocalDateTime ultimaActividad() {
+        return fechaUltimaActividad != null ? fechaUltimaActividad : fechaCreacion;
+    }
+
     // Getters y Setters
     public Long getId() {
         return id;
@@ -66,4 +74,12 @@ public class Cart {
     public void setEstado(String estado) {
         this.estado = estado;
     }
+
+    public LocalDateTime getFechaUltimaActividad() {
+        return fechaUltimaActividad;
+    }
+
+    public void setFechaUltimaActividad(LocalDateTime fechaUltimaActividad) {
+        this.fechaUltimaActividad = fechaUltimaActividad;
+    }
 }
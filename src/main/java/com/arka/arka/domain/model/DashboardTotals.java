@@ -0,0 +1,105 @@
+package com.arka.arka.domain.model;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable dashboard counters: catalog, carts, orders and sales
+ * Sales are kept in minor units of {@code moneda} so applying a delta never allocates a BigDecimal
+ */
+public class DashboardTotals {
+
+    private final long totalProductos;
+    private final long productosConBajoStock;
+    private final long totalCarritos;
+    private final long carritosAbandonados;
+    private final long totalPedidos;
+    private final long ventasTotalesMinor;
+    private final Currency moneda;
+    private final List<String> productosPopulares;
+
+    /**
+     * @param moneda Currency the sales were converted with
+     */
+    public DashboardTotals(long totalProductos, long productosConBajoStock, long totalCarritos,
+                           long carritosAbandonados, long totalPedidos, long ventasTotalesMinor,
+                           Currency moneda, List<String> productosPopulares) {
+        this.totalProductos = totalProductos;
+        this.productosConBajoStock = productosConBajoStock;
+        this.totalCarritos = totalCarritos;
+        this.carritosAbandonados = carritosAbandonados;
+        this.totalPedidos = totalPedidos;
+        this.ventasTotalesMinor = ventasTotalesMinor;
+        this.moneda = Objects.requireNonNull(moneda, "moneda");
+        this.productosPopulares = List.copyOf(productosPopulares);
+    }
+
+    /**
+     * Returns new totals with the given deltas applied; the popular products are kept
+     */
+    public DashboardTotals withDeltas(long productos, long bajoStock, long carritos,
+                                      long abandonados, long pedidos, long ventasMinor) {
+        return new DashboardTotals(
+                totalProductos + productos,
+                productosConBajoStock + bajoStock,
+                totalCarritos + carritos,
+                carritosAbandonados + abandonados,
+                totalPedidos + pedidos,
+                Math.addExact(ventasTotalesMinor, ventasMinor),
+                moneda,
+                productosPopulares);
+    }
+
+    /**
+     * Orders per cart as a percentage, 0 when there are no carts
+     */
+    public double getTasaConversion() {
+        return totalCarritos > 0 ? (double) totalPedidos / totalCarritos * 100 : 0.0;
+    }
+
+    public boolean sameCounts(DashboardTotals other) {
+        return totalProductos == other.totalProductos
+                && productosConBajoStock == other.productosConBajoStock
+                && totalCarritos == other.totalCarritos
+                && carritosAbandonados == other.carritosAbandonados
+                && totalPedidos == other.totalPedidos
+                && ventasTotalesMinor == other.ventasTotalesMinor
+                && moneda.equals(other.moneda);
+    }
+
+    public long getTotalProductos() {
+        return totalProductos;
+    }
+
+    public long getProductosConBajoStock() {
+        return productosConBajoStock;
+    }
+
+    public long getTotalCarritos() {
+        return totalCarritos;
+    }
+
+    public long getCarritosAbandonados() {
+        return carritosAbandonados;
+    }
+
+    public long getTotalPedidos() {
+        return totalPedidos;
+    }
+
+    public Money getVentasTotales() {
+        return Money.ofMinor(ventasTotalesMinor, moneda);
+    }
+
+    public List<String> getProductosPopulares() {
+        return productosPopulares;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardTotals{productos=" + totalProductos + ", bajoStock=" + productosConBajoStock
+                + ", carritos=" + totalCarritos + ", abandonados=" + carritosAbandonados
+                + ", pedidos=" + totalPedidos + ", ventas=" + getVentasTotales() + "}";
+    }
+}
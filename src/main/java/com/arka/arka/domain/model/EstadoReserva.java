@@ -0,0 +1,22 @@
+package com.arka.arka.domain.model;
+
+/**
+ * Estados de una reserva de stock
+ */
+public enum EstadoReserva {
+
+    /**
+     * Stock descontado y retenido hasta que la reserva se confirme o expire
+     */
+    ACTIVA,
+
+    /**
+     * Reserva convertida en venta; el stock no se devuelve
+     */
+    CONFIRMADA,
+
+    /**
+     * Reserva cancelada o expirada; el stock fue devuelto
+     */
+    LIBERADA
+}
@@ -0,0 +1,55 @@
+package com.arka.arka.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rows requested from a streamed table export
+ * Without a limit the whole table is exported; {@code page} counts pages of {@code limit} rows
+ * from 0, and {@code since} keeps only rows dated at or after it (tables with a date column)
+ */
+public class ExportWindow {
+
+    public static final ExportWindow ALL = new ExportWindow(0, null, null);
+
+    private final int page;
+    private final Integer limit;
+    private final LocalDateTime since;
+
+    private ExportWindow(int page, Integer limit, LocalDateTime since) {
+        this.page = page;
+        this.limit = limit;
+        this.since = since;
+    }
+
+    public static ExportWindow of(Integer page, Integer limit, LocalDateTime since) {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException("Page cannot be negative");
+        }
+        if (page != null && page > 0 && limit == null) {
+            throw new IllegalArgumentException("Page requires a limit");
+        }
+        return new ExportWindow(page != null ? page : 0, limit, since);
+    }
+
+    /**
+     * Rows to skip before the first exported one
+     */
+    public long getOffset() {
+        return limit != null ? (long) page * limit : 0;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public boolean hasLimit() {
+        return limit != null;
+    }
+
+    public LocalDateTime getSince() {
+        return since;
+    }
+}
@@ -0,0 +1,172 @@
+package com.arka.arka.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Monetary amount stored as a long count of minor units (e.g. cents) plus a currency
+ * Arithmetic is exact and overflow-checked: it throws ArithmeticException instead of wrapping.
+ * Aggregations run on primitive longs; convert with {@link #toBigDecimal()} only at the API
+ * or persistence edge, where amounts are still BigDecimal.
+ * Prices and order totals are stored without a currency, so the amounts built from them take the
+ * store currency (arka.money.currency) from their caller; Money itself holds no default.
+ */
+public final class Money implements Comparable<Money> {
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money zero(Currency currency) {
+        return new Money(0, currency);
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Converts a decimal amount, rounding half-up to the currency's minor unit
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        return new Money(toMinorUnits(amount, fractionDigits(currency)), currency);
+    }
+
+    /**
+     * Sums the amounts of the given items, skipping null items and null amounts
+     * The running total is a primitive long, so only one Money is allocated. Each amount must
+     * fit the currency's minor unit: an amount with more significant decimals (e.g. 10.005 in
+     * USD) throws ArithmeticException rather than being rounded before it is added.
+     */
+    public static <T> Money sum(Iterable<T> items, Function<? super T, BigDecimal> amount, Currency currency) {
+        int digits = fractionDigits(currency);
+        long total = 0;
+        for (T item : items) {
+            BigDecimal value = item != null ? amount.apply(item) : null;
+            if (value != null) {
+                total = Math.addExact(total, toExactMinorUnits(value, digits, currency));
+            }
+        }
+        return new Money(total, currency);
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money times(long quantity) {
+        return new Money(Math.multiplyExact(minorUnits, quantity), currency);
+    }
+
+    /**
+     * Divides into {@code parts}, rounding half-up to the minor unit (e.g. for averages)
+     */
+    public Money dividedBy(long parts) {
+        if (parts == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = minorUnits / parts;
+        long remainder = minorUnits % parts;
+        if (Math.abs(remainder) * 2 >= Math.abs(parts)) {
+            quotient += (minorUnits < 0) == (parts < 0) ? 1 : -1;
+        }
+        return new Money(quotient, currency);
+    }
+
+    /**
+     * Returns the given percentage of this amount, rounded half-up to the minor unit
+     */
+    public Money percentage(BigDecimal percent) {
+        BigDecimal result = BigDecimal.valueOf(minorUnits)
+                .multiply(percent)
+                .divide(BigDecimal.valueOf(100), 0, RoundingMode.HALF_UP);
+        return new Money(result.longValueExact(), currency);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, fractionDigits(currency));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits) * 31 + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+    }
+
+    private static int fractionDigits(Currency currency) {
+        return Math.max(currency.getDefaultFractionDigits(), 0);
+    }
+
+    private static long toMinorUnits(BigDecimal amount, int fractionDigits) {
+        BigDecimal shifted = amount.movePointRight(fractionDigits);
+        if (shifted.scale() > 0) {
+            shifted = shifted.setScale(0, RoundingMode.HALF_UP);
+        }
+        return shifted.longValueExact();
+    }
+
+    private static long toExactMinorUnits(BigDecimal amount, int fractionDigits, Currency currency) {
+        BigDecimal shifted = amount.movePointRight(fractionDigits);
+        if (shifted.scale() > 0 && shifted.stripTrailingZeros().scale() > 0) {
+            throw new ArithmeticException(amount.toPlainString() + " has more decimals than "
+                    + currency.getCurrencyCode() + " allows (" + fractionDigits + ")");
+        }
+        return shifted.setScale(0, RoundingMode.UNNECESSARY).longValueExact();
+    }
+}
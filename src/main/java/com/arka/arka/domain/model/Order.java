@@ -2,6 +2,7 @@ package com.arka.arka.domain.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Currency;
 import java.util.Set;
 
 public class Order {
@@ -22,15 +23,15 @@ public class Order {
     }
 
     // Métodos de negocio
-    public BigDecimal calculateTotal() {
+    /**
+     * @param currency Store currency the prices are in
+     */
+    public BigDecimal calculateTotal(Currency currency) {
         if (productos == null || productos.isEmpty()) {
             return BigDecimal.ZERO;
         }
         
-        return productos.stream()
-                .map(Product::getPrecioUnitario)
-                .filter(precio -> precio != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Money.sum(productos, Product::getPrecioUnitario, currency).toBigDecimal();
     }
 
     public boolean isValidOrder() {
@@ -41,7 +42,7 @@ public class Order {
                total.compareTo(BigDecimal.ZERO) > 0;
     }
 
-    public void addProduct(Product product) {
+    public void addProduct(Product product, Currency currency) {
         if (product == null) {
             throw new IllegalArgumentException("Product cannot be null");
         }
@@ -49,16 +50,16 @@ public class Order {
             throw new IllegalArgumentException("Product is not available");
         }
         productos.add(product);
-        updateTotal();
+        updateTotal(currency);
     }
 
-    public void removeProduct(Product product) {
+    public void removeProduct(Product product, Currency currency) {
         productos.remove(product);
-        updateTotal();
+        updateTotal(currency);
     }
 
-    private void updateTotal() {
-        this.total = calculateTotal();
+    private void updateTotal(Currency currency) {
+        this.total = calculateTotal(currency);
     }
 
     // Getters y Setters
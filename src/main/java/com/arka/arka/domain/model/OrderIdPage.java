@@ -0,0 +1,30 @@
+package com.arka.arka.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of order ids, newest first
+ * {@code nextBefore} is the id to pass to get the following (older) page
+ */
+public class OrderIdPage {
+
+    private final List<Long> pedidoIds;
+    private final Long nextBefore;
+
+    public OrderIdPage(List<Long> pedidoIds, Long nextBefore) {
+        this.pedidoIds = pedidoIds;
+        this.nextBefore = nextBefore;
+    }
+
+    public boolean hasNext() {
+        return nextBefore != null;
+    }
+
+    public List<Long> getPedidoIds() {
+        return pedidoIds;
+    }
+
+    public Long getNextBefore() {
+        return nextBefore;
+    }
+}
@@ -0,0 +1,30 @@
+package com.arka.arka.domain.model;
+
+/**
+ * Number of orders and the sum of their totals
+ */
+public class OrderTotals {
+
+    private final long pedidos;
+    private final Money ventas;
+
+    public OrderTotals(long pedidos, Money ventas) {
+        this.pedidos = pedidos;
+        this.ventas = ventas;
+    }
+
+    /**
+     * Average order value, rounded half-up to the minor unit; zero when there are no orders
+     */
+    public Money getPromedio() {
+        return pedidos > 0 ? ventas.dividedBy(pedidos) : Money.zero(ventas.getCurrency());
+    }
+
+    public long getPedidos() {
+        return pedidos;
+    }
+
+    public Money getVentas() {
+        return ventas;
+    }
+}
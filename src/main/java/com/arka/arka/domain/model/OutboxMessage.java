@@ -0,0 +1,115 @@
+package com.arka.arka.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Notification waiting in the outbox
+ * The key is unique per cart and template, so a reminder is produced at most once however
+ * many times the event behind it is seen.
+ */
+public class OutboxMessage {
+
+    public static final String PENDING = "PENDING";
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+
+    private String clave;
+    private String plantilla;
+    private Long cartId;
+    private String email;
+    private String nombre;
+    private String estado;
+    private int intentos;
+    private Instant creadoEn;
+    private Instant disponibleEn;
+
+    public OutboxMessage() {}
+
+    public OutboxMessage(String plantilla, Long cartId, String email, String nombre, Instant creadoEn) {
+        this.clave = key(plantilla, cartId);
+        this.plantilla = plantilla;
+        this.cartId = cartId;
+        this.email = email;
+        this.nombre = nombre;
+        this.estado = PENDING;
+        this.creadoEn = creadoEn;
+        this.disponibleEn = creadoEn;
+    }
+
+    public static String key(String plantilla, Long cartId) {
+        return plantilla + ":" + cartId;
+    }
+
+    public String getClave() {
+        return clave;
+    }
+
+    public void setClave(String clave) {
+        this.clave = clave;
+    }
+
+    public String getPlantilla() {
+        return plantilla;
+    }
+
+    public void setPlantilla(String plantilla) {
+        this.plantilla = plantilla;
+    }
+
+    public Long getCartId() {
+        return cartId;
+    }
+
+    public void setCartId(Long cartId) {
+        this.cartId = cartId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public int getIntentos() {
+        return intentos;
+    }
+
+    public void setIntentos(int intentos) {
+        this.intentos = intentos;
+    }
+
+    public Instant getCreadoEn() {
+        return creadoEn;
+    }
+
+    public void setCreadoEn(Instant creadoEn) {
+        this.creadoEn = creadoEn;
+    }
+
+    public Instant getDisponibleEn() {
+        return disponibleEn;
+    }
+
+    public void setDisponibleEn(Instant disponibleEn) {
+        this.disponibleEn = disponibleEn;
+    }
+}
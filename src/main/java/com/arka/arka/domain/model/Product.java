@@ -50,6 +50,14 @@ public class Product {
         this.stock -= quantity;
     }
 
+    /**
+     * Returns a detached copy, including a copy of the category
+     */
+    public Product copy() {
+        Category categoryCopy = categoria != null ? new Category(categoria.getId(), categoria.getNombre()) : null;
+        return new Product(id, nombre, descripcion, categoryCopy, marca, precioUnitario, stock);
+    }
+
     // Getters y Setters
     public Long getId() {
         return id;
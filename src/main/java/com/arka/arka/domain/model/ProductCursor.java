@@ -0,0 +1,80 @@
+package com.arka.arka.domain.model;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated product listing
+ * Holds the sort value and id of the last product returned, so the next
+ * page starts right after it without counting or skipping rows
+ * A null sort value (product without name or price) is kept as null; such products
+ * sort first, as in MySQL
+ */
+public class ProductCursor {
+
+    private final ProductSort sort;
+    private final String lastValue;
+    private final Long lastId;
+
+    public ProductCursor(ProductSort sort, String lastValue, Long lastId) {
+        this.sort = sort;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    /**
+     * Builds the cursor that points right after the given product
+     */
+    public static ProductCursor after(ProductSort sort, Product product) {
+        String value = switch (sort) {
+            case NOMBRE -> product.getNombre();
+            case PRECIO -> product.getPrecioUnitario() != null ? product.getPrecioUnitario().toPlainString() : null;
+            case ID -> null;
+        };
+        return new ProductCursor(sort, value, product.getId());
+    }
+
+    /**
+     * Encodes the cursor as an opaque, URL-safe token; a value is prefixed with '=' so an
+     * empty name and a null one encode differently
+     */
+    public String encode() {
+        String raw = sort.name() + ":" + lastId + ":" + (lastValue != null ? "=" + lastValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}; the token must belong to the requested sort
+     */
+    public static ProductCursor decode(String token, ProductSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            ProductSort sort = ProductSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor was issued for sort " + sort);
+            }
+            String value = parts[2].isEmpty() ? null
+                    : parts[2].startsWith("=") ? parts[2].substring(1) : parts[2];
+            if (sort == ProductSort.PRECIO && value != null) {
+                new BigDecimal(value);
+            }
+            return new ProductCursor(sort, value, Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor", e);
+        }
+    }
+
+    public ProductSort getSort() {
+        return sort;
+    }
+
+    public String getLastValue() {
+        return lastValue;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+}
@@ -0,0 +1,80 @@
+package com.arka.arka.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk product import
+ * Rows are numbered from 1 in the order they were received; a failed row
+ * never prevents the remaining rows from being imported. An upload that cannot be
+ * read to the end is reported as incomplete, with the rows imported up to that point.
+ */
+public class ProductImportResult {
+
+    private int received;
+    private int imported;
+    private final List<RowError> errors = new ArrayList<>();
+    private boolean complete = true;
+
+    public void rowReceived() {
+        received++;
+    }
+
+    public void rowsImported(int count) {
+        imported += count;
+    }
+
+    public void rowFailed(int row, String message) {
+        errors.add(new RowError(row, message));
+    }
+
+    /**
+     * Processing stopped at {@code row}; rows imported before it stay imported
+     */
+    public void abortedAt(int row, String message) {
+        complete = false;
+        errors.add(new RowError(row, "Import stopped: " + message));
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * A rejected row and the reason it was rejected
+     */
+    public static class RowError {
+        private final int row;
+        private final String message;
+
+        public RowError(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.arka.arka.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated product listing
+ */
+public class ProductPage {
+
+    private final List<Product> productos;
+    private final ProductCursor nextCursor;
+
+    public ProductPage(List<Product> productos, ProductCursor nextCursor) {
+        this.productos = productos;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public List<Product> getProductos() {
+        return productos;
+    }
+
+    public ProductCursor getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.arka.arka.domain.model;
+
+/**
+ * Sort keys supported by the paginated product listing
+ * Each key is paired with the product id so the order is total and
+ * can be resumed from a cursor (keyset pagination)
+ */
+public enum ProductSort {
+
+    /**
+     * Ordered by name, then id
+     */
+    NOMBRE,
+
+    /**
+     * Ordered by unit price, then id
+     */
+    PRECIO,
+
+    /**
+     * Ordered by id
+     */
+    ID;
+
+    /**
+     * Resolves a sort key from a request parameter, defaulting to NOMBRE
+     */
+    public static ProductSort fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return NOMBRE;
+        }
+        try {
+            return ProductSort.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported sort key: " + value);
+        }
+    }
+}
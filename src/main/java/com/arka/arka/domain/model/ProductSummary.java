@@ -0,0 +1,53 @@
+package com.arka.arka.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Lightweight read-only view of a product for list screens
+ * Carries only what the mobile payload shows: no description, brand or category object
+ */
+public class ProductSummary {
+
+    private final Long id;
+    private final String nombre;
+    private final BigDecimal precioUnitario;
+    private final String categoriaNombre;
+    private final boolean disponible;
+
+    public ProductSummary(Long id, String nombre, BigDecimal precioUnitario, String categoriaNombre, boolean disponible) {
+        this.id = id;
+        this.nombre = nombre;
+        this.precioUnitario = precioUnitario;
+        this.categoriaNombre = categoriaNombre;
+        this.disponible = disponible;
+    }
+
+    public static ProductSummary of(Product product) {
+        return new ProductSummary(
+                product.getId(),
+                product.getNombre(),
+                product.getPrecioUnitario(),
+                product.getCategoria() != null ? product.getCategoria().getNombre() : null,
+                product.isAvailable());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public BigDecimal getPrecioUnitario() {
+        return precioUnitario;
+    }
+
+    public String getCategoriaNombre() {
+        return categoriaNombre;
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+}
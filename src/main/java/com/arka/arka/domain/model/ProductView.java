@@ -0,0 +1,83 @@
+package com.arka.arka.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Denormalized read-side view of a product: the product, its category name and its availability
+ * Kept in a separate store so catalog reads never touch the transactional database
+ */
+public class ProductView {
+
+    private final Long id;
+    private final String nombre;
+    private final String descripcion;
+    private final String marca;
+    private final BigDecimal precioUnitario;
+    private final Integer stock;
+    private final Long categoriaId;
+    private final String categoriaNombre;
+    private final boolean disponible;
+
+    public ProductView(Long id, String nombre, String descripcion, String marca, BigDecimal precioUnitario,
+                       Integer stock, Long categoriaId, String categoriaNombre, boolean disponible) {
+        this.id = id;
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+        this.marca = marca;
+        this.precioUnitario = precioUnitario;
+        this.stock = stock;
+        this.categoriaId = categoriaId;
+        this.categoriaNombre = categoriaNombre;
+        this.disponible = disponible;
+    }
+
+    public static ProductView of(Product product) {
+        Category categoria = product.getCategoria();
+        return new ProductView(
+                product.getId(),
+                product.getNombre(),
+                product.getDescripcion(),
+                product.getMarca(),
+                product.getPrecioUnitario(),
+                product.getStock(),
+                categoria != null ? categoria.getId() : null,
+                categoria != null ? categoria.getNombre() : null,
+                product.isAvailable());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public String getMarca() {
+        return marca;
+    }
+
+    public BigDecimal getPrecioUnitario() {
+        return precioUnitario;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public Long getCategoriaId() {
+        return categoriaId;
+    }
+
+    public String getCategoriaNombre() {
+        return categoriaNombre;
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+}
@@ -0,0 +1,53 @@
+package com.arka.arka.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Stock held for an order until it is confirmed, released or expires
+ * Lines are kept ordered by product id so every writer locks rows in the same order
+ */
+public class StockReservation {
+
+    private final String id;
+    private final SortedMap<Long, Integer> lineas;
+    private final LocalDateTime expiraEn;
+    private EstadoReserva estado;
+
+    public StockReservation(String id, Map<Long, Integer> lineas, LocalDateTime expiraEn) {
+        this.id = id;
+        this.lineas = Collections.unmodifiableSortedMap(new TreeMap<>(lineas));
+        this.expiraEn = expiraEn;
+        this.estado = EstadoReserva.ACTIVA;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return estado == EstadoReserva.ACTIVA && expiraEn.isBefore(now);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Product id -> reserved quantity
+     */
+    public SortedMap<Long, Integer> getLineas() {
+        return lineas;
+    }
+
+    public LocalDateTime getExpiraEn() {
+        return expiraEn;
+    }
+
+    public EstadoReserva getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoReserva estado) {
+        this.estado = estado;
+    }
+}
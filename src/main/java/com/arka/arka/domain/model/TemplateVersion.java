@@ -0,0 +1,47 @@
+package com.arka.arka.domain.model;
+
+/**
+ * Resultado de leer una plantilla de forma condicional.
+ * Si la plantilla no cambió desde el ETag enviado no trae contenido.
+ */
+public class TemplateVersion {
+
+    public enum Estado { ENCONTRADA, SIN_CAMBIOS, NO_EXISTE }
+
+    private static final TemplateVersion SIN_CAMBIOS = new TemplateVersion(Estado.SIN_CAMBIOS, null, null);
+    private static final TemplateVersion NO_EXISTE = new TemplateVersion(Estado.NO_EXISTE, null, null);
+
+    private final Estado estado;
+    private final String contenido;
+    private final String etag;
+
+    private TemplateVersion(Estado estado, String contenido, String etag) {
+        this.estado = estado;
+        this.contenido = contenido;
+        this.etag = etag;
+    }
+
+    public static TemplateVersion encontrada(String contenido, String etag) {
+        return new TemplateVersion(Estado.ENCONTRADA, contenido, etag);
+    }
+
+    public static TemplateVersion sinCambios() {
+        return SIN_CAMBIOS;
+    }
+
+    public static TemplateVersion noExiste() {
+        return NO_EXISTE;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public String getContenido() {
+        return contenido;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
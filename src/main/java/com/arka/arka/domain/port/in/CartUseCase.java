@@ -1,7 +1,9 @@
 package com.arka.arka.domain.port.in;
 
 import com.arka.arka.domain.model.Cart;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CartUseCase {
     List<Cart> getAllCarts();
@@ -10,4 +12,10 @@ public interface CartUseCase {
     Cart updateCart(Long id, Cart cart);
     void deleteCart(Long id);
     List<Cart> getAbandonedCarts();
+
+    /**
+     * Marks the cart as abandoned when it is still active and had no activity after the given time
+     * @return The current state of the cart, or empty when it no longer exists
+     */
+    Optional<Cart> abandonIfInactive(Long id, LocalDateTime inactiveSince);
 }
@@ -1,6 +1,7 @@
 package com.arka.arka.domain.port.in;
 
 import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.OrderIdPage;
 import com.arka.arka.domain.model.Product;
 import com.arka.arka.domain.model.Customer;
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ public interface OrderUseCase {
     Order updateOrder(Long id, Order order);
     void deleteOrder(Long id);
     List<Order> getOrdersByProduct(Product product);
+    OrderIdPage getOrderIdsByProduct(Long productId, Long beforeOrderId, int size);
     List<Order> getOrdersByDateRange(LocalDateTime start, LocalDateTime end);
     List<Order> getOrdersByCustomer(Customer customer);
 }
@@ -0,0 +1,30 @@
+package com.arka.arka.domain.port.in;
+
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductSummary;
+
+import java.util.List;
+
+/**
+ * Input port for the bounded, read-only product queries of the BFFs
+ * Every query is limited in the database (or served from a precomputed list), never trimmed in memory
+ */
+public interface ProductQueryUseCase {
+
+    /**
+     * First {@code limit} products whose name contains {@code term}, in name order
+     */
+    List<Product> searchProducts(String term, int limit);
+
+    /**
+     * Limit-aware search returning lightweight summaries (mobile lists)
+     */
+    List<ProductSummary> searchProductSummaries(String term, int limit);
+
+    ProductSummary getProductSummary(Long id);
+
+    /**
+     * Top {@code limit} in-stock products ranked by sales, then stock
+     */
+    List<Product> getFeaturedProducts(int limit);
+}
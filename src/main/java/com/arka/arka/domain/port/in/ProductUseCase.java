@@ -1,12 +1,26 @@
 package com.arka.arka.domain.port.in;
 
+import com.arka.arka.domain.model.BatchResult;
 import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductImportResult;
+import com.arka.arka.domain.model.ProductPage;
+import com.arka.arka.domain.model.ProductSort;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProductUseCase {
     List<Product> getAllProducts();
     Product getProductById(Long id);
+
+    /**
+     * Loads several products in one lookup (at most one page worth of ids), in the order
+     * of their first id; ids that do not exist are left out
+     */
+    List<Product> getProductsByIds(Collection<Long> ids);
     Product createProduct(Product product);
     Product updateProduct(Long id, Product product);
     void deleteProduct(Long id);
@@ -14,4 +28,23 @@ public interface ProductUseCase {
     List<Product> searchProductsByName(String name);
     List<Product> getProductsByPriceRange(BigDecimal min, BigDecimal max);
     List<Product> getAllProductsSorted();
+    ProductPage getProductsPage(ProductSort sort, ProductCursor after, int size);
+    void forEachProductSorted(ProductSort sort, Consumer<Product> consumer);
+
+    /**
+     * Imports products as they are read from {@code rows}; a row the source cannot
+     * parse is signalled by {@code next()} throwing IllegalArgumentException
+     */
+    ProductImportResult importProducts(Iterator<Product> rows);
+
+    /**
+     * Creates products in chunked JDBC batches, reporting the new id or the error of each item;
+     * items are read from {@code items} the same way as {@link #importProducts} reads rows
+     */
+    BatchResult createProducts(Iterator<Product> items);
+
+    /**
+     * Deletes products in chunks, one IN statement per chunk, reporting the outcome of each id
+     */
+    BatchResult deleteProducts(List<Long> ids);
 }
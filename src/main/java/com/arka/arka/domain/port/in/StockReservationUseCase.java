@@ -0,0 +1,18 @@
+package com.arka.arka.domain.port.in;
+
+import com.arka.arka.domain.model.StockReservation;
+
+import java.util.Map;
+
+public interface StockReservationUseCase {
+    StockReservation reserve(Map<Long, Integer> lineas);
+    void confirm(String reservationId);
+    void release(String reservationId);
+
+    /**
+     * Gives back stock of a confirmed order, in the caller's transaction when there is one;
+     * the caller publishes the StockChanged once that transaction has committed
+     */
+    void restock(Map<Long, Integer> lineas);
+    int releaseExpired();
+}
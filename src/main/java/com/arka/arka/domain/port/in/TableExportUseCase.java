@@ -0,0 +1,26 @@
+package com.arka.arka.domain.port.in;
+
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.ExportWindow;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.Product;
+
+import java.util.function.Consumer;
+
+/**
+ * Input port for streamed table exports
+ * Rows are handed to the consumer in id order as they are read, batch by batch,
+ * so memory use does not depend on the size of the table
+ * Each method returns the number of rows exported
+ */
+public interface TableExportUseCase {
+
+    long exportProducts(ExportWindow window, Consumer<Product> consumer);
+
+    long exportCategories(ExportWindow window, Consumer<Category> consumer);
+
+    long exportCarts(ExportWindow window, Consumer<Cart> consumer);
+
+    long exportOrders(ExportWindow window, Consumer<Order> consumer);
+}
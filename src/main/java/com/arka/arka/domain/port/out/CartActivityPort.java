@@ -0,0 +1,46 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.Cart;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for the persisted last-activity time of carts
+ */
+public interface CartActivityPort {
+
+    void touch(Long cartId, LocalDateTime at);
+
+    /**
+     * Last activity of the cart, falling back to its creation date; empty when the cart does not exist
+     */
+    Optional<LocalDateTime> findLastActivity(Long cartId);
+
+    /**
+     * Up to {@code limit} active carts with no activity after {@code inactiveSince}, oldest first
+     */
+    List<Long> findInactive(LocalDateTime inactiveSince, int limit);
+
+    /**
+     * Marks the cart abandoned in a single conditional write: only while it is active and had
+     * no activity after {@code inactiveSince}
+     * @return true when the cart was abandoned by this call
+     */
+    boolean abandonIfInactive(Long cartId, LocalDateTime inactiveSince);
+
+    /**
+     * Abandoned carts in (last activity, id) order, after {@code activityAfter} and {@code afterId};
+     * a null {@code activityAfter} starts from the first one and a null {@code afterId} includes
+     * the carts whose last activity equals it
+     */
+    List<Cart> findAbandonedAfter(LocalDateTime activityAfter, Long afterId, int limit);
+
+    /**
+     * Last activity up to which the abandoned carts were swept into the reminder outbox
+     */
+    Optional<LocalDateTime> findSweepCheckpoint();
+
+    void saveSweepCheckpoint(LocalDateTime checkpoint);
+}
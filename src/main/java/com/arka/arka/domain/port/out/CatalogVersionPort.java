@@ -0,0 +1,17 @@
+package com.arka.arka.domain.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Output port for catalog version counters shared by every instance
+ */
+public interface CatalogVersionPort {
+
+    /**
+     * @return current version of each key; keys never incremented are absent
+     */
+    Map<String, Long> versions(Collection<String> keys);
+
+    void increment(Collection<String> keys);
+}
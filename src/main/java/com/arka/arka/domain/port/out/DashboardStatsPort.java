@@ -0,0 +1,16 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.DashboardTotals;
+
+/**
+ * Output port for computing dashboard totals from the database
+ * Used to build and reconcile the event-maintained aggregates
+ */
+public interface DashboardStatsPort {
+
+    /**
+     * @param lowStockThreshold Products with stock below this count as low stock
+     * @param popularLimit      Number of product names to return as popular
+     */
+    DashboardTotals loadTotals(int lowStockThreshold, int popularLimit);
+}
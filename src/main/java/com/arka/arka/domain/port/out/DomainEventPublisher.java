@@ -0,0 +1,10 @@
+package com.arka.arka.domain.port.out;
+
+/**
+ * Output port for domain events raised by the use cases
+ * Listeners run synchronously in the caller's thread, so they must stay cheap
+ */
+public interface DomainEventPublisher {
+
+    void publish(Object event);
+}
@@ -0,0 +1,44 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.OutboxMessage;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Output port for the notification outbox
+ * Workers claim messages under a lease; a message whose lease expired before it was
+ * completed can be claimed again, and completions from a worker that lost its lease are ignored.
+ */
+public interface NotificationOutboxPort {
+
+    /**
+     * Stores the message unless one with the same key exists
+     * @return true when the message was stored, false when it was a duplicate
+     */
+    boolean enqueue(OutboxMessage message);
+
+    /**
+     * @return the ids among {@code cartIds} that already have a message for the template, in any state
+     */
+    Set<Long> findCartIds(String plantilla, Collection<Long> cartIds);
+
+    /**
+     * Claims up to {@code limit} messages that are due, oldest first, counting one attempt for each
+     */
+    List<OutboxMessage> claim(String workerId, int limit, Instant now, Instant leaseUntil);
+
+    /**
+     * @return false when the worker no longer holds the lease
+     */
+    boolean markSent(String clave, String workerId, Instant sentAt);
+
+    /**
+     * Returns the message to the pending state, due again at {@code retryAt}
+     */
+    boolean release(String clave, String workerId, Instant retryAt, String error);
+
+    boolean markFailed(String clave, String workerId, String error);
+}
@@ -0,0 +1,33 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.Product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Output port for bulk product writes
+ * Lets imports and batch deletes handle whole chunks with a constant number of round trips
+ */
+public interface ProductImportPort {
+
+    /**
+     * Returns the subset of the given category ids that exist, in a single query
+     */
+    Set<Long> findExistingCategoryIds(Collection<Long> categoryIds);
+
+    /**
+     * Inserts the products as one batch in one transaction; either every product
+     * is inserted or none is
+     * @return Generated ids, in the same order as the products
+     */
+    List<Long> insertAll(List<Product> products);
+
+    /**
+     * Loads the existing products among the given ids and deletes them with a single
+     * DELETE ... WHERE id IN statement, in one transaction
+     * @return The deleted products, as they were before the delete; ids not found are absent
+     */
+    List<Product> deleteAll(Collection<Long> ids);
+}
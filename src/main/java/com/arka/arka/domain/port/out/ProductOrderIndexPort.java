@@ -0,0 +1,52 @@
+package com.arka.arka.domain.port.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Output port for the materialized product -> order index
+ * Lets "orders containing product X" be answered from an index keyed by
+ * product, without joining or scanning the order tables
+ */
+public interface ProductOrderIndexPort {
+
+    /**
+     * Replaces the indexed products of an order
+     */
+    void index(Long orderId, Collection<Long> productIds);
+
+    /**
+     * Removes an order from the index
+     */
+    void remove(Long orderId);
+
+    /**
+     * Returns up to {@code limit} ids of orders containing the product, newest (highest id) first
+     * @param beforeOrderId Only ids lower than this one, or null to start from the newest order
+     */
+    List<Long> findOrderIds(Long productId, Long beforeOrderId, int limit);
+
+    boolean isEmpty();
+
+    /**
+     * Up to {@code limit} orders above {@code afterOrderId} (null for the first page) with their product ids,
+     * in ascending order id, read in one query; the keyset pages of the backfill.
+     * Orders without products map to an empty list so the page still moves the checkpoint.
+     */
+    Map<Long, List<Long>> findOrderProductsAfter(Long afterOrderId, int limit);
+
+    /**
+     * Highest order id the backfill has gone through, empty before its first page
+     */
+    Optional<Long> findBackfillCheckpoint();
+
+    boolean isBackfillComplete();
+
+    /**
+     * Indexes the orders of a backfill page that are not indexed yet and moves the checkpoint,
+     * in one transaction. Orders already indexed were written by the order use case and are left as they are.
+     */
+    void indexBackfillPage(Map<Long, ? extends Collection<Long>> productIdsByOrder, Long checkpoint, boolean complete);
+}
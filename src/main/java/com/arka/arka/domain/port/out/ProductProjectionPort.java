@@ -0,0 +1,52 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.ProductView;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Output port for writes to the product projection (read side of the catalog)
+ * Every write is an idempotent upsert or delete keyed by product id and stamped with the time
+ * it was synced; a write never replaces one stamped later, so replaying a change or rebuilding
+ * over live updates leaves the projection consistent
+ */
+public interface ProductProjectionPort {
+
+    /**
+     * Inserts or replaces the views in one bulk write, stamping them with {@code syncedAt};
+     * views or deletion markers stamped later are left untouched
+     */
+    void saveAll(Collection<ProductView> views, Instant syncedAt);
+
+    /**
+     * Replaces the views with deletion markers stamped {@code deletedAt}, unless stamped later;
+     * markers are invisible to reads and keep a running rebuild from writing the products back
+     */
+    void deleteAllById(Collection<Long> productIds, Instant deletedAt);
+
+    /**
+     * Removes the deletion markers stamped before {@code deletedAt}
+     */
+    long purgeDeletedBefore(Instant deletedAt);
+
+    /**
+     * Sets the category name on every view of the category; null when the category is gone
+     */
+    void renameCategory(Long categoryId, String categoryName);
+
+    /**
+     * Deletes the views and markers last written before {@code syncedAt}; after a rebuild these
+     * are products that no longer exist
+     * @return Number of views deleted
+     */
+    long deleteSyncedBefore(Instant syncedAt);
+
+    /**
+     * Start of the latest completed rebuild, shared by every instance
+     */
+    Optional<Instant> lastRebuildStart();
+
+    void recordRebuild(Instant start);
+}
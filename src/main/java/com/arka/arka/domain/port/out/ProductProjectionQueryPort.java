@@ -0,0 +1,30 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.ProductView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Output port for non-blocking reads of the product projection
+ */
+public interface ProductProjectionQueryPort {
+
+    Mono<ProductView> findById(Long id);
+
+    /**
+     * Products of the category, in name order
+     */
+    Flux<ProductView> findByCategory(String categoryName);
+
+    /**
+     * Products priced between {@code min} and {@code max} inclusive, in price order
+     */
+    Flux<ProductView> findByPriceRange(BigDecimal min, BigDecimal max);
+
+    /**
+     * Up to {@code limit} products whose name contains {@code term} (case-insensitive), in name order
+     */
+    Flux<ProductView> searchByName(String term, int limit);
+}
@@ -0,0 +1,49 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductSort;
+import com.arka.arka.domain.model.ProductSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for read-side product queries that must not load the whole catalog
+ * Implementations are expected to be backed by database indexes on each sort key
+ */
+public interface ProductQueryPort {
+
+    /**
+     * Returns up to {@code limit} products in the given order, starting right after {@code after}
+     * @param sort  Sort key, always paired with the product id
+     * @param after Position of the last product already returned, or null for the first page
+     * @param limit Maximum number of products to return
+     */
+    List<Product> findPage(ProductSort sort, ProductCursor after, int limit);
+
+    /**
+     * Returns up to {@code limit} in-stock products ranked by number of orders, then stock, then id
+     */
+    List<Product> findFeatured(int limit);
+
+    /**
+     * Returns up to {@code limit} products whose name contains {@code term} (case-insensitive),
+     * in name order; the database stops reading once the limit is reached
+     */
+    List<Product> searchByName(String term, int limit);
+
+    /**
+     * Same as {@link #searchByName} but reads only the columns of a {@link ProductSummary}
+     */
+    List<ProductSummary> searchSummariesByName(String term, int limit);
+
+    Optional<ProductSummary> findSummaryById(Long id);
+
+    /**
+     * Loads the products with the given ids in a single query, in no particular order;
+     * ids that do not exist are left out
+     */
+    List<Product> findAllById(Collection<Long> ids);
+}
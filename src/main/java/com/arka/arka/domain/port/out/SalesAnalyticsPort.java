@@ -0,0 +1,46 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.ActivityBucket;
+import com.arka.arka.domain.model.OrderTotals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Output port for cart and order analytics
+ * Totals are computed by the database; time series come from an hourly rollup
+ * that is updated incrementally as carts and orders are written
+ */
+public interface SalesAnalyticsPort {
+
+    /**
+     * Number of carts per state (e.g. ACTIVE, ABANDONED)
+     */
+    Map<String, Long> countCartsByEstado();
+
+    /**
+     * Number of orders and the sum of their totals
+     */
+    OrderTotals sumOrders();
+
+    /**
+     * Hourly buckets with activity in [from, to), oldest first; empty hours are omitted
+     */
+    List<ActivityBucket> findHourlyActivity(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Adds the given deltas (possibly negative) to the bucket of the hour containing {@code time}
+     */
+    void addActivity(LocalDateTime time, long carritos, long pedidos, long ventasMinor);
+
+    boolean isRollupEmpty();
+
+    /**
+     * Recomputes the rollup from the cart and order rows created since {@code since}
+     * (the whole history when null)
+     *
+     * @return number of hourly buckets written
+     */
+    int rebuildRollup(LocalDateTime since);
+}
@@ -0,0 +1,30 @@
+package com.arka.arka.domain.port.out;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Output port for coordinating scheduled jobs between application instances
+ * All times are taken from the shared store, so clock skew between instances does not matter.
+ */
+public interface SchedulerLeasePort {
+
+    /**
+     * Takes or renews the lease on a job; succeeds when the job is free, expired or already held by the owner
+     */
+    boolean tryAcquire(String job, String owner, Duration lease);
+
+    void release(String job, String owner);
+
+    /**
+     * Records that the node is alive
+     */
+    void heartbeat(String nodeId);
+
+    /**
+     * Nodes with a heartbeat within {@code ttl}, ordered by id
+     */
+    List<String> liveNodes(Duration ttl);
+
+    void removeNode(String nodeId);
+}
@@ -0,0 +1,46 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.StockReservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Output port for stock reservations
+ * Implementations must decrement stock with conditional updates so two
+ * concurrent reservations can never take the same units
+ */
+public interface StockReservationPort {
+
+    /**
+     * Reserves every line of the reservation atomically: either all lines are
+     * decremented and the reservation is stored, or nothing changes
+     * @return Ids of the products without enough stock; empty when the reservation was made
+     */
+    Set<Long> reserve(StockReservation reservation);
+
+    /**
+     * Marks an active reservation as confirmed, keeping its stock
+     * @return false when the reservation is not active (unknown, released or already confirmed)
+     */
+    boolean confirm(String reservationId);
+
+    /**
+     * Marks an active reservation as released and returns its stock, at most once
+     * @return Ids of the products whose stock was given back; empty when the reservation is not active
+     */
+    Set<Long> release(String reservationId);
+
+    /**
+     * Gives back stock taken by confirmed reservations (order deleted or products removed from it)
+     * Joins the caller's transaction when there is one
+     */
+    void restock(Map<Long, Integer> lineas);
+
+    /**
+     * Returns up to {@code limit} ids of active reservations that expired before {@code now}
+     */
+    List<String> findExpired(LocalDateTime now, int limit);
+}
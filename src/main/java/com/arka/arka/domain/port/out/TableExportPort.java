@@ -0,0 +1,34 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.Product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Output port for streamed table exports
+ * Every method returns one batch in ascending id order: rows with an id greater than
+ * {@code afterId} (all rows when null), skipping {@code offset} of them, at most {@code limit}.
+ * Callers pass the id of the last row of a batch to read the next one, so a batch never
+ * costs more than an index range scan; {@code offset} is only meant for the first batch.
+ */
+public interface TableExportPort {
+
+    List<Product> findProducts(Long afterId, long offset, int limit);
+
+    List<Category> findCategories(Long afterId, long offset, int limit);
+
+    /**
+     * @param since Only carts created at or after it; null for all
+     */
+    List<Cart> findCarts(Long afterId, LocalDateTime since, long offset, int limit);
+
+    /**
+     * Orders come with their products (id and name); the customer is not loaded
+     * @param since Only orders placed at or after it; null for all
+     */
+    List<Order> findOrders(Long afterId, LocalDateTime since, long offset, int limit);
+}
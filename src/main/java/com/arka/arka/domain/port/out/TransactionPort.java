@@ -0,0 +1,12 @@
+package com.arka.arka.domain.port.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Output port for running several writes as one unit
+ * Adapters on the same database join the transaction, so either every write is committed or none is
+ */
+public interface TransactionPort {
+
+    <T> T inTransaction(Supplier<T> work);
+}
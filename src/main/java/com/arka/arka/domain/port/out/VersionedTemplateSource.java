@@ -0,0 +1,18 @@
+package com.arka.arka.domain.port.out;
+
+import com.arka.arka.domain.model.TemplateVersion;
+
+/**
+ * Puerto de salida para leer plantillas con revalidación condicional por ETag.
+ */
+public interface VersionedTemplateSource {
+
+    /**
+     * Obtiene la plantilla solo si cambió.
+     * @param templateName El nombre (clave) de la plantilla.
+     * @param ifNoneMatch  El ETag de la copia que ya se tiene, o null para leerla siempre.
+     * @return La plantilla con su ETag, SIN_CAMBIOS si coincide el ETag, o NO_EXISTE.
+     * @throws RuntimeException si el almacenamiento no responde; el llamador decide si conserva su copia.
+     */
+    TemplateVersion fetch(String templateName, String ifNoneMatch);
+}
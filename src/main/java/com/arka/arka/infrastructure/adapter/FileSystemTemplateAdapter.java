@@ -0,0 +1,67 @@
+package com.arka.arka.infrastructure.adapter;
+
+import com.arka.arka.domain.model.TemplateVersion;
+import com.arka.arka.domain.port.out.TemplateRepository;
+import com.arka.arka.domain.port.out.VersionedTemplateSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * Sustituto de S3 basado en un directorio local, para desarrollo y pruebas sin conexión.
+ * Se activa con arka.templates.source=filesystem; la clave de la plantilla es su ruta dentro
+ * de arka.templates.directory. El ETag se deriva del tamaño y la fecha de modificación, así que
+ * una revalidación sin cambios no lee el archivo, igual que un 304 de S3.
+ */
+@Component
+@ConditionalOnProperty(name = "arka.templates.source", havingValue = "filesystem")
+public class FileSystemTemplateAdapter implements TemplateRepository, VersionedTemplateSource {
+
+    private final Path directory;
+
+    /**
+     * @param directory El directorio raíz de las plantillas.
+     */
+    public FileSystemTemplateAdapter(@Value("${arka.templates.directory:templates}") Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public Optional<String> getTemplateContent(String templateName) {
+        TemplateVersion version = fetch(templateName, null);
+        return Optional.ofNullable(version.getContenido());
+    }
+
+    @Override
+    public TemplateVersion fetch(String templateName, String ifNoneMatch) {
+        Path file = directory.resolve(templateName).normalize();
+        if (!file.startsWith(directory)) {
+            // Una clave con "../" no puede salir del directorio de plantillas
+            return TemplateVersion.noExiste();
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return TemplateVersion.noExiste();
+            }
+            String etag = "\"" + attributes.size() + "-" + attributes.lastModifiedTime().toMillis() + "\"";
+            if (etag.equals(ifNoneMatch)) {
+                return TemplateVersion.sinCambios();
+            }
+            return TemplateVersion.encontrada(Files.readString(file, StandardCharsets.UTF_8), etag);
+        } catch (NoSuchFileException e) {
+            return TemplateVersion.noExiste();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
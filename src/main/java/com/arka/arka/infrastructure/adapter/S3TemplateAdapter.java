@@ -1,7 +1,10 @@
 package com.arka.arka.infrastructure.adapter;
 
+import com.arka.arka.domain.model.TemplateVersion;
 import com.arka.arka.domain.port.out.TemplateRepository;
+import com.arka.arka.domain.port.out.VersionedTemplateSource;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -9,16 +12,20 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException; // Importar para manejar plantillas no encontradas
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
  * Adaptador de infraestructura que implementa el puerto TemplateRepository
  * utilizando el SDK de AWS S3 para obtener el contenido de las plantillas.
+ * Es la fuente por defecto; arka.templates.source=filesystem la reemplaza por {@link FileSystemTemplateAdapter}.
  */
 @Component
-public class S3TemplateAdapter implements TemplateRepository {
+@ConditionalOnProperty(name = "arka.templates.source", havingValue = "s3", matchIfMissing = true)
+public class S3TemplateAdapter implements TemplateRepository, VersionedTemplateSource {
 
     private final S3Client s3Client;
 
@@ -67,4 +74,35 @@ public class S3TemplateAdapter implements TemplateRepository {
             return Optional.empty();
         }
     }
+
+    /**
+     * Lee la plantilla enviando If-None-Match con el ETag conocido.
+     * S3 responde 304 cuando el objeto no cambió, sin transferir su contenido.
+     * @param templateName El nombre (clave) de la plantilla en el bucket S3.
+     * @param ifNoneMatch  El ETag de la copia en caché, o null.
+     * @return La plantilla con su ETag, SIN_CAMBIOS o NO_EXISTE.
+     */
+    @Override
+    public TemplateVersion fetch(String templateName, String ifNoneMatch) {
+        GetObjectRequest.Builder getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(templateName);
+        if (ifNoneMatch != null) {
+            getObjectRequest.ifNoneMatch(ifNoneMatch);
+        }
+
+        try (ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest.build())) {
+            return TemplateVersion.encontrada(
+                    new String(s3Object.readAllBytes(), StandardCharsets.UTF_8), s3Object.response().eTag());
+        } catch (NoSuchKeyException e) {
+            return TemplateVersion.noExiste();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 304) {
+                return TemplateVersion.sinCambios();
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -1,12 +1,16 @@
 package com.arka.arka.infrastructure.adapter.in.bff.mobile;
 
+import com.arka.arka.application.cache.CatalogVersions;
 import com.arka.arka.domain.model.Cart;
 import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductSummary;
 import com.arka.arka.domain.port.in.CartUseCase;
-import com.arka.arka.domain.port.in.ProductUseCase;
+import com.arka.arka.domain.port.in.ProductQueryUseCase;
 import com.arka.arka.infrastructure.adapter.in.bff.mobile.dto.MobileCartDto;
 import com.arka.arka.infrastructure.adapter.in.bff.mobile.dto.MobileProductDto;
 import com.arka.arka.infrastructure.adapter.in.bff.mobile.mapper.MobileBffMapper;
+import com.arka.arka.infrastructure.adapter.in.web.ConditionalResponses;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,16 +26,19 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class MobileBffController {
     
-    private final ProductUseCase productUseCase;
+    private final ProductQueryUseCase productQueryUseCase;
     private final CartUseCase cartUseCase;
     private final MobileBffMapper mapper;
+    private final CatalogVersions catalogVersions;
     
-    public MobileBffController(ProductUseCase productUseCase, 
+    public MobileBffController(ProductQueryUseCase productQueryUseCase, 
                               CartUseCase cartUseCase,
-                              MobileBffMapper mapper) {
-        this.productUseCase = productUseCase;
+                              MobileBffMapper mapper,
+                              CatalogVersions catalogVersions) {
+        this.productQueryUseCase = productQueryUseCase;
         this.cartUseCase = cartUseCase;
         this.mapper = mapper;
+        this.catalogVersions = catalogVersions;
     }
     
     /**
@@ -40,9 +47,8 @@ public class MobileBffController {
      */
     @GetMapping("/productos/destacados")
     public ResponseEntity<List<MobileProductDto>> getFeaturedProducts() {
-        List<Product> products = productUseCase.getAllProducts();
+        List<Product> products = productQueryUseCase.getFeaturedProducts(10); // Limit for mobile performance
         List<MobileProductDto> mobileProducts = products.stream()
-                .limit(10) // Limit for mobile performance
                 .map(mapper::toMobileProductDto)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(mobileProducts);
@@ -52,13 +58,15 @@ public class MobileBffController {
      * Search products with mobile-optimized response
      */
     @GetMapping("/productos/buscar")
-    public ResponseEntity<List<MobileProductDto>> searchProducts(@RequestParam String query) {
-        List<Product> products = productUseCase.searchProductsByName(query);
-        List<MobileProductDto> mobileProducts = products.stream()
-                .limit(20) // Limit for mobile
-                .map(mapper::toMobileProductDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(mobileProducts);
+    public ResponseEntity<List<MobileProductDto>> searchProducts(@RequestParam String query,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.catalogTag(), () -> {
+            List<ProductSummary> products = productQueryUseCase.searchProductSummaries(query, 20); // Limit for mobile
+            List<MobileProductDto> mobileProducts = products.stream()
+                    .map(mapper::toMobileProductDto)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(mobileProducts);
+        });
     }
     
     /**
@@ -77,16 +85,20 @@ public class MobileBffController {
     
     /**
      * Quick product info for mobile scanning/QR codes
+     * Answers 304 while the product is unchanged since the client's ETag
      */
     @GetMapping("/productos/{id}/quick")
-    public ResponseEntity<MobileProductDto> getQuickProductInfo(@PathVariable Long id) {
-        try {
-            Product product = productUseCase.getProductById(id);
-            MobileProductDto mobileProduct = mapper.toMobileProductDto(product);
-            return ResponseEntity.ok(mobileProduct);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+    public ResponseEntity<MobileProductDto> getQuickProductInfo(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.productTag(id), () -> {
+            try {
+                ProductSummary product = productQueryUseCase.getProductSummary(id);
+                MobileProductDto mobileProduct = mapper.toMobileProductDto(product);
+                return ResponseEntity.ok(mobileProduct);
+            } catch (RuntimeException e) {
+                return ResponseEntity.notFound().build();
+            }
+        });
     }
     
     /**
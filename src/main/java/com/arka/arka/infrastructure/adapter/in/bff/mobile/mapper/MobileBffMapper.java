@@ -2,6 +2,7 @@ package com.arka.arka.infrastructure.adapter.in.bff.mobile.mapper;
 
 import com.arka.arka.domain.model.Cart;
 import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductSummary;
 import com.arka.arka.infrastructure.adapter.in.bff.mobile.dto.MobileCartDto;
 import com.arka.arka.infrastructure.adapter.in.bff.mobile.dto.MobileProductDto;
 import org.springframework.stereotype.Component;
@@ -31,6 +32,24 @@ public class MobileBffMapper {
         );
     }
     
+    /**
+     * Convert a product projection to mobile-optimized DTO
+     */
+    public MobileProductDto toMobileProductDto(ProductSummary product) {
+        if (product == null) {
+            return null;
+        }
+        
+        return new MobileProductDto(
+                product.getId(),
+                product.getNombre(),
+                product.getPrecioUnitario(),
+                product.getCategoriaNombre(),
+                product.isDisponible(),
+                generateImageUrl(product.getId())
+        );
+    }
+    
     /**
      * Convert Cart to mobile-optimized DTO
      */
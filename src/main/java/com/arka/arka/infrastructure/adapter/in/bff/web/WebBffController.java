@@ -1,5 +1,7 @@
 package com.arka.arka.infrastructure.adapter.in.bff.web;
 
+import com.arka.arka.application.cache.CatalogVersions;
+import com.arka.arka.application.readmodel.DashboardAggregates;
 import com.arka.arka.domain.model.Cart;
 import com.arka.arka.domain.model.Order;
 import com.arka.arka.domain.model.Product;
@@ -8,7 +10,11 @@ import com.arka.arka.domain.port.in.OrderUseCase;
 import com.arka.arka.domain.port.in.ProductUseCase;
 import com.arka.arka.infrastructure.adapter.in.bff.web.dto.WebDashboardDto;
 import com.arka.arka.infrastructure.adapter.in.bff.web.dto.WebProductDetailDto;
+import com.arka.arka.infrastructure.adapter.in.bff.web.loader.ProductDetailLoader;
 import com.arka.arka.infrastructure.adapter.in.bff.web.mapper.WebBffMapper;
+import com.arka.arka.infrastructure.adapter.in.web.ConditionalResponses;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,22 +35,35 @@ public class WebBffController {
     private final CartUseCase cartUseCase;
     private final OrderUseCase orderUseCase;
     private final WebBffMapper mapper;
+    private final DashboardAggregates dashboardAggregates;
+    private final CatalogVersions catalogVersions;
+    private final ProductDetailLoader productDetailLoader;
     
     public WebBffController(ProductUseCase productUseCase, 
                            CartUseCase cartUseCase,
                            OrderUseCase orderUseCase,
-                           WebBffMapper mapper) {
+                           WebBffMapper mapper,
+                           ObjectProvider<DashboardAggregates> dashboardAggregates,
+                           CatalogVersions catalogVersions,
+                           ProductDetailLoader productDetailLoader) {
         this.productUseCase = productUseCase;
         this.cartUseCase = cartUseCase;
         this.orderUseCase = orderUseCase;
         this.mapper = mapper;
+        this.dashboardAggregates = dashboardAggregates.getIfAvailable();
+        this.catalogVersions = catalogVersions;
+        this.productDetailLoader = productDetailLoader;
     }
     
     /**
      * Get dashboard data for web admin
+     * Served from the event-maintained aggregates when enabled, otherwise computed from every row
      */
     @GetMapping("/dashboard")
     public ResponseEntity<WebDashboardDto> getDashboard() {
+        if (dashboardAggregates != null) {
+            return ResponseEntity.ok(mapper.toWebDashboardDto(dashboardAggregates.current()));
+        }
         List<Product> allProducts = productUseCase.getAllProducts();
         List<Cart> allCarts = cartUseCase.getAllCarts();
         List<Order> allOrders = orderUseCase.getAllOrders();
@@ -59,28 +78,52 @@ public class WebBffController {
     
     /**
      * Get detailed product information for web
+     * Answers 304 while the product is unchanged since the client's ETag
      */
     @GetMapping("/productos/{id}/detalle")
-    public ResponseEntity<WebProductDetailDto> getProductDetail(@PathVariable Long id) {
-        try {
-            Product product = productUseCase.getProductById(id);
-            WebProductDetailDto productDetail = mapper.toWebProductDetailDto(product);
-            return ResponseEntity.ok(productDetail);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+    public ResponseEntity<WebProductDetailDto> getProductDetail(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.productTag(id), () -> {
+            try {
+                Product product = productUseCase.getProductById(id);
+                WebProductDetailDto productDetail = mapper.toWebProductDetailDto(product);
+                return ResponseEntity.ok(productDetail);
+            } catch (RuntimeException e) {
+                return ResponseEntity.notFound().build();
+            }
+        });
+    }
+    
+    /**
+     * Get detailed product information for several products (e.g. a grid of tiles)
+     * All ids are resolved with one lookup; unknown ids are left out and the rest keep the request order
+     */
+    @GetMapping("/productos/detalle")
+    public ResponseEntity<List<WebProductDetailDto>> getProductDetails(@RequestParam List<Long> ids,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.catalogTag(), () -> {
+            try {
+                return ResponseEntity.ok(productDetailLoader.loadAll(ids));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
     
     /**
      * Get all products with full web details
+     * Answers 304 while the catalog is unchanged since the client's ETag
      */
     @GetMapping("/productos/completo")
-    public ResponseEntity<List<WebProductDetailDto>> getAllProductsWeb() {
-        List<Product> products = productUseCase.getAllProducts();
-        List<WebProductDetailDto> webProducts = products.stream()
-                .map(mapper::toWebProductDetailDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(webProducts);
+    public ResponseEntity<List<WebProductDetailDto>> getAllProductsWeb(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.catalogTag(), () -> {
+            List<Product> products = productUseCase.getAllProducts();
+            List<WebProductDetailDto> webProducts = products.stream()
+                    .map(mapper::toWebProductDetailDto)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(webProducts);
+        });
     }
     
     /**
@@ -89,16 +132,19 @@ public class WebBffController {
     @GetMapping("/productos/rango-precio")
     public ResponseEntity<List<WebProductDetailDto>> getProductsByPriceRangeWeb(
             @RequestParam BigDecimal min,
-            @RequestParam BigDecimal max) {
-        try {
-            List<Product> products = productUseCase.getProductsByPriceRange(min, max);
-            List<WebProductDetailDto> webProducts = products.stream()
-                    .map(mapper::toWebProductDetailDto)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(webProducts);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().build();
-        }
+            @RequestParam BigDecimal max,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.catalogTag(), () -> {
+            try {
+                List<Product> products = productUseCase.getProductsByPriceRange(min, max);
+                List<WebProductDetailDto> webProducts = products.stream()
+                        .map(mapper::toWebProductDetailDto)
+                        .collect(Collectors.toList());
+                return ResponseEntity.ok(webProducts);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
     
     /**
@@ -0,0 +1,93 @@
+package com.arka.arka.infrastructure.adapter.in.bff.web.loader;
+
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.port.in.ProductUseCase;
+import com.arka.arka.infrastructure.adapter.in.bff.web.dto.WebProductDetailDto;
+import com.arka.arka.infrastructure.adapter.in.bff.web.mapper.WebBffMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Request-scoped batch loader for web product details (DataLoader style)
+ * {@link #load} only queues the id; {@link #dispatch} resolves every queued id with one
+ * {@code getProductsByIds} lookup and maps each product once. Ids already loaded in the
+ * same request are answered from the loader without another lookup.
+ */
+@Component
+@RequestScope
+public class ProductDetailLoader {
+
+    private final ProductUseCase productUseCase;
+    private final WebBffMapper mapper;
+    private final Map<Long, CompletableFuture<WebProductDetailDto>> loaded = new HashMap<>();
+    private final Map<Long, CompletableFuture<WebProductDetailDto>> pending = new LinkedHashMap<>();
+
+    public ProductDetailLoader(ProductUseCase productUseCase, WebBffMapper mapper) {
+        this.productUseCase = productUseCase;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Queues the id; the future completes with the detail, or null if the product does not exist,
+     * on the next {@link #dispatch}
+     */
+    public CompletableFuture<WebProductDetailDto> load(Long id) {
+        CompletableFuture<WebProductDetailDto> known = loaded.get(id);
+        if (known != null) {
+            return known;
+        }
+        return pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+    }
+
+    /**
+     * Queues every id and returns the futures in the same order
+     */
+    public List<CompletableFuture<WebProductDetailDto>> loadMany(Collection<Long> ids) {
+        return ids.stream().map(this::load).collect(Collectors.toList());
+    }
+
+    /**
+     * Resolves all queued ids with a single lookup; a failed lookup fails every queued future
+     */
+    public void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, CompletableFuture<WebProductDetailDto>> batch = new LinkedHashMap<>(pending);
+        pending.clear();
+        loaded.putAll(batch);
+        try {
+            Map<Long, WebProductDetailDto> details = new HashMap<>();
+            for (Product product : productUseCase.getProductsByIds(new ArrayList<>(batch.keySet()))) {
+                details.put(product.getId(), mapper.toWebProductDetailDto(product));
+            }
+            batch.forEach((id, future) -> future.complete(details.get(id)));
+        } catch (RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            batch.keySet().forEach(loaded::remove);
+            throw e;
+        }
+    }
+
+    /**
+     * Loads the ids with one dispatch and returns the details found, in request order
+     */
+    public List<WebProductDetailDto> loadAll(Collection<Long> ids) {
+        List<CompletableFuture<WebProductDetailDto>> futures = loadMany(ids);
+        dispatch();
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,8 @@
 package com.arka.arka.infrastructure.adapter.in.bff.web.mapper;
 
 import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.DashboardTotals;
+import com.arka.arka.domain.model.Money;
 import com.arka.arka.domain.model.Order;
 import com.arka.arka.domain.model.Product;
 import com.arka.arka.infrastructure.adapter.in.bff.web.dto.WebDashboardDto;
@@ -8,6 +10,7 @@ import com.arka.arka.infrastructure.adapter.in.bff.web.dto.WebProductDetailDto;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.List;
 
 /**
@@ -17,6 +20,12 @@ import java.util.List;
 @Component
 public class WebBffMapper {
     
+    private final Currency storeCurrency;
+    
+    public WebBffMapper(Currency storeCurrency) {
+        this.storeCurrency = storeCurrency;
+    }
+    
     /**
      * Convert Product to web-optimized detailed DTO
      */
@@ -46,10 +55,7 @@ public class WebBffMapper {
     public WebDashboardDto toWebDashboardDto(List<Product> products, List<Cart> carts, 
                                            List<Order> orders, List<Cart> abandonedCarts) {
         
-        BigDecimal totalVentas = orders.stream()
-                .map(Order::getTotal)
-                .filter(total -> total != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalVentas = Money.sum(orders, Order::getTotal, storeCurrency).toBigDecimal();
         
         int productosConBajoStock = (int) products.stream()
                 .filter(product -> product.getStock() != null && product.getStock() < 10)
@@ -78,6 +84,28 @@ public class WebBffMapper {
         );
     }
     
+    /**
+     * Convert precomputed dashboard totals to dashboard DTO
+     */
+    public WebDashboardDto toWebDashboardDto(DashboardTotals totals) {
+        WebDashboardDto.DashboardStats stats = new WebDashboardDto.DashboardStats(
+                totals.getTasaConversion(),
+                0.25, // Tiempo respuesta promedio (placeholder)
+                (int) totals.getCarritosAbandonados() * 2 // Notificaciones enviadas (placeholder)
+        );
+        
+        return new WebDashboardDto(
+                (int) totals.getTotalProductos(),
+                (int) totals.getTotalCarritos(),
+                (int) totals.getTotalPedidos(),
+                (int) totals.getCarritosAbandonados(),
+                totals.getVentasTotales().toBigDecimal(),
+                (int) totals.getProductosConBajoStock(),
+                totals.getProductosPopulares().toArray(new String[0]),
+                stats
+        );
+    }
+    
     /**
      * Generate multiple image URLs for web gallery
      */
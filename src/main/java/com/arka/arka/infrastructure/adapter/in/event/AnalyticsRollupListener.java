@@ -0,0 +1,88 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.domain.event.CartChanged;
+import com.arka.arka.domain.event.OrderChanged;
+import com.arka.arka.domain.model.Money;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.port.out.SalesAnalyticsPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+/**
+ * Keeps the hourly analytics rollup in step with cart and order writes
+ * The previous state is subtracted from its hour and the new state added to its hour;
+ * a failed update is logged and left to the nightly rebuild
+ */
+@Component
+public class AnalyticsRollupListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsRollupListener.class);
+
+    private final SalesAnalyticsPort salesAnalyticsPort;
+    private final Currency storeCurrency;
+
+    public AnalyticsRollupListener(SalesAnalyticsPort salesAnalyticsPort, Currency storeCurrency) {
+        this.salesAnalyticsPort = salesAnalyticsPort;
+        this.storeCurrency = storeCurrency;
+    }
+
+    @EventListener
+    public void onCartChanged(CartChanged event) {
+        LocalDateTime before = event.getBefore() != null ? event.getBefore().getFechaCreacion() : null;
+        LocalDateTime after = event.getAfter() != null ? event.getAfter().getFechaCreacion() : null;
+        if (sameHour(before, after)) {
+            return;
+        }
+        add(before, -1, 0, 0);
+        add(after, 1, 0, 0);
+    }
+
+    @EventListener
+    public void onOrderChanged(OrderChanged event) {
+        LocalDateTime before = fecha(event.getBefore());
+        LocalDateTime after = fecha(event.getAfter());
+        long ventasBefore = totalMinor(event.getBefore());
+        long ventasAfter = totalMinor(event.getAfter());
+        if (sameHour(before, after)) {
+            if (ventasAfter != ventasBefore) {
+                add(after, 0, 0, ventasAfter - ventasBefore);
+            }
+            return;
+        }
+        add(before, 0, -1, -ventasBefore);
+        add(after, 0, 1, ventasAfter);
+    }
+
+    private void add(LocalDateTime time, long carritos, long pedidos, long ventasMinor) {
+        if (time == null) {
+            return;
+        }
+        try {
+            salesAnalyticsPort.addActivity(time, carritos, pedidos, ventasMinor);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not update analytics rollup for {}: {}", time, e.getMessage());
+        }
+    }
+
+    private static boolean sameHour(LocalDateTime before, LocalDateTime after) {
+        if (before == null || after == null) {
+            return before == after;
+        }
+        return before.getYear() == after.getYear()
+                && before.getDayOfYear() == after.getDayOfYear()
+                && before.getHour() == after.getHour();
+    }
+
+    private static LocalDateTime fecha(Order order) {
+        return order != null ? order.getFecha() : null;
+    }
+
+    private long totalMinor(Order order) {
+        return order != null && order.getTotal() != null ? Money.of(order.getTotal(), storeCurrency).getMinorUnits() : 0;
+    }
+}
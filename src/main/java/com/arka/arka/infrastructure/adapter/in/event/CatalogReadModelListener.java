@@ -0,0 +1,33 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.application.readmodel.CatalogReadModel;
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.StockChanged;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies stock and category changes to the in-memory catalog read model
+ * Product edits are published to it directly by the product use cases
+ */
+@Component
+@ConditionalOnProperty(name = "arka.catalog.read-model.enabled", havingValue = "true")
+public class CatalogReadModelListener {
+
+    private final CatalogReadModel catalogReadModel;
+
+    public CatalogReadModelListener(CatalogReadModel catalogReadModel) {
+        this.catalogReadModel = catalogReadModel;
+    }
+
+    @EventListener
+    public void onStockChanged(StockChanged event) {
+        catalogReadModel.onStockChanged(event);
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChanged event) {
+        catalogReadModel.onCategoryChanged(event);
+    }
+}
@@ -0,0 +1,42 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.application.cache.CatalogVersions;
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Product;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bumps the catalog ETag versions on product, category and stock writes
+ */
+@Component
+public class CatalogVersionListener {
+
+    private final CatalogVersions catalogVersions;
+
+    public CatalogVersionListener(CatalogVersions catalogVersions) {
+        this.catalogVersions = catalogVersions;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChanged event) {
+        Product changed = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        catalogVersions.productChanged(changed != null ? changed.getId() : null);
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChanged event) {
+        catalogVersions.allChanged();
+    }
+
+    @EventListener
+    public void onStockChanged(StockChanged event) {
+        if (event.isUnknownProducts()) {
+            catalogVersions.allChanged();
+        } else {
+            catalogVersions.productsChanged(event.getProductIds());
+        }
+    }
+}
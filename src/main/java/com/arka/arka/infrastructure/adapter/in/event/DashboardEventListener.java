@@ -0,0 +1,38 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.application.readmodel.DashboardAggregates;
+import com.arka.arka.domain.event.CartChanged;
+import com.arka.arka.domain.event.OrderChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds product, cart and order events into the dashboard aggregates
+ */
+@Component
+@ConditionalOnProperty(name = "arka.dashboard.aggregates.enabled", havingValue = "true")
+public class DashboardEventListener {
+
+    private final DashboardAggregates dashboardAggregates;
+
+    public DashboardEventListener(DashboardAggregates dashboardAggregates) {
+        this.dashboardAggregates = dashboardAggregates;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChanged event) {
+        dashboardAggregates.onProductChanged(event);
+    }
+
+    @EventListener
+    public void onCartChanged(CartChanged event) {
+        dashboardAggregates.onCartChanged(event);
+    }
+
+    @EventListener
+    public void onOrderChanged(OrderChanged event) {
+        dashboardAggregates.onOrderChanged(event);
+    }
+}
@@ -0,0 +1,39 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.application.readmodel.FeaturedProducts;
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies product edits, deletions, stock reservations and category changes to the
+ * precomputed featured list
+ */
+@Component
+@ConditionalOnProperty(name = "arka.catalog.featured.enabled", havingValue = "true")
+public class FeaturedProductsListener {
+
+    private final FeaturedProducts featuredProducts;
+
+    public FeaturedProductsListener(FeaturedProducts featuredProducts) {
+        this.featuredProducts = featuredProducts;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChanged event) {
+        featuredProducts.onProductChanged(event);
+    }
+
+    @EventListener
+    public void onStockChanged(StockChanged event) {
+        featuredProducts.onStockChanged(event);
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChanged event) {
+        featuredProducts.onCategoryChanged(event);
+    }
+}
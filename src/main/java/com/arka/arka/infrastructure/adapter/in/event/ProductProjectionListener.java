@@ -0,0 +1,58 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.application.readmodel.ProductProjection;
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.ProductBatchChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies product, category and stock changes to the MongoDB product projection
+ * A failed update never fails the write that published the event; it requests a rebuild instead
+ */
+@Component
+@ConditionalOnProperty(name = "arka.catalog.projection.enabled", havingValue = "true")
+public class ProductProjectionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductProjectionListener.class);
+
+    private final ProductProjection productProjection;
+
+    public ProductProjectionListener(ProductProjection productProjection) {
+        this.productProjection = productProjection;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChanged event) {
+        apply(() -> productProjection.onProductChanged(event));
+    }
+
+    @EventListener
+    public void onProductBatchChanged(ProductBatchChanged event) {
+        apply(() -> productProjection.onProductBatchChanged(event));
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChanged event) {
+        apply(() -> productProjection.onCategoryChanged(event));
+    }
+
+    @EventListener
+    public void onStockChanged(StockChanged event) {
+        apply(() -> productProjection.onStockChanged(event));
+    }
+
+    private void apply(Runnable update) {
+        try {
+            update.run();
+        } catch (RuntimeException e) {
+            logger.warn("⚠️ Product projection update failed, rebuild requested: {}", e.getMessage());
+            productProjection.requestRebuild();
+        }
+    }
+}
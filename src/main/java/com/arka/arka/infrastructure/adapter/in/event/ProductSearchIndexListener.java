@@ -0,0 +1,33 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.application.search.ProductSearchIndex;
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.StockChanged;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies stock and category changes to the product search index
+ * Product edits are published to it directly by the product use cases
+ */
+@Component
+@ConditionalOnProperty(name = "arka.catalog.search-index.enabled", havingValue = "true")
+public class ProductSearchIndexListener {
+
+    private final ProductSearchIndex searchIndex;
+
+    public ProductSearchIndexListener(ProductSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @EventListener
+    public void onStockChanged(StockChanged event) {
+        searchIndex.onStockChanged(event);
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChanged event) {
+        searchIndex.onCategoryChanged(event);
+    }
+}
@@ -0,0 +1,26 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.application.notification.ReminderOutbox;
+import com.arka.arka.domain.event.CartChanged;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Produces an outbox reminder when a cart turns abandoned
+ */
+@Component
+@ConditionalOnProperty(name = "arka.notifications.outbox.enabled", havingValue = "true")
+public class ReminderOutboxListener {
+
+    private final ReminderOutbox reminderOutbox;
+
+    public ReminderOutboxListener(ReminderOutbox reminderOutbox) {
+        this.reminderOutbox = reminderOutbox;
+    }
+
+    @EventListener
+    public void onCartChanged(CartChanged event) {
+        reminderOutbox.onCartChanged(event);
+    }
+}
@@ -0,0 +1,37 @@
+package com.arka.arka.infrastructure.adapter.in.event;
+
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.infrastructure.adapter.in.web.SerializedResponseCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the serialized catalog responses on product, category and stock writes
+ * Stale entries are already unreachable once the catalog version moves; clearing frees their memory
+ */
+@Component
+public class SerializedResponseCacheListener {
+
+    private final SerializedResponseCache responseCache;
+
+    public SerializedResponseCacheListener(SerializedResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChanged event) {
+        responseCache.clear();
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChanged event) {
+        responseCache.clear();
+    }
+
+    @EventListener
+    public void onStockChanged(StockChanged event) {
+        responseCache.clear();
+    }
+}
@@ -1,9 +1,15 @@
 package com.arka.arka.infrastructure.adapter.in.web;
 
+import com.arka.arka.application.cache.CacheStats;
+import com.arka.arka.application.cache.RefreshingCache;
 import com.arka.arka.application.service.EcommerceAnalyticsService;
+import com.arka.arka.domain.model.AnalyticsInterval;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,29 +22,55 @@ import java.util.Map;
 public class AnalyticsController {
     
     private final EcommerceAnalyticsService analyticsService;
+    private final RefreshingCache<String, Map<String, Object>> analyticsCache;
     
-    public AnalyticsController(EcommerceAnalyticsService analyticsService) {
+    public AnalyticsController(EcommerceAnalyticsService analyticsService,
+                               RefreshingCache<String, Map<String, Object>> analyticsCache) {
         this.analyticsService = analyticsService;
+        this.analyticsCache = analyticsCache;
     }
     
     /**
-     * Get comprehensive e-commerce statistics
+     * Get comprehensive e-commerce statistics (cached, see arka.analytics.cache.ttl)
      */
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getEcommerceStatistics() {
-        Map<String, Object> statistics = analyticsService.getEcommerceStatistics();
+        Map<String, Object> statistics = analyticsCache.get("statistics", analyticsService::getEcommerceStatistics);
         return ResponseEntity.ok(statistics);
     }
     
     /**
-     * Get abandoned cart insights
+     * Get abandoned cart insights (cached, see arka.analytics.cache.ttl)
      */
     @GetMapping("/abandoned-carts")
     public ResponseEntity<Map<String, Object>> getAbandonedCartInsights() {
-        Map<String, Object> insights = analyticsService.getAbandonedCartInsights();
+        Map<String, Object> insights = analyticsCache.get("abandoned-carts", analyticsService::getAbandonedCartInsights);
         return ResponseEntity.ok(insights);
     }
     
+    /**
+     * Get hit/miss and compute-time metrics of the analytics cache
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<CacheStats> getCacheStats() {
+        return ResponseEntity.ok(analyticsCache.stats());
+    }
+    
+    /**
+     * Get carts created, orders and sales per hour or per day
+     */
+    @GetMapping("/actividad")
+    public ResponseEntity<List<Map<String, Object>>> getActivity(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime hasta,
+            @RequestParam(defaultValue = "HOUR") AnalyticsInterval intervalo) {
+        try {
+            return ResponseEntity.ok(analyticsService.getActivity(desde, hasta, intervalo));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * Health check for analytics
      */
@@ -0,0 +1,75 @@
+package com.arka.arka.infrastructure.adapter.in.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for catalog reads
+ * The entity tag is compared with If-None-Match before the response is built, so an
+ * unchanged resource is answered with 304 without loading or serializing the body.
+ * Responses may be stored by the client but must be revalidated on every use. Tags do not
+ * depend on the negotiated format (JSON, CBOR, Smile) or content coding, so they are weak and
+ * responses vary by Accept.
+ */
+public final class ConditionalResponses {
+
+    public static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param ifNoneMatch Value of the If-None-Match header, or null
+     * @param etag        Current tag of the resource, taken before any data is loaded
+     * @param response    Builds the full response; only called when the tag does not match
+     */
+    public static <T> ResponseEntity<T> conditional(String ifNoneMatch, String etag,
+                                                    Supplier<ResponseEntity<T>> response) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CATALOG_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        ResponseEntity<T> full = response.get();
+        if (!full.getStatusCode().is2xxSuccessful()) {
+            return full;
+        }
+        List<String> vary = new ArrayList<>(full.getHeaders().getVary());
+        vary.add(0, HttpHeaders.ACCEPT);
+        return ResponseEntity.status(full.getStatusCode())
+                .headers(full.getHeaders())
+                .eTag(etag)
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .varyBy(vary.toArray(new String[0]))
+                .body(full.getBody());
+    }
+
+    /**
+     * Weak comparison as required for If-None-Match: a W/ prefix on either side is ignored;
+     * "*" is not honoured because the tag is checked before the resource is known to exist
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String expected = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            if (opaqueTag(candidate.trim()).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -1,12 +1,14 @@
 package com.arka.arka.infrastructure.adapter.in.web;
 
 import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.OrderIdPage;
 import com.arka.arka.domain.model.Product;
 import com.arka.arka.domain.model.Customer;
 import com.arka.arka.domain.port.in.OrderUseCase;
 import com.arka.arka.domain.port.in.ProductUseCase;
 import com.arka.arka.domain.port.in.CustomerUseCase;
 import com.arka.arka.infrastructure.adapter.in.web.dto.OrderDto;
+import com.arka.arka.infrastructure.adapter.in.web.dto.OrderIdPageDto;
 import com.arka.arka.infrastructure.adapter.in.web.mapper.OrderWebMapper;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -78,6 +80,9 @@ public class OrderController {
                     .body(mapper.toDto(savedOrder));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            // Not enough stock to reserve for the order
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -142,6 +147,23 @@ public class OrderController {
         }
     }
 
+    /**
+     * Ids of the orders containing a product, newest first, served from the product -> order index
+     * Pass the returned nextBefore as {@code before} to get the following page
+     */
+    @GetMapping("/producto/{productId}/ids")
+    public ResponseEntity<OrderIdPageDto> getOrderIdsByProduct(
+            @PathVariable Long productId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            OrderIdPage page = orderUseCase.getOrderIdsByProduct(productId, before, size);
+            return ResponseEntity.ok(new OrderIdPageDto(page.getPedidoIds(), page.getNextBefore()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get orders by date range
      */
@@ -0,0 +1,60 @@
+package com.arka.arka.infrastructure.adapter.in.web;
+
+import com.arka.arka.application.service.ProductCatalogService;
+import com.arka.arka.domain.model.ProductView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Reactive catalog read API served from the MongoDB product projection
+ * Read traffic here never reaches the transactional database; the request thread is
+ * released while MongoDB answers
+ */
+@RestController
+@RequestMapping("/api/products")
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "arka.catalog.projection.enabled", havingValue = "true")
+public class ProductCatalogController {
+
+    private final ProductCatalogService productCatalogService;
+
+    public ProductCatalogController(ProductCatalogService productCatalogService) {
+        this.productCatalogService = productCatalogService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProductView>> getProduct(@PathVariable Long id) {
+        return productCatalogService.obtenerPorId(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/categoria/{categoria}")
+    public Mono<ResponseEntity<List<ProductView>>> getProductsByCategory(@PathVariable String categoria) {
+        return toResponse(productCatalogService.obtenerPorCategoria(categoria));
+    }
+
+    @GetMapping("/rango-precio")
+    public Mono<ResponseEntity<List<ProductView>>> getProductsByPriceRange(@RequestParam BigDecimal min,
+                                                                           @RequestParam BigDecimal max) {
+        return toResponse(productCatalogService.obtenerPorRangoPrecio(min, max));
+    }
+
+    @GetMapping("/buscar")
+    public Mono<ResponseEntity<List<ProductView>>> searchProducts(@RequestParam String q,
+                                                                  @RequestParam(defaultValue = "20") int limit) {
+        return toResponse(productCatalogService.buscar(q, limit));
+    }
+
+    private static Mono<ResponseEntity<List<ProductView>>> toResponse(Flux<ProductView> products) {
+        return products.collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+}
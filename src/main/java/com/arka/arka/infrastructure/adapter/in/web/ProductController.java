@@ -1,15 +1,34 @@
 package com.arka.arka.infrastructure.adapter.in.web;
 
+import com.arka.arka.application.cache.CatalogVersions;
 import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductImportResult;
+import com.arka.arka.domain.model.ProductPage;
+import com.arka.arka.domain.model.ProductSort;
 import com.arka.arka.domain.port.in.ProductUseCase;
 import com.arka.arka.infrastructure.adapter.in.web.dto.ProductDto;
+import com.arka.arka.infrastructure.adapter.in.web.dto.ProductPageDto;
+import com.arka.arka.infrastructure.adapter.in.web.mapper.ProductImportReader;
 import com.arka.arka.infrastructure.adapter.in.web.mapper.ProductWebMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @RestController
@@ -18,38 +37,48 @@ public class ProductController {
 
     private final ProductUseCase productUseCase;
     private final ProductWebMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final CatalogVersions catalogVersions;
+    private final SerializedResponseCache responseCache;
 
-    public ProductController(ProductUseCase productUseCase, ProductWebMapper mapper) {
+    public ProductController(ProductUseCase productUseCase, ProductWebMapper mapper, ObjectMapper objectMapper,
+                             CatalogVersions catalogVersions, SerializedResponseCache responseCache) {
         this.productUseCase = productUseCase;
         this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.catalogVersions = catalogVersions;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductDto>> getAllProducts() {
-        List<Product> products = productUseCase.getAllProducts();
-        List<ProductDto> productDtos = products.stream()
-                .map(mapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(productDtos);
+    public ResponseEntity<?> getAllProducts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cachedList("productos", ifNoneMatch, accept, acceptEncoding, productUseCase::getAllProducts, products -> true);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDto> getProductById(@PathVariable Long id) {
-        try {
-            Product product = productUseCase.getProductById(id);
-            return ResponseEntity.ok(mapper.toDto(product));
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+    public ResponseEntity<ProductDto> getProductById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.productTag(id), () -> {
+            try {
+                Product product = productUseCase.getProductById(id);
+                return ResponseEntity.ok(mapper.toDto(product));
+            } catch (RuntimeException e) {
+                return ResponseEntity.notFound().build();
+            }
+        });
     }
 
     @GetMapping("/categoria/{nombre}")
-    public ResponseEntity<List<ProductDto>> getByCategory(@PathVariable String nombre) {
-        List<Product> products = productUseCase.getProductsByCategory(nombre);
-        List<ProductDto> productDtos = products.stream()
-                .map(mapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(productDtos);
+    public ResponseEntity<?> getByCategory(@PathVariable String nombre,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // An unknown category lists nothing: not cached, so arbitrary names cannot evict the hot lists
+        return cachedList("productos/categoria/" + nombre, ifNoneMatch, accept, acceptEncoding,
+                () -> productUseCase.getProductsByCategory(nombre), products -> !products.isEmpty());
     }
 
     @PostMapping
@@ -64,6 +93,35 @@ public class ProductController {
         }
     }
 
+    /**
+     * Bulk import from a JSON array, NDJSON or CSV (header: nombre,descripcion,categoriaId,marca,precioUnitario,stock)
+     * The body is read as a stream; invalid rows are reported without aborting the import.
+     * If the upload breaks off, the rows imported until then are kept and reported with
+     * complete=false; it only answers 400 when nothing was imported.
+     */
+    @PostMapping(value = "/importar", consumes = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<?> importProducts(HttpServletRequest request) {
+        try {
+            MediaType contentType = MediaType.parseMediaType(request.getContentType());
+            Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+            ProductImportReader reader;
+            if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+                reader = ProductImportReader.ndjson(request.getInputStream(), charset, objectMapper, mapper);
+            } else if (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+                reader = ProductImportReader.jsonArray(request.getInputStream(), objectMapper, mapper);
+            } else {
+                reader = ProductImportReader.csv(request.getInputStream(), charset, mapper);
+            }
+            ProductImportResult result = productUseCase.importProducts(reader);
+            HttpStatus status = result.isComplete() || result.getImported() > 0 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(mapper.toDto(result));
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ProductDto> updateProduct(@PathVariable Long id, @RequestBody ProductDto dto) {
         try {
@@ -86,35 +144,125 @@ public class ProductController {
     }
 
     @GetMapping("/buscar")
-    public ResponseEntity<List<ProductDto>> searchProducts(@RequestParam String term) {
-        List<Product> products = productUseCase.searchProductsByName(term);
-        List<ProductDto> productDtos = products.stream()
-                .map(mapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(productDtos);
+    public ResponseEntity<List<ProductDto>> searchProducts(@RequestParam String term,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.catalogTag(), () -> {
+            List<Product> products = productUseCase.searchProductsByName(term);
+            List<ProductDto> productDtos = products.stream()
+                    .map(mapper::toDto)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(productDtos);
+        });
     }
 
     @GetMapping("/ordenados")
-    public ResponseEntity<List<ProductDto>> getAllProductsSorted() {
-        List<Product> products = productUseCase.getAllProductsSorted();
-        List<ProductDto> productDtos = products.stream()
-                .map(mapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(productDtos);
+    public ResponseEntity<?> getAllProductsSorted(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cachedList("productos/ordenados", ifNoneMatch, accept, acceptEncoding,
+                productUseCase::getAllProductsSorted, products -> true);
+    }
+
+    /**
+     * Keyset-paginated listing; pass the returned nextCursor to get the following page
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<ProductPageDto> getProductsPage(
+            @RequestParam(defaultValue = "nombre") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.catalogTag(), () -> {
+            try {
+                ProductSort productSort = ProductSort.fromParameter(sort);
+                ProductCursor after = cursor != null && !cursor.isBlank()
+                        ? ProductCursor.decode(cursor, productSort)
+                        : null;
+                ProductPage page = productUseCase.getProductsPage(productSort, after, size);
+                List<ProductDto> productDtos = page.getProductos().stream()
+                        .map(mapper::toDto)
+                        .collect(Collectors.toList());
+                String nextCursor = page.hasNext() ? page.getNextCursor().encode() : null;
+                return ResponseEntity.ok(new ProductPageDto(productDtos, nextCursor));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
+    }
+
+    /**
+     * Full sorted export as newline-delimited JSON, written as products are read
+     */
+    @GetMapping(value = "/ordenados/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamProductsSorted(
+            @RequestParam(defaultValue = "nombre") String sort) {
+        ProductSort productSort;
+        try {
+            productSort = ProductSort.fromParameter(sort);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = outputStream ->
+                productUseCase.forEachProductSorted(productSort, product -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(mapper.toDto(product)));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/rango")
     public ResponseEntity<List<ProductDto>> getProductsByPriceRange(
             @RequestParam BigDecimal min,
-            @RequestParam BigDecimal max) {
+            @RequestParam BigDecimal max,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.conditional(ifNoneMatch, catalogVersions.catalogTag(), () -> {
+            try {
+                List<Product> products = productUseCase.getProductsByPriceRange(min, max);
+                List<ProductDto> productDtos = products.stream()
+                        .map(mapper::toDto)
+                        .collect(Collectors.toList());
+                return ResponseEntity.ok(productDtos);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
+    }
+
+    /**
+     * Hot catalog lists: JSON is served from the serialized response cache, other formats
+     * (CBOR, Smile) are mapped and written by the message converters
+     */
+    private ResponseEntity<?> cachedList(String endpoint, String ifNoneMatch, String accept, String acceptEncoding,
+                                         Supplier<List<Product>> products, Predicate<List<Product>> storeIf) {
+        String tag = catalogVersions.catalogTag();
+        if (!SerializedResponseCache.prefersJson(accept)) {
+            return ConditionalResponses.conditional(ifNoneMatch, tag,
+                    () -> ResponseEntity.ok(toDtos(products.get())));
+        }
+        boolean gzip = SerializedResponseCache.acceptsGzip(acceptEncoding);
+        return ConditionalResponses.conditional(ifNoneMatch, tag,
+                () -> responseCache.get(endpoint + "|" + tag, products, loaded -> toJson(toDtos(loaded)), storeIf)
+                        .toResponse(gzip));
+    }
+
+    private List<ProductDto> toDtos(List<Product> products) {
+        return products.stream()
+                .map(mapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private byte[] toJson(Object body) {
         try {
-            List<Product> products = productUseCase.getProductsByPriceRange(min, max);
-            List<ProductDto> productDtos = products.stream()
-                    .map(mapper::toDto)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(productDtos);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().build();
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
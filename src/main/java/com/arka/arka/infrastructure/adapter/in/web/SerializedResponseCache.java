@@ -0,0 +1,204 @@
+package com.arka.arka.infrastructure.adapter.in.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of serialized JSON list responses, plain and gzipped
+ * Keys carry the catalog version, so an entry can never be served after the data it was built
+ * from changed; entries are also dropped on every catalog write to free the memory. A hit writes
+ * the stored bytes as they are: no loading, no Jackson and no compression on the request path.
+ * When full, the least recently used entry is evicted, so the hot lists stay cached while
+ * rarely requested keys rotate through. Only JSON is cached; CBOR and Smile requests go through
+ * the message converters as usual.
+ */
+public class SerializedResponseCache {
+
+    private static final List<MediaType> ENCODINGS = List.of(
+            MediaType.APPLICATION_JSON, MediaType.valueOf("application/cbor"), MediaType.valueOf("application/x-jackson-smile"));
+
+    private final Map<String, SerializedResponse> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxEntries Entries kept at most; when full, the least recently used one is evicted
+     */
+    public SerializedResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SerializedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response for the key, serializing and storing it on a miss
+     * @param key       Endpoint, parameters and catalog version
+     * @param serialize Builds the JSON bytes; only called on a miss
+     */
+    public SerializedResponse get(String key, Supplier<byte[]> serialize) {
+        return get(key, serialize, Function.identity(), loaded -> true);
+    }
+
+    /**
+     * Returns the cached response for the key, loading, serializing and (if {@code storeIf}
+     * accepts the loaded data) storing it on a miss; loading and serialization run outside the lock
+     * @param key       Endpoint, parameters and catalog version
+     * @param load      Loads the data; only called on a miss
+     * @param serialize Builds the JSON bytes of the loaded data
+     * @param storeIf   Whether the loaded data is worth an entry, e.g. not the empty result of an unknown key
+     */
+    public <T> SerializedResponse get(String key, Supplier<T> load, Function<T, byte[]> serialize,
+                                      Predicate<T> storeIf) {
+        synchronized (entries) {
+            SerializedResponse cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        T loaded = load.get();
+        SerializedResponse built = new SerializedResponse(serialize.apply(loaded));
+        if (!storeIf.test(loaded)) {
+            return built;
+        }
+        synchronized (entries) {
+            SerializedResponse raced = entries.putIfAbsent(key, built);
+            return raced != null ? raced : built;
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * True when JSON is the preferred one of the supported encodings (JSON, CBOR, Smile);
+     * a missing Accept header or a wildcard means JSON, which is the converters' default
+     */
+    public static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType encoding : ENCODINGS) {
+                if (mediaType.includes(encoding)) {
+                    return encoding == MediaType.APPLICATION_JSON;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * True when the Accept-Encoding header lists gzip (or any encoding) without q=0
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=") && Double.parseDouble(param.substring(2)) == 0) {
+                    refused = true;
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A serialized JSON body and its gzipped form, built once when the entry is stored
+     */
+    public static final class SerializedResponse {
+        private final byte[] json;
+        private final byte[] gzipped;
+
+        SerializedResponse(byte[] json) {
+            this.json = json;
+            this.gzipped = gzip(json);
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzipped() {
+            return gzipped;
+        }
+
+        /**
+         * 200 response with the stored bytes, gzipped when the client accepts it
+         */
+        public ResponseEntity<byte[]> toResponse(boolean gzip) {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .contentLength(gzipped.length)
+                        .body(gzipped);
+            }
+            return response.contentLength(json.length).body(json);
+        }
+
+        private static byte[] gzip(byte[] bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.arka.arka.infrastructure.adapter.in.web;
+
+import com.arka.arka.domain.model.StockReservation;
+import com.arka.arka.domain.port.in.StockReservationUseCase;
+import com.arka.arka.infrastructure.adapter.in.web.dto.StockReservationDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST Controller for stock reservations
+ * Checkout reserves stock first, then confirms it once the order is paid,
+ * or releases it; unconfirmed reservations are released when their TTL expires
+ */
+@RestController
+@RequestMapping("/reservas")
+@ConditionalOnProperty(name = "arka.stock.reservations.enabled", havingValue = "true")
+public class StockReservationController {
+
+    private final StockReservationUseCase stockReservationUseCase;
+
+    public StockReservationController(StockReservationUseCase stockReservationUseCase) {
+        this.stockReservationUseCase = stockReservationUseCase;
+    }
+
+    /**
+     * Reserve stock for all lines at once (body: product id -> quantity)
+     */
+    @PostMapping
+    public ResponseEntity<?> reserve(@RequestBody Map<Long, Integer> lineas) {
+        try {
+            StockReservation reservation = stockReservationUseCase.reserve(lineas);
+            return ResponseEntity.status(HttpStatus.CREATED).body(new StockReservationDto(
+                    reservation.getId(), reservation.getLineas(), reservation.getExpiraEn(),
+                    reservation.getEstado().name()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/confirmar")
+    public ResponseEntity<Void> confirm(@PathVariable String id) {
+        try {
+            stockReservationUseCase.confirm(id);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> release(@PathVariable String id) {
+        try {
+            stockReservationUseCase.release(id);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -1,18 +1,30 @@
 package com.arka.arka.infrastructure.adapter.in.web;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.arka.arka.domain.port.in.*;
 import com.arka.arka.domain.model.*;
 import com.arka.arka.infrastructure.adapter.in.web.mapper.*;
 import com.arka.arka.infrastructure.adapter.in.web.dto.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.math.BigDecimal;
 
@@ -24,6 +36,9 @@ import java.math.BigDecimal;
  * - GET /ObtenerDatos/{tabla}/{id}: Obtiene un registro específico
  * - POST /GuardarDatos/{tabla}: Guarda un nuevo registro
  * - DELETE /BorrarDatos/{tabla}/{id}: Borra un registro
+ * - POST /GuardarDatosLote/{tabla}: Guarda un lote de registros
+ * - POST /BorrarDatosLote/{tabla}: Borra un lote de registros por ID
+ * - GET /ExportarDatos/{tabla}: Exporta la tabla en streaming, con memoria constante
  */
 @RestController
 @RequestMapping("/api/terceros")
@@ -60,6 +75,21 @@ public class ThirdPartyApiController {
     @Autowired
     private CategoryWebMapper categoryMapper;
 
+    @Autowired
+    private TableExportUseCase tableExportUseCase;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Tablas con columna de fecha, las únicas que aceptan el filtro since */
+    private static final Set<String> TABLAS_CON_FECHA = Set.of("pedidos", "ordenes", "carritos");
+
+    /** Máximo de elementos por petición de lote */
+    private static final int MAX_ELEMENTOS_LOTE = 5_000;
+
+    /** Campos numéricos de un producto del lote que no admiten null */
+    private static final List<String> CAMPOS_NUMERICOS_LOTE = List.of("precio", "precioUnitario", "stock");
+
     /**
      * ✅ GET /ObtenerDatos/{tabla}: Obtiene todos los registros de la tabla especificada
      */
@@ -114,6 +144,87 @@ public class ThirdPartyApiController {
         }
     }
 
+    /**
+     * ✅ GET /ExportarDatos/{tabla}: Exporta la tabla con el mismo formato que /ObtenerDatos/{tabla}
+     * Las filas se leen por lotes con un cursor por id y se escriben con un JsonGenerator a medida
+     * que llegan (transferencia chunked), así que la memoria no crece con el tamaño de la tabla;
+     * "count" va al final porque solo se conoce al terminar
+     * Parámetros opcionales: limit y page (desde 0, requiere limit), since (fecha ISO, solo pedidos y carritos)
+     * Los clientes se leen completos: su tabla no tiene adaptador JDBC
+     */
+    @GetMapping(value = "/ExportarDatos/{tabla}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> exportarDatos(@PathVariable String tabla,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        String nombreTabla = tabla.toLowerCase();
+        ExportWindow window;
+        try {
+            window = ExportWindow.of(page, limit, since);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse("Parámetros inválidos: " + e.getMessage()));
+        }
+        if (since != null && !TABLAS_CON_FECHA.contains(nombreTabla)) {
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse("El filtro since solo aplica a: pedidos, carritos"));
+        }
+
+        TableExport export;
+        switch (nombreTabla) {
+            case "productos":
+                export = out -> tableExportUseCase.exportProducts(window, product -> out.accept(productMapper.toDto(product)));
+                break;
+            case "usuarios":
+            case "clientes":
+                export = out -> {
+                    List<Customer> customers = customerUseCase.getAllCustomers();
+                    List<Customer> selected = customers.stream()
+                            .skip(window.getOffset())
+                            .limit(window.hasLimit() ? window.getLimit() : Long.MAX_VALUE)
+                            .collect(Collectors.toList());
+                    selected.forEach(customer -> out.accept(customerMapper.toDto(customer)));
+                    return selected.size();
+                };
+                break;
+            case "pedidos":
+            case "ordenes":
+                export = out -> tableExportUseCase.exportOrders(window, order -> out.accept(orderMapper.toDto(order)));
+                break;
+            case "carritos":
+                export = out -> tableExportUseCase.exportCarts(window, cart -> out.accept(cartMapper.toDto(cart)));
+                break;
+            case "categorias":
+                export = out -> tableExportUseCase.exportCategories(window, category -> out.accept(categoryMapper.toDto(category)));
+                break;
+            default:
+                return ResponseEntity.badRequest()
+                        .body(createErrorResponse("Tabla no válida. Tablas disponibles: productos, usuarios, pedidos, carritos, categorias"));
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(StreamUtils.nonClosing(outputStream))) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeStringField("message", "Operación " + nombreTabla + " ejecutada exitosamente");
+                generator.writeArrayFieldStart("data");
+                long count = export.writeTo(dto -> {
+                    try {
+                        generator.writeObject(dto);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeNumberField("count", count);
+                generator.writeNumberField("timestamp", System.currentTimeMillis());
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     /**
      * ✅ GET /ObtenerDatos/{tabla}/{id}: Obtiene un registro específico de la tabla por su ID
      */
@@ -261,6 +372,57 @@ public class ThirdPartyApiController {
         }
     }
 
+    /**
+     * 📦 POST /GuardarDatosLote/{tabla}: Guarda un lote de registros (array JSON en body)
+     * Se escriben en bloques, un batch JDBC y una transacción por bloque; la respuesta
+     * trae el resultado de cada elemento (id asignado o motivo del fallo)
+     */
+    @PostMapping("/GuardarDatosLote/{tabla}")
+    public ResponseEntity<?> guardarDatosLote(@PathVariable String tabla, @RequestBody List<Map<String, Object>> datos) {
+        if (!"productos".equalsIgnoreCase(tabla)) {
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse("Tabla no válida para lotes. Tablas disponibles: productos"));
+        }
+        if (datos.size() > MAX_ELEMENTOS_LOTE) {
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse("El lote supera el máximo de " + MAX_ELEMENTOS_LOTE + " elementos"));
+        }
+        try {
+            // Un elemento mal formado solo falla ese elemento, no el lote
+            Iterator<Product> productos = datos.stream().map(this::toBatchProduct).iterator();
+            BatchResult result = productUseCase.createProducts(productos);
+            return ResponseEntity.ok(createSuccessResponse("productos_creados", productMapper.toDto(result),
+                    result.getSucceeded()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(createErrorResponse("Error al guardar el lote: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 📦 POST /BorrarDatosLote/{tabla}: Borra un lote de registros (array JSON de IDs en body)
+     * Cada bloque se borra con un solo DELETE ... WHERE id IN (...)
+     */
+    @PostMapping("/BorrarDatosLote/{tabla}")
+    public ResponseEntity<?> borrarDatosLote(@PathVariable String tabla, @RequestBody List<Long> ids) {
+        if (!"productos".equalsIgnoreCase(tabla)) {
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse("Tabla no válida para lotes. Tablas disponibles: productos"));
+        }
+        if (ids.size() > MAX_ELEMENTOS_LOTE) {
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse("El lote supera el máximo de " + MAX_ELEMENTOS_LOTE + " elementos"));
+        }
+        try {
+            BatchResult result = productUseCase.deleteProducts(ids);
+            return ResponseEntity.ok(createSuccessResponse("productos_eliminados", productMapper.toDto(result),
+                    result.getSucceeded()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(createErrorResponse("Error al eliminar el lote: " + e.getMessage()));
+        }
+    }
+
     /**
      * 📋 Endpoint de información de la API de terceros
      */
@@ -276,6 +438,9 @@ public class ThirdPartyApiController {
         endpoints.put("GET /ObtenerDatos/{tabla}/{id}", "Obtiene un registro específico por ID");
         endpoints.put("POST /GuardarDatos/{tabla}", "Guarda un nuevo registro (JSON en body)");
         endpoints.put("DELETE /BorrarDatos/{tabla}/{id}", "Elimina un registro por ID");
+        endpoints.put("POST /GuardarDatosLote/{tabla}", "Guarda un lote de registros (array JSON en body, solo productos)");
+        endpoints.put("POST /BorrarDatosLote/{tabla}", "Elimina un lote de registros (array de IDs en body, solo productos)");
+        endpoints.put("GET /ExportarDatos/{tabla}", "Exporta la tabla en streaming (page, limit, since opcionales)");
         
         info.put("endpoints", endpoints);
         info.put("tablas_disponibles", List.of("productos", "usuarios", "pedidos", "carritos", "categorias"));
@@ -286,6 +451,14 @@ public class ThirdPartyApiController {
 
     // ===== MÉTODOS HELPER =====
 
+    /**
+     * Exportación de una tabla: entrega cada DTO al consumidor y devuelve cuántos escribió
+     */
+    @FunctionalInterface
+    private interface TableExport {
+        long writeTo(Consumer<Object> out);
+    }
+
     private Map<String, Object> createSuccessResponse(String operation, Object data, int count) {
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -307,10 +480,39 @@ public class ThirdPartyApiController {
     }
 
     // Métodos de mapeo (simplificados para el ejemplo)
+    /**
+     * Convierte un elemento del lote; un campo nulo o mal formado se lanza como
+     * IllegalArgumentException para que falle solo ese elemento
+     */
+    private Product toBatchProduct(Map<String, Object> item) {
+        if (item == null) {
+            throw new IllegalArgumentException("El elemento no puede ser nulo");
+        }
+        for (String campo : CAMPOS_NUMERICOS_LOTE) {
+            if (item.containsKey(campo) && item.get(campo) == null) {
+                throw new IllegalArgumentException("El campo " + campo + " no puede ser nulo");
+            }
+        }
+        if (!item.containsKey("stock")) {
+            throw new IllegalArgumentException("El campo stock es obligatorio");
+        }
+        try {
+            Product product = productMapper.toDomain(mapToProductDto(item));
+            if (product.getStock() == null || product.getStock() < 0) {
+                throw new IllegalArgumentException("El campo stock no puede ser negativo");
+            }
+            return product;
+        } catch (ClassCastException | ArithmeticException e) {
+            throw new IllegalArgumentException("Formato de campo inválido: " + e.getMessage());
+        }
+    }
+
     private ProductDto mapToProductDto(Map<String, Object> data) {
         ProductDto dto = new ProductDto();
         if (data.containsKey("nombre")) dto.setNombre((String) data.get("nombre"));
         if (data.containsKey("descripcion")) dto.setDescripcion((String) data.get("descripcion"));
+        if (data.containsKey("marca")) dto.setMarca((String) data.get("marca"));
+        if (data.get("categoriaId") != null) dto.setCategoriaId(((Number) data.get("categoriaId")).longValue());
         if (data.containsKey("precio")) {
             BigDecimal precio = BigDecimal.valueOf(((Number) data.get("precio")).doubleValue());
             dto.setPrecioUnitario(precio);
@@ -0,0 +1,100 @@
+package com.arka.arka.infrastructure.adapter.in.web.dto;
+
+import java.util.List;
+
+public class BatchResultDto {
+    private int received;
+    private int succeeded;
+    private int failed;
+    private List<ItemResultDto> items;
+
+    public BatchResultDto() {}
+
+    public BatchResultDto(int received, int succeeded, int failed, List<ItemResultDto> items) {
+        this.received = received;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.items = items;
+    }
+
+    // Getters y Setters
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ItemResultDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ItemResultDto> items) {
+        this.items = items;
+    }
+
+    public static class ItemResultDto {
+        private int index;
+        private Long id;
+        private boolean success;
+        private String message;
+
+        public ItemResultDto() {}
+
+        public ItemResultDto(int index, Long id, boolean success, String message) {
+            this.index = index;
+            this.id = id;
+            this.success = success;
+            this.message = message;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
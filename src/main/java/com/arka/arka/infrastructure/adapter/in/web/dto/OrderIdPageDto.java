@@ -0,0 +1,42 @@
+package com.arka.arka.infrastructure.adapter.in.web.dto;
+
+import java.util.List;
+
+public class OrderIdPageDto {
+    private List<Long> pedidoIds;
+    private Long nextBefore;
+    private boolean hasNext;
+
+    public OrderIdPageDto() {}
+
+    public OrderIdPageDto(List<Long> pedidoIds, Long nextBefore) {
+        this.pedidoIds = pedidoIds;
+        this.nextBefore = nextBefore;
+        this.hasNext = nextBefore != null;
+    }
+
+    // Getters y Setters
+    public List<Long> getPedidoIds() {
+        return pedidoIds;
+    }
+
+    public void setPedidoIds(List<Long> pedidoIds) {
+        this.pedidoIds = pedidoIds;
+    }
+
+    public Long getNextBefore() {
+        return nextBefore;
+    }
+
+    public void setNextBefore(Long nextBefore) {
+        this.nextBefore = nextBefore;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,94 @@
+package com.arka.arka.infrastructure.adapter.in.web.dto;
+
+import java.util.List;
+
+public class ProductImportResultDto {
+    private int received;
+    private int imported;
+    private int failed;
+    private boolean complete;
+    private List<RowErrorDto> errors;
+
+    public ProductImportResultDto() {}
+
+    public ProductImportResultDto(int received, int imported, List<RowErrorDto> errors) {
+        this(received, imported, true, errors);
+    }
+
+    public ProductImportResultDto(int received, int imported, boolean complete, List<RowErrorDto> errors) {
+        this.received = received;
+        this.imported = imported;
+        this.failed = errors.size();
+        this.complete = complete;
+        this.errors = errors;
+    }
+
+    // Getters y Setters
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public List<RowErrorDto> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowErrorDto> errors) {
+        this.errors = errors;
+    }
+
+    public static class RowErrorDto {
+        private int row;
+        private String message;
+
+        public RowErrorDto() {}
+
+        public RowErrorDto(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public void setRow(int row) {
+            this.row = row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.arka.arka.infrastructure.adapter.in.web.dto;
+
+import java.util.List;
+
+public class ProductPageDto {
+    private List<ProductDto> productos;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+
+    public ProductPageDto() {}
+
+    public ProductPageDto(List<ProductDto> productos, String nextCursor) {
+        this.productos = productos;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = productos.size();
+    }
+
+    // Getters y Setters
+    public List<ProductDto> getProductos() {
+        return productos;
+    }
+
+    public void setProductos(List<ProductDto> productos) {
+        this.productos = productos;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,53 @@
+package com.arka.arka.infrastructure.adapter.in.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class StockReservationDto {
+    private String id;
+    private Map<Long, Integer> lineas;
+    private LocalDateTime expiraEn;
+    private String estado;
+
+    public StockReservationDto() {}
+
+    public StockReservationDto(String id, Map<Long, Integer> lineas, LocalDateTime expiraEn, String estado) {
+        this.id = id;
+        this.lineas = lineas;
+        this.expiraEn = expiraEn;
+        this.estado = estado;
+    }
+
+    // Getters y Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Map<Long, Integer> getLineas() {
+        return lineas;
+    }
+
+    public void setLineas(Map<Long, Integer> lineas) {
+        this.lineas = lineas;
+    }
+
+    public LocalDateTime getExpiraEn() {
+        return expiraEn;
+    }
+
+    public void setExpiraEn(LocalDateTime expiraEn) {
+        this.expiraEn = expiraEn;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+}
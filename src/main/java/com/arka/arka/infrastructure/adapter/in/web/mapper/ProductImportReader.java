@@ -0,0 +1,288 @@
+package com.arka.arka.infrastructure.adapter.in.web.mapper;
+
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.infrastructure.adapter.in.web.dto.ProductDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an uploaded product file one row at a time
+ * Supports a JSON array, newline-delimited JSON and CSV with a header row.
+ * A row that cannot be converted makes {@link #next()} throw IllegalArgumentException
+ * and the reader moves on to the following row; I/O failures surface as UncheckedIOException.
+ */
+public abstract class ProductImportReader implements Iterator<Product> {
+
+    private final ProductWebMapper mapper;
+    private Object pending;
+    private boolean finished;
+
+    protected ProductImportReader(ProductWebMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public static ProductImportReader jsonArray(InputStream input, ObjectMapper objectMapper, ProductWebMapper mapper) {
+        return new JsonArrayReader(input, objectMapper, mapper);
+    }
+
+    public static ProductImportReader ndjson(InputStream input, Charset charset, ObjectMapper objectMapper,
+                                             ProductWebMapper mapper) {
+        return new NdjsonReader(input, charset, objectMapper, mapper);
+    }
+
+    public static ProductImportReader csv(InputStream input, Charset charset, ProductWebMapper mapper) {
+        return new CsvReader(input, charset, mapper);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending == null && !finished) {
+            try {
+                pending = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            finished = pending == null;
+        }
+        return pending != null;
+    }
+
+    @Override
+    public Product next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object record = pending;
+        pending = null;
+        return mapper.toDomain(toDto(record));
+    }
+
+    /**
+     * Reads the next raw record, or returns null at the end of the input
+     */
+    protected abstract Object readRecord() throws IOException;
+
+    /**
+     * Converts a raw record, throwing IllegalArgumentException when it is not a valid product
+     */
+    protected abstract ProductDto toDto(Object record);
+
+    private static final class JsonArrayReader extends ProductImportReader {
+        private final InputStream input;
+        private final ObjectMapper objectMapper;
+        private JsonParser parser;
+        private boolean broken;
+
+        private JsonArrayReader(InputStream input, ObjectMapper objectMapper, ProductWebMapper mapper) {
+            super(mapper);
+            this.input = input;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected Object readRecord() throws IOException {
+            if (broken) {
+                return null;
+            }
+            try {
+                if (parser == null) {
+                    parser = objectMapper.getFactory().createParser(input);
+                    if (parser.nextToken() != JsonToken.START_ARRAY) {
+                        throw new IllegalArgumentException("Expected a JSON array of products");
+                    }
+                }
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                return parser.readValueAsTree();
+            } catch (JsonProcessingException e) {
+                // Malformed JSON cannot be resynchronised, so the row is reported and the upload ends here
+                broken = true;
+                return new MalformedRecord("Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        protected ProductDto toDto(Object record) {
+            if (record instanceof MalformedRecord malformed) {
+                throw new IllegalArgumentException(malformed.message);
+            }
+            try {
+                return objectMapper.treeToValue((JsonNode) record, ProductDto.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid product: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static final class NdjsonReader extends ProductImportReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+
+        private NdjsonReader(InputStream input, Charset charset, ObjectMapper objectMapper, ProductWebMapper mapper) {
+            super(mapper);
+            this.reader = new BufferedReader(new InputStreamReader(input, charset));
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected Object readRecord() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            return line;
+        }
+
+        @Override
+        protected ProductDto toDto(Object record) {
+            try {
+                return objectMapper.readValue((String) record, ProductDto.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 style CSV: quoted fields may contain separators, doubled quotes and line breaks
+     */
+    private static final class CsvReader extends ProductImportReader {
+        private final Reader reader;
+        private Map<String, Integer> columns;
+
+        private CsvReader(InputStream input, Charset charset, ProductWebMapper mapper) {
+            super(mapper);
+            this.reader = new BufferedReader(new InputStreamReader(input, charset));
+        }
+
+        @Override
+        protected Object readRecord() throws IOException {
+            if (columns == null) {
+                List<String> header = readFields();
+                if (header == null) {
+                    return null;
+                }
+                columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+                if (!columns.containsKey("nombre")) {
+                    throw new IllegalArgumentException("CSV header must include a nombre column");
+                }
+            }
+            return readFields();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected ProductDto toDto(Object record) {
+            List<String> fields = (List<String>) record;
+            ProductDto dto = new ProductDto();
+            dto.setNombre(field(fields, "nombre"));
+            dto.setDescripcion(field(fields, "descripcion"));
+            dto.setMarca(field(fields, "marca"));
+            try {
+                String categoriaId = field(fields, "categoriaid");
+                dto.setCategoriaId(categoriaId != null ? Long.valueOf(categoriaId) : null);
+                String precio = field(fields, "preciounitario");
+                dto.setPrecioUnitario(precio != null ? new BigDecimal(precio) : null);
+                String stock = field(fields, "stock");
+                dto.setStock(stock != null ? Integer.valueOf(stock) : null);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in CSV row");
+            }
+            return dto;
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * Reads one record, skipping blank lines; returns null at the end of the input
+         */
+        private List<String> readFields() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                char ch = (char) c;
+                if (quoted) {
+                    if (ch == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(ch);
+                    }
+                } else if (ch == '"') {
+                    quoted = true;
+                    any = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    any = true;
+                } else if (ch == '\n' || ch == '\r') {
+                    if (ch == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    if (any || field.length() > 0) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                } else {
+                    field.append(ch);
+                    any = true;
+                }
+            }
+            if (any || field.length() > 0) {
+                fields.add(field.toString());
+                return fields;
+            }
+            return null;
+        }
+    }
+
+    private static final class MalformedRecord {
+        private final String message;
+
+        private MalformedRecord(String message) {
+            this.message = message;
+        }
+    }
+}
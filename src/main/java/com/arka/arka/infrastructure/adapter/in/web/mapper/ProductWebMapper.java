@@ -1,10 +1,17 @@
 package com.arka.arka.infrastructure.adapter.in.web.mapper;
 
+import com.arka.arka.domain.model.BatchResult;
 import com.arka.arka.domain.model.Product;
 import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.ProductImportResult;
+import com.arka.arka.infrastructure.adapter.in.web.dto.BatchResultDto;
 import com.arka.arka.infrastructure.adapter.in.web.dto.ProductDto;
+import com.arka.arka.infrastructure.adapter.in.web.dto.ProductImportResultDto;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Component
 public class ProductWebMapper {
 
@@ -47,4 +54,19 @@ public class ProductWebMapper {
         
         return product;
     }
+
+    public ProductImportResultDto toDto(ProductImportResult result) {
+        List<ProductImportResultDto.RowErrorDto> errors = result.getErrors().stream()
+                .map(error -> new ProductImportResultDto.RowErrorDto(error.getRow(), error.getMessage()))
+                .collect(Collectors.toList());
+        return new ProductImportResultDto(result.getReceived(), result.getImported(), result.isComplete(), errors);
+    }
+
+    public BatchResultDto toDto(BatchResult result) {
+        List<BatchResultDto.ItemResultDto> items = result.getItems().stream()
+                .map(item -> new BatchResultDto.ItemResultDto(item.getIndex(), item.getId(), item.isSuccess(),
+                        item.getMessage()))
+                .collect(Collectors.toList());
+        return new BatchResultDto(result.getReceived(), result.getSucceeded(), result.getFailed(), items);
+    }
 }
@@ -0,0 +1,23 @@
+package com.arka.arka.infrastructure.adapter.out.event;
+
+import com.arka.arka.domain.port.out.DomainEventPublisher;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes domain events through the Spring application event bus
+ */
+@Component
+public class SpringDomainEventPublisher implements DomainEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SpringDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(Object event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,131 @@
+package com.arka.arka.infrastructure.adapter.out.mongodb;
+
+import com.arka.arka.domain.model.OutboxMessage;
+import com.arka.arka.domain.port.out.NotificationOutboxPort;
+import com.arka.arka.infrastructure.adapter.out.mongodb.document.OutboxMessageDocument;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MongoDB adapter for the notification outbox
+ * Messages are created with an upsert that only sets fields on insert, so the unique _id
+ * de-duplicates concurrent producers. Each claim is a single findAndModify on the
+ * (estado, disponibleEn) index, which makes it atomic between workers; a claimed message
+ * becomes due again when its lease expires.
+ */
+@Component
+@ConditionalOnProperty(name = "arka.notifications.outbox.enabled", havingValue = "true")
+public class MongoNotificationOutboxAdapter implements NotificationOutboxPort {
+
+    private static final Sort OLDEST_FIRST = Sort.by("disponibleEn", "_id");
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoNotificationOutboxAdapter(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean enqueue(OutboxMessage message) {
+        Update insert = new Update()
+                .setOnInsert("plantilla", message.getPlantilla())
+                .setOnInsert("cartId", message.getCartId())
+                .setOnInsert("email", message.getEmail())
+                .setOnInsert("nombre", message.getNombre())
+                .setOnInsert("estado", OutboxMessage.PENDING)
+                .setOnInsert("intentos", 0)
+                .setOnInsert("creadoEn", message.getCreadoEn())
+                .setOnInsert("disponibleEn", message.getDisponibleEn());
+        try {
+            return mongoTemplate.upsert(byKey(message.getClave()), insert, OutboxMessageDocument.class)
+                    .getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Set<Long> findCartIds(String plantilla, Collection<Long> cartIds) {
+        Query existing = Query.query(Criteria.where("plantilla").is(plantilla).and("cartId").in(cartIds));
+        return new HashSet<>(mongoTemplate.findDistinct(existing, "cartId", OutboxMessageDocument.class, Long.class));
+    }
+
+    @Override
+    public List<OutboxMessage> claim(String workerId, int limit, Instant now, Instant leaseUntil) {
+        // While claimed, disponibleEn holds the end of the lease
+        Query due = Query.query(Criteria.where("estado").in(OutboxMessage.PENDING, OutboxMessage.IN_PROGRESS)
+                        .and("disponibleEn").lte(now))
+                .with(OLDEST_FIRST);
+        Update lease = new Update()
+                .set("estado", OutboxMessage.IN_PROGRESS)
+                .set("worker", workerId)
+                .set("disponibleEn", leaseUntil)
+                .inc("intentos", 1);
+        List<OutboxMessage> claimed = new ArrayList<>(limit);
+        while (claimed.size() < limit) {
+            OutboxMessageDocument document = mongoTemplate.findAndModify(due, lease,
+                    FindAndModifyOptions.options().returnNew(true), OutboxMessageDocument.class);
+            if (document == null) {
+                break;
+            }
+            claimed.add(document.toDomain());
+        }
+        return claimed;
+    }
+
+    @Override
+    public boolean markSent(String clave, String workerId, Instant sentAt) {
+        Update sent = new Update()
+                .set("estado", OutboxMessage.SENT)
+                .set("enviadoEn", sentAt)
+                .unset("disponibleEn")
+                .unset("ultimoError");
+        return complete(clave, workerId, sent);
+    }
+
+    @Override
+    public boolean release(String clave, String workerId, Instant retryAt, String error) {
+        Update pending = new Update()
+                .set("estado", OutboxMessage.PENDING)
+                .set("disponibleEn", retryAt)
+                .set("ultimoError", error);
+        return complete(clave, workerId, pending);
+    }
+
+    @Override
+    public boolean markFailed(String clave, String workerId, String error) {
+        Update failed = new Update()
+                .set("estado", OutboxMessage.FAILED)
+                .unset("disponibleEn")
+                .set("ultimoError", error);
+        return complete(clave, workerId, failed);
+    }
+
+    /**
+     * Applies the update only while the worker still holds the lease on the message
+     */
+    private boolean complete(String clave, String workerId, Update update) {
+        Query leased = Query.query(Criteria.where("_id").is(clave)
+                .and("estado").is(OutboxMessage.IN_PROGRESS)
+                .and("worker").is(workerId));
+        return mongoTemplate.updateFirst(leased, update, OutboxMessageDocument.class).getModifiedCount() > 0;
+    }
+
+    private static Query byKey(String clave) {
+        return Query.query(Criteria.where("_id").is(clave));
+    }
+}
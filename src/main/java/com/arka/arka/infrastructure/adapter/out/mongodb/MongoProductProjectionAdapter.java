@@ -0,0 +1,166 @@
+package com.arka.arka.infrastructure.adapter.out.mongodb;
+
+import com.arka.arka.domain.model.ProductView;
+import com.arka.arka.domain.port.out.ProductProjectionPort;
+import com.arka.arka.domain.port.out.ProductProjectionQueryPort;
+import com.arka.arka.infrastructure.adapter.out.mongodb.document.ProductViewDocument;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * MongoDB adapter for the product projection
+ * Writes come from the synchronous projection updater and use the blocking template, one bulk
+ * operation per batch; reads use the reactive template so the catalog API never holds a thread
+ * while waiting for MongoDB. Each write is an upsert filtered on an older sync time: when the
+ * stored document is newer the filter misses, the upsert hits the _id and the duplicate key
+ * error is the expected outcome.
+ */
+@Component
+@ConditionalOnProperty(name = "arka.catalog.projection.enabled", havingValue = "true")
+public class MongoProductProjectionAdapter implements ProductProjectionPort, ProductProjectionQueryPort {
+
+    private static final Sort BY_NAME = Sort.by("nombre", "_id");
+    private static final Sort BY_PRICE = Sort.by("precioUnitario", "_id");
+    private static final String STATE_COLLECTION = "product_projection_state";
+    private static final String REBUILD_STATE = "rebuild";
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public MongoProductProjectionAdapter(MongoTemplate mongoTemplate, ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public void saveAll(Collection<ProductView> views, Instant syncedAt) {
+        if (views.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductViewDocument.class);
+        for (ProductView view : views) {
+            bulk.replaceOne(notNewerThan(view.getId(), syncedAt), ProductViewDocument.of(view, syncedAt),
+                    FindAndReplaceOptions.options().upsert());
+        }
+        execute(bulk);
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> productIds, Instant deletedAt) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductViewDocument.class);
+        for (Long id : productIds) {
+            bulk.replaceOne(notNewerThan(id, deletedAt), ProductViewDocument.deleted(id, deletedAt),
+                    FindAndReplaceOptions.options().upsert());
+        }
+        execute(bulk);
+    }
+
+    @Override
+    public long purgeDeletedBefore(Instant deletedAt) {
+        return mongoTemplate.remove(Query.query(Criteria.where("eliminado").is(true)
+                        .and("sincronizadoEn").lt(deletedAt)),
+                ProductViewDocument.class).getDeletedCount();
+    }
+
+    @Override
+    public void renameCategory(Long categoryId, String categoryName) {
+        mongoTemplate.updateMulti(Query.query(Criteria.where("categoriaId").is(categoryId)),
+                Update.update("categoriaNombre", categoryName), ProductViewDocument.class);
+    }
+
+    @Override
+    public long deleteSyncedBefore(Instant syncedAt) {
+        return mongoTemplate.remove(Query.query(Criteria.where("sincronizadoEn").lt(syncedAt)),
+                ProductViewDocument.class).getDeletedCount();
+    }
+
+    @Override
+    public Optional<Instant> lastRebuildStart() {
+        Document state = mongoTemplate.findById(REBUILD_STATE, Document.class, STATE_COLLECTION);
+        return state == null || state.getDate("inicio") == null
+                ? Optional.empty()
+                : Optional.of(state.getDate("inicio").toInstant());
+    }
+
+    @Override
+    public void recordRebuild(Instant start) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(REBUILD_STATE)),
+                new Update().max("inicio", Date.from(start)), STATE_COLLECTION);
+    }
+
+    @Override
+    public Mono<ProductView> findById(Long id) {
+        return reactiveMongoTemplate.findOne(Query.query(visible().and("_id").is(id)), ProductViewDocument.class)
+                .map(ProductViewDocument::toDomain);
+    }
+
+    @Override
+    public Flux<ProductView> findByCategory(String categoryName) {
+        Query query = Query.query(visible().and("categoriaNombre").is(categoryName)).with(BY_NAME);
+        return find(query);
+    }
+
+    @Override
+    public Flux<ProductView> findByPriceRange(BigDecimal min, BigDecimal max) {
+        Query query = Query.query(visible().and("precioUnitario").gte(min).lte(max)).with(BY_PRICE);
+        return find(query);
+    }
+
+    @Override
+    public Flux<ProductView> searchByName(String term, int limit) {
+        Pattern contains = Pattern.compile(Pattern.quote(term), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        Query query = Query.query(visible().and("nombre").regex(contains)).with(BY_NAME).limit(limit);
+        return find(query);
+    }
+
+    private Flux<ProductView> find(Query query) {
+        return reactiveMongoTemplate.find(query, ProductViewDocument.class).map(ProductViewDocument::toDomain);
+    }
+
+    /**
+     * Runs the bulk write, ignoring the duplicate keys of writes that lost to a newer document
+     */
+    private static void execute(BulkOperations bulk) {
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            boolean onlyStale = e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY);
+            if (!onlyStale) {
+                throw e;
+            }
+        }
+    }
+
+    private static Query notNewerThan(Long id, Instant syncedAt) {
+        return Query.query(Criteria.where("_id").is(id).orOperator(
+                Criteria.where("sincronizadoEn").lte(syncedAt),
+                Criteria.where("sincronizadoEn").exists(false)));
+    }
+
+    private static Criteria visible() {
+        return Criteria.where("eliminado").ne(true);
+    }
+}
@@ -0,0 +1,67 @@
+package com.arka.arka.infrastructure.adapter.out.mongodb.document;
+
+import com.arka.arka.domain.model.OutboxMessage;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document of the notification outbox, keyed by template and cart
+ * The (estado, disponibleEn) index lets workers find due messages without scanning sent ones.
+ */
+@Document(collection = "notification_outbox")
+@CompoundIndex(name = "estado_disponible", def = "{'estado': 1, 'disponibleEn': 1}")
+public class OutboxMessageDocument {
+
+    @Id
+    private String clave;
+    private String plantilla;
+    private Long cartId;
+    private String email;
+    private String nombre;
+    private String estado;
+    private int intentos;
+    private Instant creadoEn;
+    private Instant disponibleEn;
+    private String worker;
+    private Instant enviadoEn;
+    private String ultimoError;
+
+    public OutboxMessageDocument() {}
+
+    public OutboxMessage toDomain() {
+        OutboxMessage message = new OutboxMessage();
+        message.setClave(clave);
+        message.setPlantilla(plantilla);
+        message.setCartId(cartId);
+        message.setEmail(email);
+        message.setNombre(nombre);
+        message.setEstado(estado);
+        message.setIntentos(intentos);
+        message.setCreadoEn(creadoEn);
+        message.setDisponibleEn(disponibleEn);
+        return message;
+    }
+
+    public String getClave() {
+        return clave;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public String getWorker() {
+        return worker;
+    }
+
+    public Instant getEnviadoEn() {
+        return enviadoEn;
+    }
+
+    public String getUltimoError() {
+        return ultimoError;
+    }
+}
@@ -0,0 +1,162 @@
+package com.arka.arka.infrastructure.adapter.out.mongodb.document;
+
+import com.arka.arka.domain.model.ProductView;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * MongoDB document of the product projection, one per product, keyed by the product id
+ * The price is stored as Decimal128 so range queries compare numbers, not strings.
+ * A deleted product leaves a marker ({@code eliminado}) with only the id and the sync time.
+ */
+@Document(collection = "product_views")
+@CompoundIndexes({
+    @CompoundIndex(name = "categoria_nombre", def = "{'categoriaNombre': 1, 'nombre': 1}"),
+    @CompoundIndex(name = "precio", def = "{'precioUnitario': 1, '_id': 1}")
+})
+public class ProductViewDocument {
+
+    @Id
+    private Long id;
+    @Indexed
+    private String nombre;
+    private String descripcion;
+    private String marca;
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal precioUnitario;
+    private Integer stock;
+    @Indexed
+    private Long categoriaId;
+    private String categoriaNombre;
+    private boolean disponible;
+    @Indexed
+    private Instant sincronizadoEn;
+    private boolean eliminado;
+
+    public ProductViewDocument() {}
+
+    public static ProductViewDocument of(ProductView view, Instant sincronizadoEn) {
+        ProductViewDocument document = new ProductViewDocument();
+        document.id = view.getId();
+        document.nombre = view.getNombre();
+        document.descripcion = view.getDescripcion();
+        document.marca = view.getMarca();
+        document.precioUnitario = view.getPrecioUnitario();
+        document.stock = view.getStock();
+        document.categoriaId = view.getCategoriaId();
+        document.categoriaNombre = view.getCategoriaNombre();
+        document.disponible = view.isDisponible();
+        document.sincronizadoEn = sincronizadoEn;
+        return document;
+    }
+
+    public static ProductViewDocument deleted(Long id, Instant sincronizadoEn) {
+        ProductViewDocument document = new ProductViewDocument();
+        document.id = id;
+        document.sincronizadoEn = sincronizadoEn;
+        document.eliminado = true;
+        return document;
+    }
+
+    public ProductView toDomain() {
+        return new ProductView(id, nombre, descripcion, marca, precioUnitario, stock, categoriaId,
+                categoriaNombre, disponible);
+    }
+
+    // Getters y Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+
+    public String getMarca() {
+        return marca;
+    }
+
+    public void setMarca(String marca) {
+        this.marca = marca;
+    }
+
+    public BigDecimal getPrecioUnitario() {
+        return precioUnitario;
+    }
+
+    public void setPrecioUnitario(BigDecimal precioUnitario) {
+        this.precioUnitario = precioUnitario;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
+    public Long getCategoriaId() {
+        return categoriaId;
+    }
+
+    public void setCategoriaId(Long categoriaId) {
+        this.categoriaId = categoriaId;
+    }
+
+    public String getCategoriaNombre() {
+        return categoriaNombre;
+    }
+
+    public void setCategoriaNombre(String categoriaNombre) {
+        this.categoriaNombre = categoriaNombre;
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+
+    public void setDisponible(boolean disponible) {
+        this.disponible = disponible;
+    }
+
+    public Instant getSincronizadoEn() {
+        return sincronizadoEn;
+    }
+
+    public void setSincronizadoEn(Instant sincronizadoEn) {
+        this.sincronizadoEn = sincronizadoEn;
+    }
+
+    public boolean isEliminado() {
+        return eliminado;
+    }
+
+    public void setEliminado(boolean eliminado) {
+        this.eliminado = eliminado;
+    }
+}
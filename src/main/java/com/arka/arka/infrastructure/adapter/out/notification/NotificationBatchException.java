@@ -0,0 +1,31 @@
+package com.arka.arka.infrastructure.adapter.out.notification;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A batch send where only some reminders failed; the others were delivered
+ * Lets the dispatcher complete each reminder with its own outcome, so only the failed
+ * ones are retried.
+ */
+public class NotificationBatchException extends RuntimeException {
+
+    private final Map<ReminderNotification, RuntimeException> failures;
+
+    public NotificationBatchException(String message, Map<ReminderNotification, RuntimeException> failures) {
+        super(message);
+        this.failures = Collections.unmodifiableMap(new IdentityHashMap<>(failures));
+    }
+
+    /**
+     * Error of the reminder, or null when it was delivered
+     */
+    public RuntimeException getFailure(ReminderNotification reminder) {
+        return failures.get(reminder);
+    }
+
+    public int getFailedCount() {
+        return failures.size();
+    }
+}
@@ -0,0 +1,243 @@
+package com.arka.arka.infrastructure.adapter.out.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous, rate-limited delivery of abandoned cart reminders
+ * Producers only enqueue into a bounded queue and never wait for the provider; when the
+ * queue is full the reminder is rejected and counted. Worker threads drain the queue in
+ * batches of up to the transport's batch size and take one token per message from the
+ * provider's bucket before sending, so the provider sees a steady rate however many
+ * workers run. When a transport reports a partially delivered batch, each reminder is
+ * completed with its own outcome.
+ */
+public class NotificationDispatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final long POLL_MILLIS = 500;
+
+    private final NotificationTransport transport;
+    private final TokenBucket rateLimiter;
+    private final BlockingQueue<ReminderNotification> queue;
+    private final int workers;
+    private final int batchSize;
+    private final boolean virtualThreads;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+    private volatile long startedAtNanos;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    /**
+     * @param transport     Provider the reminders are sent through
+     * @param rateLimiter   Bucket of the provider, shared by all workers
+     * @param queueCapacity Reminders waiting at most before new ones are rejected
+     * @param workers       Threads sending in parallel
+     * @param batchSize     Reminders per send, capped by the transport and the bucket capacity
+     */
+    public NotificationDispatcher(NotificationTransport transport, TokenBucket rateLimiter,
+                                  int queueCapacity, int workers, int batchSize) {
+        this(transport, rateLimiter, queueCapacity, workers, batchSize, false);
+    }
+
+    /**
+     * @param transport      Provider the reminders are sent through
+     * @param rateLimiter    Bucket of the provider, shared by all workers
+     * @param queueCapacity  Reminders waiting at most before new ones are rejected
+     * @param workers        Threads sending in parallel
+     * @param batchSize      Reminders per send, capped by the transport and the bucket capacity
+     * @param virtualThreads Whether the workers are virtual threads (spring.threads.virtual.enabled)
+     */
+    public NotificationDispatcher(NotificationTransport transport, TokenBucket rateLimiter,
+                                  int queueCapacity, int workers, int batchSize, boolean virtualThreads) {
+        if (queueCapacity <= 0 || workers <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Queue capacity, workers and batch size must be positive");
+        }
+        this.transport = transport;
+        this.rateLimiter = rateLimiter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.batchSize = Math.min(batchSize, Math.min(transport.getMaxBatchSize(), rateLimiter.getCapacity()));
+        this.virtualThreads = virtualThreads;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startedAtNanos = System.nanoTime();
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+        builder.name("notification-" + transport.getProvider() + "-", 0);
+        for (int i = 0; i < workers; i++) {
+            threads.add(builder.start(this::work));
+        }
+        logger.info("📧 Notification dispatcher started: provider={}, workers={}, batch={}, virtual threads={}",
+                transport.getProvider(), workers, batchSize, virtualThreads);
+    }
+
+    /**
+     * Stops the workers after their current batch; reminders still queued are dropped
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+        if (!queue.isEmpty()) {
+            logger.warn("⚠️ Notification dispatcher stopped with {} reminders queued", queue.size());
+        }
+    }
+
+    /**
+     * Queues the reminder without blocking
+     * @return false when the queue is full and the reminder was dropped
+     */
+    public boolean submit(String email, String nombre, Long cartId) {
+        return submit(email, nombre, cartId, null);
+    }
+
+    /**
+     * Queues the reminder without blocking
+     * @param onComplete Called from a worker after the send, with null or the error; not called
+     *                   for rejected reminders or for reminders still queued when the dispatcher stops
+     * @return false when the queue is full and the reminder was dropped
+     */
+    public boolean submit(String email, String nombre, Long cartId, Consumer<RuntimeException> onComplete) {
+        if (queue.offer(new ReminderNotification(email, nombre, cartId, System.nanoTime(), onComplete))) {
+            submitted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    private void work() {
+        List<ReminderNotification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ReminderNotification first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                rateLimiter.acquire(batch.size());
+                send(batch);
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) {
+                    failed.add(batch.size());
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<ReminderNotification> batch) {
+        long lag = System.nanoTime() - batch.get(0).getEnqueuedAtNanos();
+        lastLagNanos.set(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        RuntimeException error = null;
+        NotificationBatchException partial = null;
+        try {
+            transport.send(batch);
+            sent.add(batch.size());
+            batches.increment();
+        } catch (NotificationBatchException e) {
+            partial = e;
+            sent.add(batch.size() - e.getFailedCount());
+            failed.add(e.getFailedCount());
+            batches.increment();
+            logger.error("❌ {} of {} reminders failed through {}: {}",
+                    e.getFailedCount(), batch.size(), transport.getProvider(), e.getMessage());
+        } catch (RuntimeException e) {
+            error = e;
+            failed.add(batch.size());
+            logger.error("❌ Error sending {} reminders through {}: {}",
+                    batch.size(), transport.getProvider(), e.getMessage(), e);
+        }
+        for (ReminderNotification reminder : batch) {
+            try {
+                reminder.complete(partial != null ? partial.getFailure(reminder) : error);
+            } catch (RuntimeException e) {
+                logger.error("❌ Error completing reminder for cart {}: {}", reminder.getCartId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Time the oldest reminder of the last batch spent queued
+     */
+    public long getLastLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastLagNanos.get());
+    }
+
+    public long getMaxLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get());
+    }
+
+    /**
+     * Reminders sent per second since the dispatcher started
+     */
+    public double getThroughputPerSecond() {
+        long elapsed = System.nanoTime() - startedAtNanos;
+        return startedAtNanos == 0 || elapsed <= 0 ? 0 : getSent() * 1e9 / elapsed;
+    }
+}
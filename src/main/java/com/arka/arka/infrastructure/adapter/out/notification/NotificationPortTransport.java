@@ -0,0 +1,34 @@
+package com.arka.arka.infrastructure.adapter.out.notification;
+
+import com.arka.arka.domain.port.out.NotificationPort;
+
+import java.util.List;
+
+/**
+ * Sends reminders one by one through the configured {@link NotificationPort}
+ */
+public class NotificationPortTransport implements NotificationTransport {
+
+    private final NotificationPort notificationPort;
+
+    public NotificationPortTransport(NotificationPort notificationPort) {
+        this.notificationPort = notificationPort;
+    }
+
+    @Override
+    public String getProvider() {
+        return "notification-port";
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return 1;
+    }
+
+    @Override
+    public void send(List<ReminderNotification> batch) {
+        for (ReminderNotification reminder : batch) {
+            notificationPort.sendAbandonedCartReminder(reminder.getEmail(), reminder.getNombre(), reminder.getCartId());
+        }
+    }
+}
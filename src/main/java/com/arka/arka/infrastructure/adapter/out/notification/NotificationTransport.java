@@ -0,0 +1,21 @@
+package com.arka.arka.infrastructure.adapter.out.notification;
+
+import java.util.List;
+
+/**
+ * Delivers batches of reminders through one provider
+ */
+public interface NotificationTransport {
+
+    /**
+     * Name of the provider, used in logs and to pick its rate limit
+     */
+    String getProvider();
+
+    /**
+     * Largest batch the transport can send at once; 1 when it only sends one message per call
+     */
+    int getMaxBatchSize();
+
+    void send(List<ReminderNotification> batch);
+}
@@ -0,0 +1,53 @@
+package com.arka.arka.infrastructure.adapter.out.notification;
+
+import java.util.function.Consumer;
+
+/**
+ * Abandoned cart reminder waiting in the notification queue
+ */
+public class ReminderNotification {
+
+    private final String email;
+    private final String nombre;
+    private final Long cartId;
+    private final long enqueuedAtNanos;
+    private final Consumer<RuntimeException> onComplete;
+
+    public ReminderNotification(String email, String nombre, Long cartId, long enqueuedAtNanos) {
+        this(email, nombre, cartId, enqueuedAtNanos, null);
+    }
+
+    /**
+     * @param onComplete Optional; called after the send with null, or with the error when it failed
+     */
+    public ReminderNotification(String email, String nombre, Long cartId, long enqueuedAtNanos,
+                                Consumer<RuntimeException> onComplete) {
+        this.email = email;
+        this.nombre = nombre;
+        this.cartId = cartId;
+        this.enqueuedAtNanos = enqueuedAtNanos;
+        this.onComplete = onComplete;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public Long getCartId() {
+        return cartId;
+    }
+
+    public long getEnqueuedAtNanos() {
+        return enqueuedAtNanos;
+    }
+
+    void complete(RuntimeException error) {
+        if (onComplete != null) {
+            onComplete.accept(error);
+        }
+    }
+}
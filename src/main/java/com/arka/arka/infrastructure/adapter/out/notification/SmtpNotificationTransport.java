@@ -0,0 +1,126 @@
+package com.arka.arka.infrastructure.adapter.out.notification;
+
+import com.arka.arka.domain.port.in.ManageTemplatesUseCase;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends reminder batches over SMTP
+ * {@link JavaMailSender#send(MimeMessage...)} delivers the whole array over a single
+ * connection, so a batch pays for one connect and authentication instead of one per email.
+ * The body is the abandoned cart template served by the template service, with
+ * {@code {{nombre}}} and {@code {{carritoId}}} replaced. When the server rejects only some
+ * recipients, only those reminders fail; nothing is sent while arka.mail.enabled=false.
+ */
+public class SmtpNotificationTransport implements NotificationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtpNotificationTransport.class);
+
+    private final JavaMailSender mailSender;
+    private final ManageTemplatesUseCase templates;
+    private final String templateName;
+    private final String subject;
+    private final String from;
+    private final boolean enabled;
+    private final int maxBatchSize;
+
+    /**
+     * @param templates    Template service the reminder body is read from
+     * @param templateName Name of the abandoned cart template
+     * @param enabled      arka.mail.enabled; when false batches are skipped without sending
+     */
+    public SmtpNotificationTransport(JavaMailSender mailSender, ManageTemplatesUseCase templates,
+                                     String templateName, String subject, String from,
+                                     boolean enabled, int maxBatchSize) {
+        this.mailSender = mailSender;
+        this.templates = templates;
+        this.templateName = templateName;
+        this.subject = subject;
+        this.from = from;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public String getProvider() {
+        return "smtp";
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public void send(List<ReminderNotification> batch) {
+        if (!enabled) {
+            logger.info("📧 Email disabled (arka.mail.enabled=false): {} reminders not sent", batch.size());
+            return;
+        }
+        String template = templates.getTemplate(templateName)
+                .orElseThrow(() -> new IllegalStateException("Email template not found: " + templateName));
+
+        Map<ReminderNotification, RuntimeException> failures = new IdentityHashMap<>();
+        Map<Object, ReminderNotification> reminderByMessage = new IdentityHashMap<>();
+        for (ReminderNotification reminder : batch) {
+            try {
+                reminderByMessage.put(toMessage(reminder, template), reminder);
+            } catch (MailPreparationException e) {
+                failures.put(reminder, e);
+            }
+        }
+        try {
+            if (!reminderByMessage.isEmpty()) {
+                mailSender.send(reminderByMessage.keySet().toArray(MimeMessage[]::new));
+            }
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                // Failed before any message went out (connection or authentication)
+                throw e;
+            }
+            failedMessages.forEach((message, error) -> {
+                ReminderNotification reminder = reminderByMessage.get(message);
+                if (reminder != null) {
+                    failures.put(reminder, new MailSendException(error.getMessage(), error));
+                }
+            });
+        }
+        if (!failures.isEmpty()) {
+            throw new NotificationBatchException(failures.size() + " reminders were not delivered", failures);
+        }
+    }
+
+    private MimeMessage toMessage(ReminderNotification reminder, String template) {
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+            helper.setFrom(from);
+            helper.setTo(reminder.getEmail());
+            helper.setSubject(subject);
+            helper.setText(render(template, reminder), true);
+        } catch (MessagingException e) {
+            throw new MailPreparationException("Invalid reminder for cart " + reminder.getCartId(), e);
+        }
+        return message;
+    }
+
+    static String render(String template, ReminderNotification reminder) {
+        String nombre = reminder.getNombre() != null ? reminder.getNombre() : "";
+        return template
+                .replace("{{nombre}}", HtmlUtils.htmlEscape(nombre))
+                .replace("{{carritoId}}", String.valueOf(reminder.getCartId()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.arka.arka.infrastructure.adapter.out.notification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter
+ * Refills at a fixed rate up to its capacity. Callers that take more tokens than are
+ * available go into debt and wait until the bucket has refilled it, so waiting callers
+ * are served in arrival order without busy looping.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param permitsPerSecond Sustained rate
+     * @param capacity         Largest burst, and the most tokens one call may take
+     */
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int capacity, LongSupplier nanoTime) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    public int getCapacity() {
+        return (int) capacity;
+    }
+
+    /**
+     * Takes the permits, waiting until the bucket can pay for them
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes the permits only when they are available now
+     */
+    public synchronized boolean tryAcquire(int permits) {
+        refill();
+        if (tokens < permits) {
+            return false;
+        }
+        tokens -= permits;
+        return true;
+    }
+
+    /**
+     * Takes the permits and returns how long the caller must wait before using them
+     */
+    synchronized long reserve(int permits) {
+        if (permits > capacity) {
+            throw new IllegalArgumentException("Cannot take " + permits + " permits from a bucket of " + (int) capacity);
+        }
+        refill();
+        tokens -= permits;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,40 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.port.out.SalesAnalyticsPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the hourly analytics rollup from the existing carts and orders the first time it runs
+ * Later writes update the rollup incrementally through {@code AnalyticsRollupListener}
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AnalyticsRollupBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsRollupBackfill.class);
+
+    private final SalesAnalyticsPort salesAnalyticsPort;
+
+    public AnalyticsRollupBackfill(SalesAnalyticsPort salesAnalyticsPort) {
+        this.salesAnalyticsPort = salesAnalyticsPort;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (!salesAnalyticsPort.isRollupEmpty()) {
+                return;
+            }
+            int buckets = salesAnalyticsPort.rebuildRollup(null);
+            logger.info("📊 Built analytics rollup with {} hourly buckets", buckets);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not backfill the analytics rollup: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates the secondary indexes that back the JDBC adapters
+ * Hibernate's ddl-auto=update creates tables and columns but not these
+ * composite indexes, so they are added at startup when missing
+ */
+@Component
+public class CatalogIndexInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogIndexInitializer.class);
+
+    /**
+     * Index name -> DDL, grouped by table
+     */
+    private static final Map<String, Map<String, String>> INDEXES = Map.of(
+            "productos", Map.of(
+                    "idx_productos_nombre_id", "CREATE INDEX idx_productos_nombre_id ON productos (nombre, id)",
+                    "idx_productos_precio_id", "CREATE INDEX idx_productos_precio_id ON productos (precio_unitario, id)"
+            ),
+            "stock_reservas", Map.of(
+                    "idx_stock_reservas_estado_expira", "CREATE INDEX idx_stock_reservas_estado_expira ON stock_reservas (estado, expira_en)"
+            ),
+            "producto_pedidos", Map.of(
+                    "idx_producto_pedidos_pedido", "CREATE INDEX idx_producto_pedidos_pedido ON producto_pedidos (pedido_id)"
+            ),
+            "carritos", Map.of(
+                    "idx_carritos_estado", "CREATE INDEX idx_carritos_estado ON carritos (estado)",
+                    "idx_carritos_fecha_creacion", "CREATE INDEX idx_carritos_fecha_creacion ON carritos (fecha_creacion)",
+                    "idx_carritos_estado_actividad", "CREATE INDEX idx_carritos_estado_actividad ON carritos (estado, fecha_ultima_actividad)"
+            ),
+            "pedidos", Map.of(
+                    "idx_pedidos_fecha", "CREATE INDEX idx_pedidos_fecha ON pedidos (fecha)"
+            )
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        INDEXES.forEach((table, indexes) -> {
+            try {
+                Set<String> existing = existingIndexes(table);
+                indexes.forEach((name, ddl) -> {
+                    if (!existing.contains(name)) {
+                        jdbcTemplate.execute(ddl);
+                        logger.info("🗂️ Created index {} on {}", name, table);
+                    }
+                });
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not verify indexes on {}: {}", table, e.getMessage());
+            }
+        });
+    }
+
+    private Set<String> existingIndexes(String table) {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            Set<String> names = new HashSet<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String candidate : new String[] {table, table.toUpperCase(Locale.ROOT)}) {
+                try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, candidate, false, false)) {
+                    while (rs.next()) {
+                        String name = rs.getString("INDEX_NAME");
+                        if (name != null) {
+                            names.add(name.toLowerCase(Locale.ROOT));
+                        }
+                    }
+                }
+            }
+            return names;
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.port.out.CartActivityPort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC adapter for the last-activity column of carts
+ * The column is not mapped by the cart entity, so entity saves leave it untouched and it is
+ * written here after every cart write. Carts written before the column existed fall back to
+ * their creation date; abandoning a cart stores that fallback, so every abandoned cart has the
+ * column set. The abandoned cart sweep checkpoint is a single row of carritos_barrido.
+ */
+@Component
+public class JdbcCartActivityAdapter implements CartActivityPort {
+
+    static final String ADD_COLUMN =
+            "ALTER TABLE carritos ADD COLUMN fecha_ultima_actividad TIMESTAMP NULL";
+
+    static final String CREATE_SWEEP_TABLE =
+            "CREATE TABLE IF NOT EXISTS carritos_barrido (" +
+            "id INT NOT NULL PRIMARY KEY, " +
+            "ultima_actividad TIMESTAMP NULL)";
+
+    private static final String LAST_ACTIVITY = "COALESCE(fecha_ultima_actividad, fecha_creacion)";
+
+    private static final String TOUCH =
+            "UPDATE carritos SET fecha_ultima_actividad = :fecha WHERE id = :id";
+    private static final String FIND_LAST_ACTIVITY =
+            "SELECT " + LAST_ACTIVITY + " FROM carritos WHERE id = :id";
+    // Carts without activity sort first in idx_carritos_estado_actividad, so both branches are one range
+    private static final String FIND_INACTIVE =
+            "SELECT id FROM carritos WHERE estado = 'ACTIVE' AND (fecha_ultima_actividad <= :inactivoDesde " +
+            "OR (fecha_ultima_actividad IS NULL AND fecha_creacion <= :inactivoDesde)) " +
+            "ORDER BY fecha_ultima_actividad, id LIMIT :limit";
+    private static final String ABANDON =
+            "UPDATE carritos SET estado = 'ABANDONED', fecha_ultima_actividad = " + LAST_ACTIVITY + " " +
+            "WHERE id = :id AND estado = 'ACTIVE' AND " + LAST_ACTIVITY + " <= :inactivoDesde";
+    private static final String FIND_ABANDONED =
+            "SELECT id, fecha_creacion, fecha_ultima_actividad FROM carritos " +
+            "WHERE estado = 'ABANDONED' AND fecha_ultima_actividad IS NOT NULL ";
+    private static final String SELECT_SWEEP =
+            "SELECT ultima_actividad FROM carritos_barrido WHERE id = 1";
+    private static final String UPDATE_SWEEP =
+            "UPDATE carritos_barrido SET ultima_actividad = :checkpoint WHERE id = 1";
+    private static final String INSERT_SWEEP =
+            "INSERT INTO carritos_barrido (id, ultima_actividad) VALUES (1, :checkpoint)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcCartActivityAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void touch(Long cartId, LocalDateTime at) {
+        jdbcTemplate.update(TOUCH, new MapSqlParameterSource()
+                .addValue("id", cartId)
+                .addValue("fecha", Timestamp.valueOf(at)));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastActivity(Long cartId) {
+        List<Timestamp> rows = jdbcTemplate.queryForList(FIND_LAST_ACTIVITY,
+                new MapSqlParameterSource("id", cartId), Timestamp.class);
+        return rows.isEmpty() || rows.get(0) == null ? Optional.empty() : Optional.of(rows.get(0).toLocalDateTime());
+    }
+
+    @Override
+    public List<Long> findInactive(LocalDateTime inactiveSince, int limit) {
+        return jdbcTemplate.queryForList(FIND_INACTIVE, new MapSqlParameterSource()
+                .addValue("inactivoDesde", Timestamp.valueOf(inactiveSince))
+                .addValue("limit", limit), Long.class);
+    }
+
+    @Override
+    public boolean abandonIfInactive(Long cartId, LocalDateTime inactiveSince) {
+        return jdbcTemplate.update(ABANDON, new MapSqlParameterSource()
+                .addValue("id", cartId)
+                .addValue("inactivoDesde", Timestamp.valueOf(inactiveSince))) > 0;
+    }
+
+    /**
+     * Keyset page over (fecha_ultima_actividad, id), served by idx_carritos_estado_actividad
+     */
+    @Override
+    public List<Cart> findAbandonedAfter(LocalDateTime activityAfter, Long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        String sql = FIND_ABANDONED;
+        if (activityAfter != null) {
+            params.addValue("desde", Timestamp.valueOf(activityAfter));
+            if (afterId != null) {
+                sql += "AND (fecha_ultima_actividad > :desde OR (fecha_ultima_actividad = :desde AND id > :afterId)) ";
+                params.addValue("afterId", afterId);
+            } else {
+                sql += "AND fecha_ultima_actividad >= :desde ";
+            }
+        }
+        return jdbcTemplate.query(sql + "ORDER BY fecha_ultima_actividad, id LIMIT :limit", params, cartRow("ABANDONED"));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findSweepCheckpoint() {
+        List<Timestamp> rows = jdbcTemplate.queryForList(SELECT_SWEEP, new MapSqlParameterSource(), Timestamp.class);
+        return rows.isEmpty() || rows.get(0) == null ? Optional.empty() : Optional.of(rows.get(0).toLocalDateTime());
+    }
+
+    @Override
+    public void saveSweepCheckpoint(LocalDateTime checkpoint) {
+        MapSqlParameterSource params = new MapSqlParameterSource("checkpoint", Timestamp.valueOf(checkpoint));
+        if (jdbcTemplate.update(UPDATE_SWEEP, params) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SWEEP, params);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(UPDATE_SWEEP, params);
+        }
+    }
+
+    private static RowMapper<Cart> cartRow(String estado) {
+        return (rs, rowNum) -> {
+            Timestamp creado = rs.getTimestamp("fecha_creacion");
+            Timestamp actividad = rs.getTimestamp("fecha_ultima_actividad");
+            Cart cart = new Cart(rs.getLong("id"), null, creado != null ? creado.toLocalDateTime() : null, estado);
+            cart.setFechaUltimaActividad(actividad != null ? actividad.toLocalDateTime() : null);
+            return cart;
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.port.out.CatalogVersionPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * JDBC adapter for the catalog version counters
+ * Every write is a relative increment, so concurrent bumps from several instances are never lost;
+ * keys are bumped in sorted order to keep concurrent multi-key bumps from deadlocking.
+ */
+@Component
+@ConditionalOnProperty(name = "arka.catalog.versions.persistent", havingValue = "true")
+public class JdbcCatalogVersionAdapter implements CatalogVersionPort {
+
+    static final String CREATE_TABLE =
+            "CREATE TABLE IF NOT EXISTS catalogo_versiones (" +
+            "clave VARCHAR(64) NOT NULL PRIMARY KEY, " +
+            "version BIGINT NOT NULL)";
+
+    private static final String SELECT_VERSIONS =
+            "SELECT clave, version FROM catalogo_versiones WHERE clave IN (:claves)";
+    private static final String INCREMENT =
+            "UPDATE catalogo_versiones SET version = version + 1 WHERE clave = :clave";
+    private static final String INSERT =
+            "INSERT INTO catalogo_versiones (clave, version) VALUES (:clave, 1)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcCatalogVersionAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, Long> versions(Collection<String> keys) {
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query(SELECT_VERSIONS, new MapSqlParameterSource("claves", keys),
+                rs -> {
+                    versions.put(rs.getString("clave"), rs.getLong("version"));
+                });
+        return versions;
+    }
+
+    @Override
+    public void increment(Collection<String> keys) {
+        for (String key : new TreeSet<>(keys)) {
+            MapSqlParameterSource params = new MapSqlParameterSource("clave", key);
+            if (jdbcTemplate.update(INCREMENT, params) > 0) {
+                continue;
+            }
+            try {
+                jdbcTemplate.update(INSERT, params);
+            } catch (DuplicateKeyException e) {
+                // Another instance created the row first
+                jdbcTemplate.update(INCREMENT, params);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.model.DashboardTotals;
+import com.arka.arka.domain.model.Money;
+import com.arka.arka.domain.port.out.DashboardStatsPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * JDBC adapter that recounts the dashboard totals with aggregate queries
+ * The database does the counting, so no rows are loaded into memory
+ */
+@Component
+public class JdbcDashboardStatsAdapter implements DashboardStatsPort {
+
+    private static final String TOTALS =
+            "SELECT " +
+            "(SELECT COUNT(*) FROM productos) AS total_productos, " +
+            "(SELECT COUNT(*) FROM productos WHERE stock < :umbral) AS bajo_stock, " +
+            "(SELECT COUNT(*) FROM carritos) AS total_carritos, " +
+            "(SELECT COUNT(*) FROM carritos WHERE estado = 'ABANDONED') AS abandonados, " +
+            "(SELECT COUNT(*) FROM pedidos) AS total_pedidos, " +
+            "(SELECT COALESCE(SUM(total), 0) FROM pedidos) AS ventas";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Currency storeCurrency;
+
+    public JdbcDashboardStatsAdapter(NamedParameterJdbcTemplate jdbcTemplate, Currency storeCurrency) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.storeCurrency = storeCurrency;
+    }
+
+    @Override
+    public DashboardTotals loadTotals(int lowStockThreshold, int popularLimit) {
+        List<String> populares = jdbcTemplate.queryForList(
+                "SELECT nombre FROM productos ORDER BY id LIMIT :limit",
+                new MapSqlParameterSource("limit", popularLimit),
+                String.class);
+        return jdbcTemplate.queryForObject(TOTALS, new MapSqlParameterSource("umbral", lowStockThreshold),
+                (rs, rowNum) -> {
+                    BigDecimal total = rs.getBigDecimal("ventas");
+                    Money ventas = Money.of(total != null ? total : BigDecimal.ZERO, storeCurrency);
+                    return new DashboardTotals(
+                            rs.getLong("total_productos"),
+                            rs.getLong("bajo_stock"),
+                            rs.getLong("total_carritos"),
+                            rs.getLong("abandonados"),
+                            rs.getLong("total_pedidos"),
+                            ventas.getMinorUnits(),
+                            ventas.getCurrency(),
+                            populares);
+                });
+    }
+}
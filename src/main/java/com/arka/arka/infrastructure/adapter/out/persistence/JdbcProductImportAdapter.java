@@ -0,0 +1,101 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.port.out.ProductImportPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC adapter for bulk product imports and batch deletes
+ * Inserts go through a single JDBC batch instead of one JPA save per product;
+ * the MySQL datasource URLs set rewriteBatchedStatements=true so the driver sends
+ * each batch as multi-row INSERT statements. Deletes remove a whole
+ * chunk with one IN statement instead of an existsById and a deleteById per id.
+ */
+@Component
+public class JdbcProductImportAdapter implements ProductImportPort {
+
+    private static final ProductRowMapper ROW_MAPPER = new ProductRowMapper();
+
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO productos (nombre, descripcion, categoria_id, marca, precio_unitario, stock) " +
+            "VALUES (:nombre, :descripcion, :categoriaId, :marca, :precioUnitario, :stock)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcProductImportAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<Long> findExistingCategoryIds(Collection<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM categorias WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", categoryIds),
+                Long.class));
+    }
+
+    @Override
+    @Transactional
+    public List<Long> insertAll(List<Product> products) {
+        SqlParameterSource[] batch = new SqlParameterSource[products.size()];
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("nombre", product.getNombre())
+                    .addValue("descripcion", product.getDescripcion())
+                    .addValue("categoriaId", product.getCategoria() != null ? product.getCategoria().getId() : null)
+                    .addValue("marca", product.getMarca())
+                    .addValue("precioUnitario", product.getPrecioUnitario())
+                    .addValue("stock", product.getStock());
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, batch, keyHolder, new String[] {"id"});
+
+        List<Long> ids = new ArrayList<>(products.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            Object id = keys.size() == 1 ? keys.values().iterator().next() : keys.get("id");
+            ids.add(((Number) id).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * Locks the rows first, so the products returned are exactly the ones deleted
+     * and no concurrent update lands between the read and the delete
+     */
+    @Override
+    @Transactional
+    public List<Product> deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        List<Long> locked = jdbcTemplate.queryForList(
+                "SELECT id FROM productos WHERE id IN (:ids) FOR UPDATE", params, Long.class);
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        params = new MapSqlParameterSource("ids", locked);
+        List<Product> existing = jdbcTemplate.query(ProductRowMapper.SELECT_PRODUCTS + "WHERE p.id IN (:ids)",
+                params, ROW_MAPPER);
+        jdbcTemplate.update("DELETE FROM productos WHERE id IN (:ids)", params);
+        return existing;
+    }
+}
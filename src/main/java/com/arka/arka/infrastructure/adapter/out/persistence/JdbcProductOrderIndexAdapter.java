@@ -0,0 +1,176 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.port.out.ProductOrderIndexPort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JDBC adapter for the product -> order index
+ * The primary key (producto_id, pedido_id) clusters each product's orders together,
+ * so a page is a short range scan whose cost depends only on the page size.
+ * The backfill checkpoint is a single row of producto_pedidos_backfill.
+ */
+@Component
+public class JdbcProductOrderIndexAdapter implements ProductOrderIndexPort {
+
+    static final String CREATE_TABLE =
+            "CREATE TABLE IF NOT EXISTS producto_pedidos (" +
+            "producto_id BIGINT NOT NULL, " +
+            "pedido_id BIGINT NOT NULL, " +
+            "PRIMARY KEY (producto_id, pedido_id))";
+
+    static final String CREATE_BACKFILL_TABLE =
+            "CREATE TABLE IF NOT EXISTS producto_pedidos_backfill (" +
+            "id INT NOT NULL PRIMARY KEY, " +
+            "ultimo_pedido_id BIGINT NULL, " +
+            "completado BOOLEAN NOT NULL)";
+
+    private static final String INSERT_ROW =
+            "INSERT INTO producto_pedidos (producto_id, pedido_id) VALUES (:productoId, :pedidoId)";
+    // Skips orders deleted since the backfill loaded them
+    private static final String INSERT_BACKFILL_ROW =
+            "INSERT INTO producto_pedidos (producto_id, pedido_id) " +
+            "SELECT :productoId, id FROM pedidos WHERE id = :pedidoId";
+    // Keyset page of the orders table joined with the order -> product join table of the order mapping
+    private static final String SELECT_ORDER_PRODUCTS_PAGE =
+            "SELECT o.id, op.producto_id FROM (SELECT id FROM pedidos %s ORDER BY id LIMIT :limit) o " +
+            "LEFT JOIN pedido_productos op ON op.pedido_id = o.id ORDER BY o.id, op.producto_id";
+    private static final String SELECT_INDEXED_ORDERS =
+            "SELECT DISTINCT pedido_id FROM producto_pedidos WHERE pedido_id IN (:ids)";
+    private static final String SELECT_BACKFILL =
+            "SELECT ultimo_pedido_id, completado FROM producto_pedidos_backfill WHERE id = 1";
+    private static final String UPDATE_BACKFILL =
+            "UPDATE producto_pedidos_backfill SET ultimo_pedido_id = :checkpoint, completado = :completado WHERE id = 1";
+    private static final String INSERT_BACKFILL =
+            "INSERT INTO producto_pedidos_backfill (id, ultimo_pedido_id, completado) VALUES (1, :checkpoint, :completado)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcProductOrderIndexAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void index(Long orderId, Collection<Long> productIds) {
+        remove(orderId);
+        jdbcTemplate.batchUpdate(INSERT_ROW, rows(orderId, productIds).toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    public void remove(Long orderId) {
+        jdbcTemplate.update("DELETE FROM producto_pedidos WHERE pedido_id = :pedidoId",
+                new MapSqlParameterSource("pedidoId", orderId));
+    }
+
+    @Override
+    public List<Long> findOrderIds(Long productId, Long beforeOrderId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("productoId", productId)
+                .addValue("limit", limit);
+        String sql = "SELECT pedido_id FROM producto_pedidos WHERE producto_id = :productoId ";
+        if (beforeOrderId != null) {
+            sql += "AND pedido_id < :before ";
+            params.addValue("before", beforeOrderId);
+        }
+        sql += "ORDER BY pedido_id DESC LIMIT :limit";
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return jdbcTemplate.getJdbcTemplate()
+                .queryForList("SELECT 1 FROM producto_pedidos LIMIT 1")
+                .isEmpty();
+    }
+
+    @Override
+    public Map<Long, List<Long>> findOrderProductsAfter(Long afterOrderId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        String where = "";
+        if (afterOrderId != null) {
+            where = "WHERE id > :after";
+            params.addValue("after", afterOrderId);
+        }
+        Map<Long, List<Long>> productIdsByOrder = new LinkedHashMap<>();
+        jdbcTemplate.query(String.format(SELECT_ORDER_PRODUCTS_PAGE, where), params, rs -> {
+            List<Long> productIds = productIdsByOrder.computeIfAbsent(rs.getLong("id"), id -> new ArrayList<>());
+            long productId = rs.getLong("producto_id");
+            if (!rs.wasNull()) {
+                productIds.add(productId);
+            }
+        });
+        return productIdsByOrder;
+    }
+
+    @Override
+    public Optional<Long> findBackfillCheckpoint() {
+        return jdbcTemplate.query(SELECT_BACKFILL, rs -> {
+            if (!rs.next()) {
+                return Optional.<Long>empty();
+            }
+            long checkpoint = rs.getLong("ultimo_pedido_id");
+            return rs.wasNull() ? Optional.<Long>empty() : Optional.of(checkpoint);
+        });
+    }
+
+    @Override
+    public boolean isBackfillComplete() {
+        return Boolean.TRUE.equals(jdbcTemplate.query(SELECT_BACKFILL, rs -> rs.next() && rs.getBoolean("completado")));
+    }
+
+    @Override
+    @Transactional
+    public void indexBackfillPage(Map<Long, ? extends Collection<Long>> productIdsByOrder, Long checkpoint,
+                                  boolean complete) {
+        if (!productIdsByOrder.isEmpty()) {
+            Set<Long> indexed = new HashSet<>(jdbcTemplate.queryForList(SELECT_INDEXED_ORDERS,
+                    new MapSqlParameterSource("ids", productIdsByOrder.keySet()), Long.class));
+            List<SqlParameterSource> rows = new ArrayList<>();
+            productIdsByOrder.forEach((orderId, productIds) -> {
+                if (!indexed.contains(orderId)) {
+                    rows.addAll(rows(orderId, productIds));
+                }
+            });
+            jdbcTemplate.batchUpdate(INSERT_BACKFILL_ROW, rows.toArray(SqlParameterSource[]::new));
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("checkpoint", checkpoint)
+                .addValue("completado", complete);
+        if (jdbcTemplate.update(UPDATE_BACKFILL, params) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_BACKFILL, params);
+            } catch (DuplicateKeyException e) {
+                // Another instance created the row first
+                jdbcTemplate.update(UPDATE_BACKFILL, params);
+            }
+        }
+    }
+
+    private static List<SqlParameterSource> rows(Long orderId, Collection<Long> productIds) {
+        Set<Long> unique = new LinkedHashSet<>(productIds);
+        unique.remove(null);
+        List<SqlParameterSource> rows = new ArrayList<>(unique.size());
+        for (Long productId : unique) {
+            rows.add(new MapSqlParameterSource()
+                    .addValue("productoId", productId)
+                    .addValue("pedidoId", orderId));
+        }
+        return rows;
+    }
+}
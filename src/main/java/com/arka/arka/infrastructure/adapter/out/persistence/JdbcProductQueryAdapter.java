@@ -0,0 +1,141 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductSort;
+import com.arka.arka.domain.model.ProductSummary;
+import com.arka.arka.domain.port.out.ProductQueryPort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * JDBC adapter for keyset-paginated product queries
+ * Each page is a range scan on the (sort column, id) indexes created by
+ * {@link CatalogIndexInitializer}, so the cost of a page does not depend on its position.
+ * Products without a name or price sort first (MySQL and H2 order NULL lowest); a cursor on
+ * such a product continues through the remaining NULLs by id, then through every non-null value.
+ */
+@Component
+public class JdbcProductQueryAdapter implements ProductQueryPort {
+
+    private static final ProductRowMapper ROW_MAPPER = new ProductRowMapper();
+    private static final RowMapper<ProductSummary> SUMMARY_MAPPER = (rs, rowNum) -> {
+        int stock = rs.getInt("stock");
+        boolean disponible = !rs.wasNull() && stock > 0;
+        return new ProductSummary(rs.getLong("id"), rs.getString("nombre"), rs.getBigDecimal("precio_unitario"),
+                rs.getString("categoria_nombre"), disponible);
+    };
+
+    private static final String SELECT_SUMMARIES =
+            "SELECT p.id, p.nombre, p.precio_unitario, p.stock, c.nombre AS categoria_nombre " +
+            "FROM productos p LEFT JOIN categorias c ON c.id = p.categoria_id ";
+
+    /**
+     * Walks the (nombre, id) index in order and filters, so LIMIT ends the scan early
+     */
+    private static final String WHERE_NAME_CONTAINS =
+            "WHERE LOWER(p.nombre) LIKE :pattern ESCAPE '!' ORDER BY p.nombre, p.id LIMIT :limit";
+
+    /**
+     * Sales come from the product -> order index, so no order rows are read
+     */
+    private static final String SELECT_FEATURED = ProductRowMapper.SELECT_PRODUCTS +
+            "LEFT JOIN (SELECT producto_id, COUNT(*) AS ventas FROM producto_pedidos GROUP BY producto_id) v " +
+            "ON v.producto_id = p.id " +
+            "WHERE p.stock > 0 " +
+            "ORDER BY COALESCE(v.ventas, 0) DESC, p.stock DESC, p.id " +
+            "LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcProductQueryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Product> findPage(ProductSort sort, ProductCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder sql = new StringBuilder(ProductRowMapper.SELECT_PRODUCTS);
+
+        if (after != null) {
+            params.addValue("lastId", after.getLastId());
+            switch (sort) {
+                case NOMBRE -> sql.append(afterKey("p.nombre", after.getLastValue(), params));
+                case PRECIO -> sql.append(afterKey("p.precio_unitario",
+                        after.getLastValue() != null ? new BigDecimal(after.getLastValue()) : null, params));
+                case ID -> sql.append("WHERE p.id > :lastId ");
+            }
+        }
+
+        sql.append(switch (sort) {
+            case NOMBRE -> "ORDER BY p.nombre, p.id ";
+            case PRECIO -> "ORDER BY p.precio_unitario, p.id ";
+            case ID -> "ORDER BY p.id ";
+        });
+        sql.append("LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    @Override
+    public List<Product> findFeatured(int limit) {
+        return jdbcTemplate.query(SELECT_FEATURED, new MapSqlParameterSource("limit", limit), ROW_MAPPER);
+    }
+
+    @Override
+    public List<Product> searchByName(String term, int limit) {
+        return jdbcTemplate.query(ProductRowMapper.SELECT_PRODUCTS + WHERE_NAME_CONTAINS,
+                nameSearch(term, limit), ROW_MAPPER);
+    }
+
+    @Override
+    public List<ProductSummary> searchSummariesByName(String term, int limit) {
+        return jdbcTemplate.query(SELECT_SUMMARIES + WHERE_NAME_CONTAINS, nameSearch(term, limit), SUMMARY_MAPPER);
+    }
+
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        List<ProductSummary> rows = jdbcTemplate.query(SELECT_SUMMARIES + "WHERE p.id = :id",
+                new MapSqlParameterSource("id", id), SUMMARY_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(ProductRowMapper.SELECT_PRODUCTS + "WHERE p.id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), ROW_MAPPER);
+    }
+
+    /**
+     * Keyset condition for (column, id) ordered with NULLs first; a NULL value never matches
+     * a comparison, so the non-null branch skips the NULL rows already returned
+     */
+    private static String afterKey(String column, Object lastValue, MapSqlParameterSource params) {
+        if (lastValue == null) {
+            return "WHERE (" + column + " IS NOT NULL OR (" + column + " IS NULL AND p.id > :lastId)) ";
+        }
+        params.addValue("lastValue", lastValue);
+        return "WHERE (" + column + " > :lastValue OR (" + column + " = :lastValue AND p.id > :lastId)) ";
+    }
+
+    private static MapSqlParameterSource nameSearch(String term, int limit) {
+        String escaped = term.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return new MapSqlParameterSource()
+                .addValue("pattern", "%" + escaped + "%")
+                .addValue("limit", limit);
+    }
+}
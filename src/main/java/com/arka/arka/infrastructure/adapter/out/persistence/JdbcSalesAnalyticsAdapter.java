@@ -0,0 +1,168 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.model.ActivityBucket;
+import com.arka.arka.domain.model.AnalyticsInterval;
+import com.arka.arka.domain.model.Money;
+import com.arka.arka.domain.model.OrderTotals;
+import com.arka.arka.domain.port.out.SalesAnalyticsPort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC adapter for cart and order analytics
+ * Counts and sums run as SQL aggregates. Time series are read from actividad_por_hora,
+ * one row per hour with activity, so their cost depends on the number of buckets
+ * and not on the size of the history. Hours are truncated in Java, which keeps the
+ * SQL portable between MySQL and H2.
+ */
+@Component
+public class JdbcSalesAnalyticsAdapter implements SalesAnalyticsPort {
+
+    static final String CREATE_TABLE =
+            "CREATE TABLE IF NOT EXISTS actividad_por_hora (" +
+            "hora TIMESTAMP NOT NULL, " +
+            "carritos BIGINT NOT NULL, " +
+            "pedidos BIGINT NOT NULL, " +
+            "ventas_minor BIGINT NOT NULL, " +
+            "PRIMARY KEY (hora))";
+
+    private static final String ADD_TO_BUCKET =
+            "UPDATE actividad_por_hora SET carritos = carritos + :carritos, pedidos = pedidos + :pedidos, " +
+            "ventas_minor = ventas_minor + :ventas WHERE hora = :hora";
+    private static final String INSERT_BUCKET =
+            "INSERT INTO actividad_por_hora (hora, carritos, pedidos, ventas_minor) " +
+            "VALUES (:hora, :carritos, :pedidos, :ventas)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Currency storeCurrency;
+
+    /**
+     * @param storeCurrency Currency of the order totals; the rollup sales are in its minor units
+     */
+    public JdbcSalesAnalyticsAdapter(NamedParameterJdbcTemplate jdbcTemplate, Currency storeCurrency) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.storeCurrency = storeCurrency;
+    }
+
+    @Override
+    public Map<String, Long> countCartsByEstado() {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT estado, COUNT(*) AS total FROM carritos GROUP BY estado", rs -> {
+            counts.put(rs.getString("estado"), rs.getLong("total"));
+        });
+        return counts;
+    }
+
+    @Override
+    public OrderTotals sumOrders() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) AS pedidos, COALESCE(SUM(total), 0) AS ventas FROM pedidos",
+                new MapSqlParameterSource(),
+                (rs, rowNum) -> new OrderTotals(rs.getLong("pedidos"), Money.of(rs.getBigDecimal("ventas"), storeCurrency)));
+    }
+
+    @Override
+    public List<ActivityBucket> findHourlyActivity(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                "SELECT hora, carritos, pedidos, ventas_minor FROM actividad_por_hora " +
+                "WHERE hora >= :from AND hora < :to ORDER BY hora",
+                new MapSqlParameterSource()
+                        .addValue("from", Timestamp.valueOf(AnalyticsInterval.HOUR.truncate(from)))
+                        .addValue("to", Timestamp.valueOf(to)),
+                (rs, rowNum) -> new ActivityBucket(
+                        rs.getTimestamp("hora").toLocalDateTime(),
+                        rs.getLong("carritos"),
+                        rs.getLong("pedidos"),
+                        rs.getLong("ventas_minor"),
+                        storeCurrency));
+    }
+
+    /**
+     * Update first, insert when the hour has no row yet; a concurrent insert of the
+     * same hour loses on the primary key and retries as an update
+     */
+    @Override
+    public void addActivity(LocalDateTime time, long carritos, long pedidos, long ventasMinor) {
+        MapSqlParameterSource delta = new MapSqlParameterSource()
+                .addValue("hora", Timestamp.valueOf(AnalyticsInterval.HOUR.truncate(time)))
+                .addValue("carritos", carritos)
+                .addValue("pedidos", pedidos)
+                .addValue("ventas", ventasMinor);
+        if (jdbcTemplate.update(ADD_TO_BUCKET, delta) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_BUCKET, delta);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(ADD_TO_BUCKET, delta);
+        }
+    }
+
+    @Override
+    public boolean isRollupEmpty() {
+        List<Integer> any = jdbcTemplate.queryForList(
+                "SELECT 1 FROM actividad_por_hora LIMIT 1", new MapSqlParameterSource(), Integer.class);
+        return any.isEmpty();
+    }
+
+    /**
+     * Streams the cart and order rows of the window once, groups them by hour in memory
+     * (one entry per hour) and replaces the window's buckets in a single transaction
+     */
+    @Override
+    @Transactional
+    public int rebuildRollup(LocalDateTime since) {
+        LocalDateTime from = since != null ? AnalyticsInterval.HOUR.truncate(since) : null;
+        MapSqlParameterSource window = new MapSqlParameterSource();
+        String cartFilter = " WHERE fecha_creacion IS NOT NULL";
+        String orderFilter = " WHERE fecha IS NOT NULL";
+        String bucketFilter = "";
+        if (from != null) {
+            window.addValue("from", Timestamp.valueOf(from));
+            cartFilter += " AND fecha_creacion >= :from";
+            orderFilter += " AND fecha >= :from";
+            bucketFilter = " WHERE hora >= :from";
+        }
+
+        Map<LocalDateTime, long[]> buckets = new TreeMap<>();
+        jdbcTemplate.query("SELECT fecha_creacion FROM carritos" + cartFilter, window, rs -> {
+            bucket(buckets, rs.getTimestamp("fecha_creacion"))[0]++;
+        });
+        jdbcTemplate.query("SELECT fecha, total FROM pedidos" + orderFilter, window, rs -> {
+            long[] bucket = bucket(buckets, rs.getTimestamp("fecha"));
+            BigDecimal total = rs.getBigDecimal("total");
+            bucket[1]++;
+            bucket[2] += total != null ? Money.of(total, storeCurrency).getMinorUnits() : 0;
+        });
+
+        jdbcTemplate.update("DELETE FROM actividad_por_hora" + bucketFilter, window);
+        SqlParameterSource[] rows = new SqlParameterSource[buckets.size()];
+        int i = 0;
+        for (Map.Entry<LocalDateTime, long[]> bucket : buckets.entrySet()) {
+            rows[i++] = new MapSqlParameterSource()
+                    .addValue("hora", Timestamp.valueOf(bucket.getKey()))
+                    .addValue("carritos", bucket.getValue()[0])
+                    .addValue("pedidos", bucket.getValue()[1])
+                    .addValue("ventas", bucket.getValue()[2]);
+        }
+        jdbcTemplate.batchUpdate(INSERT_BUCKET, rows);
+        return rows.length;
+    }
+
+    private static long[] bucket(Map<LocalDateTime, long[]> buckets, Timestamp time) {
+        return buckets.computeIfAbsent(AnalyticsInterval.HOUR.truncate(time.toLocalDateTime()), hora -> new long[3]);
+    }
+}
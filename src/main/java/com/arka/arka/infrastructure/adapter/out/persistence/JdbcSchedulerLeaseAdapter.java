@@ -0,0 +1,111 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.port.out.SchedulerLeasePort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JDBC adapter for scheduler coordination
+ * A job lease is a row that changes owner only through a conditional update (free, expired or
+ * already ours) or a first insert guarded by the primary key, so at most one node holds it.
+ * Expiry and heartbeats use the database clock, shared by every node.
+ */
+@Component
+public class JdbcSchedulerLeaseAdapter implements SchedulerLeasePort {
+
+    static final String CREATE_LEASES_TABLE =
+            "CREATE TABLE IF NOT EXISTS scheduler_leases (" +
+            "trabajo VARCHAR(100) NOT NULL PRIMARY KEY, " +
+            "propietario VARCHAR(100) NOT NULL, " +
+            "expira_en TIMESTAMP NOT NULL)";
+
+    static final String CREATE_NODES_TABLE =
+            "CREATE TABLE IF NOT EXISTS scheduler_nodos (" +
+            "nodo_id VARCHAR(100) NOT NULL PRIMARY KEY, " +
+            "latido_en TIMESTAMP NOT NULL)";
+
+    private static final String RENEW_LEASE =
+            "UPDATE scheduler_leases SET propietario = :propietario, " +
+            "expira_en = TIMESTAMPADD(SECOND, :segundos, CURRENT_TIMESTAMP) " +
+            "WHERE trabajo = :trabajo AND (propietario = :propietario OR expira_en < CURRENT_TIMESTAMP)";
+    private static final String INSERT_LEASE =
+            "INSERT INTO scheduler_leases (trabajo, propietario, expira_en) " +
+            "VALUES (:trabajo, :propietario, TIMESTAMPADD(SECOND, :segundos, CURRENT_TIMESTAMP))";
+    private static final String HELD_BY =
+            "SELECT COUNT(*) FROM scheduler_leases WHERE trabajo = :trabajo AND propietario = :propietario " +
+            "AND expira_en >= CURRENT_TIMESTAMP";
+    private static final String RELEASE_LEASE =
+            "DELETE FROM scheduler_leases WHERE trabajo = :trabajo AND propietario = :propietario";
+    private static final String TOUCH_NODE =
+            "UPDATE scheduler_nodos SET latido_en = CURRENT_TIMESTAMP WHERE nodo_id = :nodoId";
+    private static final String INSERT_NODE =
+            "INSERT INTO scheduler_nodos (nodo_id, latido_en) VALUES (:nodoId, CURRENT_TIMESTAMP)";
+    private static final String LIVE_NODES =
+            "SELECT nodo_id FROM scheduler_nodos " +
+            "WHERE latido_en >= TIMESTAMPADD(SECOND, -:segundos, CURRENT_TIMESTAMP) ORDER BY nodo_id";
+    private static final String DELETE_NODE =
+            "DELETE FROM scheduler_nodos WHERE nodo_id = :nodoId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcSchedulerLeaseAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String job, String owner, Duration lease) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("trabajo", job)
+                .addValue("propietario", owner)
+                .addValue("segundos", seconds(lease));
+        if (jdbcTemplate.update(RENEW_LEASE, params) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_LEASE, params) > 0;
+        } catch (DuplicateKeyException e) {
+            // MySQL counts a renewal within the same second as no change, so check who holds it
+            Integer held = jdbcTemplate.queryForObject(HELD_BY, params, Integer.class);
+            return held != null && held > 0;
+        }
+    }
+
+    @Override
+    public void release(String job, String owner) {
+        jdbcTemplate.update(RELEASE_LEASE, new MapSqlParameterSource()
+                .addValue("trabajo", job)
+                .addValue("propietario", owner));
+    }
+
+    @Override
+    public void heartbeat(String nodeId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("nodoId", nodeId);
+        if (jdbcTemplate.update(TOUCH_NODE, params) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_NODE, params);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(TOUCH_NODE, params);
+        }
+    }
+
+    @Override
+    public List<String> liveNodes(Duration ttl) {
+        return jdbcTemplate.queryForList(LIVE_NODES, new MapSqlParameterSource("segundos", seconds(ttl)), String.class);
+    }
+
+    @Override
+    public void removeNode(String nodeId) {
+        jdbcTemplate.update(DELETE_NODE, new MapSqlParameterSource("nodoId", nodeId));
+    }
+
+    private static long seconds(Duration duration) {
+        return Math.max(1, duration.toSeconds());
+    }
+}
@@ -0,0 +1,152 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.model.EstadoReserva;
+import com.arka.arka.domain.model.StockReservation;
+import com.arka.arka.domain.port.out.StockReservationPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * JDBC adapter for stock reservations
+ * Each line is a conditional decrement ({@code stock >= cantidad}), so the database
+ * row lock is the only synchronisation needed and stock can never go negative.
+ * Lines are applied in product id order, which keeps concurrent multi-line
+ * reservations on the same hot products from deadlocking.
+ */
+@Component
+public class JdbcStockReservationAdapter implements StockReservationPort {
+
+    static final String CREATE_TABLE =
+            "CREATE TABLE IF NOT EXISTS stock_reservas (" +
+            "reserva_id VARCHAR(36) NOT NULL, " +
+            "producto_id BIGINT NOT NULL, " +
+            "cantidad INT NOT NULL, " +
+            "expira_en TIMESTAMP NOT NULL, " +
+            "estado VARCHAR(16) NOT NULL, " +
+            "PRIMARY KEY (reserva_id, producto_id))";
+
+    private static final String DECREMENT_STOCK =
+            "UPDATE productos SET stock = stock - :cantidad WHERE id = :productoId AND stock >= :cantidad";
+    private static final String INCREMENT_STOCK =
+            "UPDATE productos SET stock = stock + :cantidad WHERE id = :productoId";
+    private static final String INSERT_LINE =
+            "INSERT INTO stock_reservas (reserva_id, producto_id, cantidad, expira_en, estado) " +
+            "VALUES (:reservaId, :productoId, :cantidad, :expiraEn, :estado)";
+    private static final String TRANSITION =
+            "UPDATE stock_reservas SET estado = :nuevoEstado WHERE reserva_id = :reservaId AND estado = :estado";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcStockReservationAdapter(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Set<Long> reserve(StockReservation reservation) {
+        return transactionTemplate.execute(status -> {
+            List<Long> productIds = new ArrayList<>(reservation.getLineas().keySet());
+            int[] updated = jdbcTemplate.batchUpdate(DECREMENT_STOCK, lineParameters(reservation.getLineas()));
+
+            Set<Long> insufficient = new LinkedHashSet<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    insufficient.add(productIds.get(i));
+                }
+            }
+            if (!insufficient.isEmpty()) {
+                status.setRollbackOnly();
+                return insufficient;
+            }
+
+            SqlParameterSource[] lines = new SqlParameterSource[productIds.size()];
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] = new MapSqlParameterSource()
+                        .addValue("reservaId", reservation.getId())
+                        .addValue("productoId", productIds.get(i))
+                        .addValue("cantidad", reservation.getLineas().get(productIds.get(i)))
+                        .addValue("expiraEn", Timestamp.valueOf(reservation.getExpiraEn()))
+                        .addValue("estado", EstadoReserva.ACTIVA.name());
+            }
+            jdbcTemplate.batchUpdate(INSERT_LINE, lines);
+            return Set.of();
+        });
+    }
+
+    @Override
+    public boolean confirm(String reservationId) {
+        return jdbcTemplate.update(TRANSITION, transition(reservationId, EstadoReserva.CONFIRMADA)) > 0;
+    }
+
+    @Override
+    public Set<Long> release(String reservationId) {
+        Set<Long> released = transactionTemplate.execute(status -> {
+            // Only the caller that moves the reservation out of ACTIVA gives the stock back
+            if (jdbcTemplate.update(TRANSITION, transition(reservationId, EstadoReserva.LIBERADA)) == 0) {
+                return Set.<Long>of();
+            }
+            List<Map<String, Object>> lines = jdbcTemplate.queryForList(
+                    "SELECT producto_id, cantidad FROM stock_reservas WHERE reserva_id = :reservaId ORDER BY producto_id",
+                    new MapSqlParameterSource("reservaId", reservationId));
+            SqlParameterSource[] increments = new SqlParameterSource[lines.size()];
+            Set<Long> productIds = new LinkedHashSet<>();
+            for (int i = 0; i < increments.length; i++) {
+                increments[i] = new MapSqlParameterSource()
+                        .addValue("productoId", lines.get(i).get("producto_id"))
+                        .addValue("cantidad", lines.get(i).get("cantidad"));
+                productIds.add(((Number) lines.get(i).get("producto_id")).longValue());
+            }
+            jdbcTemplate.batchUpdate(INCREMENT_STOCK, increments);
+            return productIds;
+        });
+        return released != null ? released : Set.of();
+    }
+
+    @Override
+    public void restock(Map<Long, Integer> lineas) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INCREMENT_STOCK, lineParameters(new TreeMap<>(lineas))));
+    }
+
+    @Override
+    public List<String> findExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT reserva_id FROM stock_reservas WHERE estado = :estado AND expira_en < :now LIMIT :limit",
+                new MapSqlParameterSource()
+                        .addValue("estado", EstadoReserva.ACTIVA.name())
+                        .addValue("now", Timestamp.valueOf(now))
+                        .addValue("limit", limit),
+                String.class);
+    }
+
+    private static SqlParameterSource[] lineParameters(Map<Long, Integer> lineas) {
+        SqlParameterSource[] batch = new SqlParameterSource[lineas.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> line : lineas.entrySet()) {
+            batch[i++] = new MapSqlParameterSource()
+                    .addValue("productoId", line.getKey())
+                    .addValue("cantidad", line.getValue());
+        }
+        return batch;
+    }
+
+    private static MapSqlParameterSource transition(String reservationId, EstadoReserva nuevoEstado) {
+        return new MapSqlParameterSource()
+                .addValue("reservaId", reservationId)
+                .addValue("nuevoEstado", nuevoEstado.name())
+                .addValue("estado", EstadoReserva.ACTIVA.name());
+    }
+}
@@ -0,0 +1,123 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.port.out.TableExportPort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC adapter for streamed table exports
+ * Each batch is a primary-key range scan ({@code id > :afterId ORDER BY id LIMIT n}), so reading
+ * the next batch costs the same wherever the export is. The products of an order batch come
+ * from the product -> order index in one extra query.
+ */
+@Component
+public class JdbcTableExportAdapter implements TableExportPort {
+
+    private static final ProductRowMapper PRODUCT_MAPPER = new ProductRowMapper();
+    private static final RowMapper<Category> CATEGORY_MAPPER =
+            (rs, rowNum) -> new Category(rs.getLong("id"), rs.getString("nombre"));
+    private static final RowMapper<Cart> CART_MAPPER = (rs, rowNum) -> new Cart(
+            rs.getLong("id"), null, toLocalDateTime(rs.getTimestamp("fecha_creacion")), rs.getString("estado"));
+    private static final RowMapper<Order> ORDER_MAPPER = (rs, rowNum) -> new Order(
+            rs.getLong("id"), null, toLocalDateTime(rs.getTimestamp("fecha")), rs.getBigDecimal("total"),
+            new LinkedHashSet<>());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTableExportAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Product> findProducts(Long afterId, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = ProductRowMapper.SELECT_PRODUCTS + where("p.id", afterId, null, null, params)
+                + page("p.id", offset, limit, params);
+        return jdbcTemplate.query(sql, params, PRODUCT_MAPPER);
+    }
+
+    @Override
+    public List<Category> findCategories(Long afterId, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT id, nombre FROM categorias " + where("id", afterId, null, null, params)
+                + page("id", offset, limit, params);
+        return jdbcTemplate.query(sql, params, CATEGORY_MAPPER);
+    }
+
+    @Override
+    public List<Cart> findCarts(Long afterId, LocalDateTime since, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT id, estado, fecha_creacion FROM carritos "
+                + where("id", afterId, "fecha_creacion", since, params)
+                + page("id", offset, limit, params);
+        return jdbcTemplate.query(sql, params, CART_MAPPER);
+    }
+
+    @Override
+    public List<Order> findOrders(Long afterId, LocalDateTime since, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT id, fecha, total FROM pedidos "
+                + where("id", afterId, "fecha", since, params)
+                + page("id", offset, limit, params);
+        List<Order> orders = jdbcTemplate.query(sql, params, ORDER_MAPPER);
+        if (!orders.isEmpty()) {
+            addProducts(orders);
+        }
+        return orders;
+    }
+
+    private void addProducts(List<Order> orders) {
+        Map<Long, Order> byId = new LinkedHashMap<>();
+        orders.forEach(order -> byId.put(order.getId(), order));
+        jdbcTemplate.query(
+                "SELECT pp.pedido_id, p.id, p.nombre, p.precio_unitario FROM producto_pedidos pp " +
+                "JOIN productos p ON p.id = pp.producto_id " +
+                "WHERE pp.pedido_id IN (:ids) ORDER BY pp.pedido_id, p.id",
+                new MapSqlParameterSource("ids", byId.keySet()),
+                rs -> {
+                    Product product = new Product(rs.getLong("id"), rs.getString("nombre"), null, null, null,
+                            rs.getBigDecimal("precio_unitario"), null);
+                    byId.get(rs.getLong("pedido_id")).getProductos().add(product);
+                });
+    }
+
+    private static String where(String idColumn, Long afterId, String dateColumn, LocalDateTime since,
+                                MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder();
+        if (afterId != null) {
+            where.append("WHERE ").append(idColumn).append(" > :afterId ");
+            params.addValue("afterId", afterId);
+        }
+        if (since != null) {
+            where.append(where.length() == 0 ? "WHERE " : "AND ").append(dateColumn).append(" >= :since ");
+            params.addValue("since", Timestamp.valueOf(since));
+        }
+        return where.toString();
+    }
+
+    private static String page(String idColumn, long offset, int limit, MapSqlParameterSource params) {
+        params.addValue("limit", limit);
+        if (offset == 0) {
+            return "ORDER BY " + idColumn + " LIMIT :limit";
+        }
+        params.addValue("offset", offset);
+        return "ORDER BY " + idColumn + " LIMIT :limit OFFSET :offset";
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Creates the tables and columns owned by the JDBC adapters
+ * These have no JPA mapping, so ddl-auto does not manage them;
+ * runs before {@link CatalogIndexInitializer} so their indexes can be added
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JdbcTableInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcTableInitializer.class);
+
+    /**
+     * Table name -> CREATE TABLE IF NOT EXISTS statement
+     */
+    private static final Map<String, String> TABLES = Map.of(
+            "stock_reservas", JdbcStockReservationAdapter.CREATE_TABLE,
+            "producto_pedidos", JdbcProductOrderIndexAdapter.CREATE_TABLE,
+            "producto_pedidos_backfill", JdbcProductOrderIndexAdapter.CREATE_BACKFILL_TABLE,
+            "actividad_por_hora", JdbcSalesAnalyticsAdapter.CREATE_TABLE,
+            "scheduler_leases", JdbcSchedulerLeaseAdapter.CREATE_LEASES_TABLE,
+            "scheduler_nodos", JdbcSchedulerLeaseAdapter.CREATE_NODES_TABLE,
+            "catalogo_versiones", JdbcCatalogVersionAdapter.CREATE_TABLE,
+            "carritos_barrido", JdbcCartActivityAdapter.CREATE_SWEEP_TABLE
+    );
+
+    /**
+     * Column on an entity-managed table -> ALTER TABLE statement, applied when the column is missing
+     */
+    private static final Map<String, String> COLUMNS = Map.of(
+            "carritos.fecha_ultima_actividad", JdbcCartActivityAdapter.ADD_COLUMN
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTableInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        TABLES.forEach((table, ddl) -> {
+            try {
+                jdbcTemplate.execute(ddl);
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not create {} table: {}", table, e.getMessage());
+            }
+        });
+        COLUMNS.forEach((column, ddl) -> {
+            String[] parts = column.split("\\.");
+            try {
+                if (!columnExists(parts[0], parts[1])) {
+                    jdbcTemplate.execute(ddl);
+                }
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not add {} column: {}", column, e.getMessage());
+            }
+        });
+    }
+
+    private boolean columnExists(String table, String column) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : new String[]{table, table.toUpperCase(Locale.ROOT)}) {
+                try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, name, null)) {
+                    while (rs.next()) {
+                        if (column.equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
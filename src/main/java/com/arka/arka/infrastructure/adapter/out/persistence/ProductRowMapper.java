@@ -0,0 +1,41 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows of {@link #SELECT_PRODUCTS} to domain products
+ * Shared by the JDBC read adapters that bypass the JPA entities
+ */
+public class ProductRowMapper implements RowMapper<Product> {
+
+    public static final String SELECT_PRODUCTS =
+            "SELECT p.id, p.nombre, p.descripcion, p.marca, p.precio_unitario, p.stock, " +
+            "c.id AS categoria_id, c.nombre AS categoria_nombre " +
+            "FROM productos p LEFT JOIN categorias c ON c.id = p.categoria_id ";
+
+    @Override
+    public Product mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Category categoria = null;
+        long categoriaId = rs.getLong("categoria_id");
+        if (!rs.wasNull()) {
+            categoria = new Category(categoriaId, rs.getString("categoria_nombre"));
+        }
+
+        int stock = rs.getInt("stock");
+        Integer stockOrNull = rs.wasNull() ? null : stock;
+        return new Product(
+                rs.getLong("id"),
+                rs.getString("nombre"),
+                rs.getString("descripcion"),
+                categoria,
+                rs.getString("marca"),
+                rs.getBigDecimal("precio_unitario"),
+                stockOrNull
+        );
+    }
+}
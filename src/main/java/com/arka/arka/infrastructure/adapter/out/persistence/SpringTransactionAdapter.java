@@ -0,0 +1,26 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.domain.port.out.TransactionPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the work in a transaction of the application's transaction manager
+ * JPA repositories and the JDBC adapters use the same datasource, so both join it
+ */
+@Component
+public class SpringTransactionAdapter implements TransactionPort {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public SpringTransactionAdapter(TransactionTemplate transactionTemplate) {
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
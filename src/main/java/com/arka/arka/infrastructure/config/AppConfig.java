@@ -1,11 +1,21 @@
 package com.arka.arka.infrastructure.config;
 
 
+import com.arka.arka.application.cache.CachingTemplateRepository;
 import com.arka.arka.domain.port.in.ManageTemplatesUseCase;
 import com.arka.arka.domain.port.out.TemplateRepository;
+import com.arka.arka.domain.port.out.VersionedTemplateSource;
 import com.arka.arka.application.service.TemplateManagementService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Clase de configuración de Spring para la aplicación.
@@ -16,13 +26,38 @@ public class AppConfig {
 
     /**
      * Define el bean para el caso de uso ManageTemplatesUseCase.
-     * Spring inyectará automáticamente la implementación de TemplateRepository (S3TemplateAdapter)
-     * ya que está marcada con @Component.
+     * Spring inyectará automáticamente la implementación de TemplateRepository (S3TemplateAdapter,
+     * o FileSystemTemplateAdapter con arka.templates.source=filesystem) ya que está marcada con @Component.
+     * Salvo que arka.templates.cache.max-entries sea 0, las lecturas pasan por una caché LRU que
+     * revalida cada plantilla por ETag en segundo plano y recuerda las que no existen.
      * @param templateRepository El adaptador de infraestructura para el repositorio de plantillas.
+     * @param templateSource El mismo adaptador, usado para las lecturas condicionales de la caché.
      * @return Una instancia de TemplateManagementService que implementa el caso de uso.
      */
     @Bean
-    public ManageTemplatesUseCase manageTemplatesUseCase(TemplateRepository templateRepository) {
-        return new TemplateManagementService(templateRepository);
+    public ManageTemplatesUseCase manageTemplatesUseCase(
+            TemplateRepository templateRepository,
+            VersionedTemplateSource templateSource,
+            @Value("${arka.templates.cache.max-entries:256}") int maxEntries,
+            @Value("${arka.templates.cache.ttl:PT5M}") Duration ttl,
+            @Value("${arka.templates.cache.negative-ttl:PT1M}") Duration negativeTtl,
+            @Qualifier("templateRefreshExecutor") ExecutorService templateRefreshExecutor) {
+        if (maxEntries <= 0) {
+            return new TemplateManagementService(templateRepository);
+        }
+        return new TemplateManagementService(new CachingTemplateRepository(templateSource, maxEntries, ttl, negativeTtl,
+                templateRefreshExecutor));
+    }
+
+    /**
+     * Revalidaciones de la caché de plantillas, una a la vez; en un hilo virtual cuando
+     * spring.threads.virtual.enabled=true. Se cierra junto con el contexto.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService templateRefreshExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newSingleThreadExecutor(Thread.ofVirtual().name("template-refresh").factory());
+        }
+        return Executors.newSingleThreadExecutor(Thread.ofPlatform().name("template-refresh").daemon().factory());
     }
 }
@@ -3,8 +3,37 @@ package com.arka.arka.infrastructure.config;
 import com.arka.arka.domain.port.in.*;
 import com.arka.arka.domain.port.out.*;
 import com.arka.arka.application.usecase.*;
+import com.arka.arka.application.cache.CatalogVersions;
+import com.arka.arka.application.cache.RefreshingCache;
+import com.arka.arka.application.cart.CartInactivityDetector;
+import com.arka.arka.application.notification.ReminderOutbox;
+import com.arka.arka.application.readmodel.CatalogReadModel;
+import com.arka.arka.application.readmodel.DashboardAggregates;
+import com.arka.arka.application.readmodel.FeaturedProducts;
+import com.arka.arka.application.readmodel.ProductProjection;
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import com.arka.arka.application.service.ProductCatalogService;
+import com.arka.arka.application.service.impl.ProductCatalogServiceImpl;
+import com.arka.arka.application.search.ProductSearchIndex;
+import com.arka.arka.infrastructure.adapter.in.web.SerializedResponseCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Bean Configuration for Hexagonal Architecture
@@ -16,13 +45,78 @@ public class BeanConfiguration {
 
     @Bean
     public ProductUseCase productUseCase(ProductRepositoryPort productRepository, 
-                                       CategoryRepositoryPort categoryRepository) {
-        return new ProductApplicationService(productRepository, categoryRepository);
+                                       CategoryRepositoryPort categoryRepository,
+                                       ProductQueryPort productQueryPort,
+                                       ObjectProvider<CatalogReadModel> catalogReadModel,
+                                       ObjectProvider<ProductSearchIndex> searchIndex,
+                                       ProductImportPort productImportPort,
+                                       DomainEventPublisher eventPublisher) {
+        return new ProductApplicationService(productRepository, categoryRepository,
+                productQueryPort, catalogReadModel.getIfAvailable(), searchIndex.getIfAvailable(),
+                productImportPort, eventPublisher);
+    }
+
+    @Bean
+    public ProductQueryUseCase productQueryUseCase(ProductQueryPort productQueryPort,
+                                                   ObjectProvider<ProductSearchIndex> searchIndex,
+                                                   ObjectProvider<FeaturedProducts> featuredProducts) {
+        return new ProductQueryApplicationService(productQueryPort, searchIndex.getIfAvailable(),
+                featuredProducts.getIfAvailable());
+    }
+
+    /**
+     * Precomputed featured products for the mobile home screen, enabled with arka.catalog.featured.enabled=true
+     */
+    @Bean
+    @ConditionalOnProperty(name = "arka.catalog.featured.enabled", havingValue = "true")
+    public FeaturedProducts featuredProducts(ProductQueryPort productQueryPort,
+                                             @Value("${arka.catalog.featured.size:20}") int size) {
+        return new FeaturedProducts(productQueryPort::findFeatured, size, productQueryPort::findAllById);
+    }
+
+    /**
+     * In-memory catalog read model, enabled with arka.catalog.read-model.enabled=true
+     */
+    @Bean
+    @ConditionalOnProperty(name = "arka.catalog.read-model.enabled", havingValue = "true")
+    public CatalogReadModel catalogReadModel(ProductRepositoryPort productRepository,
+                                             ProductQueryPort productQueryPort) {
+        return new CatalogReadModel(productRepository::findAll, productQueryPort::findAllById);
+    }
+
+    /**
+     * Trigram search index for product search, enabled with arka.catalog.search-index.enabled=true
+     */
+    @Bean
+    @ConditionalOnProperty(name = "arka.catalog.search-index.enabled", havingValue = "true")
+    public ProductSearchIndex productSearchIndex(ProductRepositoryPort productRepository,
+                                                 ProductQueryPort productQueryPort) {
+        return new ProductSearchIndex(productRepository::findAll, productQueryPort::findAllById);
+    }
+
+    /**
+     * Versions behind the ETags of catalog and product reads; kept in memory unless
+     * arka.catalog.versions.persistent=true, which is required when running several instances
+     */
+    @Bean
+    public CatalogVersions catalogVersions(ObjectProvider<CatalogVersionPort> catalogVersionPort) {
+        CatalogVersionPort store = catalogVersionPort.getIfAvailable();
+        return store != null ? new CatalogVersions(store) : new CatalogVersions();
+    }
+
+    /**
+     * Serialized JSON of the hot catalog lists, keyed by the catalog version
+     */
+    @Bean
+    public SerializedResponseCache serializedResponseCache(
+            @Value("${arka.catalog.response-cache.max-entries:512}") int maxEntries) {
+        return new SerializedResponseCache(maxEntries);
     }
 
     @Bean
-    public CategoryUseCase categoryUseCase(CategoryRepositoryPort categoryRepository) {
-        return new CategoryApplicationService(categoryRepository);
+    public CategoryUseCase categoryUseCase(CategoryRepositoryPort categoryRepository,
+                                           DomainEventPublisher eventPublisher) {
+        return new CategoryApplicationService(categoryRepository, eventPublisher);
     }
 
     @Bean
@@ -31,12 +125,135 @@ public class BeanConfiguration {
     }
 
     @Bean
-    public OrderUseCase orderUseCase(OrderRepositoryPort orderRepository) {
-        return new OrderApplicationService(orderRepository);
+    public OrderUseCase orderUseCase(OrderRepositoryPort orderRepository,
+                                   ObjectProvider<StockReservationUseCase> stockReservations,
+                                   ProductOrderIndexPort productOrderIndex,
+                                   DomainEventPublisher eventPublisher,
+                                   TransactionPort transactions,
+                                   Currency storeCurrency) {
+        return new OrderApplicationService(orderRepository, stockReservations.getIfAvailable(), productOrderIndex,
+                eventPublisher, transactions, storeCurrency);
+    }
+
+    /**
+     * Stock reservations with TTL, enabled with arka.stock.reservations.enabled=true
+     */
+    @Bean
+    @ConditionalOnProperty(name = "arka.stock.reservations.enabled", havingValue = "true")
+    public StockReservationUseCase stockReservationUseCase(StockReservationPort reservationPort,
+                                                         @Value("${arka.stock.reservations.ttl:PT15M}") Duration ttl,
+                                                         DomainEventPublisher eventPublisher) {
+        return new StockReservationApplicationService(reservationPort, ttl, Clock.systemDefaultZone(), eventPublisher);
     }
 
     @Bean
-    public CartUseCase cartUseCase(CartRepositoryPort cartRepository) {
-        return new CartApplicationService(cartRepository);
+    public TableExportUseCase tableExportUseCase(TableExportPort tableExportPort) {
+        return new TableExportApplicationService(tableExportPort);
+    }
+
+    @Bean
+    public CartUseCase cartUseCase(CartRepositoryPort cartRepository, DomainEventPublisher eventPublisher,
+                                   CartActivityPort cartActivityPort) {
+        return new CartApplicationService(cartRepository, eventPublisher, cartActivityPort);
+    }
+
+    /**
+     * Abandons carts after a period without activity, enabled with arka.carts.inactivity.enabled=true
+     */
+    @Bean
+    @ConditionalOnProperty(name = "arka.carts.inactivity.enabled", havingValue = "true")
+    public CartInactivityDetector cartInactivityDetector(CartActivityPort cartActivityPort,
+                                                         @Value("${arka.carts.inactivity.timeout:PT2H}") Duration timeout,
+                                                         @Value("${arka.carts.inactivity.batch-size:500}") int batchSize) {
+        return new CartInactivityDetector(timeout, cartActivityPort, batchSize);
+    }
+
+    /**
+     * MongoDB outbox for abandoned cart reminders, enabled with arka.notifications.outbox.enabled=true
+     */
+    @Bean
+    @ConditionalOnProperty(name = "arka.notifications.outbox.enabled", havingValue = "true")
+    public ReminderOutbox reminderOutbox(NotificationOutboxPort outboxPort,
+                                         @Value("${arka.notifications.outbox.lease:PT5M}") Duration lease,
+                                         @Value("${arka.notifications.outbox.retry-delay:PT1M}") Duration retryDelay,
+                                         @Value("${arka.notifications.outbox.max-attempts:5}") int maxAttempts) {
+        return new ReminderOutbox(outboxPort, Clock.systemUTC(), lease, retryDelay, maxAttempts);
+    }
+
+    /**
+     * Shares scheduled jobs between instances through the lease tables, enabled with
+     * arka.scheduler.coordination.enabled=true; the node id defaults to the host name plus a random suffix
+     */
+    @Bean(destroyMethod = "leave")
+    @ConditionalOnProperty(name = "arka.scheduler.coordination.enabled", havingValue = "true")
+    public SchedulerCoordinator schedulerCoordinator(SchedulerLeasePort leasePort,
+                                                     @Value("${arka.scheduler.coordination.node-id:}") String nodeId,
+                                                     @Value("${arka.scheduler.coordination.lease:PT10M}") Duration lease,
+                                                     @Value("${arka.scheduler.coordination.node-ttl:PT45S}") Duration nodeTtl) {
+        if (nodeId.isBlank()) {
+            String host;
+            try {
+                host = InetAddress.getLocalHost().getHostName();
+            } catch (UnknownHostException e) {
+                host = "arka";
+            }
+            nodeId = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        return new SchedulerCoordinator(leasePort, nodeId, lease, nodeTtl);
+    }
+
+    /**
+     * Event-maintained dashboard counters, enabled with arka.dashboard.aggregates.enabled=true
+     */
+    @Bean
+    @ConditionalOnProperty(name = "arka.dashboard.aggregates.enabled", havingValue = "true")
+    public DashboardAggregates dashboardAggregates(DashboardStatsPort dashboardStatsPort, Currency storeCurrency) {
+        return new DashboardAggregates(() -> dashboardStatsPort.loadTotals(
+                DashboardAggregates.LOW_STOCK_THRESHOLD, DashboardAggregates.POPULAR_PRODUCTS), storeCurrency);
+    }
+
+    /**
+     * MongoDB product projection for the reactive catalog API, enabled with arka.catalog.projection.enabled=true
+     */
+    @Bean
+    @ConditionalOnProperty(name = "arka.catalog.projection.enabled", havingValue = "true")
+    public ProductProjection productProjection(ProductQueryPort productQueryPort,
+                                               CategoryRepositoryPort categoryRepository,
+                                               ProductProjectionPort productProjectionPort) {
+        return new ProductProjection(productQueryPort, categoryRepository, productProjectionPort,
+                Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "arka.catalog.projection.enabled", havingValue = "true")
+    public ProductCatalogService productCatalogService(ProductProjectionQueryPort productProjectionQueryPort) {
+        return new ProductCatalogServiceImpl(productProjectionQueryPort);
+    }
+
+    /**
+     * Results of the analytics endpoints, shared by concurrent dashboard polls;
+     * results that carry an error are not cached
+     */
+    @Bean
+    public RefreshingCache<String, Map<String, Object>> analyticsCache(
+            @Value("${arka.analytics.cache.ttl:PT30S}") Duration ttl,
+            @Value("${arka.analytics.cache.max-stale:PT5M}") Duration maxStale,
+            @Qualifier("analyticsRefreshExecutor") ExecutorService analyticsRefreshExecutor) {
+        return new RefreshingCache<>(ttl, maxStale, analyticsRefreshExecutor, result -> !result.containsKey("error"));
+    }
+
+    /**
+     * One refresh at a time; on a virtual thread when spring.threads.virtual.enabled=true
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService analyticsRefreshExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newSingleThreadExecutor(Thread.ofVirtual().name("analytics-cache-refresh").factory());
+        }
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analytics-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
@@ -0,0 +1,34 @@
+package com.arka.arka.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Currency;
+
+/**
+ * Store currency (arka.money.currency, ISO 4217)
+ * Prices and order totals are stored as plain decimals without a currency column, so the
+ * currency is a property of the deployment rather than of each row. It is injected into every
+ * bean that turns a stored amount into Money. It also fixes the minor units of the dashboard
+ * counters and analytics rollups: after changing it, reconcile the dashboard and rebuild the rollups.
+ */
+@Configuration
+public class MoneyConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(MoneyConfiguration.class);
+
+    @Bean
+    public Currency storeCurrency(@Value("${arka.money.currency:COP}") String currencyCode) {
+        Currency currency;
+        try {
+            currency = Currency.getInstance(currencyCode.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("arka.money.currency is not an ISO 4217 code: " + currencyCode, e);
+        }
+        logger.info("💱 Store currency: {}", currency.getCurrencyCode());
+        return currency;
+    }
+}
@@ -0,0 +1,57 @@
+package com.arka.arka.infrastructure.config;
+
+import com.arka.arka.domain.port.in.ManageTemplatesUseCase;
+import com.arka.arka.domain.port.out.NotificationPort;
+import com.arka.arka.infrastructure.adapter.out.notification.NotificationDispatcher;
+import com.arka.arka.infrastructure.adapter.out.notification.NotificationPortTransport;
+import com.arka.arka.infrastructure.adapter.out.notification.NotificationTransport;
+import com.arka.arka.infrastructure.adapter.out.notification.SmtpNotificationTransport;
+import com.arka.arka.infrastructure.adapter.out.notification.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * Notification pipeline: bounded queue, worker threads and a rate limit per provider
+ * arka.notifications.transport=smtp sends batches straight over SMTP, rendering the template
+ * named by arka.notifications.smtp.template and honouring arka.mail.enabled; the default sends
+ * each reminder through the {@link NotificationPort} adapter. The workers are virtual threads
+ * when spring.threads.virtual.enabled=true.
+ */
+@Configuration
+public class NotificationConfiguration {
+
+    @Bean
+    public NotificationTransport notificationTransport(
+            @Value("${arka.notifications.transport:port}") String transport,
+            @Value("${arka.notifications.batch-size:50}") int batchSize,
+            @Value("${arka.mail.from:noreply@arka.com}") String from,
+            @Value("${arka.mail.enabled:false}") boolean mailEnabled,
+            @Value("${arka.notifications.smtp.template:carrito-abandonado.html}") String templateName,
+            @Value("${arka.notifications.smtp.subject:🛒 Tienes productos esperando en tu carrito}") String subject,
+            NotificationPort notificationPort,
+            JavaMailSender mailSender,
+            ManageTemplatesUseCase templates) {
+        if ("smtp".equals(transport)) {
+            return new SmtpNotificationTransport(mailSender, templates, templateName, subject, from,
+                    mailEnabled, batchSize);
+        }
+        return new NotificationPortTransport(notificationPort);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public NotificationDispatcher notificationDispatcher(
+            NotificationTransport notificationTransport,
+            @Value("${arka.notifications.rate-per-second:10}") double ratePerSecond,
+            @Value("${arka.notifications.burst:50}") int burst,
+            @Value("${arka.notifications.queue-capacity:10000}") int queueCapacity,
+            @Value("${arka.notifications.workers:2}") int workers,
+            @Value("${arka.notifications.batch-size:50}") int batchSize,
+            Environment environment) {
+        return new NotificationDispatcher(notificationTransport, new TokenBucket(ratePerSecond, burst),
+                queueCapacity, workers, batchSize, Threading.VIRTUAL.isActive(environment));
+    }
+}
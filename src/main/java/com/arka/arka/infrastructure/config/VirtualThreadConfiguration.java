@@ -0,0 +1,30 @@
+package com.arka.arka.infrastructure.config;
+
+import com.arka.arka.infrastructure.monitoring.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Virtual-thread mode (spring.threads.virtual.enabled=true)
+ * Spring Boot then runs Tomcat requests, @Scheduled tasks and the application task executor on
+ * virtual threads; the application's own executors check the same property. This class only adds
+ * the pinning diagnostic, which is meaningless on platform threads.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "arka.threads.pinning-monitor.enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${arka.threads.pinning-monitor.threshold:PT0.02S}") Duration threshold,
+            @Value("${arka.threads.pinning-monitor.report-interval:PT1M}") Duration reportInterval) {
+        return new VirtualThreadPinningMonitor(threshold, reportInterval);
+    }
+}
@@ -0,0 +1,189 @@
+package com.arka.arka.infrastructure.monitoring;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Diagnostic for virtual-thread mode: reports virtual threads that blocked while pinned to their carrier
+ * On Java 21 a virtual thread that blocks (socket read, sleep, lock wait) inside a synchronized block
+ * or a native frame cannot unmount, so it keeps a carrier thread busy for the whole wait. The JDK reports
+ * each case as a jdk.VirtualThreadPinned JFR event; this monitor streams those events in-process and
+ * aggregates them per stack. The first wait at a stack is logged with the stack, application frames
+ * marked, so the synchronized block held across I/O can be found; later waits at the same stack are
+ * only counted and summarised once per report interval, so a hot pinned path cannot flood the log.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.arka.";
+    private static final int MAX_FRAMES = 12;
+    private static final int MAX_SITES = 256;
+
+    private final Duration threshold;
+    private final Duration reportInterval;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final Map<String, PinnedSite> sites = new ConcurrentHashMap<>();
+    private final LongAdder untrackedEvents = new LongAdder();
+    private volatile long lastSummaryNanos = System.nanoTime();
+    private RecordingStream stream;
+
+    /**
+     * @param threshold Shortest pinned wait that is reported
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this(threshold, Duration.ofMinutes(1));
+    }
+
+    /**
+     * @param threshold      Shortest pinned wait that is reported
+     * @param reportInterval Shortest time between two summaries of repeated pinned waits
+     */
+    public VirtualThreadPinningMonitor(Duration threshold, Duration reportInterval) {
+        this.threshold = threshold;
+        this.reportInterval = reportInterval;
+    }
+
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.onFlush(this::summariseIfDue);
+        stream.startAsync();
+        logger.info("📌 Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * Pinned waits reported since the monitor started
+     */
+    public long getPinnedEvents() {
+        return pinnedEvents.sum();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedEvents.increment();
+        String stack = describe(event.getStackTrace());
+        long millis = event.getDuration().toMillis();
+        if (record(stack, millis)) {
+            logger.warn("📌 Virtual thread pinned for {} ms (synchronized or native frame held while blocking);"
+                    + " further waits at this stack are summarised every {} s:\n{}",
+                    millis, reportInterval.toSeconds(), stack);
+        }
+    }
+
+    private void summariseIfDue() {
+        long now = System.nanoTime();
+        if (now - lastSummaryNanos < reportInterval.toNanos()) {
+            return;
+        }
+        lastSummaryNanos = now;
+        drainSummary().forEach(logger::warn);
+    }
+
+    /**
+     * Counts a pinned wait against its stack
+     *
+     * @return Whether this is the first wait seen at the stack
+     */
+    boolean record(String stack, long millis) {
+        PinnedSite site = sites.get(stack);
+        if (site != null) {
+            site.add(millis);
+            return false;
+        }
+        if (sites.size() >= MAX_SITES) {
+            untrackedEvents.increment();
+            return false;
+        }
+        PinnedSite created = new PinnedSite();
+        PinnedSite existing = sites.putIfAbsent(stack, created);
+        (existing != null ? existing : created).add(millis);
+        return existing == null;
+    }
+
+    /**
+     * One line per stack with waits since the previous summary, resetting their counts
+     */
+    List<String> drainSummary() {
+        List<String> lines = new ArrayList<>();
+        sites.forEach((stack, site) -> {
+            long[] pending = site.drain();
+            if (pending[0] > 0) {
+                lines.add(String.format("📌 %d pinned waits (%d ms total, %d ms max) since the last summary at:%n%s",
+                        pending[0], pending[1], pending[2], stack));
+            }
+        });
+        long untracked = untrackedEvents.sumThenReset();
+        if (untracked > 0) {
+            lines.add(String.format("📌 %d pinned waits at stacks beyond the %d tracked ones", untracked, MAX_SITES));
+        }
+        return lines;
+    }
+
+    /**
+     * Stack of the pinned thread, innermost frame first; application frames are marked with "=>"
+     */
+    static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String described = frames.stream()
+                .limit(MAX_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n"));
+        return frames.size() > MAX_FRAMES ? described + "\n\t..." : described;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        String marker = type.startsWith(APPLICATION_PACKAGE) ? "=> " : "   ";
+        return "\t" + marker + type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * Pinned waits at one stack since the last summary
+     */
+    private static final class PinnedSite {
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+
+        private synchronized void add(long millis) {
+            count++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        private synchronized long[] drain() {
+            long[] pending = {count, totalMillis, maxMillis};
+            count = 0;
+            totalMillis = 0;
+            maxMillis = 0;
+            return pending;
+        }
+    }
+}
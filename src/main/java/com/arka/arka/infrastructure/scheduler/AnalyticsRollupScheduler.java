@@ -0,0 +1,36 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.domain.port.out.SalesAnalyticsPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduler that rebuilds the recent part of the hourly analytics rollup
+ * Corrects buckets missed by a failed incremental update or changed by writes that
+ * bypassed the use cases; only yesterday and today are recomputed
+ */
+@Component
+public class AnalyticsRollupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsRollupScheduler.class);
+
+    private final SalesAnalyticsPort salesAnalyticsPort;
+
+    public AnalyticsRollupScheduler(SalesAnalyticsPort salesAnalyticsPort) {
+        this.salesAnalyticsPort = salesAnalyticsPort;
+    }
+
+    @Scheduled(cron = "${arka.analytics.rollup.rebuild-cron:0 15 0 * * *}")
+    public void rebuildRecentBuckets() {
+        try {
+            int buckets = salesAnalyticsPort.rebuildRollup(LocalDate.now().minusDays(1).atStartOfDay());
+            logger.info("📊 Rebuilt {} recent analytics buckets", buckets);
+        } catch (Exception e) {
+            logger.error("❌ Error rebuilding analytics rollup: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.application.cart.CartInactivityDetector;
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.port.in.CartUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Scheduler that abandons the carts whose inactivity deadline passed since the last tick
+ * Abandoning is a conditional write on the persisted activity, so a cart is abandoned once
+ * even when instances overlap; the lease only keeps the others from repeating the reads.
+ */
+@Component
+@ConditionalOnProperty(name = "arka.carts.inactivity.enabled", havingValue = "true")
+public class CartInactivityScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartInactivityScheduler.class);
+    private static final String INACTIVITY_JOB = "carts.inactivity";
+
+    private final CartInactivityDetector cartInactivityDetector;
+    private final CartUseCase cartUseCase;
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    /**
+     * @param schedulerCoordinator Optional; when present, only the lease holder polls inactive carts
+     */
+    public CartInactivityScheduler(CartInactivityDetector cartInactivityDetector, CartUseCase cartUseCase,
+                                   ObjectProvider<SchedulerCoordinator> schedulerCoordinator) {
+        this.cartInactivityDetector = cartInactivityDetector;
+        this.cartUseCase = cartUseCase;
+        this.schedulerCoordinator = schedulerCoordinator.getIfAvailable();
+    }
+
+    @Scheduled(fixedDelayString = "${arka.carts.inactivity.tick-ms:60000}")
+    public void abandonInactiveCarts() {
+        LocalDateTime now = LocalDateTime.now();
+        int abandoned = 0;
+        try {
+            if (schedulerCoordinator != null && !schedulerCoordinator.isLeader(INACTIVITY_JOB)) {
+                return;
+            }
+            List<Long> expired;
+            int abandonedInBatch;
+            do {
+                expired = cartInactivityDetector.pollExpired(now);
+                abandonedInBatch = abandon(expired, now);
+                abandoned += abandonedInBatch;
+                // A full batch leaves older carts behind; carts that failed stay first, so stop without progress
+            } while (expired.size() == cartInactivityDetector.getBatchSize() && abandonedInBatch > 0);
+        } catch (Exception e) {
+            logger.error("❌ Error loading inactive carts: {}", e.getMessage(), e);
+        }
+        if (abandoned > 0) {
+            logger.info("🛒 {} carts abandoned after inactivity", abandoned);
+        }
+    }
+
+    private int abandon(List<Long> cartIds, LocalDateTime now) {
+        int abandoned = 0;
+        for (Long cartId : cartIds) {
+            try {
+                Optional<Cart> cart = cartUseCase.abandonIfInactive(cartId, cartInactivityDetector.inactiveSince(now));
+                if (cart.isPresent() && cart.get().isAbandoned()) {
+                    abandoned++;
+                }
+            } catch (Exception e) {
+                logger.error("❌ Error abandoning cart {}: {}", cartId, e.getMessage(), e);
+            }
+        }
+        return abandoned;
+    }
+}
@@ -0,0 +1,36 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.application.readmodel.DashboardAggregates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that reconciles the event-maintained dashboard aggregates with the database
+ */
+@Component
+@ConditionalOnProperty(name = "arka.dashboard.aggregates.enabled", havingValue = "true")
+public class DashboardReconciliationScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardReconciliationScheduler.class);
+
+    private final DashboardAggregates dashboardAggregates;
+
+    public DashboardReconciliationScheduler(DashboardAggregates dashboardAggregates) {
+        this.dashboardAggregates = dashboardAggregates;
+    }
+
+    @Scheduled(fixedDelayString = "${arka.dashboard.aggregates.reconcile-ms:300000}")
+    public void reconcile() {
+        try {
+            if (dashboardAggregates.reconcile()) {
+                logger.info("📊 Dashboard aggregates drifted from the database and were corrected: {}",
+                        dashboardAggregates.current());
+            }
+        } catch (Exception e) {
+            logger.error("❌ Error reconciling dashboard aggregates: {}", e.getMessage(), e);
+        }
+    }
+}
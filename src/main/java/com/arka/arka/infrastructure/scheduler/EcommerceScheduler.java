@@ -1,13 +1,17 @@
 package com.arka.arka.infrastructure.scheduler;
 
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
 import com.arka.arka.domain.model.Cart;
 import com.arka.arka.domain.port.in.CartUseCase;
-import com.arka.arka.domain.port.out.NotificationPort;
+import com.arka.arka.infrastructure.adapter.out.notification.NotificationDispatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -18,21 +22,42 @@ import java.util.List;
 public class EcommerceScheduler {
     
     private static final Logger logger = LoggerFactory.getLogger(EcommerceScheduler.class);
+    private static final long HOURLY_MS = 3600000;
     
     private final CartUseCase cartUseCase;
-    private final NotificationPort notificationPort;
+    private final NotificationDispatcher notificationDispatcher;
+    private final boolean outboxEnabled;
+    private final SchedulerCoordinator schedulerCoordinator;
     
-    public EcommerceScheduler(CartUseCase cartUseCase, NotificationPort notificationPort) {
+    /**
+     * @param outboxEnabled        When true, reminders come from the notification outbox and the hourly resend is skipped
+     * @param schedulerCoordinator Optional; when present, each job runs on one instance at a time
+     */
+    public EcommerceScheduler(CartUseCase cartUseCase, NotificationDispatcher notificationDispatcher,
+                              @Value("${arka.notifications.outbox.enabled:false}") boolean outboxEnabled,
+                              ObjectProvider<SchedulerCoordinator> schedulerCoordinator) {
         this.cartUseCase = cartUseCase;
-        this.notificationPort = notificationPort;
+        this.notificationDispatcher = notificationDispatcher;
+        this.outboxEnabled = outboxEnabled;
+        this.schedulerCoordinator = schedulerCoordinator.getIfAvailable();
     }
     
     /**
      * Process abandoned carts every hour
-     * Sends reminder emails to customers with abandoned carts
+     * Queues reminder emails for customers with abandoned carts; the notification
+     * pipeline sends them in the background at the provider's rate. Every instance fires at
+     * its own phase, so the run is guarded by a lease held for a whole period: only the leader
+     * sends, and another instance takes over only after the leader missed a run.
      */
-    @Scheduled(fixedRate = 3600000) // Every hour (3,600,000 ms)
+    @Scheduled(fixedRate = HOURLY_MS) // Every hour (3,600,000 ms)
     public void processAbandonedCarts() {
+        if (outboxEnabled) {
+            return;
+        }
+        if (schedulerCoordinator != null && !schedulerCoordinator.isLeader(
+                "ecommerce.abandoned-carts", Duration.ofMillis(HOURLY_MS))) {
+            return;
+        }
         logger.info("🔄 Processing abandoned carts...");
         
         try {
@@ -43,27 +68,32 @@ public class EcommerceScheduler {
                 return;
             }
             
-            logger.info("📧 Found {} abandoned carts, sending reminders...", abandonedCarts.size());
+            logger.info("📧 Found {} abandoned carts, queueing reminders...", abandonedCarts.size());
             
-            int emailsSent = 0;
+            int queued = 0;
+            int rejected = 0;
             for (Cart cart : abandonedCarts) {
                 if (cart.getCliente() != null && 
                     cart.getCliente().getEmail() != null && 
                     cart.getCliente().isValidEmail()) {
                     
-                    notificationPort.sendAbandonedCartReminder(
-                        cart.getCliente().getEmail(),
-                        cart.getCliente().getNombre(),
-                        cart.getId()
-                    );
-                    emailsSent++;
-                    
-                    // Small delay to avoid overwhelming email service
-                    Thread.sleep(200);
+                    if (notificationDispatcher.submit(
+                            cart.getCliente().getEmail(),
+                            cart.getCliente().getNombre(),
+                            cart.getId())) {
+                        queued++;
+                    } else {
+                        rejected++;
+                    }
                 }
             }
             
-            logger.info("✅ Sent {} abandoned cart reminder emails", emailsSent);
+            logger.info("✅ Queued {} abandoned cart reminder emails ({} rejected, queue full)", queued, rejected);
+            logger.info("📊 Notifications: sent={}, failed={}, rejected={}, queued={}, {} msg/s, lag last={}ms max={}ms",
+                    notificationDispatcher.getSent(), notificationDispatcher.getFailed(),
+                    notificationDispatcher.getRejected(), notificationDispatcher.getQueueDepth(),
+                    String.format("%.1f", notificationDispatcher.getThroughputPerSecond()),
+                    notificationDispatcher.getLastLagMillis(), notificationDispatcher.getMaxLagMillis());
             
         } catch (Exception e) {
             logger.error("❌ Error processing abandoned carts: {}", e.getMessage(), e);
@@ -75,6 +105,9 @@ public class EcommerceScheduler {
      */
     @Scheduled(fixedRate = 300000) // Every 5 minutes for demo purposes
     public void processAbandonedCartsDemo() {
+        if (schedulerCoordinator != null && !schedulerCoordinator.isLeader("ecommerce.abandoned-carts-demo")) {
+            return;
+        }
         logger.info("🚀 DEMO: Checking for abandoned carts...");
         
         try {
@@ -0,0 +1,33 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.application.readmodel.FeaturedProducts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that re-ranks the precomputed featured products
+ */
+@Component
+@ConditionalOnProperty(name = "arka.catalog.featured.enabled", havingValue = "true")
+public class FeaturedProductsScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeaturedProductsScheduler.class);
+
+    private final FeaturedProducts featuredProducts;
+
+    public FeaturedProductsScheduler(FeaturedProducts featuredProducts) {
+        this.featuredProducts = featuredProducts;
+    }
+
+    @Scheduled(fixedDelayString = "${arka.catalog.featured.refresh-ms:60000}")
+    public void refreshFeaturedProducts() {
+        try {
+            featuredProducts.refresh();
+        } catch (Exception e) {
+            logger.error("❌ Error refreshing featured products: {}", e.getMessage(), e);
+        }
+    }
+}
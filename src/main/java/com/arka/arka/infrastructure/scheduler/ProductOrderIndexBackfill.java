@@ -0,0 +1,100 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import com.arka.arka.domain.port.out.ProductOrderIndexPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scheduler that fills the product -> order index from the orders written before it existed
+ * Walks the orders table in id order, one keyset page per transaction, reading each page's order
+ * and product ids in a single query, and stores the last id of
+ * each page as a checkpoint, so a restart or a failed page resumes where it stopped instead of
+ * starting over. Orders written meanwhile are indexed by the order use case in their own
+ * transaction and are skipped by the backfill. With scheduler coordination, the backfill runs
+ * under a lease so only one instance pages at a time.
+ */
+@Component
+public class ProductOrderIndexBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductOrderIndexBackfill.class);
+    private static final String BACKFILL_JOB = "orders.product-index-backfill";
+
+    private final ProductOrderIndexPort productOrderIndex;
+    private final SchedulerCoordinator schedulerCoordinator;
+    private final int pageSize;
+    private volatile boolean complete;
+
+    /**
+     * @param schedulerCoordinator Optional; when present, only the lease holder pages the backfill
+     */
+    public ProductOrderIndexBackfill(ProductOrderIndexPort productOrderIndex,
+                                     ObjectProvider<SchedulerCoordinator> schedulerCoordinator,
+                                     @Value("${arka.orders.index-backfill.page-size:500}") int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("arka.orders.index-backfill.page-size must be positive");
+        }
+        this.productOrderIndex = productOrderIndex;
+        this.schedulerCoordinator = schedulerCoordinator.getIfAvailable();
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(fixedDelayString = "${arka.orders.index-backfill.check-ms:60000}")
+    public void backfill() {
+        if (complete) {
+            return;
+        }
+        try {
+            if (productOrderIndex.isBackfillComplete()) {
+                complete = true;
+                return;
+            }
+            if (schedulerCoordinator != null && !schedulerCoordinator.isLeader(BACKFILL_JOB)) {
+                return;
+            }
+            try {
+                int indexed = backfillPages();
+                logger.info("🗂️ Product order index backfill complete: {} orders read", indexed);
+            } finally {
+                if (schedulerCoordinator != null) {
+                    schedulerCoordinator.release(BACKFILL_JOB);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("⚠️ Product order index backfill stopped, resuming from its checkpoint: {}", e.getMessage());
+        }
+    }
+
+    private int backfillPages() {
+        Long checkpoint = productOrderIndex.findBackfillCheckpoint().orElse(null);
+        int read = 0;
+        while (true) {
+            Map<Long, List<Long>> productIdsByOrder = productOrderIndex.findOrderProductsAfter(checkpoint, pageSize);
+            if (productIdsByOrder.isEmpty()) {
+                productOrderIndex.indexBackfillPage(Map.of(), checkpoint, true);
+                complete = true;
+                return read;
+            }
+            for (Long orderId : productIdsByOrder.keySet()) {
+                checkpoint = orderId;
+            }
+            boolean lastPage = productIdsByOrder.size() < pageSize;
+            productOrderIndex.indexBackfillPage(productIdsByOrder, checkpoint, lastPage);
+            read += productIdsByOrder.size();
+            if (lastPage) {
+                complete = true;
+                return read;
+            }
+            if (schedulerCoordinator != null && !schedulerCoordinator.isLeader(BACKFILL_JOB)) {
+                throw new IllegalStateException("lease " + BACKFILL_JOB + " lost after order " + checkpoint);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.application.readmodel.ProductProjection;
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that rebuilds the product projection on startup and whenever a rebuild was requested
+ * With scheduler coordination, the rebuild runs under a lease so only one instance rebuilds at
+ * a time; the others retry on their next check and skip if that rebuild already covered them.
+ */
+@Component
+@ConditionalOnProperty(name = "arka.catalog.projection.enabled", havingValue = "true")
+public class ProductProjectionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductProjectionScheduler.class);
+    private static final String REBUILD_JOB = "catalog.projection-rebuild";
+
+    private final ProductProjection productProjection;
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    /**
+     * @param schedulerCoordinator Optional; when present, rebuilds are serialized between instances
+     */
+    public ProductProjectionScheduler(ProductProjection productProjection,
+                                      ObjectProvider<SchedulerCoordinator> schedulerCoordinator) {
+        this.productProjection = productProjection;
+        this.schedulerCoordinator = schedulerCoordinator.getIfAvailable();
+    }
+
+    @Scheduled(fixedDelayString = "${arka.catalog.projection.rebuild-check-ms:30000}")
+    public void rebuildIfRequested() {
+        try {
+            productProjection.purgeDeletionMarkers();
+            if (!productProjection.isRebuildRequested()) {
+                return;
+            }
+            if (schedulerCoordinator != null && !schedulerCoordinator.isLeader(REBUILD_JOB)) {
+                return;
+            }
+            try {
+                if (productProjection.rebuildIfRequested()) {
+                    logger.info("🍃 Product projection rebuilt from the database");
+                }
+            } finally {
+                if (schedulerCoordinator != null) {
+                    schedulerCoordinator.release(REBUILD_JOB);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("❌ Error rebuilding product projection: {}", e.getMessage(), e);
+        }
+    }
+}
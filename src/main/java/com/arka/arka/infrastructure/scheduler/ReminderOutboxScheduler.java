@@ -0,0 +1,164 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.application.notification.ReminderOutbox;
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.OutboxMessage;
+import com.arka.arka.domain.port.out.CartActivityPort;
+import com.arka.arka.domain.port.out.CartRepositoryPort;
+import com.arka.arka.infrastructure.adapter.out.notification.NotificationDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Poller that moves due outbox reminders into the notification pipeline
+ * The rate limiter drains the queue at a fixed pace, so a claimed message waits roughly
+ * queueDepth / ratePerSecond before it is sent. Claims are capped so that wait stays under half
+ * the lease, otherwise leases would expire in memory and other workers would send the same
+ * reminders again. Each message is marked as sent or released for retry once its send completes.
+ * A slower sweep produces the reminders of abandoned carts that have none. It pages through the
+ * carts abandoned since its stored checkpoint, by persisted last activity, and only loads the
+ * carts missing a reminder. A cart can be abandoned some time after its last activity, so each
+ * sweep starts {@code sweep-overlap} before the checkpoint; the outbox key skips carts seen twice.
+ */
+@Component
+@ConditionalOnProperty(name = "arka.notifications.outbox.enabled", havingValue = "true")
+public class ReminderOutboxScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderOutboxScheduler.class);
+    private static final String SWEEP_JOB = "notifications.abandoned-cart-sweep";
+
+    private final ReminderOutbox reminderOutbox;
+    private final NotificationDispatcher notificationDispatcher;
+    private final CartActivityPort cartActivityPort;
+    private final CartRepositoryPort cartRepository;
+    private final SchedulerCoordinator schedulerCoordinator;
+    private final int batchSize;
+    private final long drainBudget;
+    private final int sweepPageSize;
+    private final Duration sweepOverlap;
+
+    /**
+     * @param schedulerCoordinator Optional; when present, only the lease holder sweeps abandoned carts
+     * @param sweepOverlap         How long after its last activity a cart may still be abandoned and be swept
+     */
+    public ReminderOutboxScheduler(ReminderOutbox reminderOutbox, NotificationDispatcher notificationDispatcher,
+                                   CartActivityPort cartActivityPort, CartRepositoryPort cartRepository,
+                                   ObjectProvider<SchedulerCoordinator> schedulerCoordinator,
+                                   @Value("${arka.notifications.outbox.claim-size:100}") int batchSize,
+                                   @Value("${arka.notifications.rate-per-second:10}") double ratePerSecond,
+                                   @Value("${arka.notifications.outbox.sweep-page-size:500}") int sweepPageSize,
+                                   @Value("${arka.notifications.outbox.sweep-overlap:PT1H}") Duration sweepOverlap) {
+        if (sweepPageSize <= 0) {
+            throw new IllegalArgumentException("arka.notifications.outbox.sweep-page-size must be positive");
+        }
+        this.reminderOutbox = reminderOutbox;
+        this.notificationDispatcher = notificationDispatcher;
+        this.cartActivityPort = cartActivityPort;
+        this.cartRepository = cartRepository;
+        this.schedulerCoordinator = schedulerCoordinator.getIfAvailable();
+        this.batchSize = batchSize;
+        this.drainBudget = (long) (ratePerSecond * reminderOutbox.getLease().toMillis() / 2000.0);
+        this.sweepPageSize = sweepPageSize;
+        this.sweepOverlap = sweepOverlap;
+    }
+
+    @Scheduled(fixedDelayString = "${arka.notifications.outbox.poll-ms:5000}")
+    public void relayDueReminders() {
+        try {
+            List<OutboxMessage> claimed = reminderOutbox.claim(claimLimit(
+                    batchSize, notificationDispatcher.getRemainingCapacity(),
+                    notificationDispatcher.getQueueDepth(), drainBudget));
+            for (OutboxMessage message : claimed) {
+                boolean queued = notificationDispatcher.submit(message.getEmail(), message.getNombre(),
+                        message.getCartId(), error -> complete(message, error));
+                if (!queued) {
+                    reminderOutbox.failed(message, "Notification queue full");
+                }
+            }
+            if (!claimed.isEmpty()) {
+                logger.info("📬 Relayed {} outbox reminders", claimed.size());
+            }
+        } catch (Exception e) {
+            logger.error("❌ Error relaying outbox reminders: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${arka.notifications.outbox.sweep-ms:600000}")
+    public void sweepAbandonedCarts() {
+        try {
+            if (schedulerCoordinator != null && !schedulerCoordinator.isLeader(SWEEP_JOB)) {
+                return;
+            }
+            try {
+                int enqueued = sweepSinceCheckpoint();
+                if (enqueued > 0) {
+                    logger.warn("⚠️ Produced {} missing outbox reminders for abandoned carts", enqueued);
+                }
+            } finally {
+                if (schedulerCoordinator != null) {
+                    schedulerCoordinator.release(SWEEP_JOB);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("❌ Error sweeping abandoned carts into the outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Moves the checkpoint after every page, so a failed sweep resumes from the last full page
+     */
+    int sweepSinceCheckpoint() {
+        LocalDateTime checkpoint = cartActivityPort.findSweepCheckpoint().orElse(null);
+        LocalDateTime activityAfter = checkpoint != null ? checkpoint.minus(sweepOverlap) : null;
+        Long afterId = null;
+        int enqueued = 0;
+        while (true) {
+            List<Cart> page = cartActivityPort.findAbandonedAfter(activityAfter, afterId, sweepPageSize);
+            if (page.isEmpty()) {
+                return enqueued;
+            }
+            enqueued += reminderOutbox.sweep(page.stream().map(Cart::getId).toList(), cartRepository::findById);
+            Cart last = page.get(page.size() - 1);
+            activityAfter = last.getFechaUltimaActividad();
+            afterId = last.getId();
+            if (checkpoint == null || activityAfter.isAfter(checkpoint)) {
+                checkpoint = activityAfter;
+                cartActivityPort.saveSweepCheckpoint(checkpoint);
+            }
+            if (page.size() < sweepPageSize) {
+                return enqueued;
+            }
+            if (schedulerCoordinator != null && !schedulerCoordinator.isLeader(SWEEP_JOB)) {
+                throw new IllegalStateException("lease " + SWEEP_JOB + " lost after cart " + afterId);
+            }
+        }
+    }
+
+    /**
+     * Messages that can be claimed now: bounded by the claim size, the free queue slots and what
+     * the rate limiter can still send within half a lease after the messages already queued
+     */
+    static int claimLimit(int batchSize, int remainingCapacity, int queueDepth, long drainBudget) {
+        long withinLease = Math.max(0, drainBudget - queueDepth);
+        return (int) Math.min(Math.min(batchSize, remainingCapacity), withinLease);
+    }
+
+    private void complete(OutboxMessage message, RuntimeException error) {
+        boolean recorded = error == null
+                ? reminderOutbox.delivered(message)
+                : reminderOutbox.failed(message, error.getMessage());
+        if (!recorded) {
+            logger.warn("⚠️ Lease lost on outbox reminder {}; it may be delivered again", message.getClave());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that keeps this instance in the list of live nodes sharing the scheduled jobs
+ */
+@Component
+@ConditionalOnProperty(name = "arka.scheduler.coordination.enabled", havingValue = "true")
+public class SchedulerHeartbeatScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerHeartbeatScheduler.class);
+
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    public SchedulerHeartbeatScheduler(SchedulerCoordinator schedulerCoordinator) {
+        this.schedulerCoordinator = schedulerCoordinator;
+    }
+
+    @Scheduled(fixedDelayString = "${arka.scheduler.coordination.heartbeat-ms:15000}")
+    public void heartbeat() {
+        try {
+            schedulerCoordinator.heartbeat();
+        } catch (Exception e) {
+            logger.error("❌ Error sending scheduler heartbeat for {}: {}",
+                    schedulerCoordinator.getNodeId(), e.getMessage(), e);
+        }
+    }
+}
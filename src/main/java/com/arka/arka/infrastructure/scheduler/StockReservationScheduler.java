@@ -0,0 +1,36 @@
+package com.arka.arka.infrastructure.scheduler;
+
+import com.arka.arka.domain.port.in.StockReservationUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that gives back the stock of reservations whose TTL ran out
+ */
+@Component
+@ConditionalOnProperty(name = "arka.stock.reservations.enabled", havingValue = "true")
+public class StockReservationScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockReservationScheduler.class);
+
+    private final StockReservationUseCase stockReservationUseCase;
+
+    public StockReservationScheduler(StockReservationUseCase stockReservationUseCase) {
+        this.stockReservationUseCase = stockReservationUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${arka.stock.reservations.expiry-check-ms:30000}")
+    public void releaseExpiredReservations() {
+        try {
+            int released = stockReservationUseCase.releaseExpired();
+            if (released > 0) {
+                logger.info("📦 Released {} expired stock reservations", released);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Error releasing expired stock reservations: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.arka.arka.application.cache;
+
+import com.arka.arka.domain.model.TemplateVersion;
+import com.arka.arka.domain.port.out.VersionedTemplateSource;
+import com.arka.arka.infrastructure.adapter.FileSystemTemplateAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the template cache against the file-system stand-in for S3
+ */
+class CachingTemplateRepositoryTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicBoolean storeDown = new AtomicBoolean();
+    private final List<TemplateVersion.Estado> fetches = new ArrayList<>();
+    private Path templates;
+    private CachingTemplateRepository cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        templates = Files.createDirectory(directory.resolve("plantillas"));
+        cache = cache(10);
+    }
+
+    @Test
+    void getTemplateContent_ShouldReadTheStoreOnceWhileFresh() throws IOException {
+        // Given
+        write("carrito.html", "Hola {{nombre}}", 1_000);
+
+        // When
+        Optional<String> first = cache.getTemplateContent("carrito.html");
+        Optional<String> second = cache.getTemplateContent("carrito.html");
+
+        // Then
+        assertEquals(Optional.of("Hola {{nombre}}"), first);
+        assertEquals(first, second);
+        assertEquals(List.of(TemplateVersion.Estado.ENCONTRADA), fetches);
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void getTemplateContent_ShouldRevalidateStaleCopiesWithTheirETag() throws IOException {
+        // Given
+        write("carrito.html", "Hola {{nombre}}", 1_000);
+        cache.getTemplateContent("carrito.html");
+        elapse(TTL);
+
+        // When
+        Optional<String> stale = cache.getTemplateContent("carrito.html");
+        Optional<String> revalidated = cache.getTemplateContent("carrito.html");
+
+        // Then
+        assertEquals(Optional.of("Hola {{nombre}}"), stale);
+        assertEquals(stale, revalidated);
+        assertEquals(List.of(TemplateVersion.Estado.ENCONTRADA, TemplateVersion.Estado.SIN_CAMBIOS), fetches);
+        assertEquals(1, cache.getNotModified());
+    }
+
+    @Test
+    void getTemplateContent_ShouldPickUpChangedTemplatesInTheBackground() throws IOException {
+        // Given
+        write("carrito.html", "Hola {{nombre}}", 1_000);
+        cache.getTemplateContent("carrito.html");
+        write("carrito.html", "Buenas {{nombre}}, vuelve pronto", 2_000);
+        elapse(TTL);
+
+        // When
+        Optional<String> stale = cache.getTemplateContent("carrito.html");
+        Optional<String> refreshed = cache.getTemplateContent("carrito.html");
+
+        // Then
+        assertEquals(Optional.of("Hola {{nombre}}"), stale);
+        assertEquals(Optional.of("Buenas {{nombre}}, vuelve pronto"), refreshed);
+    }
+
+    @Test
+    void revalidation_ShouldNotRestoreATemplateInvalidatedMeanwhile() throws IOException {
+        // Given
+        List<Runnable> queued = new ArrayList<>();
+        CachingTemplateRepository deferred = cache(10, queued::add);
+        write("carrito.html", "Hola {{nombre}}", 1_000);
+        deferred.getTemplateContent("carrito.html");
+        elapse(TTL);
+        deferred.getTemplateContent("carrito.html");
+
+        // When
+        deferred.invalidate("carrito.html");
+        queued.forEach(Runnable::run);
+
+        // Then
+        assertEquals(1, queued.size());
+        assertEquals(0, deferred.size());
+        assertEquals(List.of(TemplateVersion.Estado.ENCONTRADA, TemplateVersion.Estado.SIN_CAMBIOS), fetches);
+    }
+
+    @Test
+    void getTemplateContent_ShouldCacheMissingTemplatesForTheNegativeTtl() throws IOException {
+        // Given
+        cache.getTemplateContent("nueva.html");
+        write("nueva.html", "Nueva", 1_000);
+
+        // When
+        Optional<String> stillMissing = cache.getTemplateContent("nueva.html");
+        elapse(NEGATIVE_TTL);
+        Optional<String> found = cache.getTemplateContent("nueva.html");
+
+        // Then
+        assertTrue(stillMissing.isEmpty());
+        assertEquals(Optional.of("Nueva"), found);
+        assertEquals(1, cache.getNegativeHits());
+        assertEquals(List.of(TemplateVersion.Estado.NO_EXISTE, TemplateVersion.Estado.ENCONTRADA), fetches);
+    }
+
+    @Test
+    void getTemplateContent_ShouldKeepTheCachedCopyWhenTheStoreFails() throws IOException {
+        // Given
+        write("carrito.html", "Hola {{nombre}}", 1_000);
+        cache.getTemplateContent("carrito.html");
+        elapse(TTL);
+        storeDown.set(true);
+
+        // When
+        Optional<String> stale = cache.getTemplateContent("carrito.html");
+        Optional<String> uncached = cache.getTemplateContent("pedido.html");
+
+        // Then
+        assertEquals(Optional.of("Hola {{nombre}}"), stale);
+        assertTrue(uncached.isEmpty());
+        assertEquals(2, cache.getFailures());
+    }
+
+    @Test
+    void getTemplateContent_ShouldEvictTheLeastRecentlyUsedTemplate() throws IOException {
+        // Given
+        CachingTemplateRepository small = cache(2);
+        write("a.html", "A", 1_000);
+        write("b.html", "B", 1_000);
+        write("c.html", "C", 1_000);
+
+        // When
+        small.getTemplateContent("a.html");
+        small.getTemplateContent("b.html");
+        small.getTemplateContent("a.html");
+        small.getTemplateContent("c.html");
+        small.getTemplateContent("a.html");
+        small.getTemplateContent("b.html");
+
+        // Then
+        assertEquals(2, small.size());
+        assertEquals(4, small.getMisses());
+        assertEquals(2, small.getHits());
+    }
+
+    @Test
+    void fetch_ShouldNotResolveKeysOutsideTheTemplateDirectory() throws IOException {
+        // Given
+        Files.writeString(directory.resolve("secreto.txt"), "no");
+
+        // When
+        Optional<String> content = cache.getTemplateContent("../secreto.txt");
+
+        // Then
+        assertTrue(content.isEmpty());
+    }
+
+    private CachingTemplateRepository cache(int maxEntries) {
+        return cache(maxEntries, Runnable::run);
+    }
+
+    private CachingTemplateRepository cache(int maxEntries, Executor refreshExecutor) {
+        FileSystemTemplateAdapter fileSystem = new FileSystemTemplateAdapter(templates);
+        VersionedTemplateSource recording = (name, etag) -> {
+            if (storeDown.get()) {
+                throw new IllegalStateException("Store unavailable");
+            }
+            TemplateVersion version = fileSystem.fetch(name, etag);
+            fetches.add(version.getEstado());
+            return version;
+        };
+        return new CachingTemplateRepository(recording, maxEntries, TTL, NEGATIVE_TTL, refreshExecutor, now::get);
+    }
+
+    private void write(String name, String content, long modifiedMillis) throws IOException {
+        Path file = templates.resolve(name);
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis));
+    }
+
+    private void elapse(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,169 @@
+package com.arka.arka.application.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TTL cache with background refresh and request coalescing
+ */
+class RefreshingCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private RefreshingCache<String, String> cache;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RefreshingCache<>(Duration.ofSeconds(30), Duration.ofMinutes(5), refreshes::add,
+                value -> !value.startsWith("error"), nanos::get);
+        callers = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void get_ShouldServeFreshValueWithoutReloading() {
+        // When
+        String first = cache.get("stats", this::load);
+        nanos.addAndGet(Duration.ofSeconds(29).toNanos());
+        String second = cache.get("stats", this::load);
+
+        // Then
+        assertEquals("v1", first);
+        assertEquals("v1", second);
+        assertEquals(1, loads.get());
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRate(), 0.0001);
+    }
+
+    @Test
+    void get_ShouldServeStaleValueAndRefreshOnceInBackground() {
+        // Given
+        cache.get("stats", this::load);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        String stale = cache.get("stats", this::load);
+        String stillStale = cache.get("stats", this::load);
+        assertEquals(1, refreshes.size(), "only one refresh per key may be scheduled");
+        refreshes.get(0).run();
+        String refreshed = cache.get("stats", this::load);
+
+        // Then
+        assertEquals("v1", stale);
+        assertEquals("v1", stillStale);
+        assertEquals("v2", refreshed);
+        assertEquals(2, cache.stats().getStaleHits());
+    }
+
+    @Test
+    void get_ShouldLoadSynchronouslyOnceMaxStaleHasPassed() {
+        // Given
+        cache.get("stats", this::load);
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        // When
+        String value = cache.get("stats", this::load);
+
+        // Then
+        assertEquals("v2", value);
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void get_ShouldCoalesceConcurrentMissesIntoOneLoad() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = callers.submit(() -> cache.get("stats", () -> {
+            loading.countDown();
+            await(release);
+            return load();
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // When
+        List<Future<String>> waiting = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            waiting.add(callers.submit(() -> cache.get("stats", this::load)));
+        }
+        while (cache.stats().getCoalesced() < 15) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        assertEquals("v1", first.get(5, TimeUnit.SECONDS));
+        for (Future<String> future : waiting) {
+            assertEquals("v1", future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getLoads());
+    }
+
+    @Test
+    void get_ShouldNotCacheFailuresOrRejectedResults() {
+        // When
+        assertThrows(IllegalStateException.class, () -> cache.get("stats", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        String error = cache.get("stats", () -> "error: partial");
+        String value = cache.get("stats", this::load);
+
+        // Then
+        assertEquals("error: partial", error);
+        assertEquals("v1", value);
+        assertEquals(1, cache.stats().getLoadFailures());
+        assertEquals(3, cache.stats().getMisses());
+    }
+
+    @Test
+    void get_ShouldKeepStaleValueWhenBackgroundRefreshFails() {
+        // Given
+        cache.get("stats", this::load);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        cache.get("stats", () -> {
+            throw new IllegalStateException("database down");
+        });
+        refreshes.get(0).run();
+
+        // Then
+        assertEquals("v1", cache.get("stats", this::load));
+        assertEquals(1, cache.stats().getLoadFailures());
+    }
+
+    private String load() {
+        return "v" + loads.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
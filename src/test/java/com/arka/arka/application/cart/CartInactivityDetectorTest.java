@@ -0,0 +1,50 @@
+package com.arka.arka.application.cart;
+
+import com.arka.arka.domain.port.out.CartActivityPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the cart inactivity polling over the persisted last activity
+ */
+class CartInactivityDetectorTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 10, 0);
+    private static final Duration TIMEOUT = Duration.ofHours(2);
+
+    private final CartActivityPort activityPort = mock(CartActivityPort.class);
+
+    @Test
+    void pollExpired_ShouldReadOneBatchOfCartsInactiveSinceTheTimeout() {
+        // Given
+        CartInactivityDetector detector = new CartInactivityDetector(TIMEOUT, activityPort, 50);
+        when(activityPort.findInactive(T0, 50)).thenReturn(List.of(1L, 3L));
+
+        // When
+        List<Long> expired = detector.pollExpired(T0.plusHours(2));
+
+        // Then
+        assertEquals(List.of(1L, 3L), expired);
+        verify(activityPort).findInactive(T0, 50);
+    }
+
+    @Test
+    void inactiveSince_ShouldSubtractTheTimeout() {
+        // Given
+        CartInactivityDetector detector = new CartInactivityDetector(TIMEOUT, activityPort, 50);
+
+        // When / Then
+        assertEquals(T0, detector.inactiveSince(T0.plusHours(2)));
+    }
+
+    @Test
+    void constructor_ShouldRejectANonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CartInactivityDetector(TIMEOUT, activityPort, 0));
+    }
+}
@@ -0,0 +1,234 @@
+package com.arka.arka.application.notification;
+
+import com.arka.arka.domain.event.CartChanged;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.Customer;
+import com.arka.arka.domain.model.OutboxMessage;
+import com.arka.arka.domain.port.out.NotificationOutboxPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for producing and delivering abandoned cart reminders through the outbox
+ */
+class ReminderOutboxTest {
+
+    private static final Instant T0 = Instant.parse("2024-03-01T10:00:00Z");
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final MutableClock clock = new MutableClock();
+    private final ReminderOutbox reminders = reminderOutbox();
+
+    @Test
+    void onCartChanged_ShouldProduceOneReminderPerAbandonedCart() {
+        // Given
+        CartChanged abandoned = new CartChanged(cart(1L, "ACTIVE"), cart(1L, "ABANDONED"));
+
+        // When
+        boolean first = reminders.onCartChanged(abandoned);
+        boolean replayed = reminders.onCartChanged(abandoned);
+        boolean stillAbandoned = reminders.onCartChanged(new CartChanged(cart(1L, "ABANDONED"), cart(1L, "ABANDONED")));
+        boolean active = reminders.onCartChanged(CartChanged.created(cart(2L, "ACTIVE")));
+
+        // Then
+        assertTrue(first);
+        assertFalse(replayed);
+        assertFalse(stillAbandoned);
+        assertFalse(active);
+        assertEquals(1, outbox.messages.size());
+    }
+
+    @Test
+    void claim_ShouldNotHandTheSameReminderToTwoWorkers() {
+        // Given
+        reminders.onCartChanged(CartChanged.created(cart(1L, "ABANDONED")));
+        ReminderOutbox otherWorker = reminderOutbox();
+
+        // When
+        List<OutboxMessage> claimed = reminders.claim(10);
+        List<OutboxMessage> claimedByOther = otherWorker.claim(10);
+
+        // Then
+        assertEquals(1, claimed.size());
+        assertTrue(claimedByOther.isEmpty());
+        assertTrue(reminders.delivered(claimed.get(0)));
+        assertEquals(OutboxMessage.SENT, outbox.messages.get(claimed.get(0).getClave()).getEstado());
+    }
+
+    @Test
+    void claim_ShouldReclaimAfterTheLeaseExpiresAndIgnoreTheLateWorker() {
+        // Given
+        reminders.onCartChanged(CartChanged.created(cart(1L, "ABANDONED")));
+        OutboxMessage lost = reminders.claim(10).get(0);
+        ReminderOutbox otherWorker = reminderOutbox();
+
+        // When
+        clock.advance(Duration.ofMinutes(6));
+        List<OutboxMessage> reclaimed = otherWorker.claim(10);
+
+        // Then
+        assertEquals(1, reclaimed.size());
+        assertEquals(2, reclaimed.get(0).getIntentos());
+        assertFalse(reminders.delivered(lost));
+        assertTrue(otherWorker.delivered(reclaimed.get(0)));
+    }
+
+    @Test
+    void failed_ShouldBackOffAndGiveUpAfterMaxAttempts() {
+        // Given
+        reminders.onCartChanged(CartChanged.created(cart(1L, "ABANDONED")));
+
+        // When
+        reminders.failed(reminders.claim(10).get(0), "SMTP down");
+        List<OutboxMessage> tooEarly = reminders.claim(10);
+        clock.advance(Duration.ofMinutes(1));
+        reminders.failed(reminders.claim(10).get(0), "SMTP down");
+        clock.advance(Duration.ofMinutes(2));
+        reminders.failed(reminders.claim(10).get(0), "SMTP down");
+
+        // Then
+        assertTrue(tooEarly.isEmpty());
+        OutboxMessage message = outbox.messages.values().iterator().next();
+        assertEquals(OutboxMessage.FAILED, message.getEstado());
+        assertEquals(3, message.getIntentos());
+        assertTrue(reminders.claim(10).isEmpty());
+    }
+
+    @Test
+    void sweep_ShouldProduceOnlyTheMissingReminders() {
+        // Given
+        reminders.onCartChanged(CartChanged.created(cart(1L, "ABANDONED")));
+        reminders.delivered(reminders.claim(10).get(0));
+
+        // When
+        int enqueued = reminders.sweep(List.of(cart(1L, "ABANDONED"), cart(2L, "ABANDONED"), cart(3L, "ACTIVE")));
+        int again = reminders.sweep(List.of(cart(1L, "ABANDONED"), cart(2L, "ABANDONED")));
+
+        // Then
+        assertEquals(1, enqueued);
+        assertEquals(0, again);
+        assertEquals(OutboxMessage.SENT, outbox.messages.get(ReminderOutbox.ABANDONED_CART_TEMPLATE + ":1").getEstado());
+        assertEquals(OutboxMessage.PENDING, outbox.messages.get(ReminderOutbox.ABANDONED_CART_TEMPLATE + ":2").getEstado());
+    }
+
+    private ReminderOutbox reminderOutbox() {
+        return new ReminderOutbox(outbox, clock, Duration.ofMinutes(5), Duration.ofMinutes(1), 3);
+    }
+
+    private static Cart cart(Long id, String estado) {
+        Customer customer = new Customer();
+        customer.setNombre("Ana");
+        customer.setEmail("ana@arka.com");
+        return new Cart(id, customer, null, estado);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = T0;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    /**
+     * Same claim and lease rules as the MongoDB adapter: while claimed, disponibleEn is the lease end
+     */
+    private static final class InMemoryOutbox implements NotificationOutboxPort {
+        private final Map<String, OutboxMessage> messages = new LinkedHashMap<>();
+        private final Map<String, String> workers = new LinkedHashMap<>();
+
+        @Override
+        public boolean enqueue(OutboxMessage message) {
+            return messages.putIfAbsent(message.getClave(), message) == null;
+        }
+
+        @Override
+        public Set<Long> findCartIds(String plantilla, Collection<Long> cartIds) {
+            return messages.values().stream()
+                    .filter(m -> plantilla.equals(m.getPlantilla()) && cartIds.contains(m.getCartId()))
+                    .map(OutboxMessage::getCartId)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public List<OutboxMessage> claim(String workerId, int limit, Instant now, Instant leaseUntil) {
+            List<OutboxMessage> claimed = new ArrayList<>();
+            messages.values().stream()
+                    .filter(m -> OutboxMessage.PENDING.equals(m.getEstado()) || OutboxMessage.IN_PROGRESS.equals(m.getEstado()))
+                    .filter(m -> !m.getDisponibleEn().isAfter(now))
+                    .sorted(Comparator.comparing(OutboxMessage::getDisponibleEn))
+                    .limit(limit)
+                    .forEach(m -> {
+                        m.setEstado(OutboxMessage.IN_PROGRESS);
+                        m.setDisponibleEn(leaseUntil);
+                        m.setIntentos(m.getIntentos() + 1);
+                        workers.put(m.getClave(), workerId);
+                        claimed.add(copy(m));
+                    });
+            return claimed;
+        }
+
+        @Override
+        public boolean markSent(String clave, String workerId, Instant sentAt) {
+            return complete(clave, workerId, OutboxMessage.SENT, null);
+        }
+
+        @Override
+        public boolean release(String clave, String workerId, Instant retryAt, String error) {
+            return complete(clave, workerId, OutboxMessage.PENDING, retryAt);
+        }
+
+        @Override
+        public boolean markFailed(String clave, String workerId, String error) {
+            return complete(clave, workerId, OutboxMessage.FAILED, null);
+        }
+
+        private boolean complete(String clave, String workerId, String estado, Instant disponibleEn) {
+            OutboxMessage message = messages.get(clave);
+            if (!OutboxMessage.IN_PROGRESS.equals(message.getEstado()) || !workerId.equals(workers.get(clave))) {
+                return false;
+            }
+            message.setEstado(estado);
+            message.setDisponibleEn(disponibleEn);
+            return true;
+        }
+
+        private static OutboxMessage copy(OutboxMessage m) {
+            OutboxMessage copy = new OutboxMessage(m.getPlantilla(), m.getCartId(), m.getEmail(), m.getNombre(), m.getCreadoEn());
+            copy.setEstado(m.getEstado());
+            copy.setIntentos(m.getIntentos());
+            copy.setDisponibleEn(m.getDisponibleEn());
+            return copy;
+        }
+    }
+}
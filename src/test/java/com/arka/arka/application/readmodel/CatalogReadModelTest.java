@@ -0,0 +1,194 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory catalog read model
+ */
+class CatalogReadModelTest {
+
+    private final List<Product> database = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private CatalogReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        Category electronica = new Category(1L, "Electronica");
+        Category hogar = new Category(2L, "Hogar");
+        database.add(new Product(1L, "teclado", "Teclado mecánico", electronica, "Logi", new BigDecimal("120.00"), 5));
+        database.add(new Product(2L, "Aspiradora", "Aspiradora robot", hogar, "Xiaomi", new BigDecimal("350.00"), 2));
+        database.add(new Product(3L, "Mouse", "Mouse inalámbrico", electronica, "Logi", new BigDecimal("45.50"), 20));
+
+        readModel = new CatalogReadModel(() -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(database);
+        }, productIds -> database.stream()
+                .filter(product -> productIds.contains(product.getId()))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void current_ShouldLoadOnceAndServeFromMemory() {
+        // When
+        readModel.current();
+        readModel.current();
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(3, readModel.current().size());
+    }
+
+    @Test
+    void getByCategory_ShouldMatchIgnoringCase() {
+        // When
+        List<Product> products = readModel.current().getByCategory("electronica");
+
+        // Then
+        assertEquals(List.of(1L, 3L), ids(products));
+        assertTrue(readModel.current().getByCategory("Juguetes").isEmpty());
+    }
+
+    @Test
+    void getByPriceRange_ShouldIncludeBoundsInPriceOrder() {
+        // When
+        List<Product> products = readModel.current().getByPriceRange(new BigDecimal("45.5"), new BigDecimal("120"));
+
+        // Then
+        assertEquals(List.of(3L, 1L), ids(products));
+    }
+
+    @Test
+    void getSortedByName_ShouldSortCaseInsensitively() {
+        // When
+        List<Product> products = readModel.current().getSortedByName();
+
+        // Then
+        assertEquals(List.of("Aspiradora", "Mouse", "teclado"),
+                products.stream().map(Product::getNombre).collect(Collectors.toList()));
+    }
+
+    @Test
+    void publishUpsert_ShouldPublishNewVersionWithoutReloading() {
+        // Given
+        CatalogSnapshot before = readModel.current();
+        Product updated = new Product(3L, "Mouse gamer", "RGB", new Category(1L, "Electronica"),
+                "Logi", new BigDecimal("80.00"), 7);
+
+        // When
+        readModel.publishUpsert(updated);
+        updated.setNombre("mutated after publish");
+        CatalogSnapshot after = readModel.current();
+
+        // Then
+        assertEquals(1, loads.get());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals("Mouse", before.getSortedByName().get(1).getNombre());
+        assertEquals("Mouse gamer", after.getSortedByName().get(1).getNombre());
+        assertEquals(List.of(3L), ids(after.getByPriceRange(new BigDecimal("80"), new BigDecimal("80"))));
+    }
+
+    @Test
+    void publishRemoval_ShouldDropProductFromAllIndexes() {
+        // Given
+        readModel.current();
+
+        // When
+        readModel.publishRemoval(1L);
+
+        // Then
+        CatalogSnapshot snapshot = readModel.current();
+        assertEquals(2, snapshot.size());
+        assertEquals(List.of(3L), ids(snapshot.getByCategory("Electronica")));
+        assertTrue(snapshot.getByPriceRange(new BigDecimal("100"), new BigDecimal("200")).isEmpty());
+    }
+
+    @Test
+    void invalidate_ShouldReloadOnNextRead() {
+        // Given
+        readModel.current();
+        database.add(new Product(4L, "Silla", "Silla de oficina", new Category(2L, "Hogar"), "Ikea", new BigDecimal("99.90"), 3));
+
+        // When
+        readModel.invalidate();
+
+        // Then
+        assertEquals(4, readModel.current().size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onStockChanged_ShouldRefreshOnlyTheChangedProducts() {
+        // Given
+        readModel.current();
+        Category electronica = new Category(1L, "Electronica");
+        database.set(0, new Product(1L, "teclado", "Teclado mecánico", electronica, "Logi", new BigDecimal("120.00"), 0));
+        database.remove(1);
+
+        // When
+        readModel.onStockChanged(new StockChanged(Set.of(1L, 2L)));
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(Set.of(1L, 3L), Set.copyOf(ids(readModel.current().getAll())));
+        assertEquals(0, readModel.current().getByCategory("Electronica").get(0).getStock());
+    }
+
+    @Test
+    void onCategoryChanged_ShouldReloadOnNextRead() {
+        // Given
+        readModel.current();
+        Category tecnologia = new Category(1L, "Tecnologia");
+        database.set(0, new Product(1L, "teclado", "Teclado mecánico", tecnologia, "Logi", new BigDecimal("120.00"), 5));
+        database.set(2, new Product(3L, "Mouse", "Mouse inalámbrico", tecnologia, "Logi", new BigDecimal("45.50"), 20));
+
+        // When
+        readModel.onCategoryChanged(new CategoryChanged(1L));
+
+        // Then
+        assertEquals(List.of(1L, 3L), ids(readModel.current().getByCategory("Tecnologia")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void withProducts_ShouldMatchAFullRebuildInOneVersion() {
+        // Given
+        CatalogSnapshot before = readModel.current();
+        Category hogar = new Category(2L, "Hogar");
+        Product moved = new Product(1L, "Teclado", "Teclado mecánico", hogar, "Logi", new BigDecimal("45.5"), 5);
+        Product added = new Product(4L, "Bombillo", "LED", hogar, "Philips", new BigDecimal("120.00"), 9);
+
+        // When
+        readModel.publish(List.of(moved, added), List.of(2L, 99L));
+        CatalogSnapshot after = readModel.current();
+        CatalogSnapshot rebuilt = CatalogSnapshot.of(0, List.of(moved, database.get(2), added));
+
+        // Then
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertEquals(1, loads.get());
+        assertEquals(ids(rebuilt.getSortedByName()), ids(after.getSortedByName()));
+        assertEquals(List.of(4L, 3L, 1L), ids(after.getSortedByName()));
+        assertEquals(List.of(3L), ids(after.getByCategory("Electronica")));
+        assertEquals(List.of(1L, 4L), ids(after.getByCategory("hogar")));
+        assertEquals(List.of(3L, 1L), ids(after.getByPriceRange(new BigDecimal("45.50"), new BigDecimal("45.50"))));
+        assertEquals(List.of(4L), ids(after.getByPriceRange(new BigDecimal("100"), new BigDecimal("400"))));
+        assertEquals(List.of(1L, 3L, 4L), ids(after.getAll()));
+    }
+
+    private List<Long> ids(List<Product> products) {
+        return products.stream().map(Product::getId).collect(Collectors.toList());
+    }
+}
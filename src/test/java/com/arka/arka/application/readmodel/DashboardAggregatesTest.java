@@ -0,0 +1,168 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.domain.event.CartChanged;
+import com.arka.arka.domain.event.OrderChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.DashboardTotals;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the event-maintained dashboard aggregates
+ * The loader recounts in-memory "tables", so every delta can be checked against a full recount
+ */
+class DashboardAggregatesTest {
+
+    private static final Currency COP = Currency.getInstance("COP");
+
+    private final Map<Long, Product> productos = new LinkedHashMap<>();
+    private final Map<Long, Cart> carritos = new LinkedHashMap<>();
+    private final Map<Long, Order> pedidos = new LinkedHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private DashboardAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        productos.put(1L, product(1L, "Teclado", 5));
+        productos.put(2L, product(2L, "Mouse", 40));
+        carritos.put(1L, cart(1L, "ACTIVE"));
+        carritos.put(2L, cart(2L, "ABANDONED"));
+        pedidos.put(1L, order(1L, "120.50"));
+
+        aggregates = new DashboardAggregates(() -> {
+            loads.incrementAndGet();
+            return recount();
+        }, COP);
+    }
+
+    @Test
+    void current_ShouldLoadOnceAndApplyEventsWithoutReloading() {
+        // Given
+        DashboardTotals initial = aggregates.current();
+
+        // When
+        Product monitor = product(3L, "Monitor", 3);
+        productos.put(3L, monitor);
+        aggregates.onProductChanged(ProductChanged.created(monitor));
+
+        Product teclado = product(1L, "Teclado", 50);
+        aggregates.onProductChanged(new ProductChanged(productos.put(1L, teclado), teclado));
+
+        Order pedido = order(2L, "79.50");
+        pedidos.put(2L, pedido);
+        aggregates.onOrderChanged(OrderChanged.created(pedido));
+
+        // Then
+        DashboardTotals totals = aggregates.current();
+        assertEquals(1, loads.get());
+        assertEquals(2, initial.getTotalProductos());
+        assertEquals(3, totals.getTotalProductos());
+        assertEquals(1, totals.getProductosConBajoStock());
+        assertEquals(2, totals.getTotalPedidos());
+        assertEquals(0, new BigDecimal("200.00").compareTo(totals.getVentasTotales().toBigDecimal()));
+        assertTrue(totals.sameCounts(recount()));
+    }
+
+    @Test
+    void onCartChanged_ShouldTrackAbandonedCartsAndConversion() {
+        // Given
+        aggregates.current();
+
+        // When
+        Cart abandoned = cart(1L, "ABANDONED");
+        aggregates.onCartChanged(new CartChanged(carritos.put(1L, abandoned), abandoned));
+        aggregates.onCartChanged(CartChanged.deleted(carritos.remove(2L)));
+
+        // Then
+        DashboardTotals totals = aggregates.current();
+        assertEquals(1, totals.getTotalCarritos());
+        assertEquals(1, totals.getCarritosAbandonados());
+        assertEquals(100.0, totals.getTasaConversion(), 0.0001);
+        assertTrue(totals.sameCounts(recount()));
+    }
+
+    @Test
+    void onOrderChanged_ShouldApplyTotalDifferenceOnUpdateAndDelete() {
+        // Given
+        aggregates.current();
+
+        // When
+        Order updated = order(1L, "100.00");
+        aggregates.onOrderChanged(new OrderChanged(pedidos.put(1L, updated), updated));
+        aggregates.onOrderChanged(OrderChanged.deleted(pedidos.remove(1L)));
+
+        // Then
+        DashboardTotals totals = aggregates.current();
+        assertEquals(0, totals.getTotalPedidos());
+        assertTrue(totals.getVentasTotales().isZero());
+    }
+
+    @Test
+    void reconcile_ShouldCorrectWritesThatBypassedEvents() {
+        // Given
+        aggregates.current();
+        assertFalse(aggregates.reconcile());
+
+        // When
+        productos.get(2L).setStock(1);
+        boolean drifted = aggregates.reconcile();
+
+        // Then
+        assertTrue(drifted);
+        assertEquals(2, aggregates.current().getProductosConBajoStock());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void events_ShouldBeIgnoredBeforeFirstLoad() {
+        // When
+        Product monitor = product(3L, "Monitor", 3);
+        productos.put(3L, monitor);
+        aggregates.onProductChanged(ProductChanged.created(monitor));
+
+        // Then
+        assertEquals(3, aggregates.current().getTotalProductos());
+    }
+
+    private DashboardTotals recount() {
+        long bajoStock = productos.values().stream()
+                .filter(p -> p.getStock() != null && p.getStock() < DashboardAggregates.LOW_STOCK_THRESHOLD)
+                .count();
+        long abandonados = carritos.values().stream().filter(Cart::isAbandoned).count();
+        long ventas = pedidos.values().stream()
+                .mapToLong(o -> o.getTotal().movePointRight(2).longValueExact())
+                .sum();
+        List<String> populares = new ArrayList<>();
+        productos.values().stream().limit(DashboardAggregates.POPULAR_PRODUCTS).forEach(p -> populares.add(p.getNombre()));
+        return new DashboardTotals(productos.size(), bajoStock, carritos.size(), abandonados,
+                pedidos.size(), ventas, COP, populares);
+    }
+
+    private static Product product(Long id, String nombre, int stock) {
+        return new Product(id, nombre, null, null, null, new BigDecimal("10.00"), stock);
+    }
+
+    private static Cart cart(Long id, String estado) {
+        return new Cart(id, null, null, estado);
+    }
+
+    private static Order order(Long id, String total) {
+        Order order = new Order();
+        order.setId(id);
+        order.setTotal(new BigDecimal(total));
+        return order;
+    }
+}
@@ -0,0 +1,126 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the precomputed featured products
+ */
+class FeaturedProductsTest {
+
+    private final List<Product> ranking = new ArrayList<>();
+    private final List<Integer> requestedLimits = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private FeaturedProducts featured;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 5; id++) {
+            ranking.add(product(id, 10));
+        }
+        featured = new FeaturedProducts(limit -> {
+            loads.incrementAndGet();
+            requestedLimits.add(limit);
+            return ranking.stream().limit(limit).collect(Collectors.toList());
+        }, 3);
+    }
+
+    @Test
+    void get_ShouldLoadTopCapacityOnceAndServeFromMemory() {
+        // When
+        List<Product> first = featured.get(2);
+        List<Product> second = featured.get(10);
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(List.of(1L, 2L, 3L), ids(second));
+        assertEquals(1, loads.get());
+        assertEquals(List.of(3), requestedLimits);
+    }
+
+    @Test
+    void refresh_ShouldSwapInNewRanking() {
+        // Given
+        featured.get(3);
+        ranking.add(0, product(9L, 50));
+
+        // When
+        featured.refresh();
+
+        // Then
+        assertEquals(List.of(9L, 1L, 2L), ids(featured.get(3)));
+    }
+
+    @Test
+    void onProductChanged_ShouldPatchListedProductsAndDropUnavailableOnes() {
+        // Given
+        featured.get(3);
+        Product renamed = product(2L, 7);
+        renamed.setNombre("Renamed");
+
+        // When
+        featured.onProductChanged(new ProductChanged(product(2L, 10), renamed));
+        featured.onProductChanged(new ProductChanged(product(1L, 10), product(1L, 0)));
+        featured.onProductChanged(ProductChanged.deleted(product(3L, 10)));
+        featured.onProductChanged(ProductChanged.created(product(99L, 100)));
+
+        // Then
+        List<Product> current = featured.get(3);
+        assertEquals(List.of(2L), ids(current));
+        assertEquals("Renamed", current.get(0).getNombre());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void onStockChanged_ShouldDropListedProductsLeftWithoutStock() {
+        // Given
+        List<Product> database = new ArrayList<>(List.of(product(1L, 0), product(2L, 4), product(4L, 0)));
+        featured = new FeaturedProducts(limit -> {
+            loads.incrementAndGet();
+            return ranking.stream().limit(limit).collect(Collectors.toList());
+        }, 3, ids -> database.stream().filter(product -> ids.contains(product.getId())).collect(Collectors.toList()));
+        featured.get(3);
+
+        // When
+        featured.onStockChanged(new StockChanged(Set.of(1L, 2L, 4L)));
+
+        // Then
+        List<Product> current = featured.get(3);
+        assertEquals(List.of(2L, 3L), ids(current));
+        assertEquals(4, current.get(0).getStock());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void onStockChanged_ShouldReloadOnNextUseWhenProductsAreUnknown() {
+        // Given
+        featured.get(3);
+
+        // When
+        featured.onStockChanged(StockChanged.unknownProducts());
+        featured.get(3);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    private static List<Long> ids(List<Product> products) {
+        return products.stream().map(Product::getId).collect(Collectors.toList());
+    }
+
+    private static Product product(Long id, int stock) {
+        return new Product(id, "Producto " + id, null, null, null, new BigDecimal("10.00"), stock);
+    }
+}
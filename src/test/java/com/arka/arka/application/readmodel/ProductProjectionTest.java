@@ -0,0 +1,366 @@
+package com.arka.arka.application.readmodel;
+
+import com.arka.arka.application.service.impl.ProductCatalogServiceImpl;
+import com.arka.arka.domain.event.ProductBatchChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductSort;
+import com.arka.arka.domain.model.ProductSummary;
+import com.arka.arka.domain.model.ProductView;
+import com.arka.arka.domain.port.out.ProductProjectionPort;
+import com.arka.arka.domain.port.out.ProductProjectionQueryPort;
+import com.arka.arka.domain.port.out.ProductQueryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MongoDB product projection sync and its reactive read service
+ */
+class ProductProjectionTest {
+
+    private final Map<Long, Product> database = new TreeMap<>();
+    private final FakeProjectionStore store = new FakeProjectionStore();
+    private final MutableClock clock = new MutableClock();
+    private final FakeProductQueryPort queryPort = new FakeProductQueryPort();
+    private ProductProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 1_200; id++) {
+            database.put(id, product(id, 5));
+        }
+        projection = new ProductProjection(queryPort, null, store, clock);
+    }
+
+    @Test
+    void rebuildIfRequested_ShouldRebuildOnFirstRunInBatchesAndDropStaleViews() {
+        // Given
+        store.views.put(5_000L, ProductView.of(product(5_000L, 1)));
+        store.syncedAt.put(5_000L, clock.instant());
+        clock.advance();
+
+        // When
+        boolean first = projection.rebuildIfRequested();
+        boolean second = projection.rebuildIfRequested();
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(List.of(500, 500, 200), store.bulkSizes);
+        assertEquals(1_200, store.views.size());
+        assertFalse(store.views.containsKey(5_000L));
+        assertEquals("Perifericos", store.views.get(1L).getCategoriaNombre());
+    }
+
+    @Test
+    void onProductChanged_ShouldRewriteOrRemoveOnlyThatView() {
+        // Given
+        projection.rebuild();
+        database.put(7L, product(7L, 0));
+        Product deleted = database.remove(8L);
+
+        // When
+        projection.onProductChanged(new ProductChanged(product(7L, 5), database.get(7L)));
+        projection.onProductChanged(ProductChanged.deleted(deleted));
+
+        // Then
+        assertFalse(store.views.get(7L).isDisponible());
+        assertFalse(store.views.containsKey(8L));
+        assertEquals(1_199, store.views.size());
+    }
+
+    @Test
+    void onProductBatchChanged_ShouldRefreshTheChunkWithOneReadAndOneBulkWrite() {
+        // Given
+        projection.rebuild();
+        store.bulkSizes.clear();
+        database.put(1_201L, product(1_201L, 5));
+        database.put(1_202L, product(1_202L, 5));
+        Product deleted = database.remove(9L);
+
+        // When
+        projection.onProductChanged(ProductChanged.created(database.get(1_201L)).inBatch());
+        projection.onProductChanged(ProductChanged.created(database.get(1_202L)).inBatch());
+        projection.onProductChanged(ProductChanged.deleted(deleted).inBatch());
+        int readsBeforeBatchEvent = queryPort.byIdReads;
+        projection.onProductBatchChanged(new ProductBatchChanged(Set.of(1_201L, 1_202L, 9L)));
+
+        // Then
+        assertEquals(0, readsBeforeBatchEvent);
+        assertEquals(1, queryPort.byIdReads);
+        assertEquals(List.of(2), store.bulkSizes);
+        assertTrue(store.views.containsKey(1_202L));
+        assertFalse(store.views.containsKey(9L));
+    }
+
+    @Test
+    void onStockChanged_ShouldRefreshKnownProductsAndRequestRebuildForUnknown() {
+        // Given
+        projection.rebuildIfRequested();
+        database.put(3L, product(3L, 0));
+
+        // When
+        projection.onStockChanged(new StockChanged(Set.of(3L)));
+        boolean rebuiltAfterKnown = projection.rebuildIfRequested();
+        projection.onStockChanged(StockChanged.unknownProducts());
+
+        // Then
+        assertFalse(store.views.get(3L).isDisponible());
+        assertFalse(rebuiltAfterKnown);
+        assertTrue(projection.rebuildIfRequested());
+    }
+
+    @Test
+    void rebuild_ShouldNotWriteBackProductsDeletedOrUpdatedWhileItRuns() {
+        // Given
+        queryPort.afterFirstPage = () -> {
+            clock.advance();
+            Product deleted = database.remove(8L);
+            projection.onProductChanged(ProductChanged.deleted(deleted));
+            database.put(3L, product(3L, 0));
+            projection.onProductChanged(new ProductChanged(product(3L, 5), database.get(3L)));
+        };
+
+        // When
+        projection.rebuild();
+
+        // Then
+        assertFalse(store.views.containsKey(8L));
+        assertFalse(store.views.get(3L).isDisponible());
+        StepVerifier.create(store.findById(8L)).verifyComplete();
+        assertEquals(1_199, store.views.size());
+    }
+
+    @Test
+    void rebuildIfRequested_ShouldSkipWhenAnotherInstanceRebuiltAfterTheRequest() {
+        // Given
+        clock.advance();
+        store.recordRebuild(clock.instant());
+
+        // When
+        boolean rebuilt = projection.rebuildIfRequested();
+
+        // Then
+        assertFalse(rebuilt);
+        assertFalse(projection.isRebuildRequested());
+        assertTrue(store.bulkSizes.isEmpty());
+    }
+
+    @Test
+    void catalogService_ShouldReadProjectionAndSignalInvalidArguments() {
+        // Given
+        projection.rebuild();
+        ProductCatalogServiceImpl service = new ProductCatalogServiceImpl(store);
+
+        // Then
+        StepVerifier.create(service.obtenerPorId(2L))
+                .assertNext(view -> assertEquals("Producto 2", view.getNombre()))
+                .verifyComplete();
+        StepVerifier.create(service.obtenerPorId(99_999L))
+                .verifyComplete();
+        StepVerifier.create(service.buscar("producto 11", 3))
+                .expectNextCount(3)
+                .verifyComplete();
+        StepVerifier.create(service.obtenerPorRangoPrecio(BigDecimal.TEN, BigDecimal.ONE))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(service.buscar("x", 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static Product product(Long id, int stock) {
+        return new Product(id, "Producto " + id, null, new Category(1L, "Perifericos"), "Logi",
+                new BigDecimal("10.00"), stock);
+    }
+
+    private class FakeProductQueryPort implements ProductQueryPort {
+        private Runnable afterFirstPage;
+        private int byIdReads;
+
+        @Override
+        public List<Product> findAllById(Collection<Long> ids) {
+            byIdReads++;
+            return ids.stream().map(database::get).filter(Objects::nonNull).collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Product> findPage(ProductSort sort, ProductCursor after, int limit) {
+            long lastId = after != null ? after.getLastId() : 0;
+            List<Product> page = database.values().stream()
+                    .filter(product -> product.getId() > lastId)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            if (after == null && afterFirstPage != null) {
+                // A write lands between the rebuild's read and its bulk write
+                afterFirstPage.run();
+            }
+            return page;
+        }
+
+        @Override
+        public List<Product> findFeatured(int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Product> searchByName(String term, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ProductSummary> searchSummariesByName(String term, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ProductSummary> findSummaryById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Same stamping rules as the MongoDB adapter: a write never replaces one stamped later
+     */
+    private static class FakeProjectionStore implements ProductProjectionPort, ProductProjectionQueryPort {
+        private final Map<Long, ProductView> views = new TreeMap<>();
+        private final Map<Long, Instant> syncedAt = new TreeMap<>();
+        private final Set<Long> deleted = new HashSet<>();
+        private final List<Integer> bulkSizes = new ArrayList<>();
+        private Instant lastRebuildStart;
+
+        @Override
+        public void saveAll(Collection<ProductView> batch, Instant at) {
+            bulkSizes.add(batch.size());
+            batch.stream().filter(view -> !newerThan(view.getId(), at)).forEach(view -> {
+                views.put(view.getId(), view);
+                deleted.remove(view.getId());
+                syncedAt.put(view.getId(), at);
+            });
+        }
+
+        @Override
+        public void deleteAllById(Collection<Long> productIds, Instant at) {
+            productIds.stream().filter(id -> !newerThan(id, at)).forEach(id -> {
+                views.remove(id);
+                deleted.add(id);
+                syncedAt.put(id, at);
+            });
+        }
+
+        @Override
+        public long purgeDeletedBefore(Instant at) {
+            List<Long> purged = deleted.stream().filter(id -> syncedAt.get(id).isBefore(at)).toList();
+            purged.forEach(id -> {
+                deleted.remove(id);
+                syncedAt.remove(id);
+            });
+            return purged.size();
+        }
+
+        @Override
+        public Optional<Instant> lastRebuildStart() {
+            return Optional.ofNullable(lastRebuildStart);
+        }
+
+        @Override
+        public void recordRebuild(Instant start) {
+            lastRebuildStart = start;
+        }
+
+        private boolean newerThan(Long id, Instant at) {
+            return syncedAt.containsKey(id) && syncedAt.get(id).isAfter(at);
+        }
+
+        private void remove(Long id) {
+            views.remove(id);
+            deleted.remove(id);
+            syncedAt.remove(id);
+        }
+
+        @Override
+        public void renameCategory(Long categoryId, String categoryName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long deleteSyncedBefore(Instant at) {
+            List<Long> stale = syncedAt.entrySet().stream()
+                    .filter(entry -> entry.getValue().isBefore(at))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            stale.forEach(this::remove);
+            return stale.size();
+        }
+
+        @Override
+        public Mono<ProductView> findById(Long id) {
+            return Mono.justOrEmpty(views.get(id));
+        }
+
+        @Override
+        public Flux<ProductView> findByCategory(String categoryName) {
+            return Flux.fromIterable(views.values()).filter(view -> categoryName.equals(view.getCategoriaNombre()));
+        }
+
+        @Override
+        public Flux<ProductView> findByPriceRange(BigDecimal min, BigDecimal max) {
+            return Flux.fromIterable(views.values())
+                    .filter(view -> view.getPrecioUnitario().compareTo(min) >= 0 && view.getPrecioUnitario().compareTo(max) <= 0);
+        }
+
+        @Override
+        public Flux<ProductView> searchByName(String term, int limit) {
+            return Flux.fromIterable(views.values())
+                    .filter(view -> view.getNombre().toLowerCase().contains(term.toLowerCase()))
+                    .take(limit);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-05-01T10:00:00Z");
+
+        void advance() {
+            now = now.plusSeconds(1);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
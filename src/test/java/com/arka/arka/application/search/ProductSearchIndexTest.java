@@ -0,0 +1,134 @@
+package com.arka.arka.application.search;
+
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the trigram product search index
+ */
+class ProductSearchIndexTest {
+
+    private final List<Product> database = new ArrayList<>();
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Category audio = new Category(1L, "Audio");
+        database.add(product(1L, "Audífonos Bluetooth", "Sony", "Cancelación de ruido", audio));
+        database.add(product(2L, "Parlante portátil", "JBL", "Sonido envolvente para audífonos", audio));
+        database.add(product(3L, "Cable auxiliar", "Genérico", "Cable de audio 3.5mm", audio));
+        database.add(product(4L, "Juguete para niño", "Lego", "Bloques de construcción", audio));
+        index = new ProductSearchIndex(() -> new ArrayList<>(database));
+    }
+
+    @Test
+    void fold_ShouldRemoveSpanishAccentsAndCase() {
+        assertEquals("cancion nino pinguino", TextFolding.fold("Canción NIÑO, pingüino!"));
+    }
+
+    @Test
+    void search_ShouldIgnoreAccentsInQueryAndDocument() {
+        assertEquals(List.of(4L), ids(index.search("nino", 10)));
+        assertEquals(List.of(4L), ids(index.search("NIÑO", 10)));
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        // When
+        List<Long> ids = ids(index.search("audifonos", 10));
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids);
+    }
+
+    @Test
+    void search_ShouldSearchBrandAndTolerateTypos() {
+        assertEquals(List.of(1L), ids(index.search("sony", 10)));
+        assertEquals(List.of(2L), ids(index.search("parlamte portatil", 10)));
+    }
+
+    @Test
+    void search_ShouldReturnOnlyTopK() {
+        assertEquals(1, index.search("audio", 1).size());
+    }
+
+    @Test
+    void search_ShouldHandleQueriesShorterThanATrigram() {
+        assertEquals(List.of(3L), ids(index.search("ca", 10)).subList(0, 1));
+    }
+
+    @Test
+    void upsertAndRemove_ShouldUpdateIncrementally() {
+        // Given
+        index.search("cable", 10);
+
+        // When
+        index.upsert(product(3L, "Cable HDMI", "Genérico", "Cable 4K", null));
+        index.upsert(product(5L, "Micrófono", "Shure", "Micrófono dinámico", null));
+        index.remove(1L);
+
+        // Then
+        assertEquals(List.of(3L), ids(index.search("hdmi", 10)));
+        assertTrue(index.search("auxiliar", 10).isEmpty());
+        assertEquals(List.of(5L), ids(index.search("microfono", 10)));
+        assertEquals(List.of(2L), ids(index.search("audifonos", 10)));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void onStockChanged_ShouldReindexOnlyTheChangedProducts() {
+        // Given
+        index = new ProductSearchIndex(() -> new ArrayList<>(database), this::findAllById);
+        index.search("cable", 10);
+        Product reserved = product(3L, "Cable auxiliar", "Genérico", "Cable de audio 3.5mm", null);
+        reserved.setStock(0);
+        database.set(2, reserved);
+        database.remove(3);
+
+        // When
+        index.onStockChanged(new StockChanged(Set.of(3L, 4L)));
+
+        // Then
+        assertEquals(0, index.search("cable", 10).get(0).getStock());
+        assertTrue(index.search("juguete", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void onCategoryChanged_ShouldReloadTheCatalogOnTheNextQuery() {
+        // Given
+        index.search("cable", 10);
+        database.set(2, product(3L, "Cable auxiliar", "Genérico", "Cable de audio 3.5mm", new Category(1L, "Sonido")));
+
+        // When
+        index.onCategoryChanged(new CategoryChanged(1L));
+
+        // Then
+        assertEquals("Sonido", index.search("cable", 10).get(0).getCategoria().getNombre());
+    }
+
+    private List<Product> findAllById(Collection<Long> ids) {
+        return database.stream().filter(product -> ids.contains(product.getId())).collect(Collectors.toList());
+    }
+
+    private static Product product(Long id, String nombre, String marca, String descripcion, Category categoria) {
+        return new Product(id, nombre, descripcion, categoria, marca, new BigDecimal("10.00"), 1);
+    }
+
+    private static List<Long> ids(List<Product> products) {
+        return products.stream().map(Product::getId).collect(Collectors.toList());
+    }
+}
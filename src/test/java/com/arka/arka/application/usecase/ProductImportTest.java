@@ -0,0 +1,260 @@
+package com.arka.arka.application.usecase;
+
+import com.arka.arka.application.readmodel.CatalogReadModel;
+import com.arka.arka.domain.model.BatchResult;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductImportResult;
+import com.arka.arka.domain.port.out.ProductImportPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bulk product import and batch write/delete use cases
+ */
+class ProductImportTest {
+
+    private FakeImportPort importPort;
+    private ProductApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        importPort = new FakeImportPort(Set.of(1L, 2L));
+        service = new ProductApplicationService(null, null, null, null, null, importPort, null);
+    }
+
+    @Test
+    void importProducts_ShouldCheckCategoriesOnceAndInsertInChunks() {
+        // Given
+        List<Product> rows = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            rows.add(product("Producto " + i, i % 2 == 0 ? 1L : 2L));
+        }
+
+        // When
+        ProductImportResult result = service.importProducts(rows.iterator());
+
+        // Then
+        assertEquals(1200, result.getReceived());
+        assertEquals(1200, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertEquals(1, importPort.categoryQueries);
+        assertEquals(List.of(500, 500, 200), importPort.batchSizes);
+        assertEquals(1L, rows.get(0).getId());
+        assertEquals(1200L, rows.get(1199).getId());
+    }
+
+    @Test
+    void importProducts_ShouldReportInvalidRowsAndImportTheRest() {
+        // Given
+        List<Object> rows = List.of(
+                product("Teclado", 1L),
+                product(" ", 1L),
+                new IllegalArgumentException("Invalid JSON: unexpected token"),
+                product("Monitor", 99L),
+                product("Mouse", 2L));
+
+        // When
+        ProductImportResult result = service.importProducts(iteratorOf(rows));
+
+        // Then
+        assertEquals(5, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(2, 3, 4), result.getErrors().stream()
+                .map(ProductImportResult.RowError::getRow).collect(Collectors.toList()));
+        assertEquals("Category not found with id: 99", result.getErrors().get(2).getMessage());
+    }
+
+    @Test
+    void importProducts_ShouldKeepCommittedChunksWhenTheUploadBreaksOff() {
+        // Given
+        List<Product> rows = new ArrayList<>();
+        for (int i = 0; i < 700; i++) {
+            rows.add(product("Producto " + i, 1L));
+        }
+        Iterator<Product> delegate = rows.iterator();
+        Iterator<Product> broken = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (!delegate.hasNext()) {
+                    throw new UncheckedIOException(new IOException("Connection reset"));
+                }
+                return true;
+            }
+
+            @Override
+            public Product next() {
+                return delegate.next();
+            }
+        };
+
+        // When
+        ProductImportResult result = service.importProducts(broken);
+
+        // Then
+        assertFalse(result.isComplete());
+        assertEquals(700, result.getReceived());
+        assertEquals(700, result.getImported());
+        assertEquals(List.of(500, 200), importPort.batchSizes);
+        assertEquals(701, result.getErrors().get(0).getRow());
+    }
+
+    @Test
+    void importProducts_ShouldRetryFailedBatchRowByRow() {
+        // Given
+        importPort.rejectedName = "Duplicado";
+        List<Product> rows = List.of(product("Cargador", 1L), product("Duplicado", 1L), product("Cable", 2L));
+
+        // When
+        ProductImportResult result = service.importProducts(rows.iterator());
+
+        // Then
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertEquals(List.of("Cargador", "Cable"), importPort.inserted.stream()
+                .map(Product::getNombre).collect(Collectors.toList()));
+    }
+
+    @Test
+    void createProducts_ShouldReportIdOrErrorPerItemInOrder() {
+        // Given
+        List<Product> items = List.of(product("Teclado", 1L), product("Monitor", 99L), product("Mouse", 2L));
+
+        // When
+        BatchResult result = service.createProducts(items.iterator());
+
+        // Then
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(List.of(0, 1, 2), result.getItems().stream()
+                .map(BatchResult.ItemResult::getIndex).collect(Collectors.toList()));
+        assertEquals(1L, result.getItems().get(0).getId());
+        assertFalse(result.getItems().get(1).isSuccess());
+        assertEquals("Category not found with id: 99", result.getItems().get(1).getMessage());
+        assertEquals(2L, result.getItems().get(2).getId());
+    }
+
+    @Test
+    void deleteProducts_ShouldIssueOneDeletePerChunkAndReportMissingAndDuplicateIds() {
+        // Given
+        service.createProducts(List.of(product("Teclado", 1L), product("Mouse", 2L)).iterator());
+        List<Long> ids = Arrays.asList(1L, 7L, 1L, null, 2L);
+
+        // When
+        BatchResult result = service.deleteProducts(ids);
+
+        // Then
+        assertEquals(5, result.getReceived());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(List.of(Set.of(1L, 7L, 2L)), importPort.deleteCalls);
+        List<BatchResult.ItemResult> items = result.getItems();
+        assertTrue(items.get(0).isSuccess());
+        assertEquals("Product not found with id: 7", items.get(1).getMessage());
+        assertEquals("Duplicate product id: 1", items.get(2).getMessage());
+        assertFalse(items.get(3).isSuccess());
+        assertTrue(items.get(4).isSuccess());
+        assertTrue(importPort.inserted.isEmpty());
+    }
+
+    @Test
+    void deleteProducts_ShouldPublishOneReadModelSnapshotPerChunk() {
+        // Given
+        CatalogReadModel readModel = new CatalogReadModel(() -> List.copyOf(importPort.inserted));
+        service = new ProductApplicationService(null, null, null, readModel, null, importPort, null);
+        service.createProducts(List.of(product("Teclado", 1L), product("Mouse", 2L), product("Monitor", 1L)).iterator());
+        long version = readModel.current().getVersion();
+
+        // When
+        service.deleteProducts(List.of(1L, 3L));
+
+        // Then
+        assertEquals(version + 1, readModel.current().getVersion());
+        assertEquals(List.of("Mouse"), readModel.current().getSortedByName().stream().map(Product::getNombre).toList());
+    }
+
+    private static Product product(String nombre, Long categoryId) {
+        return new Product(null, nombre, "Importado", new Category(categoryId, null), "Arka", new BigDecimal("10.00"), 5);
+    }
+
+    /**
+     * Iterator that throws the exceptions found in the list, like a reader hitting a malformed row
+     */
+    private static Iterator<Product> iteratorOf(List<Object> rows) {
+        Iterator<Object> delegate = rows.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Product next() {
+                Object row = delegate.next();
+                if (row instanceof RuntimeException e) {
+                    throw e;
+                }
+                return (Product) row;
+            }
+        };
+    }
+
+    private static class FakeImportPort implements ProductImportPort {
+        private final Set<Long> categories;
+        private final List<Product> inserted = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final List<Set<Long>> deleteCalls = new ArrayList<>();
+        private int categoryQueries;
+        private String rejectedName;
+        private long nextId = 1;
+
+        private FakeImportPort(Set<Long> categories) {
+            this.categories = categories;
+        }
+
+        @Override
+        public Set<Long> findExistingCategoryIds(Collection<Long> categoryIds) {
+            categoryQueries++;
+            Set<Long> existing = new HashSet<>(categoryIds);
+            existing.retainAll(categories);
+            return existing;
+        }
+
+        @Override
+        public List<Long> insertAll(List<Product> products) {
+            if (products.stream().anyMatch(product -> product.getNombre().equals(rejectedName))) {
+                throw new IllegalStateException("Duplicate entry for " + rejectedName);
+            }
+            batchSizes.add(products.size());
+            inserted.addAll(products);
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < products.size(); i++) {
+                ids.add(nextId++);
+            }
+            return ids;
+        }
+
+        @Override
+        public List<Product> deleteAll(Collection<Long> ids) {
+            deleteCalls.add(new HashSet<>(ids));
+            List<Product> existing = inserted.stream()
+                    .filter(product -> ids.contains(product.getId())).collect(Collectors.toList());
+            inserted.removeAll(existing);
+            return existing;
+        }
+    }
+}
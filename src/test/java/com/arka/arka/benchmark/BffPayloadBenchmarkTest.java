@@ -0,0 +1,124 @@
+package com.arka.arka.benchmark;
+
+import com.arka.arka.infrastructure.adapter.in.bff.mobile.dto.MobileCartDto;
+import com.arka.arka.infrastructure.adapter.in.bff.mobile.dto.MobileProductDto;
+import com.arka.arka.infrastructure.adapter.in.bff.web.dto.WebDashboardDto;
+import com.arka.arka.infrastructure.adapter.in.bff.web.dto.WebProductDetailDto;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark: payload size and serialization time of the BFF DTOs as JSON, CBOR and Smile
+ * Mappers are built the way the HTTP converters build them; lists mirror the endpoint sizes
+ * Skipped by default; run with ARKA_BENCHMARKS=true ./gradlew test --tests '*BffPayloadBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "ARKA_BENCHMARKS", matches = "true")
+class BffPayloadBenchmarkTest {
+
+    private static final int ITERATIONS = 20_000;
+    private static final int WARMUP = 5_000;
+
+    private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    BffPayloadBenchmarkTest() {
+        mappers.put("JSON", Jackson2ObjectMapperBuilder.json().build());
+        mappers.put("CBOR", Jackson2ObjectMapperBuilder.cbor().build());
+        mappers.put("Smile", Jackson2ObjectMapperBuilder.smile().build());
+    }
+
+    @Test
+    void compareEncodingsPerDto() throws Exception {
+        Map<String, Object> payloads = new LinkedHashMap<>();
+        payloads.put("MobileProductDto x20", mobileProducts(20));
+        payloads.put("MobileCartDto", new MobileCartDto(42L, "ACTIVO", LocalDateTime.of(2024, 5, 1, 10, 30), 3, "Ana Pérez"));
+        payloads.put("WebProductDetailDto x100", webProducts(100));
+        payloads.put("WebDashboardDto", dashboard());
+
+        System.out.printf("📊 BFF payloads (%,d serializations each)%n", ITERATIONS);
+        System.out.printf("   %-26s %-6s %9s %8s %12s %12s%n", "DTO", "Format", "Bytes", "vs JSON", "Write µs", "Read µs");
+        for (Map.Entry<String, Object> payload : payloads.entrySet()) {
+            int jsonBytes = 0;
+            for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+                byte[] encoded = mapper.getValue().writeValueAsBytes(payload.getValue());
+                JavaType type = mapper.getValue().constructType(payload.getValue().getClass());
+                Object decoded = mapper.getValue().readValue(encoded, type);
+                assertArrayEquals(encoded, mapper.getValue().writeValueAsBytes(decoded), "round trip must be lossless");
+                if (jsonBytes == 0) {
+                    jsonBytes = encoded.length;
+                }
+
+                double writeMicros = timeWrites(mapper.getValue(), payload.getValue());
+                double readMicros = timeReads(mapper.getValue(), encoded, type);
+                System.out.printf("   %-26s %-6s %9d %7.0f%% %12.2f %12.2f%n", payload.getKey(), mapper.getKey(),
+                        encoded.length, 100.0 * encoded.length / jsonBytes, writeMicros, readMicros);
+            }
+        }
+    }
+
+    private static double timeWrites(ObjectMapper mapper, Object value) throws Exception {
+        long bytes = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            bytes += mapper.writeValueAsBytes(value).length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes += mapper.writeValueAsBytes(value).length;
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+        assertTrue(bytes > 0);
+        return micros;
+    }
+
+    private static double timeReads(ObjectMapper mapper, byte[] encoded, JavaType type) throws Exception {
+        int objects = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            objects += mapper.readValue(encoded, type) != null ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            objects += mapper.readValue(encoded, type) != null ? 1 : 0;
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+        assertEquals(WARMUP + ITERATIONS, objects);
+        return micros;
+    }
+
+    private static MobileProductDto[] mobileProducts(int count) {
+        List<MobileProductDto> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            products.add(new MobileProductDto(id, "Audífonos inalámbricos " + id, new BigDecimal("89.90"),
+                    "Audio", id % 4 != 0, "/images/products/" + id + ".jpg"));
+        }
+        return products.toArray(new MobileProductDto[0]);
+    }
+
+    private static WebProductDetailDto[] webProducts(int count) {
+        List<WebProductDetailDto> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            products.add(new WebProductDetailDto(id, "Monitor profesional " + id,
+                    "Monitor IPS de 27 pulgadas con calibración de fábrica y soporte ergonómico ajustable",
+                    new BigDecimal("1249.00"), (int) (id * 7 % 50), "Monitores", id % 5 != 0,
+                    new String[]{"/images/products/" + id + "/front.jpg", "/images/products/" + id + "/side.jpg"},
+                    "SKU-" + (100000 + id), "61.1 x 36.3 x 5.2 cm", "5.4 kg"));
+        }
+        return products.toArray(new WebProductDetailDto[0]);
+    }
+
+    private static WebDashboardDto dashboard() {
+        return new WebDashboardDto(1520, 430, 2875, 96, new BigDecimal("1843920.55"), 37,
+                new String[]{"Teclado mecánico", "Ratón óptico", "Monitor 27\"", "Audífonos", "Cámara web"},
+                new WebDashboardDto.DashboardStats(0.6689, 120.5, 3120));
+    }
+}
@@ -0,0 +1,86 @@
+package com.arka.arka.benchmark;
+
+import com.arka.arka.domain.model.Money;
+import com.arka.arka.domain.model.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark: BigDecimal.add reduction vs Money.sum over order totals
+ * Reports throughput and bytes allocated per order (HotSpot thread allocation counter)
+ * Skipped by default; run with ARKA_BENCHMARKS=true ./gradlew test --tests '*MoneyBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "ARKA_BENCHMARKS", matches = "true")
+class MoneyBenchmarkTest {
+
+    private static final int ORDERS = 200_000;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Test
+    void compareBigDecimalReductionWithMoneySum() {
+        Random random = new Random(42);
+        List<Order> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.setTotal(BigDecimal.valueOf(100 + random.nextInt(5_000_000), 2));
+            orders.add(order);
+        }
+
+        Supplier<BigDecimal> bigDecimal = () -> orders.stream()
+                .map(Order::getTotal)
+                .filter(total -> total != null)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Supplier<BigDecimal> money = () -> Money.sum(orders, Order::getTotal, Currency.getInstance("COP")).toBigDecimal();
+
+        assertEquals(0, bigDecimal.get().compareTo(money.get()));
+
+        Result bigDecimalResult = measure(bigDecimal);
+        Result moneyResult = measure(money);
+
+        System.out.printf("📊 Summing %,d order totals%n", ORDERS);
+        System.out.printf("   BigDecimal::add : %8.1f ns/order %8.1f B/order%n", bigDecimalResult.nanosPerOrder, bigDecimalResult.bytesPerOrder);
+        System.out.printf("   Money.sum       : %8.1f ns/order %8.1f B/order%n", moneyResult.nanosPerOrder, moneyResult.bytesPerOrder);
+
+        assertTrue(moneyResult.bytesPerOrder < bigDecimalResult.bytesPerOrder);
+    }
+
+    private static Result measure(Supplier<BigDecimal> sum) {
+        BigDecimal sink = BigDecimal.ZERO;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink = sink.max(sum.get());
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink = sink.max(sum.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+        assertNotNull(sink);
+        double operations = (double) ORDERS * MEASURED_ROUNDS;
+        return new Result(elapsed / operations, bytes / operations);
+    }
+
+    private static final class Result {
+        private final double nanosPerOrder;
+        private final double bytesPerOrder;
+
+        private Result(double nanosPerOrder, double bytesPerOrder) {
+            this.nanosPerOrder = nanosPerOrder;
+            this.bytesPerOrder = bytesPerOrder;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.arka.arka.benchmark;
+
+import com.arka.arka.application.search.ProductSearchIndex;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark: trigram index vs LIKE '%term%' over 100k products
+ * The LIKE side mirrors findByNombreContainingIgnoreCase, which returns every match
+ * Skipped by default; run with ARKA_BENCHMARKS=true ./gradlew test --tests '*ProductSearchBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "ARKA_BENCHMARKS", matches = "true")
+class ProductSearchBenchmarkTest {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int ITERATIONS = 200;
+    private static final String[] NOUNS = {"Audífonos", "Teclado", "Ratón", "Monitor", "Cámara", "Parlante",
+            "Micrófono", "Cargador", "Batería", "Lámpara", "Mochila", "Reloj"};
+    private static final String[] ADJECTIVES = {"inalámbrico", "portátil", "ergonómico", "compacto", "profesional",
+            "económico", "gamer", "solar", "táctil", "óptico"};
+    private static final String[] BRANDS = {"Sony", "Logitech", "Samsung", "Xiaomi", "Lenovo", "JBL", "Genérico"};
+    private static final String[] QUERIES = {"microfono", "teclado ergo", "sony", "camara tactil", "bateria"};
+
+    private static Connection connection;
+    private static ProductSearchIndex index;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search_benchmark;MODE=MySQL");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE productos (id BIGINT PRIMARY KEY, nombre VARCHAR(255), " +
+                    "marca VARCHAR(255), descripcion VARCHAR(1000), precio_unitario DECIMAL(10,2), stock INT)");
+        }
+
+        Random random = new Random(42);
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        Category category = new Category(1L, "General");
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO productos VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long id = 1; id <= PRODUCTS; id++) {
+                String nombre = NOUNS[random.nextInt(NOUNS.length)] + " " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + id;
+                String marca = BRANDS[random.nextInt(BRANDS.length)];
+                String descripcion = nombre + " de la marca " + marca + " con garantía de " + (1 + random.nextInt(3)) + " años";
+                products.add(new Product(id, nombre, descripcion, category, marca, new BigDecimal("19.90"), 10));
+                insert.setLong(1, id);
+                insert.setString(2, nombre);
+                insert.setString(3, marca);
+                insert.setString(4, descripcion);
+                insert.setBigDecimal(5, new BigDecimal("19.90"));
+                insert.setInt(6, 10);
+                insert.addBatch();
+                if (id % 5_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        index = new ProductSearchIndex(() -> products);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void compareTrigramIndexWithLikeQuery() throws Exception {
+        long buildStart = System.nanoTime();
+        index.search("warmup", 20);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        for (int i = 0; i < 20; i++) {
+            runIndex();
+            runLike();
+        }
+
+        long indexStart = System.nanoTime();
+        int indexHits = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            indexHits += runIndex();
+        }
+        double indexMicros = (System.nanoTime() - indexStart) / 1_000.0 / (ITERATIONS * QUERIES.length);
+
+        long likeStart = System.nanoTime();
+        int likeHits = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            likeHits += runLike();
+        }
+        double likeMicros = (System.nanoTime() - likeStart) / 1_000.0 / (ITERATIONS * QUERIES.length);
+
+        System.out.printf("📊 Product search over %,d products (index built in %d ms)%n", PRODUCTS, buildMillis);
+        System.out.printf("   Trigram index top-20 : %10.1f µs/query (%d hits)%n", indexMicros, indexHits);
+        System.out.printf("   LIKE '%%term%%'        : %10.1f µs/query (%d hits)%n", likeMicros, likeHits);
+
+        assertTrue(indexHits > 0);
+    }
+
+    private int runIndex() {
+        int hits = 0;
+        for (String query : QUERIES) {
+            hits += index.search(query, 20).size();
+        }
+        return hits;
+    }
+
+    private int runLike() throws Exception {
+        int hits = 0;
+        try (PreparedStatement like = connection.prepareStatement(
+                "SELECT id FROM productos WHERE UPPER(nombre) LIKE UPPER(?)")) {
+            for (String query : QUERIES) {
+                like.setString(1, "%" + query + "%");
+                try (ResultSet rs = like.executeQuery()) {
+                    while (rs.next()) {
+                        hits++;
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,108 @@
+package com.arka.arka.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark: blocking request handling on platform threads vs virtual threads
+ * A burst of requests that each block on simulated I/O (database or S3 latency) is served by
+ * a 200-thread pool, the size of Tomcat's default worker pool, and by one virtual thread per
+ * request; a third run holds a monitor across the blocking call to show the cost of pinning.
+ * Skipped by default; run with ARKA_BENCHMARKS=true ./gradlew test --tests '*VirtualThreadLoadBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "ARKA_BENCHMARKS", matches = "true")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int REQUESTS = 5_000;
+    /** Pinned requests run a few at a time (one per carrier), so a smaller burst shows the same effect */
+    private static final int PINNED_REQUESTS = 500;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long IO_MILLIS = 50;
+
+    @Test
+    void compareThroughputAndLatency() throws Exception {
+        System.out.printf("🧵 Bursts of concurrent requests, %d ms of blocking I/O each (%d carrier threads)%n",
+                IO_MILLIS, Runtime.getRuntime().availableProcessors());
+        System.out.printf("   %-34s %9s %9s %11s %9s %9s%n", "Mode", "Requests", "Wall ms", "Req/s", "p50 ms", "p99 ms");
+
+        Result platform = run("Platform pool (200 threads)",
+                Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), REQUESTS, false);
+        Result virtual = run("Virtual thread per request",
+                Executors.newVirtualThreadPerTaskExecutor(), REQUESTS, false);
+        run("Virtual, synchronized across I/O",
+                Executors.newVirtualThreadPerTaskExecutor(), PINNED_REQUESTS, true);
+
+        assertTrue(virtual.wallMillis < platform.wallMillis, "virtual threads should not queue behind a pool");
+    }
+
+    private static Result run(String mode, ExecutorService executor, int requests, boolean pinned)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger completed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+        long start = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                long submitted = System.nanoTime();
+                executor.execute(() -> {
+                    if (pinned) {
+                        // A per-request monitor: no contention, but the carrier stays blocked
+                        Object connection = new Object();
+                        synchronized (connection) {
+                            blockingIo();
+                        }
+                    } else {
+                        blockingIo();
+                    }
+                    latencies[request] = System.nanoTime() - submitted;
+                    completed.incrementAndGet();
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.MINUTES));
+        }
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(requests, completed.get());
+
+        Arrays.sort(latencies);
+        Result result = new Result(wallMillis, percentile(latencies, 0.50), percentile(latencies, 0.99));
+        System.out.printf("   %-34s %9d %9d %11.0f %9.1f %9.1f%n", mode, requests, result.wallMillis,
+                requests * 1000.0 / Math.max(1, wallMillis), result.p50Millis, result.p99Millis);
+        return result;
+    }
+
+    private static void blockingIo() {
+        try {
+            Thread.sleep(IO_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+
+    private static final class Result {
+        private final long wallMillis;
+        private final double p50Millis;
+        private final double p99Millis;
+
+        private Result(long wallMillis, double p50Millis, double p99Millis) {
+            this.wallMillis = wallMillis;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.arka.arka.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the long-based Money value type
+ */
+class MoneyTest {
+
+    private static final Currency COP = Currency.getInstance("COP");
+
+    @Test
+    void of_ShouldRoundHalfUpToMinorUnits() {
+        assertEquals(1999, Money.of(new BigDecimal("19.99"), COP).getMinorUnits());
+        assertEquals(1000, Money.of(new BigDecimal("10"), COP).getMinorUnits());
+        assertEquals(1235, Money.of(new BigDecimal("12.345"), COP).getMinorUnits());
+        assertEquals(new BigDecimal("12.35"), Money.of(new BigDecimal("12.345"), COP).toBigDecimal());
+    }
+
+    @Test
+    void sum_ShouldSkipNullsAndMatchBigDecimalSum() {
+        // Given
+        List<BigDecimal> amounts = Arrays.asList(new BigDecimal("10.50"), null, new BigDecimal("3"), new BigDecimal("0.25"));
+
+        // When
+        Money total = Money.sum(amounts, amount -> amount, COP);
+
+        // Then
+        assertEquals(new BigDecimal("13.75"), total.toBigDecimal());
+    }
+
+    @Test
+    void arithmetic_ShouldThrowOnOverflowInsteadOfWrapping() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, COP);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1, COP)));
+        assertThrows(ArithmeticException.class, () -> max.times(2));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e30"), COP));
+    }
+
+    @Test
+    void plus_ShouldRejectDifferentCurrencies() {
+        Money pesos = Money.of(BigDecimal.ONE, COP);
+        Money dollars = Money.of(BigDecimal.ONE, Currency.getInstance("USD"));
+
+        assertThrows(IllegalArgumentException.class, () -> pesos.plus(dollars));
+    }
+
+    @Test
+    void dividedByAndPercentage_ShouldRoundHalfUp() {
+        Money total = Money.of(new BigDecimal("10.00"), COP);
+
+        assertEquals(new BigDecimal("3.33"), total.dividedBy(3).toBigDecimal());
+        assertEquals(new BigDecimal("6.67"), Money.of(new BigDecimal("20.00"), COP).dividedBy(3).toBigDecimal());
+        assertEquals(new BigDecimal("-3.33"), Money.of(new BigDecimal("-10.00"), COP).dividedBy(3).toBigDecimal());
+        assertEquals(new BigDecimal("1.25"), total.percentage(new BigDecimal("12.5")).toBigDecimal());
+    }
+
+    @Test
+    void orderCalculateTotal_ShouldSumProductPrices() {
+        // Given
+        Order order = new Order(1L, new Customer(), LocalDateTime.now(), null, new LinkedHashSet<>(List.of(
+                new Product(1L, "Teclado", null, null, "Logi", new BigDecimal("120.5"), 1),
+                new Product(2L, "Mouse", null, null, "Logi", new BigDecimal("45.25"), 1),
+                new Product(3L, "Regalo", null, null, "Arka", null, 1))));
+
+        // Then
+        assertEquals(new BigDecimal("165.75"), order.calculateTotal(COP));
+    }
+
+    @Test
+    void sum_ShouldRejectAmountsFinerThanTheMinorUnit() {
+        // Given
+        List<BigDecimal> amounts = List.of(new BigDecimal("10.00"), new BigDecimal("0.005"));
+
+        // Then
+        assertThrows(ArithmeticException.class, () -> Money.sum(amounts, amount -> amount, COP));
+        assertEquals(new BigDecimal("10.01"), Money.sum(List.of(new BigDecimal("10.0100")), amount -> amount, COP).toBigDecimal());
+        assertEquals(1050, Money.sum(List.of(new BigDecimal("1050.00")), amount -> amount, Currency.getInstance("JPY")).getMinorUnits());
+    }
+
+    @Test
+    void totals_ShouldKeepTheCurrencyTheyWereBuiltWith() {
+        // Given
+        Currency yenCurrency = Currency.getInstance("JPY");
+        DashboardTotals before = new DashboardTotals(1, 0, 1, 0, 1, 1050, COP, List.of());
+
+        // Then
+        assertEquals(yenCurrency, Money.of(new BigDecimal("1050"), yenCurrency).getCurrency());
+        assertEquals(1050, Money.of(new BigDecimal("1050"), yenCurrency).getMinorUnits());
+        assertEquals(COP, before.withDeltas(0, 0, 0, 0, 1, 100).getVentasTotales().getCurrency());
+        assertEquals(new BigDecimal("11.50"), before.withDeltas(0, 0, 0, 0, 1, 100).getVentasTotales().toBigDecimal());
+        ActivityBucket yen = new ActivityBucket(LocalDateTime.now(), 0, 1, 1050, yenCurrency);
+        assertThrows(IllegalArgumentException.class, () -> yen.plus(yen.getInicio(),
+                new ActivityBucket(yen.getInicio(), 0, 1, 100, COP)));
+    }
+}
@@ -0,0 +1,133 @@
+package com.arka.arka.infrastructure.adapter.in.bff.web.loader;
+
+import com.arka.arka.application.usecase.ProductApplicationService;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductSort;
+import com.arka.arka.domain.model.ProductSummary;
+import com.arka.arka.domain.port.out.ProductQueryPort;
+import com.arka.arka.infrastructure.adapter.in.bff.web.dto.WebProductDetailDto;
+import com.arka.arka.infrastructure.adapter.in.bff.web.mapper.WebBffMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the request-scoped product detail batch loader
+ */
+class ProductDetailLoaderTest {
+
+    private CountingQueryPort queryPort;
+    private ProductDetailLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        queryPort = new CountingQueryPort();
+        ProductApplicationService service = new ProductApplicationService(null, null, queryPort, null, null, null, null);
+        loader = new ProductDetailLoader(service, new WebBffMapper(Currency.getInstance("COP")));
+    }
+
+    @Test
+    void loadAll_ShouldResolveEveryIdWithOneLookupInRequestOrder() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 40; id >= 1; id--) {
+            ids.add(id);
+        }
+        ids.add(999L);
+
+        // When
+        List<WebProductDetailDto> details = loader.loadAll(ids);
+
+        // Then
+        assertEquals(1, queryPort.lookups.size());
+        assertEquals(41, queryPort.lookups.get(0).size());
+        assertEquals(40, details.size());
+        assertEquals(40L, details.get(0).getId());
+        assertEquals(1L, details.get(39).getId());
+        assertEquals("Perifericos", details.get(0).getCategoria());
+    }
+
+    @Test
+    void load_ShouldCoalesceQueuedIdsAndAnswerRepeatsWithoutAnotherLookup() {
+        // Given
+        CompletableFuture<WebProductDetailDto> first = loader.load(3L);
+        CompletableFuture<WebProductDetailDto> same = loader.load(3L);
+        CompletableFuture<WebProductDetailDto> other = loader.load(5L);
+
+        // When
+        loader.dispatch();
+        CompletableFuture<WebProductDetailDto> again = loader.load(3L);
+        loader.dispatch();
+
+        // Then
+        assertSame(first, same);
+        assertSame(first, again);
+        assertEquals(3L, first.join().getId());
+        assertEquals(5L, other.join().getId());
+        assertEquals(List.of(List.of(3L, 5L)), queryPort.lookups);
+    }
+
+    @Test
+    void dispatch_ShouldRejectTooManyIds() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= ProductApplicationService.MAX_PAGE_SIZE + 1; id++) {
+            ids.add(id);
+        }
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> loader.loadAll(ids));
+        assertTrue(queryPort.lookups.isEmpty());
+    }
+
+    private static class CountingQueryPort implements ProductQueryPort {
+        private final List<List<Long>> lookups = new ArrayList<>();
+
+        @Override
+        public List<Product> findAllById(Collection<Long> ids) {
+            lookups.add(new ArrayList<>(ids));
+            return ids.stream()
+                    .filter(id -> id <= 40)
+                    .map(id -> new Product(id, "Producto " + id, null, new Category(1L, "Perifericos"), null,
+                            new BigDecimal("10.00"), 5))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Product> findPage(ProductSort sort, ProductCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Product> findFeatured(int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Product> searchByName(String term, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ProductSummary> searchSummariesByName(String term, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ProductSummary> findSummaryById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
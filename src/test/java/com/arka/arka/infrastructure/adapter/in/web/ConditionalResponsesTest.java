@@ -0,0 +1,116 @@
+package com.arka.arka.infrastructure.adapter.in.web;
+
+import com.arka.arka.application.cache.CatalogVersions;
+import com.arka.arka.domain.event.CategoryChanged;
+import com.arka.arka.domain.event.ProductChanged;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.infrastructure.adapter.in.event.CatalogVersionListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for conditional GET handling driven by the catalog versions
+ */
+class ConditionalResponsesTest {
+
+    private final CatalogVersions versions = new CatalogVersions("e1");
+    private final CatalogVersionListener listener = new CatalogVersionListener(versions);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void conditional_ShouldAnswerNotModifiedWithoutBuildingTheBody() {
+        // Given
+        ResponseEntity<List<String>> first = ConditionalResponses.conditional(null, versions.catalogTag(), this::load);
+        String etag = first.getHeaders().getETag();
+
+        // When
+        ResponseEntity<List<String>> second = ConditionalResponses.conditional(etag, versions.catalogTag(), this::load);
+
+        // Then
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals("no-cache, private", first.getHeaders().getCacheControl());
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+        assertEquals(etag, second.getHeaders().getETag());
+        assertEquals("no-cache, private", second.getHeaders().getCacheControl());
+        assertEquals(List.of("Accept"), second.getHeaders().getVary());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void matches_ShouldUseWeakComparisonOverTagLists() {
+        // Given
+        String etag = versions.catalogTag();
+
+        // Then
+        assertTrue(etag.startsWith("W/\""));
+        assertTrue(ConditionalResponses.matches("\"other\", " + etag, etag));
+        assertTrue(ConditionalResponses.matches("\"other\", " + etag.substring(2), etag));
+        assertFalse(ConditionalResponses.matches("\"other\"", etag));
+        assertFalse(ConditionalResponses.matches("*", etag));
+        assertFalse(ConditionalResponses.matches(" ", etag));
+    }
+
+    @Test
+    void conditional_ShouldNotTagErrorResponses() {
+        // When
+        ResponseEntity<Object> response = ConditionalResponses.conditional(null, versions.productTag(9L),
+                () -> ResponseEntity.notFound().build());
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+    }
+
+    @Test
+    void productChanged_ShouldChangeCatalogTagAndOnlyThatProductsTag() {
+        // Given
+        String catalog = versions.catalogTag();
+        String product1 = versions.productTag(1L);
+        String product2 = versions.productTag(2L);
+
+        // When
+        listener.onProductChanged(new ProductChanged(product(1L), product(1L)));
+
+        // Then
+        assertNotEquals(catalog, versions.catalogTag());
+        assertNotEquals(product1, versions.productTag(1L));
+        assertEquals(product2, versions.productTag(2L));
+    }
+
+    @Test
+    void categoryAndStockChanges_ShouldChangeAffectedProductTags() {
+        // Given
+        String product1 = versions.productTag(1L);
+        String product2 = versions.productTag(2L);
+
+        // When
+        listener.onStockChanged(new StockChanged(Set.of(1L)));
+        String afterReserve2 = versions.productTag(2L);
+        listener.onCategoryChanged(new CategoryChanged(3L));
+
+        // Then
+        assertNotEquals(product1, versions.productTag(1L));
+        assertEquals(product2, afterReserve2);
+        assertNotEquals(product2, versions.productTag(2L));
+        assertNotEquals(versions.catalogTag(), new CatalogVersions("e2").catalogTag());
+    }
+
+    private ResponseEntity<List<String>> load() {
+        loads.incrementAndGet();
+        return ResponseEntity.ok(List.of("producto"));
+    }
+
+    private static Product product(Long id) {
+        return new Product(id, "Producto " + id, null, null, null, new BigDecimal("10.00"), 5);
+    }
+}
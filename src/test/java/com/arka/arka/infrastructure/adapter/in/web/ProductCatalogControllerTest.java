@@ -0,0 +1,59 @@
+package com.arka.arka.infrastructure.adapter.in.web;
+
+import com.arka.arka.application.service.ProductCatalogService;
+import com.arka.arka.domain.model.Category;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductView;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the status codes of the reactive catalog read API
+ */
+class ProductCatalogControllerTest {
+
+    private final ProductCatalogService service = mock(ProductCatalogService.class);
+    private final ProductCatalogController controller = new ProductCatalogController(service);
+
+    @Test
+    void getProduct_ShouldAnswerNotFoundWhenTheProjectionHasNoView() {
+        // Given
+        when(service.obtenerPorId(7L)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(controller.getProduct(7L))
+                .assertNext(response -> assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getProduct_ShouldPropagateReadFailures() {
+        // Given
+        when(service.obtenerPorId(7L)).thenReturn(Mono.error(new IllegalStateException("MongoDB timed out")));
+
+        // When / Then
+        StepVerifier.create(controller.getProduct(7L))
+                .expectErrorMessage("MongoDB timed out")
+                .verify();
+    }
+
+    @Test
+    void getProduct_ShouldAnswerTheView() {
+        // Given
+        ProductView view = ProductView.of(new Product(7L, "Teclado", null, new Category(1L, "Perifericos"), "Logi",
+                new BigDecimal("10.00"), 5));
+        when(service.obtenerPorId(7L)).thenReturn(Mono.just(view));
+
+        // When / Then
+        StepVerifier.create(controller.getProduct(7L))
+                .assertNext(response -> assertSame(view, response.getBody()))
+                .verifyComplete();
+    }
+}
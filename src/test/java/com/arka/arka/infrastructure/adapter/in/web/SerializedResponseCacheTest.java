@@ -0,0 +1,156 @@
+package com.arka.arka.infrastructure.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the serialized catalog response cache
+ */
+class SerializedResponseCacheTest {
+
+    private static final byte[] BODY = "[{\"id\":1,\"nombre\":\"Teclado\"}]".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Test
+    void get_ShouldSerializeOncePerKey() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(10);
+
+        // When
+        cache.get("productos|v1", this::serialize);
+        cache.get("productos|v1", this::serialize);
+        cache.get("productos|v2", this::serialize);
+
+        // Then
+        assertEquals(2, serializations.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void toResponse_ShouldServeGzippedBytesOnlyWhenAccepted() throws IOException {
+        // Given
+        SerializedResponseCache.SerializedResponse cached = new SerializedResponseCache(10).get("productos|v1", this::serialize);
+
+        // When
+        ResponseEntity<byte[]> plain = cached.toResponse(false);
+        ResponseEntity<byte[]> gzipped = cached.toResponse(true);
+
+        // Then
+        assertArrayEquals(BODY, plain.getBody());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of("Accept-Encoding"), gzipped.getHeaders().getVary());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(BODY, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void conditional_ShouldKeepVaryHeadersOfTheResponse() {
+        // Given
+        SerializedResponseCache.SerializedResponse cached = new SerializedResponseCache(10).get("productos|v1", this::serialize);
+
+        // When
+        ResponseEntity<byte[]> response = ConditionalResponses.conditional(null, "\"v1\"", () -> cached.toResponse(true));
+
+        // Then
+        assertEquals(List.of("Accept", "Accept-Encoding"), response.getHeaders().getVary());
+    }
+
+    @Test
+    void clear_ShouldDropEveryEntry() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(10);
+        cache.get("productos|v1", this::serialize);
+
+        // When
+        cache.clear();
+        cache.get("productos|v1", this::serialize);
+
+        // Then
+        assertEquals(2, serializations.get());
+    }
+
+    @Test
+    void get_ShouldEvictTheLeastRecentlyUsedEntryWhenFull() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(2);
+        cache.get("productos|v1", this::serialize);
+        cache.get("productos/ordenados|v1", this::serialize);
+        cache.get("productos|v1", this::serialize);
+
+        // When
+        cache.get("productos/categoria/Audio|v1", this::serialize);
+        cache.get("productos|v1", this::serialize);
+        cache.get("productos/ordenados|v1", this::serialize);
+
+        // Then
+        assertEquals(4, serializations.get());
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void get_ShouldNotStoreDataRejectedByTheCaller() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(10);
+
+        // When
+        SerializedResponseCache.SerializedResponse response =
+                cache.get("productos/categoria/Nada|v1", List::of, list -> serialize(), list -> !list.isEmpty());
+
+        // Then
+        assertArrayEquals(BODY, response.getJson());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_ShouldNotStoreBeyondMaxEntries() {
+        // Given
+        SerializedResponseCache cache = new SerializedResponseCache(1);
+
+        // When
+        cache.get("productos|v1", this::serialize);
+        SerializedResponseCache.SerializedResponse extra = cache.get("productos/ordenados|v1", this::serialize);
+
+        // Then
+        assertArrayEquals(BODY, extra.getJson());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void prefersJson_ShouldFollowTheAcceptHeader() {
+        assertTrue(SerializedResponseCache.prefersJson(null));
+        assertTrue(SerializedResponseCache.prefersJson("*/*"));
+        assertTrue(SerializedResponseCache.prefersJson("application/json, application/cbor;q=0.5"));
+        assertFalse(SerializedResponseCache.prefersJson("application/cbor"));
+        assertFalse(SerializedResponseCache.prefersJson("application/x-jackson-smile, */*;q=0.1"));
+        assertFalse(SerializedResponseCache.prefersJson("text/plain"));
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourZeroQuality() {
+        assertTrue(SerializedResponseCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(SerializedResponseCache.acceptsGzip("*"));
+        assertFalse(SerializedResponseCache.acceptsGzip("gzip;q=0, deflate"));
+        assertFalse(SerializedResponseCache.acceptsGzip(null));
+    }
+
+    private byte[] serialize() {
+        serializations.incrementAndGet();
+        return BODY;
+    }
+}
@@ -0,0 +1,85 @@
+package com.arka.arka.infrastructure.adapter.in.web.mapper;
+
+import com.arka.arka.domain.model.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streamed product upload reader
+ */
+class ProductImportReaderTest {
+
+    private final ProductWebMapper mapper = new ProductWebMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csv_ShouldHandleQuotedFieldsAndReportBadNumbers() {
+        // Given
+        String csv = "nombre,descripcion,categoriaId,marca,precioUnitario,stock\r\n"
+                + "\"Teclado, mecánico\",\"Switch \"\"azul\"\"\nRGB\",1,Logi,120.50,5\r\n"
+                + "Mouse,,2,Logi,abc,3\r\n"
+                + "\n"
+                + "Monitor,24 pulgadas,1,LG,899.90,\n";
+
+        // When
+        ProductImportReader reader = ProductImportReader.csv(stream(csv), StandardCharsets.UTF_8, mapper);
+
+        // Then
+        Product teclado = reader.next();
+        assertEquals("Teclado, mecánico", teclado.getNombre());
+        assertEquals("Switch \"azul\"\nRGB", teclado.getDescripcion());
+        assertEquals(1L, teclado.getCategoria().getId());
+        assertEquals(new BigDecimal("120.50"), teclado.getPrecioUnitario());
+        assertThrows(IllegalArgumentException.class, reader::next);
+        Product monitor = reader.next();
+        assertEquals("Monitor", monitor.getNombre());
+        assertNull(monitor.getStock());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void ndjson_ShouldSkipBlankLinesAndReportMalformedRows() {
+        // Given
+        String ndjson = "{\"nombre\":\"Cable\",\"categoriaId\":3,\"precioUnitario\":9.99}\n"
+                + "\n"
+                + "{\"nombre\":\n"
+                + "{\"nombre\":\"Cargador\",\"categoriaId\":3,\"precioUnitario\":25}\n";
+
+        // When
+        ProductImportReader reader = ProductImportReader.ndjson(stream(ndjson), StandardCharsets.UTF_8,
+                objectMapper, mapper);
+
+        // Then
+        assertEquals("Cable", reader.next().getNombre());
+        assertThrows(IllegalArgumentException.class, reader::next);
+        assertEquals("Cargador", reader.next().getNombre());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void jsonArray_ShouldReadElementsOneByOne() {
+        // Given
+        String json = "[{\"nombre\":\"Cable\",\"precioUnitario\":\"x\"},{\"nombre\":\"Lámpara\",\"stock\":4}]";
+
+        // When
+        ProductImportReader reader = ProductImportReader.jsonArray(stream(json), objectMapper, mapper);
+
+        // Then
+        assertThrows(IllegalArgumentException.class, reader::next);
+        Product lampara = reader.next();
+        assertEquals("Lámpara", lampara.getNombre());
+        assertEquals(4, lampara.getStock());
+        assertFalse(reader.hasNext());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,224 @@
+package com.arka.arka.infrastructure.adapter.out.notification;
+
+import com.arka.arka.domain.port.in.ManageTemplatesUseCase;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the notification queue, its batching and the token bucket
+ */
+class NotificationDispatcherTest {
+
+    @Test
+    void submit_ShouldSendEveryReminderInBatches() throws InterruptedException {
+        // Given
+        RecordingTransport transport = new RecordingTransport(10, null);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(transport, new TokenBucket(10_000, 100), 1_000, 2, 10);
+
+        // When
+        for (long i = 0; i < 95; i++) {
+            assertTrue(dispatcher.submit("cliente" + i + "@arka.com", "Cliente", i));
+        }
+        dispatcher.start();
+        try {
+            waitUntil(() -> dispatcher.getSent() == 95);
+        } finally {
+            dispatcher.close();
+        }
+
+        // Then
+        assertEquals(95, transport.sent.size());
+        assertTrue(transport.batchSizes.stream().allMatch(size -> size <= 10));
+        assertTrue(dispatcher.getBatches() < 95);
+        assertEquals(0, dispatcher.getFailed());
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    void submit_ShouldRejectWhenTheQueueIsFull() {
+        // Given
+        NotificationDispatcher dispatcher = new NotificationDispatcher(
+                new RecordingTransport(1, null), new TokenBucket(10, 10), 2, 1, 1);
+
+        // When
+        boolean first = dispatcher.submit("a@arka.com", "A", 1L);
+        boolean second = dispatcher.submit("b@arka.com", "B", 2L);
+        boolean third = dispatcher.submit("c@arka.com", "C", 3L);
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(2, dispatcher.getSubmitted());
+        assertEquals(1, dispatcher.getRejected());
+    }
+
+    @Test
+    void send_ShouldCountFailedBatchesAndKeepWorking() throws InterruptedException {
+        // Given
+        RecordingTransport transport = new RecordingTransport(1, 2L);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(transport, new TokenBucket(10_000, 10), 10, 1, 1);
+
+        // When
+        dispatcher.submit("a@arka.com", "A", 1L);
+        dispatcher.submit("b@arka.com", "B", 2L);
+        dispatcher.submit("c@arka.com", "C", 3L);
+        dispatcher.start();
+        try {
+            waitUntil(() -> dispatcher.getSent() + dispatcher.getFailed() == 3);
+        } finally {
+            dispatcher.close();
+        }
+
+        // Then
+        assertEquals(2, dispatcher.getSent());
+        assertEquals(1, dispatcher.getFailed());
+    }
+
+    @Test
+    void send_ShouldFailOnlyTheRemindersTheSmtpServerRejected() throws InterruptedException {
+        // Given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        doAnswer(invocation -> {
+            MimeMessage rejected = null;
+            for (Object message : invocation.getArguments()) {
+                if (((MimeMessage) message).getAllRecipients()[0].toString().startsWith("b@")) {
+                    rejected = (MimeMessage) message;
+                }
+            }
+            throw new MailSendException(Map.of(rejected, new IllegalStateException("550 Mailbox unavailable")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+        ManageTemplatesUseCase templates = name -> Optional.of("<p>Hola {{nombre}}, carrito {{carritoId}}</p>");
+        SmtpNotificationTransport transport = new SmtpNotificationTransport(mailSender, templates,
+                "carrito-abandonado.html", "Carrito", "noreply@arka.com", true, 10);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(transport, new TokenBucket(10_000, 10), 10, 1, 10);
+        Map<Long, Optional<RuntimeException>> outcomes = new ConcurrentHashMap<>();
+
+        // When
+        for (String name : List.of("a", "b", "c")) {
+            long cartId = name.charAt(0);
+            dispatcher.submit(name + "@arka.com", name, cartId, error -> outcomes.put(cartId, Optional.ofNullable(error)));
+        }
+        dispatcher.start();
+        try {
+            waitUntil(() -> outcomes.size() == 3);
+        } finally {
+            dispatcher.close();
+        }
+
+        // Then
+        assertTrue(outcomes.get((long) 'a').isEmpty());
+        assertTrue(outcomes.get((long) 'b').isPresent());
+        assertTrue(outcomes.get((long) 'c').isEmpty());
+        assertEquals(2, dispatcher.getSent());
+        assertEquals(1, dispatcher.getFailed());
+    }
+
+    @Test
+    void smtpTransport_ShouldNotSendWhenMailIsDisabled() {
+        // Given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        SmtpNotificationTransport transport = new SmtpNotificationTransport(mailSender, name -> Optional.of("{{nombre}}"),
+                "carrito-abandonado.html", "Carrito", "noreply@arka.com", false, 10);
+
+        // When
+        transport.send(List.of(new ReminderNotification("a@arka.com", "A", 1L, System.nanoTime())));
+
+        // Then
+        verifyNoInteractions(mailSender);
+        assertEquals("Hola &lt;b&gt;Ana&lt;/b&gt; #7", SmtpNotificationTransport.render("Hola {{nombre}} #{{carritoId}}",
+                new ReminderNotification("a@arka.com", "<b>Ana</b>", 7L, 0)));
+    }
+
+    @Test
+    void tokenBucket_ShouldRefillAtTheConfiguredRate() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+
+        // When
+        boolean burst = bucket.tryAcquire(5);
+        boolean empty = bucket.tryAcquire(1);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        boolean refilled = bucket.tryAcquire(1);
+
+        // Then
+        assertTrue(burst);
+        assertFalse(empty);
+        assertTrue(refilled);
+    }
+
+    @Test
+    void tokenBucket_ShouldMakeCallersWaitForTheirDebt() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+        bucket.reserve(5);
+
+        // When
+        long first = bucket.reserve(5);
+        long second = bucket.reserve(5);
+
+        // Then
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), first);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), second);
+        assertThrows(IllegalArgumentException.class, () -> bucket.reserve(6));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the dispatcher");
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class RecordingTransport implements NotificationTransport {
+        private final int maxBatchSize;
+        private final Long failingCartId;
+        private final List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        private RecordingTransport(int maxBatchSize, Long failingCartId) {
+            this.maxBatchSize = maxBatchSize;
+            this.failingCartId = failingCartId;
+        }
+
+        @Override
+        public String getProvider() {
+            return "test";
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        @Override
+        public void send(List<ReminderNotification> batch) {
+            if (batch.stream().anyMatch(reminder -> reminder.getCartId().equals(failingCartId))) {
+                throw new IllegalStateException("Provider unavailable");
+            }
+            batchSizes.add(batch.size());
+            batch.forEach(reminder -> sent.add(reminder.getCartId()));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.notification.ReminderOutbox;
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.Customer;
+import com.arka.arka.domain.model.OutboxMessage;
+import com.arka.arka.domain.port.out.CartRepositoryPort;
+import com.arka.arka.domain.port.out.NotificationOutboxPort;
+import com.arka.arka.infrastructure.adapter.out.notification.NotificationDispatcher;
+import com.arka.arka.infrastructure.scheduler.ReminderOutboxScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the checkpointed sweep of abandoned carts into the reminder outbox
+ */
+class AbandonedCartSweepTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.now().minusDays(1).withNano(0);
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcCartActivityAdapter adapter;
+    private CartRepositoryPort cartRepository;
+    private final Set<Long> reminded = new HashSet<>();
+    private ReminderOutboxScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:cart_sweep_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE carritos (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "estado VARCHAR(20), fecha_creacion TIMESTAMP)");
+        new JdbcTableInitializer(jdbcTemplate).run(null);
+        adapter = new JdbcCartActivityAdapter(new NamedParameterJdbcTemplate(dataSource));
+
+        cartRepository = mock(CartRepositoryPort.class);
+        when(cartRepository.findById(anyLong())).thenAnswer(invocation -> jdbcTemplate.query(
+                        "SELECT id, estado FROM carritos WHERE id = ?",
+                        (rs, rowNum) -> new Cart(rs.getLong("id"), customer(), null, rs.getString("estado")),
+                        (Long) invocation.getArgument(0))
+                .stream().findFirst());
+
+        NotificationOutboxPort outboxPort = mock(NotificationOutboxPort.class);
+        when(outboxPort.findCartIds(anyString(), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(1);
+            return ids.stream().filter(reminded::contains).collect(Collectors.toSet());
+        });
+        when(outboxPort.enqueue(any())).thenAnswer(invocation ->
+                reminded.add(((OutboxMessage) invocation.getArgument(0)).getCartId()));
+
+        scheduler = new ReminderOutboxScheduler(
+                new ReminderOutbox(outboxPort, Clock.systemUTC(), Duration.ofMinutes(5), Duration.ofMinutes(1), 3),
+                mock(NotificationDispatcher.class), adapter, cartRepository,
+                new StaticListableBeanFactory().getBeanProvider(SchedulerCoordinator.class),
+                100, 10, 2, Duration.ofHours(1));
+    }
+
+    @Test
+    void sweepAbandonedCarts_ShouldPageThroughAllCartsAndStoreTheCheckpoint() {
+        // Given
+        Long first = cart("ABANDONED", T0);
+        Long second = cart("ABANDONED", T0.plusMinutes(1));
+        Long third = cart("ABANDONED", T0.plusMinutes(2));
+        cart("ACTIVE", T0);
+
+        // When
+        scheduler.sweepAbandonedCarts();
+
+        // Then
+        assertEquals(Set.of(first, second, third), reminded);
+        assertEquals(Optional.of(T0.plusMinutes(2)), adapter.findSweepCheckpoint());
+    }
+
+    @Test
+    void sweepAbandonedCarts_ShouldOnlyReadCartsSinceTheCheckpointMinusTheOverlap() {
+        // Given
+        Long old = cart("ABANDONED", T0);
+        Long late = cart("ABANDONED", T0.plusHours(3));
+        adapter.saveSweepCheckpoint(T0.plusHours(3).plusMinutes(30));
+        Long recent = cart("ABANDONED", T0.plusHours(4));
+
+        // When
+        scheduler.sweepAbandonedCarts();
+
+        // Then
+        assertEquals(Set.of(late, recent), reminded);
+        verify(cartRepository, never()).findById(old);
+        assertEquals(Optional.of(T0.plusHours(4)), adapter.findSweepCheckpoint());
+    }
+
+    @Test
+    void sweepAbandonedCarts_ShouldNotLoadCartsThatAlreadyHaveAReminder() {
+        // Given
+        Long first = cart("ABANDONED", T0);
+        Long second = cart("ABANDONED", T0.plusMinutes(1));
+        reminded.add(first);
+
+        // When
+        scheduler.sweepAbandonedCarts();
+
+        // Then
+        verify(cartRepository, never()).findById(first);
+        verify(cartRepository).findById(second);
+        assertTrue(reminded.contains(second));
+    }
+
+    private Long cart(String estado, LocalDateTime activity) {
+        jdbcTemplate.update("INSERT INTO carritos (estado, fecha_creacion, fecha_ultima_actividad) VALUES (?, ?, ?)",
+                estado, Timestamp.valueOf(activity), Timestamp.valueOf(activity));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM carritos", Long.class);
+    }
+
+    private static Customer customer() {
+        return new Customer(1L, "Ana", "ana@arka.com", "3000000000", "Colombia", "Bogota");
+    }
+}
@@ -0,0 +1,214 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.usecase.CartApplicationService;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.Customer;
+import com.arka.arka.domain.port.out.CartRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the persisted cart last-activity time against an in-memory database
+ * The cart repository is backed by plain JDBC that, like the entity, does not map the column
+ */
+class CartActivityPersistenceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcCartActivityAdapter adapter;
+    private CartRepositoryPort cartRepository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:cart_activity_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE carritos (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "estado VARCHAR(20), fecha_creacion TIMESTAMP)");
+        new JdbcTableInitializer(jdbcTemplate).run(null);
+        adapter = new JdbcCartActivityAdapter(new NamedParameterJdbcTemplate(dataSource));
+
+        cartRepository = mock(CartRepositoryPort.class);
+        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> save(invocation.getArgument(0)));
+        when(cartRepository.findById(anyLong())).thenAnswer(invocation -> findById(invocation.getArgument(0)));
+        when(cartRepository.existsById(anyLong())).thenAnswer(invocation -> findById(invocation.getArgument(0)).isPresent());
+    }
+
+    @Test
+    void run_ShouldAddTheColumnOnlyOnce() {
+        // When
+        new JdbcTableInitializer(jdbcTemplate).run(null);
+
+        // Then
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM carritos WHERE fecha_ultima_actividad IS NOT NULL", Integer.class));
+    }
+
+    @Test
+    void updateCart_ShouldKeepTheCartActiveAfterReload() {
+        // Given
+        Cart created = service().createCart(new Cart(null, customer(), null, null));
+        backdateCreation(created.getId(), 3);
+        service().updateCart(created.getId(), new Cart(null, customer(), null, "ACTIVE"));
+
+        // When
+        Cart reloaded = service().getCartById(created.getId());
+        Optional<Cart> result = service().abandonIfInactive(created.getId(), LocalDateTime.now().minusHours(2));
+
+        // Then
+        assertTrue(reloaded.getFechaUltimaActividad().isAfter(LocalDateTime.now().minusMinutes(1)));
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isActive());
+        assertTrue(result.get().ultimaActividad().isAfter(LocalDateTime.now().minusMinutes(1)));
+        assertEquals("ACTIVE", estado(created.getId()));
+    }
+
+    @Test
+    void abandonIfInactive_ShouldAbandonOnlyOnceWhenThePersistedActivityIsOld() {
+        // Given
+        Cart created = service().createCart(new Cart(null, customer(), null, null));
+        backdateCreation(created.getId(), 3);
+        adapter.touch(created.getId(), LocalDateTime.now().minusHours(3));
+
+        // When
+        Optional<Cart> first = service().abandonIfInactive(created.getId(), LocalDateTime.now().minusHours(2));
+        boolean second = adapter.abandonIfInactive(created.getId(), LocalDateTime.now().minusHours(2));
+
+        // Then
+        assertTrue(first.isPresent());
+        assertTrue(first.get().isAbandoned());
+        assertFalse(second);
+        assertEquals("ABANDONED", estado(created.getId()));
+    }
+
+    @Test
+    void findInactive_ShouldReturnTheOldestInactiveCartsFirst() {
+        // Given
+        Cart recent = service().createCart(new Cart(null, customer(), null, null));
+        Cart old = service().createCart(new Cart(null, customer(), null, null));
+        adapter.touch(old.getId(), LocalDateTime.now().minusHours(4));
+        Cart older = service().createCart(new Cart(null, customer(), null, null));
+        adapter.touch(older.getId(), LocalDateTime.now().minusHours(5));
+        jdbcTemplate.update("INSERT INTO carritos (estado, fecha_creacion) VALUES ('ACTIVE', ?)",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(3)));
+        Long legacy = jdbcTemplate.queryForObject("SELECT MAX(id) FROM carritos", Long.class);
+        jdbcTemplate.update("INSERT INTO carritos (estado, fecha_creacion) VALUES ('ACTIVE', ?)",
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        // When
+        List<Long> inactive = adapter.findInactive(LocalDateTime.now().minusHours(2), 10);
+        List<Long> firstTwo = adapter.findInactive(LocalDateTime.now().minusHours(2), 2);
+
+        // Then
+        assertEquals(List.of(legacy, older.getId(), old.getId()), inactive);
+        assertEquals(List.of(legacy, older.getId()), firstTwo);
+        assertFalse(inactive.contains(recent.getId()));
+    }
+
+    @Test
+    void abandonIfInactive_ShouldStoreTheCreationDateOfCartsWithoutActivity() {
+        // Given a cart written before the column existed
+        jdbcTemplate.update("INSERT INTO carritos (estado, fecha_creacion) VALUES ('ACTIVE', ?)",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(3).withNano(0)));
+        Long id = jdbcTemplate.queryForObject("SELECT MAX(id) FROM carritos", Long.class);
+
+        // When
+        boolean abandoned = adapter.abandonIfInactive(id, LocalDateTime.now().minusHours(2));
+
+        // Then
+        assertTrue(abandoned);
+        assertEquals(jdbcTemplate.queryForObject("SELECT fecha_creacion FROM carritos WHERE id = ?", Timestamp.class, id),
+                jdbcTemplate.queryForObject("SELECT fecha_ultima_actividad FROM carritos WHERE id = ?", Timestamp.class, id));
+    }
+
+    @Test
+    void findAbandonedAfter_ShouldPageByActivityThenId() {
+        // Given
+        LocalDateTime t0 = LocalDateTime.now().minusHours(5).withNano(0);
+        Long first = abandonedCart(t0);
+        Long second = abandonedCart(t0.plusMinutes(1));
+        Long third = abandonedCart(t0.plusMinutes(1));
+        service().createCart(new Cart(null, customer(), null, null));
+
+        // When
+        List<Cart> page = adapter.findAbandonedAfter(null, null, 2);
+        List<Cart> next = adapter.findAbandonedAfter(page.get(1).getFechaUltimaActividad(), page.get(1).getId(), 2);
+        List<Cart> since = adapter.findAbandonedAfter(t0.plusMinutes(1), null, 10);
+
+        // Then
+        assertEquals(List.of(first, second), page.stream().map(Cart::getId).toList());
+        assertEquals(List.of(third), next.stream().map(Cart::getId).toList());
+        assertEquals(List.of(second, third), since.stream().map(Cart::getId).toList());
+        assertTrue(page.get(0).isAbandoned());
+    }
+
+    @Test
+    void saveSweepCheckpoint_ShouldKeepTheLatestValue() {
+        // Given
+        LocalDateTime checkpoint = LocalDateTime.now().withNano(0);
+
+        // When
+        Optional<LocalDateTime> before = adapter.findSweepCheckpoint();
+        adapter.saveSweepCheckpoint(checkpoint.minusHours(1));
+        adapter.saveSweepCheckpoint(checkpoint);
+
+        // Then
+        assertTrue(before.isEmpty());
+        assertEquals(Optional.of(checkpoint), adapter.findSweepCheckpoint());
+    }
+
+    private Long abandonedCart(LocalDateTime activity) {
+        Cart created = service().createCart(new Cart(null, customer(), null, null));
+        adapter.touch(created.getId(), activity);
+        adapter.abandonIfInactive(created.getId(), activity);
+        return created.getId();
+    }
+
+    private CartApplicationService service() {
+        return new CartApplicationService(cartRepository, null, adapter);
+    }
+
+    private Cart save(Cart cart) {
+        if (cart.getId() == null) {
+            jdbcTemplate.update("INSERT INTO carritos (estado, fecha_creacion) VALUES (?, ?)",
+                    cart.getEstado(), Timestamp.valueOf(cart.getFechaCreacion()));
+            cart.setId(jdbcTemplate.queryForObject("SELECT MAX(id) FROM carritos", Long.class));
+        } else {
+            jdbcTemplate.update("UPDATE carritos SET estado = ? WHERE id = ?", cart.getEstado(), cart.getId());
+        }
+        return findById(cart.getId()).orElseThrow();
+    }
+
+    private Optional<Cart> findById(Long id) {
+        return jdbcTemplate.query("SELECT id, estado, fecha_creacion FROM carritos WHERE id = ?",
+                (rs, rowNum) -> new Cart(rs.getLong("id"), customer(),
+                        rs.getTimestamp("fecha_creacion").toLocalDateTime(), rs.getString("estado")), id)
+                .stream().findFirst();
+    }
+
+    private void backdateCreation(Long id, int hours) {
+        jdbcTemplate.update("UPDATE carritos SET fecha_creacion = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(hours)), id);
+    }
+
+    private String estado(Long id) {
+        return jdbcTemplate.queryForObject("SELECT estado FROM carritos WHERE id = ?", String.class, id);
+    }
+
+    private static Customer customer() {
+        return new Customer(1L, "Ana", "ana@arka.com", "3000000000", "Colombia", "Bogota");
+    }
+}
@@ -0,0 +1,63 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.cache.CatalogVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for catalog ETags shared by several instances through the database
+ */
+class CatalogVersionSharingTest {
+
+    private CatalogVersions first;
+    private CatalogVersions second;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:versiones_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute(JdbcCatalogVersionAdapter.CREATE_TABLE);
+        JdbcCatalogVersionAdapter adapter = new JdbcCatalogVersionAdapter(new NamedParameterJdbcTemplate(dataSource));
+        first = new CatalogVersions(adapter);
+        second = new CatalogVersions(adapter);
+    }
+
+    @Test
+    void productsChanged_ShouldChangeTheTagsSeenByOtherInstances() {
+        // Given
+        String catalogTag = second.catalogTag();
+        String productTag = second.productTag(1L);
+        String otherProductTag = second.productTag(2L);
+
+        // When
+        first.productsChanged(List.of(1L));
+
+        // Then
+        assertEquals(first.catalogTag(), second.catalogTag());
+        assertNotEquals(catalogTag, second.catalogTag());
+        assertNotEquals(productTag, second.productTag(1L));
+        assertEquals(otherProductTag, second.productTag(2L));
+    }
+
+    @Test
+    void allChanged_ShouldChangeEveryProductTag() {
+        // Given
+        first.productChanged(2L);
+        String productTag = second.productTag(2L);
+
+        // When
+        first.allChanged();
+        first.allChanged();
+
+        // Then
+        assertNotEquals(productTag, second.productTag(2L));
+        assertEquals("W/\"cs.3\"", second.catalogTag());
+    }
+}
@@ -0,0 +1,213 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.usecase.OrderApplicationService;
+import com.arka.arka.application.usecase.StockReservationApplicationService;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.Customer;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.port.out.OrderRepositoryPort;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that order writes and their stock changes commit or roll back together
+ */
+class OrderStockReservationTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private OrderRepositoryPort orderRepository;
+    private JdbcStockReservationAdapter reservationAdapter;
+    private OrderApplicationService service;
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:pedidos_stock_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE productos (id BIGINT PRIMARY KEY, nombre VARCHAR(100), stock INT)");
+        jdbcTemplate.execute("CREATE TABLE pedidos (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute(JdbcStockReservationAdapter.CREATE_TABLE);
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO productos (id, nombre, stock) VALUES (?, ?, ?)", id, "Producto " + id, 10);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        reservationAdapter = spy(new JdbcStockReservationAdapter(new NamedParameterJdbcTemplate(dataSource), transactionTemplate));
+        orderRepository = mock(OrderRepositoryPort.class);
+        when(orderRepository.save(any())).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if (order.getId() == null) {
+                order.setId(ids.incrementAndGet());
+                jdbcTemplate.update("INSERT INTO pedidos (id) VALUES (?)", order.getId());
+            }
+            return order;
+        });
+        doAnswer(invocation -> jdbcTemplate.update("DELETE FROM pedidos WHERE id = ?", (Long) invocation.getArgument(0)))
+                .when(orderRepository).deleteById(anyLong());
+
+        service = new OrderApplicationService(orderRepository,
+                new StockReservationApplicationService(reservationAdapter, Duration.ofMinutes(15)),
+                null, events::add, new SpringTransactionAdapter(transactionTemplate), Currency.getInstance("COP"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void createOrder_ShouldReserveAndConfirmStock() {
+        // When
+        Order saved = service.createOrder(order(null, 1L, 2L));
+
+        // Then
+        assertEquals(9, stock(1L));
+        assertEquals(9, stock(2L));
+        assertEquals(10, stock(3L));
+        assertEquals(1, countOrders());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT reserva_id) FROM stock_reservas WHERE estado = 'CONFIRMADA'", Integer.class));
+        assertNotNull(saved.getId());
+    }
+
+    @Test
+    void createOrder_ShouldRollBackTheOrderWhenTheConfirmationFails() {
+        // Given the reservation expires between reserve and confirm
+        doReturn(false).when(reservationAdapter).confirm(any());
+
+        // When
+        assertThrows(RuntimeException.class, () -> service.createOrder(order(null, 1L)));
+
+        // Then
+        assertEquals(0, countOrders());
+        assertEquals(10, stock(1L));
+    }
+
+    @Test
+    void createOrder_ShouldReleaseTheReservationWhenTheOrderCannotBeSaved() {
+        // Given
+        doThrow(new IllegalStateException("database down")).when(orderRepository).save(any());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> service.createOrder(order(null, 1L, 2L)));
+
+        // Then
+        assertEquals(10, stock(1L));
+        assertEquals(10, stock(2L));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM stock_reservas WHERE estado = 'ACTIVA'", Integer.class));
+    }
+
+    @Test
+    void updateOrder_ShouldReserveAddedProductsAndRestockRemovedOnes() {
+        // Given
+        Order saved = service.createOrder(order(null, 1L, 2L));
+        when(orderRepository.findById(saved.getId())).thenReturn(Optional.of(order(saved.getId(), 1L, 2L)));
+        events.clear();
+
+        // When
+        service.updateOrder(saved.getId(), order(null, 2L, 3L));
+
+        // Then
+        assertEquals(10, stock(1L));
+        assertEquals(9, stock(2L));
+        assertEquals(9, stock(3L));
+        assertEquals(List.of(Set.of(1L)), stockChanges());
+    }
+
+    @Test
+    void updateOrder_ShouldKeepStockWhenTheSavedOrderFails() {
+        // Given
+        Order saved = service.createOrder(order(null, 1L));
+        when(orderRepository.findById(saved.getId())).thenReturn(Optional.of(order(saved.getId(), 1L)));
+        doThrow(new IllegalStateException("database down")).when(orderRepository).save(any());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> service.updateOrder(saved.getId(), order(null, 2L)));
+
+        // Then
+        assertEquals(9, stock(1L));
+        assertEquals(10, stock(2L));
+    }
+
+    @Test
+    void deleteOrder_ShouldRestockInTheDeleteTransaction() {
+        // Given
+        Order saved = service.createOrder(order(null, 1L, 2L));
+        when(orderRepository.findById(saved.getId())).thenReturn(Optional.of(order(saved.getId(), 1L, 2L)));
+        events.clear();
+
+        // When
+        service.deleteOrder(saved.getId());
+
+        // Then
+        assertEquals(0, countOrders());
+        assertEquals(10, stock(1L));
+        assertEquals(10, stock(2L));
+        assertEquals(List.of(Set.of(1L, 2L)), stockChanges());
+    }
+
+    @Test
+    void deleteOrder_ShouldKeepTheOrderWhenRestockFails() {
+        // Given
+        Order saved = service.createOrder(order(null, 1L));
+        when(orderRepository.findById(saved.getId())).thenReturn(Optional.of(order(saved.getId(), 1L)));
+        doThrow(new IllegalStateException("database down")).when(reservationAdapter).restock(any());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> service.deleteOrder(saved.getId()));
+
+        // Then
+        assertEquals(1, countOrders());
+        assertEquals(9, stock(1L));
+    }
+
+    private Order order(Long id, Long... productIds) {
+        Set<Product> productos = new LinkedHashSet<>();
+        for (Long productId : productIds) {
+            productos.add(new Product(productId, "Producto " + productId, null, null, null, new BigDecimal("5.00"), null));
+        }
+        Customer cliente = new Customer(1L, "Cliente", "cliente@arka.com", null, null, null);
+        return new Order(id, cliente, null, new BigDecimal("5.00").multiply(BigDecimal.valueOf(productIds.length)), productos);
+    }
+
+    private List<Set<Long>> stockChanges() {
+        return events.stream()
+                .filter(StockChanged.class::isInstance)
+                .map(event -> ((StockChanged) event).getProductIds())
+                .toList();
+    }
+
+    private int stock(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM productos WHERE id = ?", Integer.class, productId);
+    }
+
+    private int countOrders() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pedidos", Integer.class);
+    }
+}
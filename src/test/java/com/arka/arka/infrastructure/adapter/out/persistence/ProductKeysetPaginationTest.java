@@ -0,0 +1,102 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.usecase.ProductApplicationService;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductCursor;
+import com.arka.arka.domain.model.ProductPage;
+import com.arka.arka.domain.model.ProductSort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the keyset-paginated product listing, including ties and null sort keys
+ */
+class ProductKeysetPaginationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ProductApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:paginas_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE categorias (id BIGINT PRIMARY KEY, nombre VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE productos (id BIGINT PRIMARY KEY, nombre VARCHAR(100), descripcion VARCHAR(2000), " +
+                "marca VARCHAR(100), precio_unitario DECIMAL(19,2), stock INT, categoria_id BIGINT)");
+        insert(1, "Mouse", "45.50");
+        insert(2, null, "10.00");
+        insert(3, "Cable", null);
+        insert(4, "Mouse", "45.50");
+        insert(5, "", "10.00");
+        insert(6, null, null);
+        insert(7, "Audifonos", "99.90");
+        insert(8, "Cable", "45.50");
+        insert(9, "", null);
+
+        service = new ProductApplicationService(null, null,
+                new JdbcProductQueryAdapter(new NamedParameterJdbcTemplate(dataSource)), null, null, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void getProductsPage_ShouldWalkNamesWithNullsFirstAndTiesById() {
+        assertEquals(List.of(2L, 6L, 5L, 9L, 7L, 3L, 8L, 1L, 4L), walk(ProductSort.NOMBRE, 2));
+    }
+
+    @Test
+    void getProductsPage_ShouldWalkPricesWithNullsFirstAndTiesById() {
+        assertEquals(List.of(3L, 6L, 9L, 2L, 5L, 1L, 4L, 8L, 7L), walk(ProductSort.PRECIO, 2));
+        assertEquals(List.of(3L, 6L, 9L, 2L, 5L, 1L, 4L, 8L, 7L), walk(ProductSort.PRECIO, 1));
+    }
+
+    @Test
+    void getProductsPage_ShouldWalkIds() {
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), walk(ProductSort.ID, 4));
+    }
+
+    @Test
+    void cursor_ShouldKeepEmptyAndNullValuesApart() {
+        ProductCursor empty = ProductCursor.decode(new ProductCursor(ProductSort.NOMBRE, "", 5L).encode(), ProductSort.NOMBRE);
+        ProductCursor none = ProductCursor.decode(new ProductCursor(ProductSort.NOMBRE, null, 6L).encode(), ProductSort.NOMBRE);
+
+        assertEquals("", empty.getLastValue());
+        assertNull(none.getLastValue());
+        assertEquals(6L, none.getLastId());
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(empty.encode(), ProductSort.PRECIO));
+    }
+
+    /**
+     * Reads every page, passing each cursor through its token as a client would
+     */
+    private List<Long> walk(ProductSort sort, int size) {
+        List<Long> ids = new ArrayList<>();
+        ProductCursor cursor = null;
+        do {
+            ProductPage page = service.getProductsPage(sort, cursor, size);
+            ids.addAll(page.getProductos().stream().map(Product::getId).collect(Collectors.toList()));
+            cursor = page.hasNext() ? ProductCursor.decode(page.getNextCursor().encode(), sort) : null;
+        } while (cursor != null);
+        return ids;
+    }
+
+    private void insert(long id, String nombre, String precio) {
+        jdbcTemplate.update("INSERT INTO productos VALUES (?, ?, NULL, NULL, ?, 1, NULL)",
+                id, nombre, precio != null ? new BigDecimal(precio) : null);
+    }
+}
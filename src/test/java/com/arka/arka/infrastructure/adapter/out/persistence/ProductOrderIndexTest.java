@@ -0,0 +1,165 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import com.arka.arka.application.usecase.OrderApplicationService;
+import com.arka.arka.domain.model.OrderIdPage;
+import com.arka.arka.infrastructure.scheduler.ProductOrderIndexBackfill;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the product -> order index, its paginated lookup and its backfill
+ */
+class ProductOrderIndexTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcProductOrderIndexAdapter index;
+    private OrderApplicationService service;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:producto_pedidos_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute(JdbcProductOrderIndexAdapter.CREATE_TABLE);
+        jdbcTemplate.getJdbcTemplate().execute(JdbcProductOrderIndexAdapter.CREATE_BACKFILL_TABLE);
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE pedidos (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.getJdbcTemplate().execute(
+                "CREATE TABLE pedido_productos (pedido_id BIGINT NOT NULL, producto_id BIGINT NOT NULL)");
+        index = new JdbcProductOrderIndexAdapter(jdbcTemplate);
+        service = new OrderApplicationService(null, null, index, null, Currency.getInstance("COP"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        new NamedParameterJdbcTemplate(dataSource).getJdbcTemplate().execute("SHUTDOWN");
+    }
+
+    @Test
+    void getOrderIdsByProduct_ShouldPageNewestFirst() {
+        // Given
+        assertTrue(index.isEmpty());
+        for (long orderId = 1; orderId <= 7; orderId++) {
+            index.index(orderId, orderId % 2 == 0 ? List.of(10L, 20L) : List.of(10L));
+        }
+
+        // When
+        List<Long> all = new ArrayList<>();
+        OrderIdPage page = service.getOrderIdsByProduct(10L, null, 3);
+        all.addAll(page.getPedidoIds());
+        while (page.hasNext()) {
+            page = service.getOrderIdsByProduct(10L, page.getNextBefore(), 3);
+            all.addAll(page.getPedidoIds());
+        }
+
+        // Then
+        assertEquals(List.of(7L, 6L, 5L, 4L, 3L, 2L, 1L), all);
+        assertEquals(List.of(6L, 4L, 2L), service.getOrderIdsByProduct(20L, null, 10).getPedidoIds());
+        assertFalse(index.isEmpty());
+    }
+
+    @Test
+    void index_ShouldReplaceProductsOfUpdatedOrder() {
+        // Given
+        index.index(1L, List.of(10L, 20L));
+
+        // When
+        index.index(1L, List.of(20L, 30L, 30L));
+
+        // Then
+        assertTrue(service.getOrderIdsByProduct(10L, null, 10).getPedidoIds().isEmpty());
+        assertEquals(List.of(1L), service.getOrderIdsByProduct(30L, null, 10).getPedidoIds());
+    }
+
+    @Test
+    void remove_ShouldDropDeletedOrder() {
+        // Given
+        index.index(1L, List.of(10L));
+        index.index(2L, List.of(10L));
+
+        // When
+        index.remove(2L);
+
+        // Then
+        assertEquals(List.of(1L), service.getOrderIdsByProduct(10L, null, 10).getPedidoIds());
+        assertThrows(IllegalArgumentException.class, () -> service.getOrderIdsByProduct(10L, null, 0));
+    }
+
+    @Test
+    void backfill_ShouldResumeFromCheckpointAndKeepIndexedOrders() {
+        // Given
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            jdbcTemplate.getJdbcTemplate().update("INSERT INTO pedidos (id) VALUES (?)", orderId);
+            if (orderId != 3) {
+                jdbcTemplate.getJdbcTemplate().update(
+                        "INSERT INTO pedido_productos (pedido_id, producto_id) VALUES (?, 10)", orderId);
+            }
+        }
+        index.index(4L, List.of(20L));
+        index.indexBackfillPage(Map.of(1L, List.of(10L), 2L, List.of(10L)), 2L, false);
+        JdbcProductOrderIndexAdapter pagedIndex = spy(index);
+        ObjectProvider<SchedulerCoordinator> noCoordinator =
+                new StaticListableBeanFactory().getBeanProvider(SchedulerCoordinator.class);
+        ProductOrderIndexBackfill backfill = new ProductOrderIndexBackfill(pagedIndex, noCoordinator, 2);
+
+        // When
+        backfill.backfill();
+        backfill.backfill();
+
+        // Then
+        verify(pagedIndex, never()).findOrderProductsAfter(isNull(), anyInt());
+        verify(pagedIndex, times(1)).findOrderProductsAfter(2L, 2);
+        verify(pagedIndex, times(1)).findOrderProductsAfter(4L, 2);
+        assertEquals(List.of(5L, 2L, 1L), service.getOrderIdsByProduct(10L, null, 10).getPedidoIds());
+        assertEquals(List.of(4L), service.getOrderIdsByProduct(20L, null, 10).getPedidoIds());
+        assertEquals(Optional.of(5L), index.findBackfillCheckpoint());
+        assertTrue(index.isBackfillComplete());
+    }
+
+    @Test
+    void findOrderProductsAfter_ShouldReadPageWithProductsInOneQuery() {
+        // Given
+        for (long orderId = 1; orderId <= 4; orderId++) {
+            jdbcTemplate.getJdbcTemplate().update("INSERT INTO pedidos (id) VALUES (?)", orderId);
+        }
+        jdbcTemplate.getJdbcTemplate().update("INSERT INTO pedido_productos (pedido_id, producto_id) VALUES (2, 20), (2, 10), (4, 30)");
+
+        // When
+        Map<Long, List<Long>> page = index.findOrderProductsAfter(1L, 2);
+
+        // Then
+        assertEquals(List.of(2L, 3L), new ArrayList<>(page.keySet()));
+        assertEquals(List.of(10L, 20L), page.get(2L));
+        assertEquals(List.of(), page.get(3L));
+        assertEquals(List.of(4L), new ArrayList<>(index.findOrderProductsAfter(3L, 2).keySet()));
+    }
+
+    @Test
+    void indexBackfillPage_ShouldSkipOrdersDeletedMeanwhile() {
+        // Given
+        jdbcTemplate.getJdbcTemplate().update("INSERT INTO pedidos (id) VALUES (1)");
+
+        // When
+        index.indexBackfillPage(Map.of(1L, List.of(10L), 2L, List.of(10L)), 2L, true);
+
+        // Then
+        assertEquals(List.of(1L), service.getOrderIdsByProduct(10L, null, 10).getPedidoIds());
+        assertTrue(index.isBackfillComplete());
+    }
+}
@@ -0,0 +1,102 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.usecase.ProductApplicationService;
+import com.arka.arka.application.usecase.ProductQueryApplicationService;
+import com.arka.arka.domain.model.Product;
+import com.arka.arka.domain.model.ProductSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the product projection and limit-aware name search against an in-memory database
+ */
+class ProductProjectionQueryTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcProductQueryAdapter adapter;
+    private ProductQueryApplicationService service;
+    private ProductApplicationService products;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:proyeccion_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE categorias (id BIGINT PRIMARY KEY, nombre VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE productos (id BIGINT PRIMARY KEY, nombre VARCHAR(100), descripcion VARCHAR(2000), " +
+                "marca VARCHAR(100), precio_unitario DECIMAL(19,2), stock INT, categoria_id BIGINT)");
+        jdbcTemplate.update("INSERT INTO categorias VALUES (1, 'Perifericos')");
+        for (int i = 1; i <= 50; i++) {
+            jdbcTemplate.update("INSERT INTO productos VALUES (?, ?, ?, 'Logi', 10.00, ?, 1)",
+                    i, String.format("Teclado %02d", i), "x".repeat(1500), i % 5 == 0 ? 0 : i);
+        }
+        jdbcTemplate.update("INSERT INTO productos VALUES (51, 'Cable 100% cobre', NULL, NULL, 5.00, NULL, NULL)");
+        jdbcTemplate.update("INSERT INTO productos VALUES (52, 'Cable 100 metros', NULL, NULL, 5.00, 3, NULL)");
+
+        adapter = new JdbcProductQueryAdapter(new NamedParameterJdbcTemplate(dataSource));
+        service = new ProductQueryApplicationService(adapter);
+        products = new ProductApplicationService(null, null, adapter, null, null, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void searchProductSummaries_ShouldReturnFirstMatchesInNameOrder() {
+        // When
+        List<ProductSummary> summaries = service.searchProductSummaries("TECLADO", 20);
+
+        // Then
+        assertEquals(20, summaries.size());
+        assertEquals("Teclado 01", summaries.get(0).getNombre());
+        assertEquals("Teclado 20", summaries.get(19).getNombre());
+        assertEquals("Perifericos", summaries.get(0).getCategoriaNombre());
+        assertTrue(summaries.get(0).isDisponible());
+        assertFalse(summaries.get(4).isDisponible());
+    }
+
+    @Test
+    void searchByName_ShouldTreatWildcardsLiterally() {
+        // When
+        List<Product> products = service.searchProducts("100%", 20);
+
+        // Then
+        assertEquals(List.of(51L), products.stream().map(Product::getId).collect(Collectors.toList()));
+        assertNull(products.get(0).getStock());
+        assertTrue(adapter.searchSummariesByName("_", 5).isEmpty());
+    }
+
+    @Test
+    void getProductSummary_ShouldReadProjectionById() {
+        // When
+        ProductSummary summary = service.getProductSummary(52L);
+
+        // Then
+        assertEquals("Cable 100 metros", summary.getNombre());
+        assertNull(summary.getCategoriaNombre());
+        assertTrue(summary.isDisponible());
+        assertThrows(RuntimeException.class, () -> service.getProductSummary(999L));
+    }
+
+    @Test
+    void getProductsByIds_ShouldLoadInOneQueryKeepingOrderAndSkippingMissing() {
+        // When
+        List<Product> loaded = products.getProductsByIds(List.of(52L, 7L, 999L, 7L));
+
+        // Then
+        assertEquals(List.of(52L, 7L), loaded.stream().map(Product::getId).collect(Collectors.toList()));
+        assertEquals("Perifericos", loaded.get(1).getCategoria().getNombre());
+        assertTrue(products.getProductsByIds(List.of()).isEmpty());
+    }
+}
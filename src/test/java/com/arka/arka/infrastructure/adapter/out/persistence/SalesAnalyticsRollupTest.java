@@ -0,0 +1,172 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.service.EcommerceAnalyticsService;
+import com.arka.arka.domain.event.CartChanged;
+import com.arka.arka.domain.event.OrderChanged;
+import com.arka.arka.domain.model.ActivityBucket;
+import com.arka.arka.domain.model.AnalyticsInterval;
+import com.arka.arka.domain.model.Cart;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.infrastructure.adapter.in.event.AnalyticsRollupListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SQL analytics aggregates and the hourly rollup against an in-memory database
+ */
+class SalesAnalyticsRollupTest {
+
+    private static final Currency COP = Currency.getInstance("COP");
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcSalesAnalyticsAdapter adapter;
+    private AnalyticsRollupListener listener;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:analytics_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE carritos (id BIGINT PRIMARY KEY, estado VARCHAR(20), fecha_creacion TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE pedidos (id BIGINT PRIMARY KEY, fecha TIMESTAMP, total DECIMAL(19,2))");
+        jdbcTemplate.execute(JdbcSalesAnalyticsAdapter.CREATE_TABLE);
+        adapter = new JdbcSalesAnalyticsAdapter(new NamedParameterJdbcTemplate(dataSource), COP);
+        listener = new AnalyticsRollupListener(adapter, COP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void rebuildRollup_ShouldGroupExistingRowsByHour() {
+        // Given
+        insertCart(1L, "ACTIVE", DAY.plusHours(9).plusMinutes(5));
+        insertCart(2L, "ABANDONED", DAY.plusHours(9).plusMinutes(50));
+        insertOrder(1L, DAY.plusHours(9).plusMinutes(30), "100.25");
+        insertOrder(2L, DAY.plusHours(14), "50.00");
+
+        // When
+        int buckets = adapter.rebuildRollup(null);
+
+        // Then
+        assertEquals(2, buckets);
+        assertFalse(adapter.isRollupEmpty());
+        List<ActivityBucket> hours = adapter.findHourlyActivity(DAY, DAY.plusDays(1));
+        assertEquals(List.of(DAY.plusHours(9), DAY.plusHours(14)),
+                hours.stream().map(ActivityBucket::getInicio).collect(Collectors.toList()));
+        assertEquals(2, hours.get(0).getCarritosCreados());
+        assertEquals(1, hours.get(0).getPedidos());
+        assertEquals(10025, hours.get(0).getVentasMinor());
+        assertEquals(5000, hours.get(1).getVentasMinor());
+    }
+
+    @Test
+    void listener_ShouldKeepRollupEqualToFullRebuild() {
+        // Given
+        adapter.rebuildRollup(null);
+        Cart cart = cart(1L, "ACTIVE", DAY.plusHours(8));
+        Order order = order(1L, DAY.plusHours(10), "80.00");
+        Order other = order(2L, DAY.plusHours(11), "20.00");
+
+        // When
+        insertCart(1L, "ACTIVE", cart.getFechaCreacion());
+        listener.onCartChanged(CartChanged.created(cart));
+        insertOrder(1L, order.getFecha(), "80.00");
+        listener.onOrderChanged(OrderChanged.created(order));
+        insertOrder(2L, other.getFecha(), "20.00");
+        listener.onOrderChanged(OrderChanged.created(other));
+
+        Order repriced = order(1L, DAY.plusHours(10), "95.50");
+        jdbcTemplate.update("UPDATE pedidos SET total = 95.50 WHERE id = 1");
+        listener.onOrderChanged(new OrderChanged(order, repriced));
+        jdbcTemplate.update("DELETE FROM pedidos WHERE id = 2");
+        listener.onOrderChanged(OrderChanged.deleted(other));
+        List<ActivityBucket> incremental = adapter.findHourlyActivity(DAY, DAY.plusDays(1));
+
+        // Then
+        adapter.rebuildRollup(DAY);
+        assertEquals(describe(adapter.findHourlyActivity(DAY, DAY.plusDays(1))), describe(nonEmpty(incremental)));
+        assertEquals(9550, adapter.findHourlyActivity(DAY.plusHours(10), DAY.plusHours(11)).get(0).getVentasMinor());
+    }
+
+    @Test
+    void analyticsService_ShouldUseAggregatesAndMergeHoursIntoDays() {
+        // Given
+        insertCart(1L, "ACTIVE", DAY.plusHours(1));
+        insertCart(2L, "ABANDONED", DAY.plusHours(2));
+        insertCart(3L, "ABANDONED", DAY.plusDays(1).plusHours(3));
+        insertOrder(1L, DAY.plusHours(5), "10.00");
+        insertOrder(2L, DAY.plusDays(1).plusHours(6), "20.01");
+        adapter.rebuildRollup(null);
+        EcommerceAnalyticsService service = new EcommerceAnalyticsService(adapter, COP);
+
+        // When
+        Map<String, Object> stats = service.getEcommerceStatistics();
+        List<Map<String, Object>> days = service.getActivity(DAY, DAY.plusDays(2), AnalyticsInterval.DAY);
+
+        // Then
+        assertEquals(3L, stats.get("totalCarts"));
+        assertEquals(2L, stats.get("abandonedCarts"));
+        assertEquals(2L, stats.get("totalOrders"));
+        assertEquals(0, new BigDecimal("30.01").compareTo((BigDecimal) stats.get("totalRevenue")));
+        assertEquals(0, new BigDecimal("15.01").compareTo((BigDecimal) stats.get("averageOrderValue")));
+        assertEquals(2, days.size());
+        assertEquals(DAY, days.get(0).get("inicio"));
+        assertEquals(2L, days.get(0).get("carritosCreados"));
+        assertEquals(1L, days.get(1).get("pedidos"));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getActivity(DAY, DAY.plusDays(400), AnalyticsInterval.DAY));
+    }
+
+    private static List<ActivityBucket> nonEmpty(List<ActivityBucket> buckets) {
+        return buckets.stream()
+                .filter(b -> b.getCarritosCreados() != 0 || b.getPedidos() != 0 || b.getVentasMinor() != 0)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> describe(List<ActivityBucket> buckets) {
+        return buckets.stream()
+                .map(b -> b.getInicio() + "/" + b.getCarritosCreados() + "/" + b.getPedidos() + "/" + b.getVentasMinor())
+                .collect(Collectors.toList());
+    }
+
+    private void insertCart(Long id, String estado, LocalDateTime fechaCreacion) {
+        jdbcTemplate.update("INSERT INTO carritos (id, estado, fecha_creacion) VALUES (?, ?, ?)",
+                id, estado, Timestamp.valueOf(fechaCreacion));
+    }
+
+    private void insertOrder(Long id, LocalDateTime fecha, String total) {
+        jdbcTemplate.update("INSERT INTO pedidos (id, fecha, total) VALUES (?, ?, ?)",
+                id, Timestamp.valueOf(fecha), new BigDecimal(total));
+    }
+
+    private static Cart cart(Long id, String estado, LocalDateTime fechaCreacion) {
+        return new Cart(id, null, fechaCreacion, estado);
+    }
+
+    private static Order order(Long id, LocalDateTime fecha, String total) {
+        Order order = new Order();
+        order.setId(id);
+        order.setFecha(fecha);
+        order.setTotal(new BigDecimal(total));
+        return order;
+    }
+}
@@ -0,0 +1,142 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.scheduling.SchedulerCoordinator;
+import com.arka.arka.domain.port.out.SchedulerLeasePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for job leases and cart partitioning between instances against an in-memory database
+ */
+class SchedulerCoordinationTest {
+
+    private static final String JOB = "ecommerce.abandoned-carts-demo";
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcSchedulerLeaseAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:scheduler_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(JdbcSchedulerLeaseAdapter.CREATE_LEASES_TABLE);
+        jdbcTemplate.execute(JdbcSchedulerLeaseAdapter.CREATE_NODES_TABLE);
+        adapter = new JdbcSchedulerLeaseAdapter(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @Test
+    void isLeader_ShouldGrantTheLeaseToOneNodeUntilItExpires() {
+        // Given
+        SchedulerCoordinator first = coordinator("node-a");
+        SchedulerCoordinator second = coordinator("node-b");
+
+        // When
+        boolean firstLeads = first.isLeader(JOB);
+        boolean secondLeads = second.isLeader(JOB);
+        boolean firstRenews = first.isLeader(JOB);
+        jdbcTemplate.update("UPDATE scheduler_leases SET expira_en = TIMESTAMPADD(MINUTE, -1, CURRENT_TIMESTAMP)");
+        boolean secondTakesOver = second.isLeader(JOB);
+
+        // Then
+        assertTrue(firstLeads);
+        assertFalse(secondLeads);
+        assertTrue(firstRenews);
+        assertTrue(secondTakesOver);
+        assertFalse(first.isLeader(JOB));
+    }
+
+    @Test
+    void leave_ShouldReleaseLeasesAndMembership() {
+        // Given
+        SchedulerCoordinator first = coordinator("node-a");
+        SchedulerCoordinator second = coordinator("node-b");
+        first.heartbeat();
+        second.heartbeat();
+        first.isLeader(JOB);
+
+        // When
+        first.leave();
+
+        // Then
+        assertTrue(second.isLeader(JOB));
+        assertEquals(List.of("node-b"), adapter.liveNodes(Duration.ofSeconds(45)));
+        assertEquals(1, second.partition().orElseThrow().getCount());
+    }
+
+    @Test
+    void partition_ShouldGiveEachCartToExactlyOneLiveNode() {
+        // Given
+        List<SchedulerCoordinator> nodes = List.of(coordinator("node-a"), coordinator("node-b"), coordinator("node-c"));
+        nodes.forEach(SchedulerCoordinator::heartbeat);
+        List<SchedulerCoordinator.Partition> partitions = nodes.stream()
+                .map(node -> node.partition().orElseThrow()).toList();
+
+        // When
+        long[] owned = new long[partitions.size()];
+        LongStream.rangeClosed(1, 3_000).forEach(cartId -> {
+            int owners = 0;
+            for (int i = 0; i < partitions.size(); i++) {
+                if (partitions.get(i).owns(cartId)) {
+                    owned[i]++;
+                    owners++;
+                }
+            }
+            assertEquals(1, owners, "cart " + cartId);
+        });
+
+        // Then
+        for (long count : owned) {
+            assertTrue(count > 800 && count < 1_200, "unbalanced partition: " + count);
+        }
+    }
+
+    @Test
+    void liveNodes_ShouldIgnoreNodesWithoutRecentHeartbeat() {
+        // Given
+        coordinator("node-a").heartbeat();
+        coordinator("node-b").heartbeat();
+
+        // When
+        jdbcTemplate.update("UPDATE scheduler_nodos SET latido_en = TIMESTAMPADD(MINUTE, -5, CURRENT_TIMESTAMP) " +
+                "WHERE nodo_id = 'node-b'");
+
+        // Then
+        assertEquals(List.of("node-a"), adapter.liveNodes(Duration.ofSeconds(45)));
+        assertEquals(1, coordinator("node-a").partition().orElseThrow().getCount());
+    }
+
+    @Test
+    void partition_ShouldBeEmptyWhenTheNodeCannotJoinTheMembership() {
+        // Given
+        SchedulerLeasePort unreachable = mock(SchedulerLeasePort.class);
+        when(unreachable.liveNodes(any())).thenReturn(List.of());
+        SchedulerCoordinator node = new SchedulerCoordinator(unreachable, "node-a", Duration.ofMinutes(10),
+                Duration.ofSeconds(45));
+
+        // When
+        Optional<SchedulerCoordinator.Partition> partition = node.partition();
+
+        // Then
+        assertTrue(partition.isEmpty());
+        verify(unreachable).heartbeat("node-a");
+    }
+
+    private SchedulerCoordinator coordinator(String nodeId) {
+        return new SchedulerCoordinator(adapter, nodeId, Duration.ofMinutes(10), Duration.ofSeconds(45));
+    }
+}
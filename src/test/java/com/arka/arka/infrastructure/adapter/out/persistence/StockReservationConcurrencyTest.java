@@ -0,0 +1,223 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.usecase.StockReservationApplicationService;
+import com.arka.arka.domain.event.StockChanged;
+import com.arka.arka.domain.model.StockReservation;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrency tests for stock reservations against an in-memory database
+ * Many threads fight over a few hot products; stock must never be oversold
+ */
+class StockReservationConcurrencyTest {
+
+    private static final Map<Long, Integer> INITIAL_STOCK = Map.of(1L, 50, 2L, 30, 3L, 20);
+    private static final int THREADS = 64;
+    private static final int ATTEMPTS_PER_THREAD = 40;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AtomicReference<Instant> now;
+    private StockReservationApplicationService service;
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:reservas_" + System.nanoTime() + ";MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(16);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE productos (id BIGINT PRIMARY KEY, nombre VARCHAR(100), stock INT)");
+        jdbcTemplate.execute(JdbcStockReservationAdapter.CREATE_TABLE);
+        INITIAL_STOCK.forEach((id, stock) ->
+                jdbcTemplate.update("INSERT INTO productos (id, nombre, stock) VALUES (?, ?, ?)", id, "Hot " + id, stock));
+
+        JdbcStockReservationAdapter adapter = new JdbcStockReservationAdapter(
+                new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        now = new AtomicReference<>(Instant.parse("2025-01-01T10:00:00Z"));
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        service = new StockReservationApplicationService(adapter, Duration.ofMinutes(15), clock, events::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void reserve_ShouldNeverOversellHotProductsUnderContention() throws Exception {
+        // Given
+        Map<Long, AtomicInteger> reserved = new ConcurrentHashMap<>();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        Future<?>[] futures = new Future<?>[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            futures[t] = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    Map<Long, Integer> lineas = randomLines();
+                    try {
+                        StockReservation reservation = service.reserve(lineas);
+                        reservation.getLineas().forEach((id, cantidad) ->
+                                reserved.computeIfAbsent(id, key -> new AtomicInteger()).addAndGet(cantidad));
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertTrue(rejected.get() > 0, "stock should have run out");
+        INITIAL_STOCK.forEach((id, initial) -> {
+            int stock = stockOf(id);
+            int taken = reserved.getOrDefault(id, new AtomicInteger()).get();
+            assertTrue(stock >= 0, "stock of " + id + " went negative");
+            assertEquals(initial - stock, taken, "reserved units of " + id + " must match the stock taken");
+            assertEquals(taken, activeUnitsOf(id));
+        });
+    }
+
+    @Test
+    void releaseExpired_ShouldReturnStockExactlyOnce() throws Exception {
+        // Given
+        service.reserve(Map.of(1L, 10, 2L, 5));
+        service.reserve(Map.of(1L, 5));
+        now.set(now.get().plus(Duration.ofMinutes(16)));
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger released = new AtomicInteger();
+        Future<?>[] futures = new Future<?>[8];
+        for (int t = 0; t < futures.length; t++) {
+            futures[t] = executor.submit(() -> released.addAndGet(service.releaseExpired()));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(2, released.get());
+        assertEquals(50, stockOf(1L));
+        assertEquals(30, stockOf(2L));
+    }
+
+    @Test
+    void release_ShouldPublishOnlyTheProductsGivenBack() {
+        // Given
+        StockReservation reservation = service.reserve(Map.of(1L, 10, 2L, 5));
+        service.reserve(Map.of(3L, 5));
+        events.clear();
+
+        // When
+        service.release(reservation.getId());
+        now.set(now.get().plus(Duration.ofMinutes(16)));
+        service.releaseExpired();
+
+        // Then
+        assertEquals(2, events.size());
+        assertEquals(Set.of(1L, 2L), ((StockChanged) events.get(0)).getProductIds());
+        assertEquals(Set.of(3L), ((StockChanged) events.get(1)).getProductIds());
+    }
+
+    @Test
+    void confirm_ShouldKeepStockAndPreventRelease() {
+        // Given
+        StockReservation reservation = service.reserve(Map.of(3L, 20));
+
+        // When
+        service.confirm(reservation.getId());
+        now.set(now.get().plus(Duration.ofHours(1)));
+
+        // Then
+        assertEquals(0, service.releaseExpired());
+        assertThrows(RuntimeException.class, () -> service.release(reservation.getId()));
+        assertEquals(0, stockOf(3L));
+    }
+
+    @Test
+    void reserve_ShouldLeaveStockUntouchedWhenAnyLineIsShort() {
+        // When
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> service.reserve(Map.of(1L, 5, 3L, 21)));
+
+        // Then
+        assertTrue(error.getMessage().contains("[3]"));
+        assertEquals(50, stockOf(1L));
+        assertEquals(20, stockOf(3L));
+    }
+
+    private static Map<Long, Integer> randomLines() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Long, Integer> lineas = new TreeMap<>();
+        int count = 1 + random.nextInt(3);
+        while (lineas.size() < count) {
+            lineas.put(1L + random.nextInt(3), 1 + random.nextInt(2));
+        }
+        return lineas;
+    }
+
+    private int stockOf(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM productos WHERE id = ?", Integer.class, productId);
+    }
+
+    private int activeUnitsOf(Long productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(cantidad), 0) FROM stock_reservas WHERE producto_id = ? AND estado = 'ACTIVA'",
+                Integer.class, productId);
+    }
+}
@@ -0,0 +1,112 @@
+package com.arka.arka.infrastructure.adapter.out.persistence;
+
+import com.arka.arka.application.usecase.TableExportApplicationService;
+import com.arka.arka.domain.model.ExportWindow;
+import com.arka.arka.domain.model.Order;
+import com.arka.arka.domain.model.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the batched, keyset-paginated table export against an in-memory database
+ */
+class TableExportTest {
+
+    private static final int PRODUCTS = 1_234;
+
+    private JdbcTemplate jdbcTemplate;
+    private TableExportApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:exportacion_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE categorias (id BIGINT PRIMARY KEY, nombre VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE productos (id BIGINT PRIMARY KEY, nombre VARCHAR(100), descripcion VARCHAR(2000), " +
+                "marca VARCHAR(100), precio_unitario DECIMAL(19,2), stock INT, categoria_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE pedidos (id BIGINT PRIMARY KEY, fecha TIMESTAMP, total DECIMAL(19,2))");
+        jdbcTemplate.execute(JdbcProductOrderIndexAdapter.CREATE_TABLE);
+        jdbcTemplate.update("INSERT INTO categorias VALUES (1, 'Perifericos')");
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            rows.add(new Object[]{id, "Producto " + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO productos VALUES (?, ?, NULL, 'Logi', 10.00, 5, 1)", rows);
+        jdbcTemplate.update("INSERT INTO pedidos VALUES (1, TIMESTAMP '2024-05-01 10:00:00', 20.00)");
+        jdbcTemplate.update("INSERT INTO pedidos VALUES (2, TIMESTAMP '2024-05-03 10:00:00', 10.00)");
+        jdbcTemplate.update("INSERT INTO pedidos VALUES (3, TIMESTAMP '2024-05-04 10:00:00', 0.00)");
+        jdbcTemplate.update("INSERT INTO producto_pedidos VALUES (7, 2), (3, 2), (9, 1)");
+
+        service = new TableExportApplicationService(new JdbcTableExportAdapter(new NamedParameterJdbcTemplate(dataSource)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void exportProducts_ShouldStreamWholeTableInIdOrderAcrossBatches() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+
+        // When
+        long count = service.exportProducts(ExportWindow.ALL, product -> ids.add(product.getId()));
+
+        // Then
+        assertEquals(PRODUCTS, count);
+        assertEquals(PRODUCTS, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i + 1L, ids.get(i));
+        }
+    }
+
+    @Test
+    void exportProducts_ShouldApplyPageAndLimit() {
+        // Given
+        List<Product> page = new ArrayList<>();
+        List<Product> large = new ArrayList<>();
+
+        // When
+        service.exportProducts(ExportWindow.of(2, 100, null), page::add);
+        long count = service.exportProducts(ExportWindow.of(1, 700, null), large::add);
+
+        // Then
+        assertEquals(100, page.size());
+        assertEquals(201L, page.get(0).getId());
+        assertEquals(300L, page.get(99).getId());
+        assertEquals("Perifericos", page.get(0).getCategoria().getNombre());
+        assertEquals(PRODUCTS - 700, count);
+        assertEquals(701L, large.get(0).getId());
+        assertEquals((long) PRODUCTS, large.get(large.size() - 1).getId());
+    }
+
+    @Test
+    void exportOrders_ShouldFilterBySinceAndIncludeProducts() {
+        // Given
+        List<Order> orders = new ArrayList<>();
+
+        // When
+        service.exportOrders(ExportWindow.of(null, null, LocalDateTime.of(2024, 5, 2, 0, 0)), orders::add);
+
+        // Then
+        assertEquals(List.of(2L, 3L), orders.stream().map(Order::getId).collect(Collectors.toList()));
+        assertEquals(List.of(3L, 7L), orders.get(0).getProductos().stream().map(Product::getId).collect(Collectors.toList()));
+        assertTrue(orders.get(1).getProductos().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> service.exportCategories(ExportWindow.of(null, null, LocalDateTime.now()), category -> { }));
+        assertThrows(IllegalArgumentException.class, () -> ExportWindow.of(1, null, null));
+    }
+}
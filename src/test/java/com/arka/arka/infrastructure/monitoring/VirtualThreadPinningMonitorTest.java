@@ -0,0 +1,88 @@
+package com.arka.arka.infrastructure.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the virtual thread pinning diagnostic
+ */
+class VirtualThreadPinningMonitorTest {
+
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+
+    @AfterEach
+    void tearDown() {
+        monitor.close();
+    }
+
+    @Test
+    void monitor_ShouldReportBlockingInsideSynchronizedButNotInsideReentrantLock() throws Exception {
+        // Given
+        monitor.start();
+        Object monitorLock = new Object();
+        ReentrantLock lock = new ReentrantLock();
+
+        // When
+        Thread.ofVirtual().start(() -> {
+            lock.lock();
+            try {
+                sleep(50);
+            } finally {
+                lock.unlock();
+            }
+        }).join();
+        long beforePinning = awaitEvents(0, Duration.ofSeconds(2));
+        Thread.ofVirtual().start(() -> {
+            synchronized (monitorLock) {
+                sleep(50);
+            }
+        }).join();
+
+        // Then
+        assertEquals(0, beforePinning);
+        assertEquals(1, awaitEvents(1, Duration.ofSeconds(15)));
+    }
+
+    @Test
+    void record_ShouldLogEachStackOnceAndSummariseRepeats() {
+        // When
+        boolean first = monitor.record("\t=> com.arka.Hot.call:10", 30);
+        boolean repeated = monitor.record("\t=> com.arka.Hot.call:10", 50);
+        monitor.record("\t=> com.arka.Hot.call:10", 20);
+        boolean other = monitor.record("\t=> com.arka.Cold.call:5", 15);
+        List<String> summary = monitor.drainSummary();
+
+        // Then
+        assertTrue(first);
+        assertFalse(repeated);
+        assertTrue(other);
+        assertEquals(2, summary.size());
+        assertTrue(summary.stream().anyMatch(line -> line.contains("3 pinned waits (100 ms total, 50 ms max)")));
+        assertTrue(monitor.drainSummary().isEmpty());
+    }
+
+    private long awaitEvents(long expected, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (monitor.getPinnedEvents() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        if (expected == 0) {
+            Thread.sleep(timeout.toMillis());
+        }
+        return monitor.getPinnedEvents();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}